@@ -0,0 +1,56 @@
+package org.nem.core.crypto.ed25519;
+
+import java.util.*;
+import java.util.stream.*;
+import org.junit.*;
+import org.nem.core.crypto.*;
+
+public class Ed25519DsaBatchVerifierPerfITCase {
+	private static final int NUM_SIGNERS = 50;
+	private static final int BATCH_SIZE = 2048;
+
+	@Test
+	public void batchVerifyIsFasterThanIndividualVerify() {
+		// Arrange:
+		final Ed25519CryptoEngine engine = new Ed25519CryptoEngine();
+		final List<SignedData> signedDataList = createSignedDataList(engine);
+		final DsaBatchVerifier batchVerifier = engine.createDsaBatchVerifier();
+		final DsaBatchVerifier individualVerifier = list -> list.stream()
+				.allMatch(signedData -> engine.createDsaSigner(new KeyPair(signedData.getPublicKey(), engine))
+						.verify(signedData.getData(), signedData.getSignature()));
+
+		// Act:
+		final long individualTime = measureVerifyTime(individualVerifier, signedDataList);
+		final long batchTime = measureVerifyTime(batchVerifier, signedDataList);
+
+		// Assert:
+		System.out.println(String.format("verify needs %d (individual) vs %d (batch) micro seconds per signature", individualTime, batchTime));
+		Assert.assertTrue(String.format("batch verify needs %d micro seconds (expected less than %d micro seconds)", batchTime,
+				individualTime), batchTime < individualTime);
+	}
+
+	private static long measureVerifyTime(final DsaBatchVerifier verifier, final List<SignedData> signedDataList) {
+		// Warm up
+		for (int i = 0; i < 3; ++i) {
+			Assert.assertTrue(verifier.verify(signedDataList));
+		}
+
+		final int numIterations = 5;
+		final long start = System.nanoTime();
+		for (int i = 0; i < numIterations; ++i) {
+			Assert.assertTrue(verifier.verify(signedDataList));
+		}
+
+		final long stop = System.nanoTime();
+		return (stop - start) / 1000 / ((long) numIterations * signedDataList.size());
+	}
+
+	private static List<SignedData> createSignedDataList(final CryptoEngine engine) {
+		final List<KeyPair> keyPairs = IntStream.range(0, NUM_SIGNERS).mapToObj(i -> KeyPair.random(engine)).collect(Collectors.toList());
+		return IntStream.range(0, BATCH_SIZE).mapToObj(i -> {
+			final KeyPair keyPair = keyPairs.get(i % NUM_SIGNERS);
+			final byte[] data = org.nem.core.test.Utils.generateRandomBytes();
+			return new SignedData(keyPair.getPublicKey(), data, engine.createDsaSigner(keyPair).sign(data));
+		}).collect(Collectors.toList());
+	}
+}
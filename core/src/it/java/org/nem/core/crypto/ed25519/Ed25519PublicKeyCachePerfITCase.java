@@ -0,0 +1,74 @@
+package org.nem.core.crypto.ed25519;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.*;
+import org.junit.*;
+import org.nem.core.crypto.*;
+
+public class Ed25519PublicKeyCachePerfITCase {
+	// a block typically contains many transactions from a small number of signers
+	private static final int NUM_SIGNERS = 20;
+	private static final int NUM_SIGNATURES = 2000;
+
+	@Test
+	public void cachedVerifyIsFasterThanUncachedVerifyForRepeatedSigners() {
+		// Arrange:
+		final Ed25519PublicKeyCache cache = new Ed25519PublicKeyCache(1000);
+		final List<SignedData> signedData = createSignedData();
+
+		// Act:
+		final long uncachedTime = measureVerifyTime(signedData, Ed25519DsaSigner::new);
+		final long cachedTime = measureVerifyTime(signedData, keyPair -> new Ed25519DsaSigner(keyPair, cache));
+
+		// Assert:
+		System.out.println(String.format("verify needs %d (uncached) vs %d (cached) micro seconds; cache hit rate %.4f", uncachedTime,
+				cachedTime, cache.getHitRate()));
+		Assert.assertTrue(String.format("cached verify needs %d micro seconds (expected less than %d micro seconds)", cachedTime,
+				uncachedTime), cachedTime < uncachedTime);
+	}
+
+	private static long measureVerifyTime(final List<SignedData> signedData, final Function<KeyPair, DsaSigner> signerFactory) {
+		// Warm up
+		verifyAll(signedData, signerFactory);
+
+		// Act:
+		final long start = System.nanoTime();
+		verifyAll(signedData, signerFactory);
+		verifyAll(signedData, signerFactory);
+		final long stop = System.nanoTime();
+		return (stop - start) / 1000 / (2L * signedData.size());
+	}
+
+	private static void verifyAll(final List<SignedData> signedData, final Function<KeyPair, DsaSigner> signerFactory) {
+		for (final SignedData data : signedData) {
+			// signers are created for every verification (like in Signer) so that only the cache is reused
+			if (!signerFactory.apply(data.keyPair).verify(data.data, data.signature)) {
+				throw new IllegalStateException("verification failed");
+			}
+		}
+	}
+
+	private static List<SignedData> createSignedData() {
+		final CryptoEngine engine = CryptoEngines.ed25519Engine();
+		final List<KeyPair> keyPairs = IntStream.range(0, NUM_SIGNERS).mapToObj(i -> KeyPair.random(engine)).collect(Collectors.toList());
+		return IntStream.range(0, NUM_SIGNATURES).mapToObj(i -> {
+			final KeyPair keyPair = keyPairs.get(i % NUM_SIGNERS);
+			final byte[] data = org.nem.core.test.Utils.generateRandomBytes();
+			final Signature signature = new Ed25519DsaSigner(keyPair).sign(data);
+			return new SignedData(new KeyPair(keyPair.getPublicKey(), engine), data, signature);
+		}).collect(Collectors.toList());
+	}
+
+	private static class SignedData {
+		private final KeyPair keyPair;
+		private final byte[] data;
+		private final Signature signature;
+
+		public SignedData(final KeyPair keyPair, final byte[] data, final Signature signature) {
+			this.keyPair = keyPair;
+			this.data = data;
+			this.signature = signature;
+		}
+	}
+}
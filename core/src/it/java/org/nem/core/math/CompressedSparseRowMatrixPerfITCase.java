@@ -0,0 +1,86 @@
+package org.nem.core.math;
+
+import java.security.SecureRandom;
+import java.util.logging.Logger;
+import org.junit.*;
+
+public class CompressedSparseRowMatrixPerfITCase {
+	private static final Logger LOGGER = Logger.getLogger(CompressedSparseRowMatrixPerfITCase.class.getName());
+
+	// mainnet-scale synthetic outlink graph
+	private static final int NUM_ACCOUNTS = 250_000;
+	private static final int NUM_OUTLINKS_PER_ACCOUNT = 4;
+	private static final int NUM_ITERATIONS = 50;
+	private static final double TELEPORTATION_PROBABILITY = 0.75;
+	private static final double ADJUSTMENT = 0.25 / NUM_ACCOUNTS;
+
+	@Test
+	public void fusedPowerIterationStepIsFasterThanAllocatingStep() {
+		// Arrange:
+		final SparseMatrix sparseMatrix = createOutlinkMatrix();
+		final CompressedSparseRowMatrix matrix = new CompressedSparseRowMatrix(sparseMatrix);
+		final ColumnVector startVector = new ColumnVector(NUM_ACCOUNTS);
+		startVector.setAll(1.0 / NUM_ACCOUNTS);
+
+		// Warm up
+		runAllocatingSteps(sparseMatrix, startVector);
+		runFusedSteps(matrix, startVector);
+
+		// Act:
+		long start = System.nanoTime();
+		final ColumnVector allocatingResult = runAllocatingSteps(sparseMatrix, startVector);
+		final long allocatingNanos = System.nanoTime() - start;
+
+		start = System.nanoTime();
+		final ColumnVector fusedResult = runFusedSteps(matrix, startVector);
+		final long fusedNanos = System.nanoTime() - start;
+
+		// Assert:
+		LOGGER.info(String.format("power iteration step (%d accounts, %d outlinks): %d us (allocating) vs %d us (fused)", NUM_ACCOUNTS,
+				matrix.getNonZeroCount(), allocatingNanos / NUM_ITERATIONS / 1000, fusedNanos / NUM_ITERATIONS / 1000));
+		Assert.assertArrayEquals(allocatingResult.getRaw(), fusedResult.getRaw(), 0.0);
+		Assert.assertTrue(String.format("fused step (%d ns) is not faster than allocating step (%d ns)", fusedNanos, allocatingNanos),
+				fusedNanos < allocatingNanos);
+	}
+
+	private static ColumnVector runAllocatingSteps(final SparseMatrix matrix, final ColumnVector startVector) {
+		ColumnVector vector = startVector;
+		for (int i = 0; i < NUM_ITERATIONS; ++i) {
+			final ColumnVector adjustmentVector = new ColumnVector(NUM_ACCOUNTS);
+			adjustmentVector.setAll(ADJUSTMENT);
+			vector = matrix.multiply(vector).multiply(TELEPORTATION_PROBABILITY).addElementWise(adjustmentVector);
+			vector.normalize();
+		}
+
+		return vector;
+	}
+
+	private static ColumnVector runFusedSteps(final CompressedSparseRowMatrix matrix, final ColumnVector startVector) {
+		ColumnVector vector1 = new ColumnVector(NUM_ACCOUNTS);
+		ColumnVector vector2 = new ColumnVector(NUM_ACCOUNTS);
+		matrix.multiplyAdd(TELEPORTATION_PROBABILITY, startVector, 0.0, null, ADJUSTMENT, vector2);
+		vector2.normalize();
+		for (int i = 1; i < NUM_ITERATIONS; ++i) {
+			final ColumnVector vector = vector1;
+			vector1 = vector2;
+			vector2 = vector;
+			matrix.multiplyAdd(TELEPORTATION_PROBABILITY, vector1, 0.0, null, ADJUSTMENT, vector2);
+			vector2.normalize();
+		}
+
+		return vector2;
+	}
+
+	private static SparseMatrix createOutlinkMatrix() {
+		final SecureRandom random = new SecureRandom();
+		final SparseMatrix matrix = new SparseMatrix(NUM_ACCOUNTS, NUM_ACCOUNTS, NUM_OUTLINKS_PER_ACCOUNT);
+		for (int i = 0; i < NUM_ACCOUNTS; ++i) {
+			for (int j = 0; j < NUM_OUTLINKS_PER_ACCOUNT; ++j) {
+				matrix.setAt(random.nextInt(NUM_ACCOUNTS), i, random.nextDouble());
+			}
+		}
+
+		matrix.normalizeColumns();
+		return matrix;
+	}
+}
@@ -0,0 +1,61 @@
+package org.nem.core.model;
+
+import java.util.function.Consumer;
+import org.junit.*;
+import org.nem.core.messages.PlainMessage;
+import org.nem.core.model.primitive.Amount;
+import org.nem.core.test.Utils;
+import org.nem.core.time.TimeInstant;
+
+public class VerifiableEntityHashPerfITCase {
+	// number of times a pushed transaction is hashed (validation, unconfirmed transactions cache, spam filter, ...)
+	private static final int NUM_HASHES_PER_PUSH = 5;
+
+	@Test
+	public void cachedHashingIsFasterThanUncachedHashing() {
+		// Arrange:
+		final Transaction transaction = createSignedTransaction();
+
+		// Act:
+		final long uncachedTime = measurePushTime(transaction, t -> HashUtils.calculateHash(t.asNonVerifiable()), 10000, 100000);
+		final long cachedTime = measurePushTime(transaction, HashUtils::calculateHash, 10000, 100000);
+
+		// Assert:
+		System.out.println(String.format("hashing needs %d (uncached) vs %d (cached) nano seconds per push.", uncachedTime, cachedTime));
+		Assert.assertTrue(String.format("cached hashing needs %d nano seconds (expected less than %d nano seconds)", cachedTime, uncachedTime),
+				cachedTime < uncachedTime);
+	}
+
+	private static long measurePushTime(final Transaction transaction, final Consumer<Transaction> hash, final int numWarmUpIterations,
+			final int numTimedIterations) {
+		// Warm up
+		for (int i = 0; i < numWarmUpIterations; ++i) {
+			push(transaction, hash);
+		}
+
+		final long start = System.nanoTime();
+		for (int i = 0; i < numTimedIterations; ++i) {
+			push(transaction, hash);
+		}
+
+		final long stop = System.nanoTime();
+		return (stop - start) / numTimedIterations;
+	}
+
+	private static void push(final Transaction transaction, final Consumer<Transaction> hash) {
+		for (int i = 0; i < NUM_HASHES_PER_PUSH; ++i) {
+			hash.accept(transaction);
+		}
+	}
+
+	private static Transaction createSignedTransaction() {
+		final TransferTransactionAttachment attachment = new TransferTransactionAttachment(
+				new PlainMessage(Utils.generateRandomBytes(128)));
+		final Transaction transaction = new TransferTransaction(TimeInstant.ZERO, Utils.generateRandomAccount(),
+				Utils.generateRandomAccount(), Amount.fromNem(123), attachment);
+		transaction.setFee(Amount.fromNem(1));
+		transaction.setDeadline(new TimeInstant(60));
+		transaction.sign();
+		return transaction;
+	}
+}
@@ -0,0 +1,137 @@
+package org.nem.core.serialization;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.*;
+import java.util.logging.Logger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.*;
+import org.nem.core.model.*;
+import org.nem.core.model.primitive.BlockHeight;
+import org.nem.core.test.*;
+
+public class BinarySerializerPerfITCase {
+	private static final Logger LOGGER = Logger.getLogger(BinarySerializerPerfITCase.class.getName());
+
+	private static final int NUM_BLOCK_TRANSACTIONS = 120;
+	private static final int NUM_WARM_UP_ITERATIONS = 2_000;
+	private static final int NUM_TIMED_ITERATIONS = 10_000;
+
+	// region transaction
+
+	@Test
+	public void transactionSerializationAllocatesLessThanStreamBasedSerialization() {
+		// Arrange:
+		final Transaction transaction = createTransaction(0);
+
+		// Act + Assert:
+		assertLessAllocation("transaction serialization", transaction, BinarySerializerPerfITCase::serializeWithStreamSerializer,
+				BinarySerializer::serializeToBytes);
+	}
+
+	@Test
+	public void transactionRoundtripAllocatesLessThanStreamBasedRoundtrip() {
+		// Arrange:
+		final Transaction transaction = createTransaction(0);
+		final DeserializationContext context = new DeserializationContext(new MockAccountLookup());
+
+		// Act + Assert:
+		assertLessAllocation("transaction roundtrip", transaction,
+				t -> TransactionFactory.VERIFIABLE.deserialize(new StreamBinaryDeserializer(serializeWithStreamSerializer(t), context)),
+				t -> TransactionFactory.VERIFIABLE.deserialize(new BinaryDeserializer(BinarySerializer.serializeToBytes(t), context)));
+	}
+
+	// endregion
+
+	// region block
+
+	@Test
+	public void blockSerializationAllocatesLessThanStreamBasedSerialization() {
+		// Arrange:
+		final Block block = createBlock();
+
+		// Act + Assert:
+		assertLessAllocation("block serialization", block, BinarySerializerPerfITCase::serializeWithStreamSerializer,
+				BinarySerializer::serializeToBytes);
+	}
+
+	@Test
+	public void blockRoundtripAllocatesLessThanStreamBasedRoundtrip() {
+		// Arrange:
+		final Block block = createBlock();
+		final DeserializationContext context = new DeserializationContext(new MockAccountLookup());
+
+		// Act + Assert:
+		assertLessAllocation("block roundtrip", block,
+				b -> BlockFactory.VERIFIABLE.deserialize(new StreamBinaryDeserializer(serializeWithStreamSerializer(b), context)),
+				b -> BlockFactory.VERIFIABLE.deserialize(new BinaryDeserializer(BinarySerializer.serializeToBytes(b), context)));
+	}
+
+	// endregion
+
+	private static <T extends SerializableEntity> void assertLessAllocation(final String description, final T entity,
+			final Function<T, Object> streamBased, final Function<T, Object> bufferBased) {
+		// Arrange: both implementations must produce the same bytes
+		MatcherAssert.assertThat(BinarySerializer.serializeToBytes(entity), IsEqual.equalTo(serializeWithStreamSerializer(entity)));
+
+		// Act:
+		final Measurement streamMeasurement = measure(() -> streamBased.apply(entity));
+		final Measurement bufferMeasurement = measure(() -> bufferBased.apply(entity));
+
+		// Assert:
+		LOGGER.info(String.format("%s: %d bytes / %d ns (stream) vs %d bytes / %d ns (buffer)", description,
+				streamMeasurement.allocatedBytes, streamMeasurement.nanos, bufferMeasurement.allocatedBytes, bufferMeasurement.nanos));
+		Assert.assertTrue(String.format("%s allocates %d bytes (expected less than %d bytes)", description,
+				bufferMeasurement.allocatedBytes, streamMeasurement.allocatedBytes),
+				bufferMeasurement.allocatedBytes < streamMeasurement.allocatedBytes);
+	}
+
+	private static byte[] serializeWithStreamSerializer(final SerializableEntity entity) {
+		return StreamBinarySerializer.serializeToBytes(entity);
+	}
+
+	private static Measurement measure(final Supplier<Object> operation) {
+		final com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		final long threadId = Thread.currentThread().getId();
+
+		// Warm up
+		for (int i = 0; i < NUM_WARM_UP_ITERATIONS; ++i) {
+			operation.get();
+		}
+
+		final long startAllocatedBytes = threadBean.getThreadAllocatedBytes(threadId);
+		final long start = System.nanoTime();
+		for (int i = 0; i < NUM_TIMED_ITERATIONS; ++i) {
+			operation.get();
+		}
+
+		final Measurement measurement = new Measurement();
+		measurement.nanos = (System.nanoTime() - start) / NUM_TIMED_ITERATIONS;
+		measurement.allocatedBytes = (threadBean.getThreadAllocatedBytes(threadId) - startAllocatedBytes) / NUM_TIMED_ITERATIONS;
+		return measurement;
+	}
+
+	private static Block createBlock() {
+		final Block block = new Block(Utils.generateRandomAccount(), Utils.generateRandomHash(), Utils.generateRandomHash(),
+				Utils.generateRandomTimeStamp(), new BlockHeight(17));
+		for (int i = 0; i < NUM_BLOCK_TRANSACTIONS; ++i) {
+			block.addTransaction(createTransaction(i));
+		}
+
+		block.sign();
+		return block;
+	}
+
+	private static Transaction createTransaction(final int index) {
+		final Transaction transaction = 0 == index % 10
+				? RandomTransactionFactory.createMultisigTransferWithThreeSignatures()
+				: RandomTransactionFactory.createTransfer();
+		transaction.sign();
+		return transaction;
+	}
+
+	private static class Measurement {
+		private long nanos;
+		private long allocatedBytes;
+	}
+}
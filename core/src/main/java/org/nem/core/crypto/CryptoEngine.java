@@ -20,6 +20,13 @@ public interface CryptoEngine {
 	 */
 	DsaSigner createDsaSigner(final KeyPair keyPair);
 
+	/**
+	 * Creates a DSA batch verifier.
+	 *
+	 * @return The DSA batch verifier.
+	 */
+	DsaBatchVerifier createDsaBatchVerifier();
+
 	/**
 	 * Creates a key generator.
 	 *
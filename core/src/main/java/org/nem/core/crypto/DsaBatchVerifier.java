@@ -0,0 +1,20 @@
+package org.nem.core.crypto;
+
+import java.util.List;
+
+/**
+ * Interface that supports verification of many signatures at once.
+ */
+public interface DsaBatchVerifier {
+
+	/**
+	 * Verifies that all signatures are valid.
+	 * <br>
+	 * A result of true implies that each signature would be accepted by DsaSigner.verify. A result of false only implies that at least
+	 * one signature might be invalid, so callers need to fall back to individual verification in order to find the offending signatures.
+	 *
+	 * @param signedDataList The signed data.
+	 * @return true if all signatures are valid.
+	 */
+	boolean verify(final List<SignedData> signedDataList);
+}
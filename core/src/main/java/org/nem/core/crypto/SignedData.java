@@ -0,0 +1,50 @@
+package org.nem.core.crypto;
+
+/**
+ * Data together with a signature and the public key of the signer.
+ */
+public class SignedData {
+	private final PublicKey publicKey;
+	private final byte[] data;
+	private final Signature signature;
+
+	/**
+	 * Creates signed data.
+	 *
+	 * @param publicKey The public key of the signer.
+	 * @param data The signed data.
+	 * @param signature The signature.
+	 */
+	public SignedData(final PublicKey publicKey, final byte[] data, final Signature signature) {
+		this.publicKey = publicKey;
+		this.data = data;
+		this.signature = signature;
+	}
+
+	/**
+	 * Gets the public key of the signer.
+	 *
+	 * @return The public key.
+	 */
+	public PublicKey getPublicKey() {
+		return this.publicKey;
+	}
+
+	/**
+	 * Gets the signed data.
+	 *
+	 * @return The data.
+	 */
+	public byte[] getData() {
+		return this.data;
+	}
+
+	/**
+	 * Gets the signature.
+	 *
+	 * @return The signature.
+	 */
+	public Signature getSignature() {
+		return this.signature;
+	}
+}
@@ -6,6 +6,18 @@ import org.nem.core.crypto.*;
  * Class that wraps the Ed25519 specific implementation.
  */
 public class Ed25519CryptoEngine implements CryptoEngine {
+	private static final int PUBLIC_KEY_CACHE_CAPACITY = 4096;
+
+	private final Ed25519PublicKeyCache publicKeyCache = new Ed25519PublicKeyCache(PUBLIC_KEY_CACHE_CAPACITY);
+
+	/**
+	 * Gets the cache of decoded public keys used by all signers created by this engine.
+	 *
+	 * @return The public key cache.
+	 */
+	public Ed25519PublicKeyCache getPublicKeyCache() {
+		return this.publicKeyCache;
+	}
 
 	@Override
 	public org.nem.core.crypto.Curve getCurve() {
@@ -14,7 +26,12 @@ public class Ed25519CryptoEngine implements CryptoEngine {
 
 	@Override
 	public DsaSigner createDsaSigner(final KeyPair keyPair) {
-		return new Ed25519DsaSigner(keyPair);
+		return new Ed25519DsaSigner(keyPair, this.publicKeyCache);
+	}
+
+	@Override
+	public DsaBatchVerifier createDsaBatchVerifier() {
+		return new Ed25519DsaBatchVerifier(this, this.publicKeyCache);
 	}
 
 	@Override
@@ -0,0 +1,170 @@
+package org.nem.core.crypto.ed25519;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.*;
+import org.nem.core.crypto.*;
+import org.nem.core.crypto.ed25519.arithmetic.*;
+import org.nem.core.utils.ArrayUtils;
+
+/**
+ * Implementation of the DSA batch verifier for Ed25519.
+ * <br>
+ * A single signature (R, S) of data by public key A is valid if R = S * B - h * A where h = H(R, A, data) and B is the base point.
+ * Instead of checking this equation for each signature, a random linear combination of all equations is checked:
+ *
+ * <pre>
+ * (z1 * S1 + ... + zn * Sn) * B - (z1 * h1) * A1 - ... - (zn * hn) * An - z1 * R1 - ... - zn * Rn = 0
+ * </pre>
+ *
+ * The left hand side is calculated with a single multi scalar multiplication that shares the doublings among all group elements, which
+ * is a lot cheaper than n double scalar multiplications. Terms of identical public keys are merged. Since the zi are random 128 bit
+ * numbers, an invalid signature only passes with negligible probability. <br>
+ * The random linear combination cannot detect differences in the (small) torsion subgroup though, so all public keys and R values must
+ * additionally be in the prime order subgroup. This is checked once per public key (the result is cached) and for the R values by
+ * checking random subset sums. Batches that fail any of these checks are reported as (possibly) invalid, so that callers fall back to
+ * individual verification which is authoritative.
+ */
+public class Ed25519DsaBatchVerifier implements DsaBatchVerifier {
+	private static final int MIN_BATCH_SIZE = 256;
+	private static final int NUM_SUBGROUP_CHECKS = 64;
+	private static final Ed25519EncodedFieldElement ZERO = new Ed25519EncodedFieldElement(new byte[32]);
+	private static final Ed25519EncodedFieldElement ONE = new Ed25519EncodedFieldElement(ArrayUtils.toByteArray(BigInteger.ONE, 32));
+	private static final Ed25519EncodedFieldElement MINUS_ONE = new Ed25519EncodedFieldElement(
+			ArrayUtils.toByteArray(Ed25519Group.GROUP_ORDER.subtract(BigInteger.ONE), 32));
+
+	private final CryptoEngine engine;
+	private final Ed25519PublicKeyCache publicKeyCache;
+	private final SecureRandom random = new SecureRandom();
+
+	/**
+	 * Creates a Ed25519 DSA batch verifier.
+	 *
+	 * @param engine The crypto engine.
+	 * @param publicKeyCache The public key cache.
+	 */
+	public Ed25519DsaBatchVerifier(final CryptoEngine engine, final Ed25519PublicKeyCache publicKeyCache) {
+		this.engine = engine;
+		this.publicKeyCache = publicKeyCache;
+	}
+
+	@Override
+	public boolean verify(final List<SignedData> signedDataList) {
+		if (signedDataList.size() < MIN_BATCH_SIZE) {
+			// the fixed costs of the subgroup checks only pay off for larger batches
+			return signedDataList.stream().allMatch(this::verifySingle);
+		}
+
+		try {
+			return this.verifyBatch(signedDataList);
+		} catch (final IllegalArgumentException e) {
+			// a public key or R value is not a valid encoded group element
+			return false;
+		}
+	}
+
+	private boolean verifySingle(final SignedData signedData) {
+		final DsaSigner signer = new Ed25519DsaSigner(new KeyPair(signedData.getPublicKey(), this.engine), this.publicKeyCache);
+		return signer.verify(signedData.getData(), signedData.getSignature());
+	}
+
+	private boolean verifyBatch(final List<SignedData> signedDataList) {
+		Ed25519EncodedFieldElement baseScalar = ZERO;
+		final Map<PublicKey, Ed25519EncodedFieldElement> publicKeyScalars = new LinkedHashMap<>();
+		final List<Ed25519GroupElement[]> oddMultiples = new ArrayList<>();
+		final List<Ed25519EncodedFieldElement> scalars = new ArrayList<>();
+		final List<Ed25519GroupElement> rs = new ArrayList<>();
+		for (final SignedData signedData : signedDataList) {
+			final PublicKey publicKey = signedData.getPublicKey();
+			final Signature signature = signedData.getSignature();
+			if (!isCanonicalSignature(signature) || 1 == ArrayUtils.isEqualConstantTime(publicKey.getRaw(), new byte[32])) {
+				return false;
+			}
+
+			if (!this.publicKeyCache.isInPrimeOrderSubgroup(publicKey)) {
+				return false;
+			}
+
+			final byte[] rawEncodedR = signature.getBinaryR();
+			if (!isCanonicalEncoding(rawEncodedR)) {
+				return false;
+			}
+
+			final Ed25519GroupElement R = new Ed25519EncodedGroupElement(rawEncodedR).decode();
+			if ((0 != (rawEncodedR[31] & 0x80)) && !R.getX().isNonZero()) {
+				// the sign bit of x = 0 must not be set
+				return false;
+			}
+
+			// h = H(encodedR, encodedA, data) mod group order
+			final Ed25519EncodedFieldElement hModQ = new Ed25519EncodedFieldElement(
+					Hashes.sha3_512(rawEncodedR, publicKey.getRaw(), signedData.getData())).modQ();
+			final Ed25519EncodedFieldElement z = this.createRandomScalar();
+			final Ed25519EncodedFieldElement minusZ = z.multiplyAndAddModQ(MINUS_ONE, ZERO);
+
+			// accumulate z * S for the base point and -z * h for the public key
+			baseScalar = z.multiplyAndAddModQ(new Ed25519EncodedFieldElement(signature.getBinaryS()), baseScalar);
+			publicKeyScalars.merge(publicKey, minusZ.multiplyAndAddModQ(hModQ, ZERO), (lhs, rhs) -> lhs.multiplyAndAddModQ(ONE, rhs));
+
+			// -z * R
+			oddMultiples.add(R.calculateOddMultiples());
+			scalars.add(minusZ);
+			rs.add(R);
+		}
+
+		oddMultiples.add(Ed25519Group.BASE_POINT.getPrecomputedForDouble());
+		scalars.add(baseScalar);
+		for (final Map.Entry<PublicKey, Ed25519EncodedFieldElement> entry : publicKeyScalars.entrySet()) {
+			oddMultiples.add(this.publicKeyCache.get(entry.getKey()).getPrecomputedForDouble());
+			scalars.add(entry.getValue());
+		}
+
+		final Ed25519GroupElement sum = Ed25519GroupElement.multiScalarMultiplyVariableTime(oddMultiples, scalars);
+		return Ed25519Group.ZERO_P2.equals(sum) && this.areInPrimeOrderSubgroup(rs);
+	}
+
+	private boolean areInPrimeOrderSubgroup(final List<Ed25519GroupElement> groupElements) {
+		// if any group element has a torsion component, a random subset sum has a torsion component with probability of at least 1/2
+		final List<Ed25519GroupElement> cachedGroupElements = new ArrayList<>(groupElements.size());
+		groupElements.forEach(groupElement -> cachedGroupElements.add(groupElement.toCached()));
+
+		// each check costs a full scalar multiplication, but together they only fail to detect a torsion component with probability 2^-64
+		final byte[] subsetBits = new byte[(cachedGroupElements.size() + 7) / 8];
+		for (int i = 0; i < NUM_SUBGROUP_CHECKS; ++i) {
+			this.random.nextBytes(subsetBits);
+			Ed25519GroupElement subsetSum = Ed25519Group.ZERO_P3;
+			for (int j = 0; j < cachedGroupElements.size(); ++j) {
+				if (0 != (subsetBits[j >> 3] & (1 << (j & 7)))) {
+					subsetSum = subsetSum.add(cachedGroupElements.get(j)).toP3();
+				}
+			}
+
+			if (!subsetSum.isInPrimeOrderSubgroup()) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private Ed25519EncodedFieldElement createRandomScalar() {
+		// random odd 128 bit number
+		final byte[] scalar = new byte[32];
+		final byte[] randomBytes = new byte[16];
+		this.random.nextBytes(randomBytes);
+		System.arraycopy(randomBytes, 0, scalar, 0, randomBytes.length);
+		scalar[0] |= 1;
+		return new Ed25519EncodedFieldElement(scalar);
+	}
+
+	private static boolean isCanonicalSignature(final Signature signature) {
+		return -1 == signature.getS().compareTo(Ed25519Group.GROUP_ORDER) && 1 == signature.getS().compareTo(BigInteger.ZERO);
+	}
+
+	private static boolean isCanonicalEncoding(final byte[] rawEncodedGroupElement) {
+		// the y-coordinate (bits 0 to 254) must be less than the field size 2^255 - 19
+		final byte[] y = Arrays.copyOf(rawEncodedGroupElement, 32);
+		y[31] &= 0x7F;
+		return -1 == ArrayUtils.toBigInteger(y).compareTo(Ed25519Field.P);
+	}
+}
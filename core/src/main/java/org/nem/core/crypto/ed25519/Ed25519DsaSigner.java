@@ -12,6 +12,7 @@ import org.nem.core.utils.ArrayUtils;
 public class Ed25519DsaSigner implements DsaSigner {
 
 	private final KeyPair keyPair;
+	private final Ed25519PublicKeyCache publicKeyCache;
 
 	/**
 	 * Creates a Ed25519 DSA signer.
@@ -19,7 +20,18 @@ public class Ed25519DsaSigner implements DsaSigner {
 	 * @param keyPair The key pair to use.
 	 */
 	public Ed25519DsaSigner(final KeyPair keyPair) {
+		this(keyPair, null);
+	}
+
+	/**
+	 * Creates a Ed25519 DSA signer that looks up decoded public keys in a cache.
+	 *
+	 * @param keyPair The key pair to use.
+	 * @param publicKeyCache The public key cache (optional).
+	 */
+	public Ed25519DsaSigner(final KeyPair keyPair, final Ed25519PublicKeyCache publicKeyCache) {
 		this.keyPair = keyPair;
+		this.publicKeyCache = publicKeyCache;
 	}
 
 	/**
@@ -88,8 +100,10 @@ public class Ed25519DsaSigner implements DsaSigner {
 		final Ed25519EncodedFieldElement hModQ = h.modQ();
 
 		// Must compute A.
-		final Ed25519GroupElement A = new Ed25519EncodedGroupElement(rawEncodedA).decode();
-		A.precomputeForDoubleScalarMultiplication();
+		final PublicKey publicKey = this.getKeyPair().getPublicKey();
+		final Ed25519GroupElement A = null == this.publicKeyCache
+				? Ed25519PublicKeyCache.decode(publicKey)
+				: this.publicKeyCache.get(publicKey);
 
 		// R = encodedS * B - H(encodedR, encodedA, data) * A
 		final Ed25519GroupElement calculatedR = Ed25519Group.BASE_POINT.doubleScalarMultiplyVariableTime(A, hModQ,
@@ -0,0 +1,161 @@
+package org.nem.core.crypto.ed25519;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import org.nem.core.crypto.PublicKey;
+import org.nem.core.crypto.ed25519.arithmetic.*;
+
+/**
+ * Bounded, thread-safe cache of decoded public keys that are precomputed for double scalar multiplication.
+ * <br>
+ * Decoding a public key and precomputing it is a significant part of the cost of a signature verification. Since most signatures are
+ * created by a small set of accounts (e.g. harvesters and active senders), caching the precomputed group elements avoids most of that
+ * work. The least recently used entries are evicted once the cache is full.
+ */
+public class Ed25519PublicKeyCache {
+	private final int capacity;
+	private final Map<PublicKey, CacheEntry> groupElements;
+	private final AtomicLong numHits = new AtomicLong();
+	private final AtomicLong numMisses = new AtomicLong();
+
+	/**
+	 * Creates a cache.
+	 *
+	 * @param capacity The maximum number of public keys to cache.
+	 */
+	public Ed25519PublicKeyCache(final int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity must be positive");
+		}
+
+		this.capacity = capacity;
+		this.groupElements = new LinkedHashMap<PublicKey, CacheEntry>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<PublicKey, CacheEntry> eldest) {
+				return this.size() > Ed25519PublicKeyCache.this.capacity;
+			}
+		};
+	}
+
+	/**
+	 * Gets the decoded group element corresponding to the specified public key.
+	 * The returned group element is precomputed for double scalar multiplication and must not be modified.
+	 *
+	 * @param publicKey The public key.
+	 * @return The decoded and precomputed group element.
+	 * @throws IllegalArgumentException If the public key is not a valid encoded group element.
+	 */
+	public Ed25519GroupElement get(final PublicKey publicKey) {
+		return this.getEntry(publicKey).groupElement;
+	}
+
+	/**
+	 * Determines if the group element corresponding to the specified public key is in the prime order subgroup.
+	 * The result is cached together with the decoded group element.
+	 *
+	 * @param publicKey The public key.
+	 * @return true if the group element has no torsion component.
+	 * @throws IllegalArgumentException If the public key is not a valid encoded group element.
+	 */
+	public boolean isInPrimeOrderSubgroup(final PublicKey publicKey) {
+		final CacheEntry entry = this.getEntry(publicKey);
+		Boolean isInPrimeOrderSubgroup = entry.isInPrimeOrderSubgroup;
+		if (null == isInPrimeOrderSubgroup) {
+			isInPrimeOrderSubgroup = entry.groupElement.isInPrimeOrderSubgroup();
+			entry.isInPrimeOrderSubgroup = isInPrimeOrderSubgroup;
+		}
+
+		return isInPrimeOrderSubgroup;
+	}
+
+	private CacheEntry getEntry(final PublicKey publicKey) {
+		synchronized (this.groupElements) {
+			final CacheEntry entry = this.groupElements.get(publicKey);
+			if (null != entry) {
+				this.numHits.incrementAndGet();
+				return entry;
+			}
+		}
+
+		// decode outside of the lock; if two threads miss the same key concurrently, both results are equivalent
+		this.numMisses.incrementAndGet();
+		final CacheEntry entry = new CacheEntry(decode(publicKey));
+		synchronized (this.groupElements) {
+			this.groupElements.put(publicKey, entry);
+		}
+
+		return entry;
+	}
+
+	/**
+	 * Decodes the specified public key and precomputes it for double scalar multiplication without caching it.
+	 *
+	 * @param publicKey The public key.
+	 * @return The decoded and precomputed group element.
+	 */
+	public static Ed25519GroupElement decode(final PublicKey publicKey) {
+		final Ed25519GroupElement groupElement = new Ed25519EncodedGroupElement(publicKey.getRaw()).decode();
+		groupElement.precomputeForDoubleScalarMultiplication();
+		return groupElement;
+	}
+
+	/**
+	 * Gets the maximum number of cached public keys.
+	 *
+	 * @return The capacity.
+	 */
+	public int capacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Gets the number of cached public keys.
+	 *
+	 * @return The size.
+	 */
+	public int size() {
+		synchronized (this.groupElements) {
+			return this.groupElements.size();
+		}
+	}
+
+	/**
+	 * Gets the number of lookups that were served from the cache.
+	 *
+	 * @return The number of hits.
+	 */
+	public long getNumHits() {
+		return this.numHits.get();
+	}
+
+	/**
+	 * Gets the number of lookups that required decoding the public key.
+	 *
+	 * @return The number of misses.
+	 */
+	public long getNumMisses() {
+		return this.numMisses.get();
+	}
+
+	/**
+	 * Gets the fraction of lookups that were served from the cache.
+	 *
+	 * @return The hit rate (0 if there were no lookups).
+	 */
+	public double getHitRate() {
+		final long hits = this.numHits.get();
+		final long total = hits + this.numMisses.get();
+		return 0 == total ? 0.0 : (double) hits / total;
+	}
+
+	private static class CacheEntry {
+		private final Ed25519GroupElement groupElement;
+		private volatile Boolean isInPrimeOrderSubgroup;
+
+		public CacheEntry(final Ed25519GroupElement groupElement) {
+			this.groupElement = groupElement;
+		}
+	}
+}
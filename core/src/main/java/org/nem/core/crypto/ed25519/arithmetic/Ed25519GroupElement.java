@@ -1,7 +1,8 @@
 package org.nem.core.crypto.ed25519.arithmetic;
 
 import java.io.Serializable;
-import org.nem.core.utils.ByteUtils;
+import java.util.*;
+import org.nem.core.utils.*;
 
 /**
  * A point on the ED25519 curve which represents a group element. <br>
@@ -893,6 +894,106 @@ public class Ed25519GroupElement implements Serializable {
 		return r;
 	}
 
+	/**
+	 * Calculates the odd multiples this, 3 * this, ..., 15 * this in the CACHED coordinate system. <br>
+	 * In contrast to precomputeForDoubleScalarMultiplication() no field inversions are needed, so this is cheap enough to do for group
+	 * elements that are only used in a single multi scalar multiplication. <br>
+	 * this must be given in P3 coordinate system.
+	 *
+	 * @return The table of odd multiples.
+	 */
+	public Ed25519GroupElement[] calculateOddMultiples() {
+		if (this.coordinateSystem != CoordinateSystem.P3) {
+			throw new UnsupportedOperationException();
+		}
+
+		final Ed25519GroupElement[] oddMultiples = new Ed25519GroupElement[8];
+		final Ed25519GroupElement doubled = this.dbl().toP3().toCached();
+		Ed25519GroupElement Bi = this;
+		for (int i = 0; i < 8; i++) {
+			oddMultiples[i] = Bi.toCached();
+			if (i < 7) {
+				Bi = Bi.add(doubled).toP3();
+			}
+		}
+
+		return oddMultiples;
+	}
+
+	/**
+	 * r = a1 * A1 + a2 * A2 + ... + an * An (Straus' method, all group elements share the doublings). <br>
+	 * Each group element Ai is given by its table of odd multiples Ai, 3 * Ai, ..., 15 * Ai in either PRECOMPUTED (see
+	 * getPrecomputedForDouble()) or CACHED (see calculateOddMultiples()) coordinate system.
+	 *
+	 * @param oddMultiples The tables of odd multiples of the group elements.
+	 * @param scalars The encoded field elements (32 bytes each).
+	 * @return The resulting group element in the P2 coordinate system.
+	 */
+	public static Ed25519GroupElement multiScalarMultiplyVariableTime(final List<Ed25519GroupElement[]> oddMultiples,
+			final List<Ed25519EncodedFieldElement> scalars) {
+		if (oddMultiples.size() != scalars.size()) {
+			throw new IllegalArgumentException("the number of group elements and scalars must match");
+		}
+
+		final byte[][] slides = scalars.stream().map(Ed25519GroupElement::slide).toArray(byte[][]::new);
+		int i;
+		for (i = 255; i >= 0; --i) {
+			if (hasNonZeroDigit(slides, i)) {
+				break;
+			}
+		}
+
+		Ed25519GroupElement r = Ed25519Group.ZERO_P2;
+		for (; i >= 0; --i) {
+			Ed25519GroupElement t = r.dbl();
+			for (int j = 0; j < slides.length; ++j) {
+				final byte digit = slides[j][i];
+				if (0 != digit) {
+					t = t.toP3().addOddMultiple(oddMultiples.get(j)[Math.abs(digit) / 2], digit < 0);
+				}
+			}
+
+			r = t.toP2();
+		}
+
+		return r;
+	}
+
+	private static boolean hasNonZeroDigit(final byte[][] slides, final int index) {
+		for (final byte[] slide : slides) {
+			if (0 != slide[index]) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private Ed25519GroupElement addOddMultiple(final Ed25519GroupElement g, final boolean isNegative) {
+		if (CoordinateSystem.CACHED == g.coordinateSystem) {
+			return isNegative ? this.subtract(g) : this.add(g);
+		}
+
+		return isNegative ? this.precomputedSubtract(g) : this.precomputedAdd(g);
+	}
+
+	/**
+	 * Determines if this group element is in the subgroup of prime order generated by the base point, i.e. if it has no torsion component.
+	 * this must be given in P3 coordinate system.
+	 *
+	 * @return true if group order * this is the neutral element.
+	 */
+	public boolean isInPrimeOrderSubgroup() {
+		final Ed25519GroupElement[] oddMultiples = this.isPrecomputedForDoubleScalarMultiplication()
+				? this.precomputedForDouble
+				: this.calculateOddMultiples();
+		final Ed25519EncodedFieldElement encodedGroupOrder = new Ed25519EncodedFieldElement(
+				ArrayUtils.toByteArray(Ed25519Group.GROUP_ORDER, 32));
+		final Ed25519GroupElement r = multiScalarMultiplyVariableTime(Collections.singletonList(oddMultiples),
+				Collections.singletonList(encodedGroupOrder));
+		return Ed25519Group.ZERO_P2.equals(r);
+	}
+
 	/**
 	 * Verify that the group element satisfies the curve equation.
 	 *
@@ -17,6 +17,14 @@ public class SecP256K1CryptoEngine implements CryptoEngine {
 		return new SecP256K1DsaSigner(keyPair);
 	}
 
+	@Override
+	public DsaBatchVerifier createDsaBatchVerifier() {
+		// there is no faster way than verifying each signature individually
+		return signedDataList -> signedDataList.stream().allMatch(
+				signedData -> this.createDsaSigner(new KeyPair(signedData.getPublicKey(), this)).verify(signedData.getData(),
+						signedData.getSignature()));
+	}
+
 	@Override
 	public KeyGenerator createKeyGenerator() {
 		return new SecP256K1KeyGenerator();
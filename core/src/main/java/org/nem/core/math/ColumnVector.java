@@ -102,7 +102,18 @@ public class ColumnVector {
 	 * This method has the side effect of modifying the implicit context object, so be careful.
 	 */
 	public void normalize() {
-		this.matrix.normalizeColumns();
+		double sum = 0.0;
+		for (final double val : this.vector) {
+			sum += Math.abs(val);
+		}
+
+		if (0.0 == sum) {
+			return;
+		}
+
+		for (int i = 0; i < this.size; ++i) {
+			this.vector[i] /= sum;
+		}
 	}
 
 	/**
@@ -336,7 +347,7 @@ public class ColumnVector {
 		return Math.sqrt(distance);
 	}
 
-	private double distance(final ColumnVector vector, final DoubleFunction<Double> aggregate) {
+	private double distance(final ColumnVector vector, final DoubleUnaryOperator aggregate) {
 		if (this.size != vector.size) {
 			throw new IllegalArgumentException("cannot determine the distance between vectors with different sizes");
 		}
@@ -344,7 +355,7 @@ public class ColumnVector {
 		double distance = 0;
 		for (int i = 0; i < this.size; ++i) {
 			final double difference = this.vector[i] - vector.vector[i];
-			distance += aggregate.apply(difference);
+			distance += aggregate.applyAsDouble(difference);
 		}
 
 		return distance;
@@ -0,0 +1,164 @@
+package org.nem.core.math;
+
+import java.util.stream.IntStream;
+
+/**
+ * An immutable sparse matrix that stores its non-zero elements in compressed sparse row (CSR) format.
+ * <br>
+ * In contrast to SparseMatrix, all rows share the same (contiguous) column and value arrays, which makes matrix-vector multiplications
+ * cache friendly. Multiplications write into caller supplied vectors so that iterative algorithms can reuse their buffers.
+ * <br>
+ * A parallel matrix partitions its rows into blocks that are multiplied on the common fork-join pool. Each row is still summed
+ * sequentially in column order, so the products are bit-identical to the ones of a serial matrix.
+ */
+public class CompressedSparseRowMatrix {
+	static final int ROWS_PER_TASK = 4096;
+
+	private final int numRows;
+	private final int numCols;
+	private final int[] rowOffsets;
+	private final int[] cols;
+	private final double[] values;
+	private final boolean isParallel;
+
+	/**
+	 * Creates a new (serial) compressed sparse row matrix containing all non-zero elements of the specified matrix.
+	 *
+	 * @param matrix The matrix.
+	 */
+	public CompressedSparseRowMatrix(final Matrix matrix) {
+		this(matrix, false);
+	}
+
+	/**
+	 * Creates a new compressed sparse row matrix containing all non-zero elements of the specified matrix.
+	 *
+	 * @param matrix The matrix.
+	 * @param isParallel true if multiplications should be partitioned by rows and run in parallel.
+	 */
+	public CompressedSparseRowMatrix(final Matrix matrix, final boolean isParallel) {
+		this.isParallel = isParallel;
+		this.numRows = matrix.getRowCount();
+		this.numCols = matrix.getColumnCount();
+		this.rowOffsets = new int[this.numRows + 1];
+
+		// first pass: count the non-zero elements in each row
+		matrix.forEach((r, c, v) -> {
+			if (0.0 != v) {
+				++this.rowOffsets[r + 1];
+			}
+		});
+
+		for (int i = 0; i < this.numRows; ++i) {
+			this.rowOffsets[i + 1] += this.rowOffsets[i];
+		}
+
+		// second pass: copy the non-zero elements (preserving their order within each row)
+		final int numNonZero = this.rowOffsets[this.numRows];
+		this.cols = new int[numNonZero];
+		this.values = new double[numNonZero];
+		final int[] nextIndexes = new int[this.numRows];
+		System.arraycopy(this.rowOffsets, 0, nextIndexes, 0, this.numRows);
+		matrix.forEach((r, c, v) -> {
+			if (0.0 != v) {
+				final int index = nextIndexes[r]++;
+				this.cols[index] = c;
+				this.values[index] = v;
+			}
+		});
+	}
+
+	/**
+	 * Gets the number of rows.
+	 *
+	 * @return The number of rows.
+	 */
+	public int getRowCount() {
+		return this.numRows;
+	}
+
+	/**
+	 * Gets the number of columns.
+	 *
+	 * @return The number of columns.
+	 */
+	public int getColumnCount() {
+		return this.numCols;
+	}
+
+	/**
+	 * Gets the number of non-zero elements.
+	 *
+	 * @return The number of non-zero elements.
+	 */
+	public int getNonZeroCount() {
+		return this.values.length;
+	}
+
+	/**
+	 * Multiplies this matrix by a vector and stores the product in a result vector (result = M * vector).
+	 *
+	 * @param vector The vector.
+	 * @param result The result vector.
+	 */
+	public void multiply(final ColumnVector vector, final ColumnVector result) {
+		this.multiplyAdd(1.0, vector, 0.0, null, 0.0, result);
+	}
+
+	/**
+	 * Multiplies this matrix by a vector, adds a scaled vector and a constant and stores the sum in a result vector
+	 * (result = a * M * vector + b * addend + c).
+	 * <br>
+	 * The addend can be the result vector, but the (multiplied) vector cannot.
+	 *
+	 * @param a The factor of the matrix-vector product.
+	 * @param vector The vector.
+	 * @param b The factor of the addend.
+	 * @param addend The addend vector (optional).
+	 * @param c The constant.
+	 * @param result The result vector.
+	 */
+	public void multiplyAdd(final double a, final ColumnVector vector, final double b, final ColumnVector addend, final double c,
+			final ColumnVector result) {
+		if (this.numCols != vector.size()) {
+			throw new IllegalArgumentException("vector size and matrix column count must be equal");
+		}
+
+		if (this.numRows != result.size() || (null != addend && this.numRows != addend.size())) {
+			throw new IllegalArgumentException("result and addend sizes and matrix row count must be equal");
+		}
+
+		if (vector == result) {
+			throw new IllegalArgumentException("vector and result cannot be the same");
+		}
+
+		final double[] rawVector = vector.getRaw();
+		final double[] rawAddend = null == addend ? null : addend.getRaw();
+		final double[] rawResult = result.getRaw();
+		if (!this.isParallel || this.numRows <= ROWS_PER_TASK) {
+			this.multiplyAddRows(0, this.numRows, a, rawVector, b, rawAddend, c, rawResult);
+			return;
+		}
+
+		// rows are independent of each other, so any partitioning yields the same result as the serial multiplication
+		final int numTasks = (this.numRows + ROWS_PER_TASK - 1) / ROWS_PER_TASK;
+		IntStream.range(0, numTasks).parallel().forEach(task -> {
+			final int startRow = task * ROWS_PER_TASK;
+			final int endRow = Math.min(startRow + ROWS_PER_TASK, this.numRows);
+			this.multiplyAddRows(startRow, endRow, a, rawVector, b, rawAddend, c, rawResult);
+		});
+	}
+
+	private void multiplyAddRows(final int startRow, final int endRow, final double a, final double[] rawVector, final double b,
+			final double[] rawAddend, final double c, final double[] rawResult) {
+		for (int i = startRow; i < endRow; ++i) {
+			double sum = 0.0;
+			for (int j = this.rowOffsets[i]; j < this.rowOffsets[i + 1]; ++j) {
+				sum += this.values[j] * rawVector[this.cols[j]];
+			}
+
+			final double addendValue = null == rawAddend ? 0.0 : b * rawAddend[i];
+			rawResult[i] = a * sum + addendValue + c;
+		}
+	}
+}
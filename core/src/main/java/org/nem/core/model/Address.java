@@ -1,20 +1,36 @@
 package org.nem.core.model;
 
 import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
 import org.nem.core.crypto.*;
 import org.nem.core.serialization.*;
 import org.nem.core.utils.*;
 
 /**
  * A NEM address.
+ * <br>
+ * Addresses are stored in their compact binary form (25 bytes packed into three longs and a byte) so that hashing and comparing them
+ * is cheap. The base-32 encoded string is only generated when needed. Encoded strings that do not correspond to 25 bytes are kept as
+ * strings. Addresses created from encoded strings are pooled, so that repeatedly deserialized addresses are only decoded once.
  */
 public class Address implements Comparable<Address> {
 	private static final int NUM_CHECKSUM_BYTES = 4;
 	private static final int NUM_DECODED_BYTES_LENGTH = 40;
 	private static final int NUM_ENCODED_BYTES_LENGTH = 25;
-	private final String encoded; // base-32 encoded address
+	private static final String BASE32_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567";
+	private static final int MAX_POOL_SIZE = 65_536;
+	private static final ConcurrentHashMap<String, Address> POOL = new ConcurrentHashMap<>();
+
+	private final boolean isDecoded;
+	private final long bytes0To7;
+	private final long bytes8To15;
+	private final long bytes16To23;
+	private final byte byte24;
+	private final int hashCode;
+	private String encoded; // base-32 encoded address (lazily generated if the address is decoded)
 	private final PublicKey publicKey;
-	private Boolean isValid;
+	private final Boolean isValid;
+	private Boolean isChecksumValid;
 
 	/**
 	 * Creates an Address from a public key.
@@ -52,7 +68,23 @@ public class Address implements Comparable<Address> {
 			throw new IllegalArgumentException("encoded address cannot be null");
 		}
 
-		return new Address(encoded.toUpperCase());
+		// addresses are immutable, so equal addresses without public keys can be shared
+		final String upperCaseEncoded = encoded.toUpperCase();
+		final Address pooledAddress = POOL.get(upperCaseEncoded);
+		if (null != pooledAddress) {
+			return pooledAddress;
+		}
+
+		final Address address = new Address(upperCaseEncoded);
+		if (address.isDecoded) {
+			if (POOL.size() >= MAX_POOL_SIZE) {
+				POOL.clear();
+			}
+
+			POOL.putIfAbsent(upperCaseEncoded, address);
+		}
+
+		return address;
 	}
 
 	/**
@@ -63,9 +95,7 @@ public class Address implements Comparable<Address> {
 	 * @param isValid true if the encoded address string is valid; false otherwise.
 	 */
 	protected Address(final PublicKey publicKey, final String encoded, final Boolean isValid) {
-		this.publicKey = publicKey;
-		this.encoded = encoded;
-		this.isValid = isValid;
+		this(publicKey, decode(encoded), encoded, isValid);
 	}
 
 	private Address(final String encoded) {
@@ -73,10 +103,31 @@ public class Address implements Comparable<Address> {
 	}
 
 	private Address(final byte version, final PublicKey publicKey) {
-		this(publicKey, generateEncoded(version, publicKey.getRaw()), true);
+		this(publicKey, generateDecoded(version, publicKey.getRaw()), null, true);
+	}
+
+	private Address(final PublicKey publicKey, final byte[] decoded, final String encoded, final Boolean isValid) {
+		this.publicKey = publicKey;
+		this.encoded = encoded;
+		this.isValid = isValid;
+		this.isDecoded = null != decoded;
+		if (this.isDecoded) {
+			this.bytes0To7 = toLong(decoded, 0);
+			this.bytes8To15 = toLong(decoded, 8);
+			this.bytes16To23 = toLong(decoded, 16);
+			this.byte24 = decoded[24];
+			this.hashCode = 31 * (31 * (31 * Long.hashCode(this.bytes0To7) + Long.hashCode(this.bytes8To15)) + Long.hashCode(this.bytes16To23))
+					+ this.byte24;
+		} else {
+			this.bytes0To7 = 0;
+			this.bytes8To15 = 0;
+			this.bytes16To23 = 0;
+			this.byte24 = 0;
+			this.hashCode = encoded.hashCode();
+		}
 	}
 
-	private static String generateEncoded(final byte version, final byte[] publicKey) {
+	private static byte[] generateDecoded(final byte version, final byte[] publicKey) {
 		// step 1: sha3 hash of the public key
 		final byte[] sha3PublicKeyHash = Hashes.sha3_256(publicKey);
 
@@ -92,10 +143,8 @@ public class Address implements Comparable<Address> {
 		final byte[] stepThreeChecksum = generateChecksum(versionPrefixedRipemd160Hash);
 
 		// step 5: concatenate (3) and (4)
-		final byte[] concatStepThreeAndStepSix = ArrayUtils.concat(versionPrefixedRipemd160Hash, stepThreeChecksum);
-
-		// step 6: base32 encode (5)
-		return Base32Encoder.getString(concatStepThreeAndStepSix);
+		// (base32 encoding of (5) is deferred until the encoded address is requested)
+		return ArrayUtils.concat(versionPrefixedRipemd160Hash, stepThreeChecksum);
 	}
 
 	private static byte[] generateChecksum(final byte[] input) {
@@ -112,6 +161,10 @@ public class Address implements Comparable<Address> {
 	 * @return The encoded address string.
 	 */
 	public String getEncoded() {
+		if (null == this.encoded) {
+			this.encoded = encode(this.getDecoded());
+		}
+
 		return this.encoded;
 	}
 
@@ -130,7 +183,7 @@ public class Address implements Comparable<Address> {
 	 * @return The address version.
 	 */
 	public byte getVersion() {
-		return Base32Encoder.getBytes(this.encoded)[0];
+		return this.isDecoded ? (byte) (this.bytes0To7 >>> 56) : Base32Encoder.getBytes(this.encoded)[0];
 	}
 
 	/**
@@ -139,11 +192,23 @@ public class Address implements Comparable<Address> {
 	 * @return true if the address is valid.
 	 */
 	public boolean isValid() {
-		if (null == this.isValid) {
-			this.isValid = isEncodedAddressValid(this.encoded);
+		if (null != this.isValid) {
+			return this.isValid;
 		}
 
-		return this.isValid;
+		if (!this.isDecoded) {
+			return isEncodedAddressValid(this.encoded);
+		}
+
+		if (NetworkInfos.getDefault().getVersion() != this.getVersion()) {
+			return false;
+		}
+
+		if (null == this.isChecksumValid) {
+			this.isChecksumValid = isChecksumValid(this.getDecoded());
+		}
+
+		return this.isChecksumValid;
 	}
 
 	private static boolean isEncodedAddressValid(final String encoded) {
@@ -167,31 +232,115 @@ public class Address implements Comparable<Address> {
 			return false;
 		}
 
+		return isChecksumValid(encodedBytes);
+	}
+
+	private static boolean isChecksumValid(final byte[] decoded) {
 		final int checksumStartIndex = NUM_ENCODED_BYTES_LENGTH - NUM_CHECKSUM_BYTES;
-		final byte[] versionPrefixedHash = Arrays.copyOfRange(encodedBytes, 0, checksumStartIndex);
-		final byte[] addressChecksum = Arrays.copyOfRange(encodedBytes, checksumStartIndex, checksumStartIndex + NUM_CHECKSUM_BYTES);
+		final byte[] versionPrefixedHash = Arrays.copyOfRange(decoded, 0, checksumStartIndex);
+		final byte[] addressChecksum = Arrays.copyOfRange(decoded, checksumStartIndex, checksumStartIndex + NUM_CHECKSUM_BYTES);
 		final byte[] calculatedChecksum = generateChecksum(versionPrefixedHash);
 		return Arrays.equals(addressChecksum, calculatedChecksum);
 	}
 
+	private byte[] getDecoded() {
+		final byte[] decoded = new byte[NUM_ENCODED_BYTES_LENGTH];
+		fromLong(this.bytes0To7, decoded, 0);
+		fromLong(this.bytes8To15, decoded, 8);
+		fromLong(this.bytes16To23, decoded, 16);
+		decoded[24] = this.byte24;
+		return decoded;
+	}
+
+	private static long toLong(final byte[] bytes, final int offset) {
+		long value = 0;
+		for (int i = 0; i < 8; ++i) {
+			value = (value << 8) | (bytes[offset + i] & 0xFF);
+		}
+
+		return value;
+	}
+
+	private static void fromLong(long value, final byte[] bytes, final int offset) {
+		for (int i = 7; i >= 0; --i) {
+			bytes[offset + i] = (byte) value;
+			value >>>= 8;
+		}
+	}
+
+	private static byte[] decode(final String encoded) {
+		// only strings consisting of exactly 40 base-32 characters are decoded (each group of 8 characters maps to 5 bytes)
+		if (NUM_DECODED_BYTES_LENGTH != encoded.length()) {
+			return null;
+		}
+
+		final byte[] decoded = new byte[NUM_ENCODED_BYTES_LENGTH];
+		for (int i = 0; i < NUM_DECODED_BYTES_LENGTH / 8; ++i) {
+			long bits = 0;
+			for (int j = 0; j < 8; ++j) {
+				final int value = BASE32_ALPHABET.indexOf(encoded.charAt(8 * i + j));
+				if (value < 0) {
+					return null;
+				}
+
+				bits = (bits << 5) | value;
+			}
+
+			for (int j = 4; j >= 0; --j) {
+				decoded[5 * i + j] = (byte) bits;
+				bits >>>= 8;
+			}
+		}
+
+		return decoded;
+	}
+
+	private static String encode(final byte[] decoded) {
+		final char[] encoded = new char[NUM_DECODED_BYTES_LENGTH];
+		for (int i = 0; i < NUM_ENCODED_BYTES_LENGTH / 5; ++i) {
+			long bits = 0;
+			for (int j = 0; j < 5; ++j) {
+				bits = (bits << 8) | (decoded[5 * i + j] & 0xFF);
+			}
+
+			for (int j = 7; j >= 0; --j) {
+				encoded[8 * i + j] = BASE32_ALPHABET.charAt((int) (bits & 0x1F));
+				bits >>>= 5;
+			}
+		}
+
+		return new String(encoded);
+	}
+
 	@Override
 	public int hashCode() {
-		return this.encoded.hashCode();
+		return this.hashCode;
 	}
 
 	@Override
 	public boolean equals(final Object obj) {
-		if (obj == null || !(obj instanceof Address)) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof Address)) {
 			return false;
 		}
 
 		final Address rhs = (Address) obj;
-		return this.encoded.equals(rhs.encoded);
+		if (this.isDecoded != rhs.isDecoded) {
+			return false;
+		}
+
+		return this.isDecoded
+				? this.bytes0To7 == rhs.bytes0To7 && this.bytes8To15 == rhs.bytes8To15 && this.bytes16To23 == rhs.bytes16To23
+						&& this.byte24 == rhs.byte24
+				: this.encoded.equals(rhs.encoded);
 	}
 
 	@Override
 	public String toString() {
-		return this.encoded;
+		return this.getEncoded();
 	}
 
 	@Override
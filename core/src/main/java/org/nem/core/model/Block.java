@@ -1,6 +1,7 @@
 package org.nem.core.model;
 
 import java.util.*;
+import java.util.function.UnaryOperator;
 import org.nem.core.crypto.Hash;
 import org.nem.core.model.primitive.*;
 import org.nem.core.serialization.*;
@@ -15,7 +16,7 @@ public class Block extends VerifiableEntity {
 	private final BlockHeight height;
 	private Hash prevBlockHash;
 
-	private final List<Transaction> transactions;
+	private final TransactionList transactions;
 
 	// these are helper fields and shouldn't be serialized
 	private Account lessor;
@@ -35,7 +36,7 @@ public class Block extends VerifiableEntity {
 	public Block(final Account harvester, final Hash prevBlockHash, final Hash generationHash, final TimeInstant timeStamp,
 			final BlockHeight height) {
 		super(BlockHeight.ONE.equals(height) ? BlockTypes.NEMESIS : BlockTypes.REGULAR, BLOCK_VERSION, timeStamp, harvester);
-		this.transactions = new ArrayList<>();
+		this.transactions = new TransactionList();
 		this.prevBlockHash = prevBlockHash;
 		this.generationHash = generationHash;
 		this.height = height;
@@ -68,7 +69,7 @@ public class Block extends VerifiableEntity {
 		this.prevBlockHash = deserializer.readObject("prevBlockHash", Hash.DESERIALIZER);
 		this.height = BlockHeight.readFrom(deserializer, "height");
 
-		this.transactions = deserializer.readObjectArray("transactions", TransactionFactory.VERIFIABLE);
+		this.transactions = new TransactionList(deserializer.readObjectArray("transactions", TransactionFactory.VERIFIABLE));
 
 		this.difficulty = BlockDifficulty.INITIAL_DIFFICULTY;
 	}
@@ -152,6 +153,7 @@ public class Block extends VerifiableEntity {
 	public void setPrevious(final Block prevBlock) {
 		this.setPreviousGenerationHash(prevBlock.getGenerationHash());
 		this.prevBlockHash = HashUtils.calculateHash(prevBlock);
+		this.onModified();
 	}
 
 	/**
@@ -201,6 +203,7 @@ public class Block extends VerifiableEntity {
 	 */
 	public void addTransaction(final Transaction transaction) {
 		this.transactions.add(transaction);
+		this.onModified();
 	}
 
 	/**
@@ -220,6 +223,22 @@ public class Block extends VerifiableEntity {
 		serializer.writeObjectArray("transactions", this.transactions);
 	}
 
+	@Override
+	protected long getStateVersion() {
+		// structural changes to the block dominate changes to the (monotonically versioned) transactions it contains
+		long transactionsVersion = 0;
+		for (final Transaction transaction : this.transactions) {
+			transactionsVersion += transaction.getStateVersion();
+		}
+
+		return ((super.getStateVersion() + this.transactions.getModificationCount()) << 32) + transactionsVersion;
+	}
+
+	@Override
+	protected boolean isSerializedStateCacheable() {
+		return this.transactions.stream().allMatch(Transaction::isSerializedStateCacheable);
+	}
+
 	@Override
 	public int hashCode() {
 		return Long.valueOf(this.height.getRaw()).intValue();
@@ -240,4 +259,34 @@ public class Block extends VerifiableEntity {
 	public String toString() {
 		return String.format("height: %d, #tx: %d", this.height.getRaw(), this.transactions.size());
 	}
+
+	/**
+	 * Transaction list that keeps track of all modifications, including modifications through the list returned by getTransactions.
+	 */
+	private static class TransactionList extends ArrayList<Transaction> {
+		private static final long serialVersionUID = 1L;
+
+		public TransactionList() {
+		}
+
+		public TransactionList(final Collection<Transaction> transactions) {
+			super(transactions);
+		}
+
+		public int getModificationCount() {
+			return this.modCount;
+		}
+
+		@Override
+		public Transaction set(final int index, final Transaction transaction) {
+			++this.modCount;
+			return super.set(index, transaction);
+		}
+
+		@Override
+		public void replaceAll(final UnaryOperator<Transaction> operator) {
+			++this.modCount;
+			super.replaceAll(operator);
+		}
+	}
 }
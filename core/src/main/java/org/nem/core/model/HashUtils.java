@@ -15,7 +15,7 @@ public abstract class HashUtils {
 	 * @return The calculated hash.
 	 */
 	public static Hash calculateHash(final VerifiableEntity entity) {
-		return calculateHash(entity.asNonVerifiable());
+		return entity.calculateHash();
 	}
 
 	/**
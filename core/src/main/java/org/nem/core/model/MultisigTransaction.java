@@ -2,7 +2,7 @@ package org.nem.core.model;
 
 import java.util.*;
 import java.util.stream.Collectors;
-import org.nem.core.crypto.Hash;
+import org.nem.core.crypto.*;
 import org.nem.core.model.observers.TransactionObserver;
 import org.nem.core.serialization.*;
 import org.nem.core.time.TimeInstant;
@@ -87,6 +87,7 @@ public class MultisigTransaction extends Transaction {
 		}
 
 		this.signatureTransactions.add(transaction);
+		this.onModified();
 	}
 
 	/**
@@ -134,6 +135,22 @@ public class MultisigTransaction extends Transaction {
 		return result;
 	}
 
+	@Override
+	protected long getStateVersion() {
+		long version = super.getStateVersion() + this.otherTransaction.getStateVersion();
+		for (final MultisigSignatureTransaction signatureTransaction : this.signatureTransactions) {
+			version += signatureTransaction.getStateVersion();
+		}
+
+		return version;
+	}
+
+	@Override
+	protected boolean isSerializedStateCacheable() {
+		return super.isSerializedStateCacheable() && this.otherTransaction.isSerializedStateCacheable()
+				&& this.signatureTransactions.stream().allMatch(Transaction::isSerializedStateCacheable);
+	}
+
 	@Override
 	protected void serializeImpl(final Serializer serializer) {
 		// this shouldn't be called since the other overload is implemented
@@ -155,4 +172,10 @@ public class MultisigTransaction extends Transaction {
 	public boolean verify() {
 		return super.verify() && this.signatureTransactions.stream().allMatch(VerifiableEntity::verify);
 	}
+
+	@Override
+	protected void addSignedData(final List<SignedData> signedDataList) {
+		super.addSignedData(signedDataList);
+		this.signatureTransactions.forEach(signatureTransaction -> signatureTransaction.addSignedData(signedDataList));
+	}
 }
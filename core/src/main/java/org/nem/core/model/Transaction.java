@@ -63,6 +63,7 @@ public abstract class Transaction extends VerifiableEntity implements Comparable
 	 */
 	public void setFee(final Amount fee) {
 		this.fee = null == fee ? Optional.empty() : Optional.of(fee);
+		this.onModified();
 	}
 
 	/**
@@ -81,6 +82,7 @@ public abstract class Transaction extends VerifiableEntity implements Comparable
 	 */
 	public void setDeadline(final TimeInstant deadline) {
 		this.deadline = deadline;
+		this.onModified();
 	}
 
 	/**
@@ -177,6 +179,13 @@ public abstract class Transaction extends VerifiableEntity implements Comparable
 		return this.getSigner();
 	}
 
+	@Override
+	protected boolean isSerializedStateCacheable() {
+		// the serialized fee depends on global settings unless it has been set explicitly
+		final Address nemesisAddress = NetworkInfos.getDefault().getNemesisBlockInfo().getAddress();
+		return this.fee.isPresent() && !this.getSigner().getAddress().equals(nemesisAddress);
+	}
+
 	private Amount getMinimumFee() {
 		return NemGlobals.getTransactionFeeCalculator().calculateMinimumFee(this);
 	}
@@ -213,6 +213,11 @@ public class TransferTransaction extends Transaction {
 		return Collections.singletonList(this.recipient);
 	}
 
+	@Override
+	protected long getStateVersion() {
+		return super.getStateVersion() + this.attachment.getModificationCount();
+	}
+
 	@Override
 	protected void serializeImpl(final Serializer serializer) {
 		super.serializeImpl(serializer);
@@ -11,6 +11,7 @@ import org.nem.core.model.primitive.Quantity;
 public class TransferTransactionAttachment {
 	private final Map<MosaicId, Quantity> mosaicTransfers = new HashMap<>();
 	private Message message;
+	private int modificationCount;
 
 	/**
 	 * Creates an empty attachment.
@@ -38,6 +39,7 @@ public class TransferTransactionAttachment {
 		}
 
 		this.message = message;
+		++this.modificationCount;
 	}
 
 	/**
@@ -77,5 +79,15 @@ public class TransferTransactionAttachment {
 	public void addMosaic(final MosaicId mosaicId, final Quantity quantity) {
 		final Quantity originalQuantity = this.mosaicTransfers.getOrDefault(mosaicId, Quantity.ZERO);
 		this.mosaicTransfers.put(mosaicId, originalQuantity.add(quantity));
+		++this.modificationCount;
+	}
+
+	/**
+	 * Gets the number of times this attachment has been modified.
+	 *
+	 * @return The modification count.
+	 */
+	int getModificationCount() {
+		return this.modificationCount;
 	}
 }
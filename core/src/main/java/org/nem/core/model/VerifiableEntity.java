@@ -1,5 +1,6 @@
 package org.nem.core.model;
 
+import java.util.List;
 import org.nem.core.crypto.*;
 import org.nem.core.serialization.*;
 import org.nem.core.time.TimeInstant;
@@ -29,6 +30,8 @@ public abstract class VerifiableEntity implements SerializableEntity {
 	private final Account signer;
 	private final TimeInstant timeStamp;
 	private Signature signature;
+	private int modificationCount;
+	private volatile SerializedState serializedState;
 
 	// region Constructors
 
@@ -138,6 +141,7 @@ public abstract class VerifiableEntity implements SerializableEntity {
 	 */
 	public void setSignature(final Signature signature) {
 		this.signature = signature;
+		this.onModified();
 	}
 
 	// endregion
@@ -205,6 +209,7 @@ public abstract class VerifiableEntity implements SerializableEntity {
 		// (2) sign the buffer
 		final Signer signer = account.createSigner();
 		this.signature = signer.sign(transactionBytes);
+		this.onModified();
 	}
 
 	/**
@@ -221,8 +226,83 @@ public abstract class VerifiableEntity implements SerializableEntity {
 		return signer.verify(this.getBytes(), this.signature);
 	}
 
+	/**
+	 * Adds all signed data that is checked by verify() to the specified list so that it can be verified in a batch.
+	 *
+	 * @param signedDataList The list of signed data.
+	 */
+	protected void addSignedData(final List<SignedData> signedDataList) {
+		if (null == this.signature) {
+			throw new CryptoException("cannot verify because signature does not exist");
+		}
+
+		if (!this.signer.hasPublicKey()) {
+			throw new CryptoException("in order to create a signer, an account must have a public key");
+		}
+
+		signedDataList.add(new SignedData(this.signer.getAddress().getPublicKey(), this.getBytes(), this.signature));
+	}
+
 	private byte[] getBytes() {
-		return BinarySerializer.serializeToBytes(this.asNonVerifiable());
+		return this.getSerializedState().bytes;
+	}
+
+	/**
+	 * Calculates the hash of the non-verifiable data of this entity.
+	 * The hash is cached until the entity is modified.
+	 *
+	 * @return The hash.
+	 */
+	Hash calculateHash() {
+		final SerializedState state = this.getSerializedState();
+		if (null == state.hash) {
+			state.hash = new Hash(Hashes.sha3_256(state.bytes));
+		}
+
+		return state.hash;
+	}
+
+	private SerializedState getSerializedState() {
+		if (!this.isSerializedStateCacheable()) {
+			return new SerializedState(0, BinarySerializer.serializeToBytes(this.asNonVerifiable()));
+		}
+
+		final long stateVersion = this.getStateVersion();
+		SerializedState state = this.serializedState;
+		if (null == state || state.stateVersion != stateVersion) {
+			state = new SerializedState(stateVersion, BinarySerializer.serializeToBytes(this.asNonVerifiable()));
+			this.serializedState = state;
+		}
+
+		return state;
+	}
+
+	/**
+	 * Marks this entity as modified so that cached serialized data is discarded.
+	 * Derived classes must call this whenever serialized state changes.
+	 */
+	protected final void onModified() {
+		++this.modificationCount;
+	}
+
+	/**
+	 * Gets the version of the serialized state of this entity.
+	 * The version must increase whenever the serialized state changes, so derived classes with mutable children
+	 * must include the versions of those children.
+	 *
+	 * @return The state version.
+	 */
+	protected long getStateVersion() {
+		return this.modificationCount;
+	}
+
+	/**
+	 * Gets a value indicating whether or not the serialized state of this entity only depends on the entity itself and can be cached.
+	 *
+	 * @return true if the serialized state can be cached.
+	 */
+	protected boolean isSerializedStateCacheable() {
+		return true;
 	}
 
 	/**
@@ -233,4 +313,15 @@ public abstract class VerifiableEntity implements SerializableEntity {
 	public SerializableEntity asNonVerifiable() {
 		return serializer -> this.serialize(serializer, false);
 	}
+
+	private static class SerializedState {
+		private final long stateVersion;
+		private final byte[] bytes;
+		private volatile Hash hash;
+
+		private SerializedState(final long stateVersion, final byte[] bytes) {
+			this.stateVersion = stateVersion;
+			this.bytes = bytes;
+		}
+	}
 }
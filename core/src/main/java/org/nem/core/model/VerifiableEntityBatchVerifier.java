@@ -0,0 +1,75 @@
+package org.nem.core.model;
+
+import java.util.*;
+import org.nem.core.crypto.*;
+
+/**
+ * Static helper class for verifying many verifiable entities at once.
+ */
+public class VerifiableEntityBatchVerifier {
+	private static final int BATCH_SIZE = 1024;
+
+	/**
+	 * Determines if all entities can be verified.
+	 *
+	 * @param entities The entities.
+	 * @return true if all entities can be verified.
+	 */
+	public static boolean verifyAll(final Collection<? extends VerifiableEntity> entities) {
+		return findUnverifiable(entities).isEmpty();
+	}
+
+	/**
+	 * Finds all entities that cannot be verified.
+	 * <br>
+	 * The entities are split into batches of a fixed size that are verified one after another with a batch verifier.
+	 * The entities of batches that fail are verified individually in order to find the offending entities.
+	 * Entities that are not signed or whose signers do not have public keys are unverifiable, but do not affect the other entities.
+	 *
+	 * @param entities The entities.
+	 * @param <T> The entity type.
+	 * @return The entities that cannot be verified.
+	 */
+	public static <T extends VerifiableEntity> List<T> findUnverifiable(final Collection<T> entities) {
+		final DsaBatchVerifier verifier = CryptoEngines.defaultEngine().createDsaBatchVerifier();
+		final List<T> unverifiable = new ArrayList<>();
+		final List<T> batch = new ArrayList<>();
+		final List<SignedData> signedDataList = new ArrayList<>();
+		for (final T entity : entities) {
+			final List<SignedData> entitySignedDataList = getSignedData(entity);
+			if (null == entitySignedDataList) {
+				unverifiable.add(entity);
+				continue;
+			}
+
+			batch.add(entity);
+			signedDataList.addAll(entitySignedDataList);
+			if (BATCH_SIZE == batch.size()) {
+				addUnverifiable(verifier, batch, signedDataList, unverifiable);
+			}
+		}
+
+		addUnverifiable(verifier, batch, signedDataList, unverifiable);
+		return unverifiable;
+	}
+
+	private static <T extends VerifiableEntity> void addUnverifiable(final DsaBatchVerifier verifier, final List<T> batch,
+			final List<SignedData> signedDataList, final List<T> unverifiable) {
+		if (!batch.isEmpty() && !verifier.verify(signedDataList)) {
+			batch.stream().filter(entity -> !entity.verify()).forEach(unverifiable::add);
+		}
+
+		batch.clear();
+		signedDataList.clear();
+	}
+
+	private static List<SignedData> getSignedData(final VerifiableEntity entity) {
+		final List<SignedData> signedDataList = new ArrayList<>();
+		try {
+			entity.addSignedData(signedDataList);
+			return signedDataList;
+		} catch (final CryptoException e) {
+			return null;
+		}
+	}
+}
@@ -1,20 +1,23 @@
 package org.nem.core.serialization;
 
-import java.io.*;
 import java.math.BigInteger;
+import java.nio.*;
 import java.util.*;
 import java.util.function.Supplier;
 import org.nem.core.utils.StringEncoder;
 
 /**
  * A binary deserializer that supports forward-only deserialization.
+ * <br>
+ * Values are read directly from a little-endian view of the underlying bytes. Nested objects are read from slices of the same bytes
+ * instead of from copies.
  */
 @SuppressWarnings({
 		"serial", "try"
 })
 public class BinaryDeserializer extends Deserializer implements AutoCloseable {
 
-	private final ByteArrayInputStream stream;
+	private final ByteBuffer buffer;
 
 	/**
 	 * Creates a new binary deserializer.
@@ -23,24 +26,34 @@ public class BinaryDeserializer extends Deserializer implements AutoCloseable {
 	 * @param context The deserialization context.
 	 */
 	public BinaryDeserializer(final byte[] bytes, final DeserializationContext context) {
+		this(ByteBuffer.wrap(bytes), context);
+	}
+
+	/**
+	 * Creates a new binary deserializer that reads the remaining bytes of a buffer without copying them.
+	 * The position of the buffer is not changed.
+	 *
+	 * @param buffer The buffer from which to read.
+	 * @param context The deserialization context.
+	 */
+	public BinaryDeserializer(final ByteBuffer buffer, final DeserializationContext context) {
 		super(context);
-		this.stream = new ByteArrayInputStream(bytes);
+		this.buffer = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
 	}
 
 	@Override
 	public Integer readOptionalInt(final String label) {
 		return this.readIfNotEmpty(() -> {
-			final byte[] bytes = this.readBytes(4);
-			return bytes[0] & 0x000000FF | (bytes[1] << 8) & 0x0000FF00 | (bytes[2] << 16) & 0x00FF0000 | (bytes[3] << 24) & 0xFF000000;
+			this.ensureAvailable(4);
+			return this.buffer.getInt();
 		});
 	}
 
 	@Override
 	public Long readOptionalLong(final String label) {
 		return this.readIfNotEmpty(() -> {
-			final long lowPart = this.readInt(label);
-			final long highPart = this.readInt(label);
-			return lowPart & 0x00000000FFFFFFFFL | (highPart << 32) & 0xFFFFFFFF00000000L;
+			this.ensureAvailable(8);
+			return this.buffer.getLong();
 		});
 	}
 
@@ -101,19 +114,28 @@ public class BinaryDeserializer extends Deserializer implements AutoCloseable {
 
 	@Override
 	public void close() throws Exception {
-		this.stream.close();
 	}
 
 	private <T> T deserializeObject(final String label, final ObjectDeserializer<T> activator) {
 		try {
-			final byte[] bytes = this.readOptionalBytesUnchecked(label);
-			if (0 == bytes.length) {
-				return null;
+			final int numBytes = this.readInt(label);
+			if (BinarySerializer.NULL_BYTES_SENTINEL_VALUE == numBytes) {
+				throw new SerializationException("object size is missing");
 			}
 
-			try (BinaryDeserializer deserializer = new BinaryDeserializer(bytes, this.getContext())) {
-				return activator.deserialize(deserializer);
+			this.ensureAvailable(numBytes);
+			if (0 == numBytes) {
+				return null;
 			}
+
+			// the nested deserializer reads from a slice of this buffer
+			final int position = this.buffer.position();
+			final int limit = this.buffer.limit();
+			this.buffer.limit(position + numBytes);
+			final BinaryDeserializer deserializer = new BinaryDeserializer(this.buffer, this.getContext());
+			this.buffer.limit(limit);
+			this.buffer.position(position + numBytes);
+			return activator.deserialize(deserializer);
 		} catch (final Exception ex) {
 			throw new SerializationException(ex);
 		}
@@ -125,7 +147,7 @@ public class BinaryDeserializer extends Deserializer implements AutoCloseable {
 	 * @return true if there is more data left to read.
 	 */
 	public boolean hasMoreData() {
-		return 0 != this.stream.available();
+		return this.buffer.hasRemaining();
 	}
 
 	/**
@@ -134,7 +156,7 @@ public class BinaryDeserializer extends Deserializer implements AutoCloseable {
 	 * @return The number of unread bytes.
 	 */
 	public int availableBytes() {
-		return this.stream.available();
+		return this.buffer.remaining();
 	}
 
 	private <T> T readIfNotEmpty(final Supplier<T> supplier) {
@@ -142,24 +164,15 @@ public class BinaryDeserializer extends Deserializer implements AutoCloseable {
 	}
 
 	private byte[] readBytes(final int numBytes) {
-		if (this.stream.available() < numBytes) {
-			throw new SerializationException("unexpected end of stream reached");
-		}
-
-		if (0 == numBytes) {
-			return new byte[0];
-		}
-
-		try {
-			final byte[] bytes = new byte[numBytes];
-			final int numBytesRead = this.stream.read(bytes);
-			if (numBytesRead != numBytes) {
-				throw new SerializationException("unexpected end of stream reached");
-			}
+		this.ensureAvailable(numBytes);
+		final byte[] bytes = new byte[numBytes];
+		this.buffer.get(bytes);
+		return bytes;
+	}
 
-			return bytes;
-		} catch (final IOException e) {
-			throw new SerializationException(e);
+	private void ensureAvailable(final int numBytes) {
+		if (this.buffer.remaining() < numBytes) {
+			throw new SerializationException("unexpected end of stream reached");
 		}
 	}
 }
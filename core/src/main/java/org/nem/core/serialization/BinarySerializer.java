@@ -2,11 +2,16 @@ package org.nem.core.serialization;
 
 import java.io.*;
 import java.math.BigInteger;
-import java.util.Collection;
-import org.nem.core.utils.StringEncoder;
+import java.nio.*;
+import java.util.*;
+import java.util.function.Function;
+import org.nem.core.utils.*;
 
 /**
  * A binary serializer that supports forward-only serialization.
+ * <br>
+ * Values are put directly into a little-endian byte buffer. Nested objects are written in place (behind a length prefix that is patched
+ * once the object is complete) instead of being serialized into separate byte arrays first.
  */
 public class BinarySerializer extends Serializer implements AutoCloseable {
 
@@ -15,7 +20,13 @@ public class BinarySerializer extends Serializer implements AutoCloseable {
 	 */
 	public static final int NULL_BYTES_SENTINEL_VALUE = 0xFFFFFFFF;
 
-	private final ByteArrayOutputStream stream;
+	private static final int INITIAL_BUFFER_SIZE = 256;
+
+	// buffers larger than this (e.g. used for cache snapshots) are not kept alive by the pool
+	private static final int MAX_POOLED_BUFFER_SIZE = 1024 * 1024;
+	private static final ThreadLocal<ByteBuffer> POOLED_BUFFER = new ThreadLocal<>();
+
+	private final OutputBuffer output;
 
 	/**
 	 * Creates a new binary serializer.
@@ -30,22 +41,22 @@ public class BinarySerializer extends Serializer implements AutoCloseable {
 	 * @param context The serialization context to use.
 	 */
 	public BinarySerializer(final SerializationContext context) {
+		this(context, new OutputBuffer(createBuffer(INITIAL_BUFFER_SIZE)));
+	}
+
+	private BinarySerializer(final SerializationContext context, final OutputBuffer output) {
 		super(context);
-		this.stream = new ByteArrayOutputStream();
+		this.output = output;
 	}
 
 	@Override
 	public void writeInt(final String label, final int i) {
-		final byte[] bytes = {
-				(byte) (i & 0xFF), (byte) ((i >> 8) & 0xFF), (byte) ((i >> 16) & 0xFF), (byte) ((i >> 24) & 0xFF),
-		};
-		this.writeBytesInternal(bytes);
+		this.output.ensureCapacity(4).putInt(i);
 	}
 
 	@Override
 	public void writeLong(final String label, final long l) {
-		this.writeInt(label, (int) l);
-		this.writeInt(label, (int) (l >> 32));
+		this.output.ensureCapacity(8).putLong(l);
 	}
 
 	@Override
@@ -79,7 +90,7 @@ public class BinarySerializer extends Serializer implements AutoCloseable {
 
 	@Override
 	public void writeObject(final String label, final SerializableEntity object) {
-		this.writeBytesUnchecked(label, this.serializeObject(object));
+		this.writeObjectUnchecked(object);
 	}
 
 	@Override
@@ -91,28 +102,41 @@ public class BinarySerializer extends Serializer implements AutoCloseable {
 
 		this.writeInt(label, objects.size());
 		for (final SerializableEntity object : objects) {
-			this.writeBytesUnchecked(label, this.serializeObject(object));
+			this.writeObjectUnchecked(object);
 		}
 	}
 
 	@Override
-	public void close() throws IOException {
-		this.stream.close();
+	public void writeObjectIterator(final String label, final Iterator<? extends SerializableEntity> objects) {
+		// reserve space for the number of objects and fill it in after all objects have been written
+		final int sizePosition = this.output.ensureCapacity(4).position();
+		this.output.buffer.position(sizePosition + 4);
+		int numObjects = 0;
+		while (objects.hasNext()) {
+			this.writeObjectUnchecked(objects.next());
+			++numObjects;
+		}
+
+		this.output.buffer.putInt(sizePosition, numObjects);
 	}
 
-	private byte[] serializeObject(final SerializableEntity object) {
-		if (null == object) {
-			return new byte[0];
-		}
+	@Override
+	public void close() throws IOException {
+	}
 
-		try {
-			try (BinarySerializer serializer = new BinarySerializer(this.getContext())) {
-				object.serialize(serializer);
-				return serializer.getBytes();
+	private void writeObjectUnchecked(final SerializableEntity object) {
+		// reserve space for the size of the object and fill it in after the object has been written
+		final int sizePosition = this.output.ensureCapacity(4).position();
+		this.output.buffer.position(sizePosition + 4);
+		if (null != object) {
+			try {
+				object.serialize(new BinarySerializer(this.getContext(), this.output));
+			} catch (final RuntimeException ex) {
+				throw new SerializationException(ex);
 			}
-		} catch (final Exception ex) {
-			throw new SerializationException(ex);
 		}
+
+		this.output.buffer.putInt(sizePosition, this.output.buffer.position() - sizePosition - 4);
 	}
 
 	/**
@@ -121,11 +145,21 @@ public class BinarySerializer extends Serializer implements AutoCloseable {
 	 * @return The underlying byte buffer.
 	 */
 	public byte[] getBytes() {
-		return this.stream.toByteArray();
+		return Arrays.copyOf(this.output.buffer.array(), this.output.buffer.position());
+	}
+
+	/**
+	 * Writes the serialized bytes to the specified stream.
+	 *
+	 * @param stream The output stream.
+	 * @throws IOException If the stream cannot be written.
+	 */
+	public void writeTo(final OutputStream stream) throws IOException {
+		stream.write(this.output.buffer.array(), 0, this.output.buffer.position());
 	}
 
 	private void writeBytesInternal(final byte[] bytes) {
-		this.stream.write(bytes, 0, bytes.length);
+		this.output.ensureCapacity(bytes.length).put(bytes);
 	}
 
 	/**
@@ -135,13 +169,67 @@ public class BinarySerializer extends Serializer implements AutoCloseable {
 	 * @return The resulting byte array.
 	 */
 	public static byte[] serializeToBytes(final SerializableEntity entity) {
+		return serializeWithPooledBuffer(entity, BinarySerializer::getBytes);
+	}
+
+	/**
+	 * Helper function that serializes a SerializableEntity to a stream.
+	 *
+	 * @param entity The entity to serialize.
+	 * @param stream The output stream.
+	 */
+	public static void serializeToStream(final SerializableEntity entity, final OutputStream stream) {
+		serializeWithPooledBuffer(entity, serializer -> {
+			ExceptionUtils.propagateVoid(() -> serializer.writeTo(stream));
+			return null;
+		});
+	}
+
+	private static <T> T serializeWithPooledBuffer(final SerializableEntity entity,
+			final Function<BinarySerializer, T> consumer) {
+		// the pooled buffer is taken out of the pool while in use so that reentrant serializations get a buffer of their own
+		ByteBuffer buffer = POOLED_BUFFER.get();
+		POOLED_BUFFER.set(null);
+		if (null == buffer) {
+			buffer = createBuffer(INITIAL_BUFFER_SIZE);
+		}
+
+		buffer.clear();
+		final OutputBuffer output = new OutputBuffer(buffer);
 		try {
-			try (BinarySerializer binarySerializer = new BinarySerializer()) {
-				entity.serialize(binarySerializer);
-				return binarySerializer.getBytes();
-			}
-		} catch (final Exception e) {
+			final BinarySerializer serializer = new BinarySerializer(null, output);
+			entity.serialize(serializer);
+			return consumer.apply(serializer);
+		} catch (final RuntimeException e) {
 			throw new SerializationException(e);
+		} finally {
+			if (output.buffer.capacity() <= MAX_POOLED_BUFFER_SIZE) {
+				POOLED_BUFFER.set(output.buffer);
+			}
+		}
+	}
+
+	private static ByteBuffer createBuffer(final int capacity) {
+		return ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	private static class OutputBuffer {
+		private ByteBuffer buffer;
+
+		public OutputBuffer(final ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		public ByteBuffer ensureCapacity(final int numBytes) {
+			if (this.buffer.remaining() < numBytes) {
+				final int capacity = Math.max(2 * this.buffer.capacity(), this.buffer.position() + numBytes);
+				final ByteBuffer buffer = createBuffer(capacity);
+				this.buffer.flip();
+				buffer.put(this.buffer);
+				this.buffer = buffer;
+			}
+
+			return this.buffer;
 		}
 	}
 }
@@ -1,7 +1,7 @@
 package org.nem.core.serialization;
 
 import java.math.BigInteger;
-import java.util.Collection;
+import java.util.*;
 import java.util.stream.Collectors;
 import net.minidev.json.*;
 import org.nem.core.utils.*;
@@ -105,6 +105,14 @@ public class JsonSerializer extends Serializer {
 		this.object.put(label, jsonObjects);
 	}
 
+	@Override
+	public void writeObjectIterator(final String label, final Iterator<? extends SerializableEntity> objects) {
+		this.pushLabel(label);
+		final JSONArray jsonObjects = new JSONArray();
+		objects.forEachRemaining(object -> jsonObjects.add(this.serializeObject(object)));
+		this.object.put(label, jsonObjects);
+	}
+
 	private JSONObject serializeObject(final SerializableEntity object) {
 		if (null == object) {
 			return new JSONObject();
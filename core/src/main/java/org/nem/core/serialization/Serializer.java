@@ -142,6 +142,21 @@ public abstract class Serializer {
 	 */
 	public abstract void writeObjectArray(final String label, final Collection<? extends SerializableEntity> objects);
 
+	/**
+	 * Writes an array of object values that are produced by an iterator.
+	 * <br>
+	 * The serialized form is the same as the one of writeObjectArray. Implementations should write each object as soon as it is produced,
+	 * but this default implementation collects all objects first.
+	 *
+	 * @param label The optional name of the value.
+	 * @param objects The iterator over the array.
+	 */
+	public void writeObjectIterator(final String label, final Iterator<? extends SerializableEntity> objects) {
+		final List<SerializableEntity> objectList = new ArrayList<>();
+		objects.forEachRemaining(objectList::add);
+		this.writeObjectArray(label, objectList);
+	}
+
 	/**
 	 * Gets the current serialization context.
 	 *
@@ -1,7 +1,8 @@
 package org.nem.core.crypto;
 
+import java.util.*;
 import org.hamcrest.MatcherAssert;
-import org.hamcrest.core.IsInstanceOf;
+import org.hamcrest.core.*;
 import org.junit.*;
 
 public abstract class CryptoEngineTest {
@@ -25,6 +26,36 @@ public abstract class CryptoEngineTest {
 		MatcherAssert.assertThat(signer, IsInstanceOf.instanceOf(DsaSigner.class));
 	}
 
+	@Test
+	public void canCreateDsaBatchVerifier() {
+		// Act:
+		final DsaBatchVerifier verifier = this.getCryptoEngine().createDsaBatchVerifier();
+
+		// Assert:
+		MatcherAssert.assertThat(verifier, IsInstanceOf.instanceOf(DsaBatchVerifier.class));
+	}
+
+	@Test
+	public void dsaBatchVerifierVerifiesSignatures() {
+		// Arrange:
+		final CryptoEngine engine = this.getCryptoEngine();
+		final List<SignedData> signedDataList = new ArrayList<>();
+		for (int i = 0; i < 5; ++i) {
+			final KeyPair keyPair = KeyPair.random(engine);
+			final byte[] data = org.nem.core.test.Utils.generateRandomBytes();
+			signedDataList.add(new SignedData(keyPair.getPublicKey(), data, engine.createDsaSigner(keyPair).sign(data)));
+		}
+
+		final DsaBatchVerifier verifier = engine.createDsaBatchVerifier();
+		final SignedData signedData = signedDataList.get(2);
+		final List<SignedData> invalidSignedDataList = new ArrayList<>(signedDataList);
+		invalidSignedDataList.set(2, new SignedData(signedData.getPublicKey(), new byte[]{ 1, 2, 3 }, signedData.getSignature()));
+
+		// Act + Assert:
+		MatcherAssert.assertThat(verifier.verify(signedDataList), IsEqual.equalTo(true));
+		MatcherAssert.assertThat(verifier.verify(invalidSignedDataList), IsEqual.equalTo(false));
+	}
+
 	@Test
 	public void canCreateKeyGenerator() {
 		// Act:
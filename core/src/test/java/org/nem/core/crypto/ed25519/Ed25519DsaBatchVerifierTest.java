@@ -0,0 +1,196 @@
+package org.nem.core.crypto.ed25519;
+
+import java.util.*;
+import java.util.stream.*;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.*;
+import org.nem.core.crypto.*;
+import org.nem.core.crypto.ed25519.arithmetic.*;
+import org.nem.core.test.Utils;
+
+public class Ed25519DsaBatchVerifierTest {
+	private static final int SMALL_BATCH_SIZE = 10;
+	private static final int LARGE_BATCH_SIZE = 300;
+
+	// region valid signatures
+
+	@Test
+	public void verifyReturnsTrueForEmptyList() {
+		// Assert:
+		assertVerify(Collections.emptyList(), true);
+	}
+
+	@Test
+	public void verifyReturnsTrueForValidSignaturesInSmallBatch() {
+		// Assert:
+		assertVerify(createSignedDataList(SMALL_BATCH_SIZE, 3), true);
+	}
+
+	@Test
+	public void verifyReturnsTrueForValidSignaturesInLargeBatch() {
+		// Assert:
+		assertVerify(createSignedDataList(LARGE_BATCH_SIZE, 7), true);
+	}
+
+	@Test
+	public void verifyReturnsTrueForValidSignaturesOfDistinctSignersInLargeBatch() {
+		// Assert:
+		assertVerify(createSignedDataList(LARGE_BATCH_SIZE, LARGE_BATCH_SIZE), true);
+	}
+
+	// endregion
+
+	// region invalid signatures
+
+	@Test
+	public void verifyReturnsFalseIfDataIsModifiedInSmallBatch() {
+		// Assert:
+		assertVerifyReturnsFalseIfDataIsModified(SMALL_BATCH_SIZE);
+	}
+
+	@Test
+	public void verifyReturnsFalseIfDataIsModifiedInLargeBatch() {
+		// Assert:
+		assertVerifyReturnsFalseIfDataIsModified(LARGE_BATCH_SIZE);
+	}
+
+	private static void assertVerifyReturnsFalseIfDataIsModified(final int size) {
+		for (final int index : Arrays.asList(0, size / 2, size - 1)) {
+			// Arrange:
+			final List<SignedData> signedDataList = createSignedDataList(size, 3);
+			final SignedData original = signedDataList.get(index);
+			final byte[] data = original.getData().clone();
+			data[0] ^= 0x01;
+			signedDataList.set(index, new SignedData(original.getPublicKey(), data, original.getSignature()));
+
+			// Assert:
+			assertVerify(signedDataList, false);
+		}
+	}
+
+	@Test
+	public void verifyReturnsFalseIfSignaturesAreSwappedInLargeBatch() {
+		// Arrange:
+		final List<SignedData> signedDataList = createSignedDataList(LARGE_BATCH_SIZE, 3);
+		final SignedData signedData1 = signedDataList.get(3);
+		final SignedData signedData2 = signedDataList.get(4);
+		signedDataList.set(3, new SignedData(signedData1.getPublicKey(), signedData1.getData(), signedData2.getSignature()));
+		signedDataList.set(4, new SignedData(signedData2.getPublicKey(), signedData2.getData(), signedData1.getSignature()));
+
+		// Assert:
+		assertVerify(signedDataList, false);
+	}
+
+	@Test
+	public void verifyReturnsFalseIfSignatureIsNotCanonicalInLargeBatch() {
+		// Arrange:
+		final List<SignedData> signedDataList = createSignedDataList(LARGE_BATCH_SIZE, 3);
+		final SignedData original = signedDataList.get(5);
+		final Signature signature = original.getSignature();
+		final Signature nonCanonicalSignature = new Signature(signature.getR(), signature.getS().add(Ed25519Group.GROUP_ORDER));
+		signedDataList.set(5, new SignedData(original.getPublicKey(), original.getData(), nonCanonicalSignature));
+
+		// Assert:
+		assertVerify(signedDataList, false);
+	}
+
+	@Test
+	public void verifyReturnsFalseIfREncodingIsNotCanonicalInLargeBatch() {
+		// Arrange: y = p + 1 is a non canonical encoding of y = 1
+		final List<SignedData> signedDataList = createSignedDataList(LARGE_BATCH_SIZE, 3);
+		final SignedData original = signedDataList.get(5);
+		final byte[] rawEncodedR = MathUtils.toByteArray(Ed25519Field.P.add(java.math.BigInteger.ONE));
+		final Signature signature = new Signature(rawEncodedR, original.getSignature().getBinaryS());
+		signedDataList.set(5, new SignedData(original.getPublicKey(), original.getData(), signature));
+
+		// Assert:
+		assertVerify(signedDataList, false);
+	}
+
+	@Test
+	public void verifyReturnsFalseIfRHasTorsionComponentInLargeBatch() {
+		// Arrange: R' = R + T where T has order 2 (this signature is not valid)
+		final List<SignedData> signedDataList = createSignedDataList(LARGE_BATCH_SIZE, 3);
+		final SignedData original = signedDataList.get(5);
+		final Ed25519GroupElement R = new Ed25519EncodedGroupElement(original.getSignature().getBinaryR()).decode();
+		final byte[] rawEncodedR = MathUtils.addGroupElements(R, createTorsionGroupElement()).encode().getRaw();
+		final Signature signature = new Signature(rawEncodedR, original.getSignature().getBinaryS());
+		signedDataList.set(5, new SignedData(original.getPublicKey(), original.getData(), signature));
+
+		// Assert:
+		assertVerify(signedDataList, false);
+	}
+
+	@Test
+	public void verifyReturnsFalseForValidSignatureOfPublicKeyWithTorsionComponentInLargeBatch() {
+		// Arrange: the signature can be verified individually
+		final List<SignedData> signedDataList = createSignedDataList(LARGE_BATCH_SIZE, 3);
+		final SignedData signedData = createSignedDataWithTorsionPublicKey();
+		signedDataList.set(5, signedData);
+		final CryptoEngine engine = new Ed25519CryptoEngine();
+		final boolean isVerified = engine.createDsaSigner(new KeyPair(signedData.getPublicKey(), engine)).verify(signedData.getData(),
+				signedData.getSignature());
+
+		// Assert: the batch verifier does not accept it, so callers fall back to individual verification
+		MatcherAssert.assertThat(isVerified, IsEqual.equalTo(true));
+		assertVerify(signedDataList, false);
+	}
+
+	@Test
+	public void verifyReturnsTrueForValidSignatureOfPublicKeyWithTorsionComponentInSmallBatch() {
+		// Arrange:
+		final List<SignedData> signedDataList = createSignedDataList(SMALL_BATCH_SIZE, 3);
+		signedDataList.set(5, createSignedDataWithTorsionPublicKey());
+
+		// Assert: small batches are verified individually
+		assertVerify(signedDataList, true);
+	}
+
+	// endregion
+
+	private static void assertVerify(final List<SignedData> signedDataList, final boolean expectedResult) {
+		// Arrange:
+		final DsaBatchVerifier verifier = new Ed25519CryptoEngine().createDsaBatchVerifier();
+
+		// Act:
+		final boolean result = verifier.verify(signedDataList);
+
+		// Assert:
+		MatcherAssert.assertThat(result, IsEqual.equalTo(expectedResult));
+	}
+
+	private static List<SignedData> createSignedDataList(final int size, final int numSigners) {
+		final CryptoEngine engine = CryptoEngines.ed25519Engine();
+		final List<KeyPair> keyPairs = IntStream.range(0, numSigners).mapToObj(i -> KeyPair.random(engine)).collect(Collectors.toList());
+		return IntStream.range(0, size).mapToObj(i -> {
+			final KeyPair keyPair = keyPairs.get(i % numSigners);
+			final byte[] data = Utils.generateRandomBytes();
+			return new SignedData(keyPair.getPublicKey(), data, engine.createDsaSigner(keyPair).sign(data));
+		}).collect(Collectors.toList());
+	}
+
+	private static Ed25519GroupElement createTorsionGroupElement() {
+		// (0, -1) has order 2
+		return Ed25519GroupElement.p3(Ed25519Field.ZERO, Ed25519Field.ONE.negate(), Ed25519Field.ONE, Ed25519Field.ZERO);
+	}
+
+	private static SignedData createSignedDataWithTorsionPublicKey() {
+		// A' = a * B + T where T has order 2
+		final PrivateKey privateKey = KeyPair.random(CryptoEngines.ed25519Engine()).getPrivateKey();
+		final Ed25519EncodedFieldElement a = Ed25519Utils.prepareForScalarMultiply(privateKey);
+		final Ed25519GroupElement A = MathUtils.addGroupElements(Ed25519Group.BASE_POINT.scalarMultiply(a), createTorsionGroupElement());
+		final PublicKey publicKey = new PublicKey(A.encode().getRaw());
+		final byte[] data = Utils.generateRandomBytes();
+		while (true) {
+			// S * B - h * A' = R - h * T = R if h is even
+			final Ed25519EncodedFieldElement r = new Ed25519EncodedFieldElement(Utils.generateRandomBytes(64)).modQ();
+			final byte[] rawEncodedR = Ed25519Group.BASE_POINT.scalarMultiply(r).encode().getRaw();
+			final Ed25519EncodedFieldElement h = new Ed25519EncodedFieldElement(Hashes.sha3_512(rawEncodedR, publicKey.getRaw(), data)).modQ();
+			if (0 == (h.getRaw()[0] & 1)) {
+				final Ed25519EncodedFieldElement S = h.multiplyAndAddModQ(a, r);
+				return new SignedData(publicKey, data, new Signature(rawEncodedR, S.getRaw()));
+			}
+		}
+	}
+}
@@ -144,6 +144,47 @@ public class Ed25519DsaSignerTest extends DsaSignerTest {
 		Mockito.verify(dsaSignerWithZeroArrayPublicKey, Mockito.times(1)).getKeyPair();
 	}
 
+	@Test
+	public void verifyWithPublicKeyCacheReturnsSameResultsAsVerifyWithoutCache() {
+		// Arrange:
+		final KeyPair keyPair = KeyPair.random(this.getCryptoEngine());
+		final Ed25519PublicKeyCache cache = new Ed25519PublicKeyCache(10);
+		final DsaSigner cachedSigner = new Ed25519DsaSigner(keyPair, cache);
+		final DsaSigner uncachedSigner = new Ed25519DsaSigner(keyPair);
+		for (int i = 0; i < 10; i++) {
+			final byte[] input = org.nem.core.test.Utils.generateRandomBytes();
+			final Signature signature = uncachedSigner.sign(input);
+			final Signature otherSignature = uncachedSigner.sign(org.nem.core.test.Utils.generateRandomBytes());
+
+			// Act + Assert:
+			MatcherAssert.assertThat(cachedSigner.verify(input, signature), IsEqual.equalTo(true));
+			MatcherAssert.assertThat(cachedSigner.verify(input, otherSignature), IsEqual.equalTo(false));
+			MatcherAssert.assertThat(uncachedSigner.verify(input, otherSignature), IsEqual.equalTo(false));
+		}
+
+		// Assert: the public key was only decoded once
+		MatcherAssert.assertThat(cache.size(), IsEqual.equalTo(1));
+		MatcherAssert.assertThat(cache.getNumMisses(), IsEqual.equalTo(1L));
+		MatcherAssert.assertThat(cache.getNumHits(), IsEqual.equalTo(19L));
+	}
+
+	@Test
+	public void engineSignersShareEnginePublicKeyCache() {
+		// Arrange:
+		final Ed25519CryptoEngine engine = new Ed25519CryptoEngine();
+		final KeyPair keyPair = KeyPair.random(engine);
+		final byte[] input = org.nem.core.test.Utils.generateRandomBytes();
+		final Signature signature = engine.createDsaSigner(keyPair).sign(input);
+
+		// Act:
+		engine.createDsaSigner(keyPair).verify(input, signature);
+		engine.createDsaSigner(new KeyPair(keyPair.getPublicKey(), engine)).verify(input, signature);
+
+		// Assert:
+		MatcherAssert.assertThat(engine.getPublicKeyCache().getNumMisses(), IsEqual.equalTo(1L));
+		MatcherAssert.assertThat(engine.getPublicKeyCache().getNumHits(), IsEqual.equalTo(1L));
+	}
+
 	@Override
 	protected CryptoEngine getCryptoEngine() {
 		return CryptoEngines.ed25519Engine();
@@ -0,0 +1,153 @@
+package org.nem.core.crypto.ed25519;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.*;
+import org.junit.*;
+import org.nem.core.crypto.*;
+import org.nem.core.crypto.ed25519.arithmetic.*;
+import org.nem.core.test.ExceptionAssert;
+
+public class Ed25519PublicKeyCacheTest {
+
+	// region constructor
+
+	@Test
+	public void canCreateCache() {
+		// Act:
+		final Ed25519PublicKeyCache cache = new Ed25519PublicKeyCache(10);
+
+		// Assert:
+		MatcherAssert.assertThat(cache.capacity(), IsEqual.equalTo(10));
+		MatcherAssert.assertThat(cache.size(), IsEqual.equalTo(0));
+		MatcherAssert.assertThat(cache.getNumHits(), IsEqual.equalTo(0L));
+		MatcherAssert.assertThat(cache.getNumMisses(), IsEqual.equalTo(0L));
+		MatcherAssert.assertThat(cache.getHitRate(), IsEqual.equalTo(0.0));
+	}
+
+	@Test
+	public void cannotCreateCacheWithNonPositiveCapacity() {
+		// Assert:
+		ExceptionAssert.assertThrows(v -> new Ed25519PublicKeyCache(0), IllegalArgumentException.class);
+		ExceptionAssert.assertThrows(v -> new Ed25519PublicKeyCache(-1), IllegalArgumentException.class);
+	}
+
+	// endregion
+
+	// region get
+
+	@Test
+	public void getReturnsDecodedAndPrecomputedGroupElement() {
+		// Arrange:
+		final Ed25519PublicKeyCache cache = new Ed25519PublicKeyCache(10);
+		final PublicKey publicKey = KeyPair.random(CryptoEngines.ed25519Engine()).getPublicKey();
+
+		// Act:
+		final Ed25519GroupElement groupElement = cache.get(publicKey);
+
+		// Assert:
+		MatcherAssert.assertThat(groupElement, IsEqual.equalTo(new Ed25519EncodedGroupElement(publicKey.getRaw()).decode()));
+		MatcherAssert.assertThat(groupElement.isPrecomputedForDoubleScalarMultiplication(), IsEqual.equalTo(true));
+	}
+
+	@Test
+	public void getReturnsCachedGroupElementForKnownPublicKey() {
+		// Arrange:
+		final Ed25519PublicKeyCache cache = new Ed25519PublicKeyCache(10);
+		final PublicKey publicKey = KeyPair.random(CryptoEngines.ed25519Engine()).getPublicKey();
+		final Ed25519GroupElement groupElement1 = cache.get(publicKey);
+
+		// Act:
+		final Ed25519GroupElement groupElement2 = cache.get(new PublicKey(publicKey.getRaw()));
+
+		// Assert:
+		MatcherAssert.assertThat(groupElement2, IsSame.sameInstance(groupElement1));
+		MatcherAssert.assertThat(cache.size(), IsEqual.equalTo(1));
+		MatcherAssert.assertThat(cache.getNumHits(), IsEqual.equalTo(1L));
+		MatcherAssert.assertThat(cache.getNumMisses(), IsEqual.equalTo(1L));
+		MatcherAssert.assertThat(cache.getHitRate(), IsEqual.equalTo(0.5));
+	}
+
+	@Test
+	public void getDoesNotCacheInvalidPublicKey() {
+		// Arrange:
+		final Ed25519PublicKeyCache cache = new Ed25519PublicKeyCache(10);
+		final PublicKey publicKey = findInvalidPublicKey();
+
+		// Act:
+		ExceptionAssert.assertThrows(v -> cache.get(publicKey), IllegalArgumentException.class);
+
+		// Assert:
+		MatcherAssert.assertThat(cache.size(), IsEqual.equalTo(0));
+	}
+
+	@Test
+	public void getEvictsLeastRecentlyUsedPublicKeyWhenFull() {
+		// Arrange:
+		final Ed25519PublicKeyCache cache = new Ed25519PublicKeyCache(2);
+		final PublicKey publicKey1 = KeyPair.random(CryptoEngines.ed25519Engine()).getPublicKey();
+		final PublicKey publicKey2 = KeyPair.random(CryptoEngines.ed25519Engine()).getPublicKey();
+		final PublicKey publicKey3 = KeyPair.random(CryptoEngines.ed25519Engine()).getPublicKey();
+		final Ed25519GroupElement groupElement1 = cache.get(publicKey1);
+		final Ed25519GroupElement groupElement2 = cache.get(publicKey2);
+		cache.get(publicKey1);
+
+		// Act: publicKey2 is the least recently used key
+		cache.get(publicKey3);
+
+		// Assert:
+		MatcherAssert.assertThat(cache.size(), IsEqual.equalTo(2));
+		MatcherAssert.assertThat(cache.get(publicKey1), IsSame.sameInstance(groupElement1));
+		MatcherAssert.assertThat(cache.get(publicKey2), IsNot.not(IsSame.sameInstance(groupElement2)));
+	}
+
+	// endregion
+
+	// region isInPrimeOrderSubgroup
+
+	@Test
+	public void isInPrimeOrderSubgroupReturnsTrueForRegularPublicKey() {
+		// Arrange:
+		final Ed25519PublicKeyCache cache = new Ed25519PublicKeyCache(10);
+		final PublicKey publicKey = KeyPair.random(CryptoEngines.ed25519Engine()).getPublicKey();
+
+		// Act:
+		final boolean result1 = cache.isInPrimeOrderSubgroup(publicKey);
+		final boolean result2 = cache.isInPrimeOrderSubgroup(publicKey);
+
+		// Assert:
+		MatcherAssert.assertThat(result1, IsEqual.equalTo(true));
+		MatcherAssert.assertThat(result2, IsEqual.equalTo(true));
+		MatcherAssert.assertThat(cache.size(), IsEqual.equalTo(1));
+		MatcherAssert.assertThat(cache.getNumMisses(), IsEqual.equalTo(1L));
+	}
+
+	@Test
+	public void isInPrimeOrderSubgroupReturnsFalseForPublicKeyWithTorsionComponent() {
+		// Arrange: add (0, -1) which has order 2
+		final Ed25519PublicKeyCache cache = new Ed25519PublicKeyCache(10);
+		final PublicKey publicKey = KeyPair.random(CryptoEngines.ed25519Engine()).getPublicKey();
+		final Ed25519GroupElement torsion = Ed25519GroupElement.p3(Ed25519Field.ZERO, Ed25519Field.ONE.negate(), Ed25519Field.ONE,
+				Ed25519Field.ZERO);
+		final Ed25519GroupElement groupElement = MathUtils.addGroupElements(new Ed25519EncodedGroupElement(publicKey.getRaw()).decode(),
+				torsion);
+
+		// Act:
+		final boolean result = cache.isInPrimeOrderSubgroup(new PublicKey(groupElement.encode().getRaw()));
+
+		// Assert:
+		MatcherAssert.assertThat(result, IsEqual.equalTo(false));
+	}
+
+	// endregion
+
+	private static PublicKey findInvalidPublicKey() {
+		while (true) {
+			final PublicKey publicKey = new PublicKey(MathUtils.getRandomByteArray(32));
+			try {
+				new Ed25519EncodedGroupElement(publicKey.getRaw()).decode();
+			} catch (final IllegalArgumentException e) {
+				return publicKey;
+			}
+		}
+	}
+}
@@ -1,7 +1,7 @@
 package org.nem.core.crypto.ed25519.arithmetic;
 
 import java.math.BigInteger;
-import java.util.Arrays;
+import java.util.*;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.*;
 import org.junit.*;
@@ -553,6 +553,101 @@ public class Ed25519GroupElementTest {
 		}
 	}
 
+	@Test
+	public void calculateOddMultiplesReturnsExpectedTable() {
+		// Arrange:
+		final Ed25519GroupElement g = MathUtils.getRandomGroupElement();
+
+		// Act:
+		final Ed25519GroupElement[] oddMultiples = g.calculateOddMultiples();
+
+		// Assert:
+		MatcherAssert.assertThat(oddMultiples.length, IsEqual.equalTo(8));
+		Ed25519GroupElement h = g;
+		for (int i = 0; i < 8; i++) {
+			MatcherAssert.assertThat(oddMultiples[i].getCoordinateSystem(), IsEqual.equalTo(CoordinateSystem.CACHED));
+			MatcherAssert.assertThat(oddMultiples[i], IsEqual.equalTo(h.toCached()));
+			h = MathUtils.addGroupElements(MathUtils.doubleGroupElement(g), h);
+		}
+	}
+
+	@Test
+	public void multiScalarMultiplyVariableTimeReturnsExpectedResult() {
+		for (int i = 0; i < 10; i++) {
+			// Arrange: mix group elements with precomputed and cached odd multiples
+			final List<Ed25519GroupElement[]> oddMultiples = new ArrayList<>();
+			final List<Ed25519EncodedFieldElement> scalars = new ArrayList<>();
+			Ed25519GroupElement expected = Ed25519Group.ZERO_P3;
+			for (int j = 0; j < 4; j++) {
+				final Ed25519GroupElement g = MathUtils.getRandomGroupElement();
+				final Ed25519FieldElement f = MathUtils.getRandomFieldElement();
+				if (0 == j % 2) {
+					g.precomputeForDoubleScalarMultiplication();
+					oddMultiples.add(g.getPrecomputedForDouble());
+				} else {
+					oddMultiples.add(g.calculateOddMultiples());
+				}
+
+				scalars.add(f.encode());
+				expected = MathUtils.addGroupElements(expected, MathUtils.scalarMultiplyGroupElement(g, f));
+			}
+
+			// Act:
+			final Ed25519GroupElement result = Ed25519GroupElement.multiScalarMultiplyVariableTime(oddMultiples, scalars);
+
+			// Assert:
+			MatcherAssert.assertThat(result, IsEqual.equalTo(expected));
+		}
+	}
+
+	@Test
+	public void multiScalarMultiplyVariableTimeReturnsNeutralElementForZeroScalars() {
+		// Arrange:
+		final Ed25519GroupElement g = MathUtils.getRandomGroupElement();
+
+		// Act:
+		final Ed25519GroupElement result = Ed25519GroupElement.multiScalarMultiplyVariableTime(
+				Collections.singletonList(g.calculateOddMultiples()), Collections.singletonList(new Ed25519EncodedFieldElement(new byte[32])));
+
+		// Assert:
+		MatcherAssert.assertThat(result, IsEqual.equalTo(Ed25519Group.ZERO_P2));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void multiScalarMultiplyVariableTimeThrowsIfNumberOfGroupElementsAndScalarsDiffer() {
+		// Arrange:
+		final Ed25519GroupElement g = MathUtils.getRandomGroupElement();
+
+		// Act:
+		Ed25519GroupElement.multiScalarMultiplyVariableTime(Collections.singletonList(g.calculateOddMultiples()), Collections.emptyList());
+	}
+
+	@Test
+	public void isInPrimeOrderSubgroupReturnsTrueForMultiplesOfBasePoint() {
+		for (int i = 0; i < 5; i++) {
+			// Arrange:
+			final Ed25519GroupElement g = MathUtils.scalarMultiplyGroupElement(Ed25519Group.BASE_POINT, MathUtils.getRandomFieldElement());
+
+			// Assert:
+			MatcherAssert.assertThat(g.isInPrimeOrderSubgroup(), IsEqual.equalTo(true));
+		}
+
+		MatcherAssert.assertThat(Ed25519Group.BASE_POINT.isInPrimeOrderSubgroup(), IsEqual.equalTo(true));
+		MatcherAssert.assertThat(Ed25519Group.ZERO_P3.isInPrimeOrderSubgroup(), IsEqual.equalTo(true));
+	}
+
+	@Test
+	public void isInPrimeOrderSubgroupReturnsFalseForGroupElementsWithTorsionComponent() {
+		// Arrange: (0, -1) has order 2
+		final Ed25519GroupElement torsion = Ed25519GroupElement.p3(Ed25519Field.ZERO, Ed25519Field.ONE.negate(), Ed25519Field.ONE,
+				Ed25519Field.ZERO);
+		final Ed25519GroupElement g = MathUtils.addGroupElements(Ed25519Group.BASE_POINT, torsion);
+
+		// Assert:
+		MatcherAssert.assertThat(torsion.isInPrimeOrderSubgroup(), IsEqual.equalTo(false));
+		MatcherAssert.assertThat(g.isInPrimeOrderSubgroup(), IsEqual.equalTo(false));
+	}
+
 	// endregion
 
 	@Test
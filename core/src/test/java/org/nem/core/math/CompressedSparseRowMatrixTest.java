@@ -0,0 +1,239 @@
+package org.nem.core.math;
+
+import java.security.SecureRandom;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.*;
+import org.nem.core.test.ExceptionAssert;
+
+public class CompressedSparseRowMatrixTest {
+
+	// region constructor
+
+	@Test
+	public void canCreateMatrixFromSparseMatrix() {
+		// Act:
+		final CompressedSparseRowMatrix matrix = new CompressedSparseRowMatrix(createSparseMatrix());
+
+		// Assert:
+		MatcherAssert.assertThat(matrix.getRowCount(), IsEqual.equalTo(3));
+		MatcherAssert.assertThat(matrix.getColumnCount(), IsEqual.equalTo(2));
+		MatcherAssert.assertThat(matrix.getNonZeroCount(), IsEqual.equalTo(3));
+	}
+
+	@Test
+	public void canCreateMatrixFromDenseMatrix() {
+		// Act: zero elements of the dense matrix are not stored
+		final CompressedSparseRowMatrix matrix = new CompressedSparseRowMatrix(new DenseMatrix(3, 2, new double[]{
+				2, 0, 0, 0, 5, 3
+		}));
+
+		// Assert:
+		MatcherAssert.assertThat(matrix.getRowCount(), IsEqual.equalTo(3));
+		MatcherAssert.assertThat(matrix.getColumnCount(), IsEqual.equalTo(2));
+		MatcherAssert.assertThat(matrix.getNonZeroCount(), IsEqual.equalTo(3));
+	}
+
+	// endregion
+
+	// region multiply
+
+	@Test
+	public void multiplyWritesProductToResultVector() {
+		// Arrange:
+		final CompressedSparseRowMatrix matrix = new CompressedSparseRowMatrix(createSparseMatrix());
+		final ColumnVector result = new ColumnVector(9, 9, 9);
+
+		// Act:
+		matrix.multiply(new ColumnVector(3, 7), result);
+
+		// Assert:
+		MatcherAssert.assertThat(result, IsEqual.equalTo(new ColumnVector(6, 0, 36)));
+	}
+
+	@Test
+	public void multiplyIsConsistentWithMatrixMultiply() {
+		// Arrange:
+		final Matrix sparseMatrix = createSparseMatrix();
+		final CompressedSparseRowMatrix matrix = new CompressedSparseRowMatrix(sparseMatrix);
+		final ColumnVector vector = new ColumnVector(0.3, 1.7);
+		final ColumnVector result = new ColumnVector(3);
+
+		// Act:
+		matrix.multiply(vector, result);
+
+		// Assert:
+		MatcherAssert.assertThat(result, IsEqual.equalTo(sparseMatrix.multiply(vector)));
+	}
+
+	// endregion
+
+	// region multiplyAdd
+
+	@Test
+	public void multiplyAddWritesScaledProductPlusConstantToResultVectorIfThereIsNoAddend() {
+		// Arrange:
+		final CompressedSparseRowMatrix matrix = new CompressedSparseRowMatrix(createSparseMatrix());
+		final ColumnVector result = new ColumnVector(9, 9, 9);
+
+		// Act:
+		matrix.multiplyAdd(0.5, new ColumnVector(3, 7), 11, null, 4, result);
+
+		// Assert:
+		MatcherAssert.assertThat(result, IsEqual.equalTo(new ColumnVector(7, 4, 22)));
+	}
+
+	@Test
+	public void multiplyAddWritesScaledProductPlusScaledAddendPlusConstantToResultVector() {
+		// Arrange:
+		final CompressedSparseRowMatrix matrix = new CompressedSparseRowMatrix(createSparseMatrix());
+		final ColumnVector result = new ColumnVector(9, 9, 9);
+
+		// Act:
+		matrix.multiplyAdd(0.5, new ColumnVector(3, 7), 2, new ColumnVector(1, 2, 3), 4, result);
+
+		// Assert:
+		MatcherAssert.assertThat(result, IsEqual.equalTo(new ColumnVector(9, 8, 28)));
+	}
+
+	@Test
+	public void multiplyAddSupportsResultVectorAsAddend() {
+		// Arrange:
+		final CompressedSparseRowMatrix matrix = new CompressedSparseRowMatrix(createSparseMatrix());
+		final ColumnVector result = new ColumnVector(1, 2, 3);
+
+		// Act:
+		matrix.multiplyAdd(0.5, new ColumnVector(3, 7), 2, result, 4, result);
+
+		// Assert:
+		MatcherAssert.assertThat(result, IsEqual.equalTo(new ColumnVector(9, 8, 28)));
+	}
+
+	@Test
+	public void multiplyAddFailsIfVectorIsResultVector() {
+		// Arrange:
+		final CompressedSparseRowMatrix matrix = new CompressedSparseRowMatrix(new DenseMatrix(2, 2, new double[]{
+				1, 2, 3, 4
+		}));
+		final ColumnVector vector = new ColumnVector(1, 2);
+
+		// Assert:
+		ExceptionAssert.assertThrows(v -> matrix.multiplyAdd(1, vector, 0, null, 0, vector), IllegalArgumentException.class);
+	}
+
+	@Test
+	public void multiplyAddFailsIfVectorSizeIsNotEqualToColumnCount() {
+		// Arrange:
+		final CompressedSparseRowMatrix matrix = new CompressedSparseRowMatrix(createSparseMatrix());
+
+		// Assert:
+		ExceptionAssert.assertThrows(v -> matrix.multiplyAdd(1, new ColumnVector(3), 0, null, 0, new ColumnVector(3)),
+				IllegalArgumentException.class);
+	}
+
+	@Test
+	public void multiplyAddFailsIfResultOrAddendSizeIsNotEqualToRowCount() {
+		// Arrange:
+		final CompressedSparseRowMatrix matrix = new CompressedSparseRowMatrix(createSparseMatrix());
+
+		// Assert:
+		ExceptionAssert.assertThrows(v -> matrix.multiplyAdd(1, new ColumnVector(2), 0, null, 0, new ColumnVector(2)),
+				IllegalArgumentException.class);
+		ExceptionAssert.assertThrows(v -> matrix.multiplyAdd(1, new ColumnVector(2), 1, new ColumnVector(2), 0, new ColumnVector(3)),
+				IllegalArgumentException.class);
+	}
+
+	// endregion
+
+	// region parallel
+
+	@Test
+	public void parallelMultiplyAddIsBitIdenticalToSerialMultiplyAdd() {
+		// Arrange: use enough rows so that the rows are partitioned into multiple (and a partial) tasks
+		final int numRows = 3 * CompressedSparseRowMatrix.ROWS_PER_TASK + 17;
+		final Matrix sparseMatrix = createRandomSparseMatrix(numRows, 5);
+		final CompressedSparseRowMatrix serialMatrix = new CompressedSparseRowMatrix(sparseMatrix);
+		final CompressedSparseRowMatrix parallelMatrix = new CompressedSparseRowMatrix(sparseMatrix, true);
+		final ColumnVector vector = createRandomVector(numRows);
+		final ColumnVector addend = createRandomVector(numRows);
+		final ColumnVector serialResult = new ColumnVector(numRows);
+		final ColumnVector parallelResult = new ColumnVector(numRows);
+
+		// Act:
+		serialMatrix.multiplyAdd(0.7, vector, 0.2, addend, 0.1, serialResult);
+		parallelMatrix.multiplyAdd(0.7, vector, 0.2, addend, 0.1, parallelResult);
+
+		// Assert:
+		MatcherAssert.assertThat(parallelMatrix.getNonZeroCount(), IsEqual.equalTo(serialMatrix.getNonZeroCount()));
+		MatcherAssert.assertThat(parallelResult.getRaw(), IsEqual.equalTo(serialResult.getRaw()));
+	}
+
+	@Test
+	public void parallelMultiplyAddSupportsResultVectorAsAddend() {
+		// Arrange:
+		final int numRows = 2 * CompressedSparseRowMatrix.ROWS_PER_TASK + 1;
+		final Matrix sparseMatrix = createRandomSparseMatrix(numRows, 3);
+		final ColumnVector vector = createRandomVector(numRows);
+		final ColumnVector serialResult = createRandomVector(numRows);
+		final ColumnVector parallelResult = new ColumnVector(serialResult.getRaw().clone());
+
+		// Act:
+		new CompressedSparseRowMatrix(sparseMatrix).multiplyAdd(0.5, vector, 2, serialResult, 4, serialResult);
+		new CompressedSparseRowMatrix(sparseMatrix, true).multiplyAdd(0.5, vector, 2, parallelResult, 4, parallelResult);
+
+		// Assert:
+		MatcherAssert.assertThat(parallelResult.getRaw(), IsEqual.equalTo(serialResult.getRaw()));
+	}
+
+	@Test
+	public void parallelMultiplyWithFewRowsIsConsistentWithMatrixMultiply() {
+		// Arrange:
+		final Matrix sparseMatrix = createSparseMatrix();
+		final CompressedSparseRowMatrix matrix = new CompressedSparseRowMatrix(sparseMatrix, true);
+		final ColumnVector vector = new ColumnVector(0.3, 1.7);
+		final ColumnVector result = new ColumnVector(3);
+
+		// Act:
+		matrix.multiply(vector, result);
+
+		// Assert:
+		MatcherAssert.assertThat(result, IsEqual.equalTo(sparseMatrix.multiply(vector)));
+	}
+
+	private static Matrix createRandomSparseMatrix(final int size, final int numElementsPerRow) {
+		final Random random = new SecureRandom();
+		final Matrix matrix = new SparseMatrix(size, size, numElementsPerRow);
+		for (int i = 0; i < size; ++i) {
+			for (int j = 0; j < numElementsPerRow; ++j) {
+				matrix.setAt(i, random.nextInt(size), random.nextDouble());
+			}
+		}
+
+		return matrix;
+	}
+
+	private static ColumnVector createRandomVector(final int size) {
+		final Random random = new SecureRandom();
+		final ColumnVector vector = new ColumnVector(size);
+		for (int i = 0; i < size; ++i) {
+			vector.setAt(i, random.nextDouble());
+		}
+
+		return vector;
+	}
+
+	// endregion
+
+	private static Matrix createSparseMatrix() {
+		// [2 0]
+		// [0 0]
+		// [5 3]
+		final Matrix matrix = new SparseMatrix(3, 2, 2);
+		matrix.setAt(0, 0, 2);
+		matrix.setAt(2, 1, 3);
+		matrix.setAt(2, 0, 5);
+		matrix.setAt(1, 1, 0);
+		return matrix;
+	}
+}
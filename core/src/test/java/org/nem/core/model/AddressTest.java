@@ -64,6 +64,62 @@ public class AddressTest {
 		ExceptionAssert.assertThrows(v -> Address.fromPublicKey((byte) 0x88, null), IllegalArgumentException.class);
 	}
 
+	@Test
+	public void addressCreatedAroundPublicKeyHasBase32EncodedAddress() {
+		// Arrange:
+		final PublicKey publicKey = Utils.generateRandomPublicKey();
+
+		// Act:
+		final Address address = Address.fromPublicKey(publicKey);
+		final byte[] decoded = Base32Encoder.getBytes(address.getEncoded());
+
+		// Assert:
+		MatcherAssert.assertThat(address.getEncoded(), IsEqual.equalTo(Base32Encoder.getString(decoded)));
+		MatcherAssert.assertThat(decoded.length, IsEqual.equalTo(25));
+		MatcherAssert.assertThat(address.getEncoded(), IsSame.sameInstance(address.getEncoded()));
+	}
+
+	@Test
+	public void addressCreatedAroundEncodedAddressPreservesEncodedAddress() {
+		// Arrange:
+		final String encoded = Utils.generateRandomAddress().getEncoded();
+
+		// Act:
+		final Address address = Address.fromEncoded(encoded.toLowerCase());
+
+		// Assert:
+		MatcherAssert.assertThat(address.getEncoded(), IsEqual.equalTo(encoded));
+		MatcherAssert.assertThat(address.getVersion(), IsEqual.equalTo(Base32Encoder.getBytes(encoded)[0]));
+	}
+
+	@Test
+	public void addressesCreatedAroundSameEncodedAddressAreShared() {
+		// Arrange:
+		final String encoded = Utils.generateRandomAddress().getEncoded();
+
+		// Act:
+		final Address address1 = Address.fromEncoded(encoded);
+		final Address address2 = Address.fromEncoded(encoded.toLowerCase());
+
+		// Assert:
+		MatcherAssert.assertThat(address2, IsSame.sameInstance(address1));
+	}
+
+	@Test
+	public void addressesCreatedAroundPublicKeyAreNotShared() {
+		// Arrange:
+		final PublicKey publicKey = Utils.generateRandomPublicKey();
+
+		// Act:
+		final Address address1 = Address.fromPublicKey(publicKey);
+		final Address address2 = Address.fromEncoded(address1.getEncoded());
+
+		// Assert:
+		MatcherAssert.assertThat(address2, IsNot.not(IsSame.sameInstance(address1)));
+		MatcherAssert.assertThat(address1.getPublicKey(), IsEqual.equalTo(publicKey));
+		MatcherAssert.assertThat(address2.getPublicKey(), IsNull.nullValue());
+	}
+
 	// endregion
 
 	@Test
@@ -249,6 +305,18 @@ public class AddressTest {
 		MatcherAssert.assertThat(new BigInteger("1235"), IsNot.not(IsEqual.equalTo((Object) address)));
 	}
 
+	@Test
+	public void equalsAndHashCodeSupportAddressesThatCannotBeDecoded() {
+		// Arrange:
+		final Address address = Address.fromEncoded("Sigma Gamma");
+
+		// Assert:
+		MatcherAssert.assertThat(Address.fromEncoded("SIGMA GAMMA"), IsEqual.equalTo(address));
+		MatcherAssert.assertThat(Address.fromEncoded("SIGMA GAMMA").hashCode(), IsEqual.equalTo(address.hashCode()));
+		MatcherAssert.assertThat(Address.fromEncoded("SIGMA DELTA"), IsNot.not(IsEqual.equalTo(address)));
+		MatcherAssert.assertThat(Utils.generateRandomAddress(), IsNot.not(IsEqual.equalTo(address)));
+	}
+
 	@Test
 	public void hashCodesAreEqualForEquivalentObjects() {
 		// Arrange:
@@ -349,6 +349,114 @@ public class BlockTest {
 
 	// endregion
 
+	// region Hash
+
+	@Test
+	public void addingTransactionChangesHash() {
+		// Arrange:
+		final Block block = BlockUtils.createBlock();
+		final Hash originalHash = HashUtils.calculateHash(block);
+
+		// Act:
+		block.addTransaction(createSignedTransactionWithFee(17));
+
+		// Assert:
+		MatcherAssert.assertThat(HashUtils.calculateHash(block), IsNot.not(IsEqual.equalTo(originalHash)));
+	}
+
+	@Test
+	public void removingTransactionChangesHash() {
+		// Arrange:
+		final Block block = BlockUtils.createBlock();
+		block.addTransaction(createSignedTransactionWithFee(17));
+		final Hash originalHash = HashUtils.calculateHash(block);
+
+		// Act:
+		block.getTransactions().remove(0);
+
+		// Assert:
+		MatcherAssert.assertThat(HashUtils.calculateHash(block), IsEqual.equalTo(HashUtils.calculateHash(block.asNonVerifiable())));
+		MatcherAssert.assertThat(HashUtils.calculateHash(block), IsNot.not(IsEqual.equalTo(originalHash)));
+	}
+
+	@Test
+	public void replacingTransactionChangesHash() {
+		// Arrange:
+		final Block block = BlockUtils.createBlock();
+		block.addTransaction(createSignedTransactionWithFee(17));
+		final Hash originalHash = HashUtils.calculateHash(block);
+
+		// Act:
+		block.getTransactions().set(0, createSignedTransactionWithFee(17));
+
+		// Assert:
+		MatcherAssert.assertThat(HashUtils.calculateHash(block), IsNot.not(IsEqual.equalTo(originalHash)));
+	}
+
+	@Test
+	public void changingContainedTransactionChangesHash() {
+		// Arrange:
+		final Block block = BlockUtils.createBlock();
+		final Transaction transaction = createSignedTransactionWithFee(17);
+		block.addTransaction(transaction);
+		final Hash originalHash = HashUtils.calculateHash(block);
+
+		// Act:
+		transaction.setFee(new Amount(18));
+
+		// Assert:
+		MatcherAssert.assertThat(HashUtils.calculateHash(block), IsNot.not(IsEqual.equalTo(originalHash)));
+	}
+
+	@Test
+	public void changingSignatureOfContainedTransactionChangesHash() {
+		// Arrange:
+		final Block block = BlockUtils.createBlock();
+		final Transaction transaction = createSignedTransactionWithFee(17);
+		block.addTransaction(transaction);
+		final Hash originalHash = HashUtils.calculateHash(block);
+
+		// Act:
+		transaction.setSignature(new Signature(new byte[64]));
+
+		// Assert:
+		MatcherAssert.assertThat(HashUtils.calculateHash(block), IsNot.not(IsEqual.equalTo(originalHash)));
+	}
+
+	@Test
+	public void changingPreviousBlockChangesHash() {
+		// Arrange:
+		final Block block = BlockUtils.createBlock();
+		final Hash originalHash = HashUtils.calculateHash(block);
+
+		// Act:
+		block.setPrevious(BlockUtils.createBlock());
+
+		// Assert:
+		MatcherAssert.assertThat(HashUtils.calculateHash(block), IsNot.not(IsEqual.equalTo(originalHash)));
+	}
+
+	@Test
+	public void cachedHashOfDeserializedBlockMatchesUncachedHash() {
+		// Arrange:
+		final Block block = this.createBlockForRoundTripTests(true, null);
+		HashUtils.calculateHash(block);
+
+		// Act:
+		final Hash hash = HashUtils.calculateHash(block);
+
+		// Assert:
+		MatcherAssert.assertThat(hash, IsEqual.equalTo(HashUtils.calculateHash(block.asNonVerifiable())));
+	}
+
+	private static Transaction createSignedTransactionWithFee(final long fee) {
+		final Transaction transaction = BlockUtils.createTransactionWithFee(fee);
+		transaction.sign();
+		return transaction;
+	}
+
+	// endregion
+
 	// region Fee
 
 	@Test
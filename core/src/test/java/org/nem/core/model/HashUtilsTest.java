@@ -73,6 +73,32 @@ public class HashUtilsTest {
 		MatcherAssert.assertThat(hash1, IsNot.not(IsEqual.equalTo(hash2)));
 	}
 
+	@Test
+	public void hashIsCachedWhenEntityIsNotModified() {
+		// Arrange:
+		final MockVerifiableEntity entity = new MockVerifiableEntity(Utils.generateRandomAccount(), 7);
+
+		// Act:
+		final Hash hash1 = HashUtils.calculateHash(entity);
+		final Hash hash2 = HashUtils.calculateHash(entity);
+
+		// Assert:
+		MatcherAssert.assertThat(hash2, IsSame.sameInstance(hash1));
+	}
+
+	@Test
+	public void cachedHashMatchesUncachedHash() {
+		// Arrange:
+		final MockVerifiableEntity entity = new MockVerifiableEntity(Utils.generateRandomAccount(), 7);
+		HashUtils.calculateHash(entity);
+
+		// Act:
+		final Hash hash = HashUtils.calculateHash(entity);
+
+		// Assert:
+		MatcherAssert.assertThat(hash, IsEqual.equalTo(HashUtils.calculateHash(entity.asNonVerifiable())));
+	}
+
 	// endregion
 
 	// region nextHash
@@ -215,6 +215,40 @@ public class MultisigTransactionTest {
 		MatcherAssert.assertThat(actualHash, IsEqual.equalTo(expectedHash));
 	}
 
+	@Test
+	public void changingInnerTransactionChangesHash() {
+		// Arrange:
+		final Transaction innerTransaction = createDefaultTransferTransaction();
+		final MultisigTransaction transaction = new SimpleMultisigContext(innerTransaction).createMultisig();
+		final Hash originalHash = HashUtils.calculateHash(transaction);
+
+		// Act:
+		innerTransaction.setDeadline(innerTransaction.getDeadline().addSeconds(1));
+
+		// Assert:
+		MatcherAssert.assertThat(HashUtils.calculateHash(transaction), IsNot.not(IsEqual.equalTo(originalHash)));
+	}
+
+	@Test
+	public void addingCosignersChangesHashOfContainingBlock() {
+		// Arrange:
+		final Transaction innerTransaction = createDefaultTransferTransaction();
+		final SimpleMultisigContext context = new SimpleMultisigContext(innerTransaction);
+		final MultisigTransaction transaction = context.createMultisig();
+		transaction.sign();
+		final Block block = BlockUtils.createBlock();
+		block.addTransaction(transaction);
+		final Hash originalHash = HashUtils.calculateHash(block);
+
+		// Act:
+		final MultisigSignatureTransaction signature = context.createSignature();
+		signature.sign();
+		transaction.addSignature(signature);
+
+		// Assert:
+		MatcherAssert.assertThat(HashUtils.calculateHash(block), IsNot.not(IsEqual.equalTo(originalHash)));
+	}
+
 	// endregion
 
 	// region execute / undo
@@ -546,9 +580,11 @@ public class MultisigTransactionTest {
 
 		// Act:
 		final boolean isVerified = multisigTransaction.verify();
+		final boolean isBatchVerified = VerifiableEntityBatchVerifier.verifyAll(Collections.singletonList(multisigTransaction));
 
 		// Assert:
 		MatcherAssert.assertThat(isVerified, IsEqual.equalTo(true));
+		MatcherAssert.assertThat(isBatchVerified, IsEqual.equalTo(true));
 	}
 
 	@Test
@@ -579,9 +615,11 @@ public class MultisigTransactionTest {
 
 		// Act:
 		final boolean isVerified = multisigTransaction.verify();
+		final boolean isBatchVerified = VerifiableEntityBatchVerifier.verifyAll(Collections.singletonList(multisigTransaction));
 
 		// Assert:
 		MatcherAssert.assertThat(isVerified, IsEqual.equalTo(false));
+		MatcherAssert.assertThat(isBatchVerified, IsEqual.equalTo(false));
 	}
 
 	@Test
@@ -603,9 +641,11 @@ public class MultisigTransactionTest {
 
 		// Act:
 		final boolean isVerified = multisigTransaction.verify();
+		final boolean isBatchVerified = VerifiableEntityBatchVerifier.verifyAll(Collections.singletonList(multisigTransaction));
 
 		// Assert:
 		MatcherAssert.assertThat(isVerified, IsEqual.equalTo(false));
+		MatcherAssert.assertThat(isBatchVerified, IsEqual.equalTo(false));
 	}
 
 	// endregion
@@ -3,10 +3,10 @@ package org.nem.core.model;
 import java.util.*;
 import java.util.stream.Collectors;
 import org.hamcrest.MatcherAssert;
-import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.*;
 import org.junit.*;
 import org.mockito.*;
-import org.nem.core.crypto.KeyPair;
+import org.nem.core.crypto.*;
 import org.nem.core.model.observers.*;
 import org.nem.core.model.primitive.Amount;
 import org.nem.core.serialization.Deserializer;
@@ -69,6 +69,82 @@ public class TransactionTest {
 
 	// endregion
 
+	// region Hash
+
+	@Test
+	public void changingDeadlineChangesHash() {
+		// Arrange:
+		final MockTransaction transaction = new MockTransaction();
+		final Hash originalHash = HashUtils.calculateHash(transaction);
+
+		// Act:
+		transaction.setDeadline(new TimeInstant(726));
+
+		// Assert:
+		MatcherAssert.assertThat(HashUtils.calculateHash(transaction), IsNot.not(IsEqual.equalTo(originalHash)));
+	}
+
+	@Test
+	public void changingFeeChangesHash() {
+		// Arrange:
+		final MockTransaction transaction = new MockTransaction();
+		final Hash originalHash = HashUtils.calculateHash(transaction);
+
+		// Act:
+		transaction.setFee(Amount.fromNem(123));
+
+		// Assert:
+		MatcherAssert.assertThat(HashUtils.calculateHash(transaction), IsNot.not(IsEqual.equalTo(originalHash)));
+	}
+
+	@Test
+	public void hashIsNotCachedWhenFeeIsNotSet() {
+		// Arrange:
+		final MockTransaction transaction = new MockTransaction();
+		transaction.setFee(null);
+
+		// Act:
+		final Hash hash1 = HashUtils.calculateHash(transaction);
+		final Hash hash2 = HashUtils.calculateHash(transaction);
+
+		// Assert: the minimum fee depends on the (global) fee calculator
+		MatcherAssert.assertThat(hash2, IsEqual.equalTo(hash1));
+		MatcherAssert.assertThat(hash2, IsNot.not(IsSame.sameInstance(hash1)));
+	}
+
+	@Test
+	public void changingSignatureDoesNotInvalidateVerification() {
+		// Arrange:
+		final MockTransaction transaction = new MockTransaction();
+		transaction.sign();
+		final Signature signature = transaction.getSignature();
+
+		// Act:
+		transaction.setSignature(new Signature(new byte[64]));
+		final boolean isVerifiedWithOtherSignature = transaction.verify();
+		transaction.setSignature(signature);
+
+		// Assert:
+		MatcherAssert.assertThat(isVerifiedWithOtherSignature, IsEqual.equalTo(false));
+		MatcherAssert.assertThat(transaction.verify(), IsEqual.equalTo(true));
+	}
+
+	@Test
+	public void changingFeeAfterSigningInvalidatesSignature() {
+		// Arrange:
+		final MockTransaction transaction = new MockTransaction();
+		transaction.sign();
+		MatcherAssert.assertThat(transaction.verify(), IsEqual.equalTo(true));
+
+		// Act:
+		transaction.setFee(Amount.fromNem(123));
+
+		// Assert:
+		MatcherAssert.assertThat(transaction.verify(), IsEqual.equalTo(false));
+	}
+
+	// endregion
+
 	// region Comparable
 
 	@Test
@@ -0,0 +1,119 @@
+package org.nem.core.model;
+
+import java.util.*;
+import java.util.stream.*;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.*;
+import org.junit.*;
+import org.nem.core.test.*;
+
+public class VerifiableEntityBatchVerifierTest {
+
+	// region findUnverifiable
+
+	@Test
+	public void findUnverifiableReturnsEmptyListIfThereAreNoEntities() {
+		// Act:
+		final List<Transaction> unverifiable = VerifiableEntityBatchVerifier.findUnverifiable(Collections.emptyList());
+
+		// Assert:
+		MatcherAssert.assertThat(unverifiable.isEmpty(), IsEqual.equalTo(true));
+	}
+
+	@Test
+	public void findUnverifiableReturnsEmptyListIfAllEntitiesCanBeVerified() {
+		// Arrange: use enough transactions to require multiple batches
+		final List<Transaction> transactions = createSignedTransactions(1200);
+
+		// Act:
+		final List<Transaction> unverifiable = VerifiableEntityBatchVerifier.findUnverifiable(transactions);
+
+		// Assert:
+		MatcherAssert.assertThat(unverifiable.isEmpty(), IsEqual.equalTo(true));
+	}
+
+	@Test
+	public void findUnverifiableReturnsAllEntitiesThatCannotBeVerified() {
+		// Arrange:
+		final List<Transaction> transactions = createSignedTransactions(1200);
+		final List<Transaction> expectedUnverifiable = Arrays.asList(transactions.get(7), transactions.get(600), transactions.get(601));
+		expectedUnverifiable.forEach(transaction -> transaction.setSignature(Utils.generateRandomSignature()));
+
+		// Act:
+		final List<Transaction> unverifiable = VerifiableEntityBatchVerifier.findUnverifiable(transactions);
+
+		// Assert:
+		MatcherAssert.assertThat(unverifiable, IsEquivalent.equivalentTo(expectedUnverifiable));
+	}
+
+	@Test
+	public void findUnverifiableReturnsEntitiesThatAreNotSignedWithoutAffectingOtherEntities() {
+		// Arrange: mix unsigned and invalidly signed transactions into valid ones
+		final List<Transaction> transactions = createSignedTransactions(1200);
+		final Transaction unsignedTransaction1 = new MockTransaction(Utils.generateRandomAccount());
+		final Transaction unsignedTransaction2 = new MockTransaction(Utils.generateRandomAccount());
+		transactions.add(3, unsignedTransaction1);
+		transactions.add(900, unsignedTransaction2);
+		transactions.get(42).setSignature(Utils.generateRandomSignature());
+
+		// Act:
+		final List<Transaction> unverifiable = VerifiableEntityBatchVerifier.findUnverifiable(transactions);
+
+		// Assert:
+		MatcherAssert.assertThat(unverifiable,
+				IsEquivalent.equivalentTo(Arrays.asList(unsignedTransaction1, unsignedTransaction2, transactions.get(42))));
+	}
+
+	// endregion
+
+	// region verifyAll
+
+	@Test
+	public void verifyAllReturnsTrueIfAllEntitiesCanBeVerified() {
+		// Arrange:
+		final List<Transaction> transactions = createSignedTransactions(100);
+
+		// Act:
+		final boolean result = VerifiableEntityBatchVerifier.verifyAll(transactions);
+
+		// Assert:
+		MatcherAssert.assertThat(result, IsEqual.equalTo(true));
+	}
+
+	@Test
+	public void verifyAllReturnsFalseIfAnyEntityCannotBeVerified() {
+		// Arrange:
+		final List<Transaction> transactions = createSignedTransactions(100);
+		transactions.get(42).setSignature(Utils.generateRandomSignature());
+
+		// Act:
+		final boolean result = VerifiableEntityBatchVerifier.verifyAll(transactions);
+
+		// Assert:
+		MatcherAssert.assertThat(result, IsEqual.equalTo(false));
+	}
+
+	@Test
+	public void verifyAllReturnsFalseIfAnyEntityIsNotSigned() {
+		// Arrange:
+		final List<Transaction> transactions = createSignedTransactions(100);
+		transactions.add(new MockTransaction(Utils.generateRandomAccount()));
+
+		// Act:
+		final boolean result = VerifiableEntityBatchVerifier.verifyAll(transactions);
+
+		// Assert:
+		MatcherAssert.assertThat(result, IsEqual.equalTo(false));
+	}
+
+	// endregion
+
+	private static List<Transaction> createSignedTransactions(final int count) {
+		final List<Account> signers = IntStream.range(0, 10).mapToObj(i -> Utils.generateRandomAccount()).collect(Collectors.toList());
+		return IntStream.range(0, count).mapToObj(i -> {
+			final Transaction transaction = new MockTransaction(signers.get(i % signers.size()), i);
+			transaction.sign();
+			return transaction;
+		}).collect(Collectors.toList());
+	}
+}
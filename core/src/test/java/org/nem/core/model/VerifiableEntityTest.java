@@ -557,6 +557,7 @@ public class VerifiableEntityTest {
 
 		public void setVerifiableField1(final int value) {
 			this.verifiableField1 = value;
+			this.onModified();
 		}
 
 		public void setNonVerifiableField1(final int value) {
@@ -1,5 +1,6 @@
 package org.nem.core.serialization;
 
+import java.io.ByteArrayOutputStream;
 import java.math.BigInteger;
 import java.nio.*;
 import java.util.*;
@@ -7,7 +8,7 @@ import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
 import org.junit.*;
 import org.nem.core.serialization.primitive.*;
-import org.nem.core.test.MockSerializableEntity;
+import org.nem.core.test.*;
 
 @SuppressWarnings({
 		"serial", "try"
@@ -246,6 +247,45 @@ public class BinarySerializerTest extends SerializerTest<BinarySerializer, Binar
 
 	// endregion
 
+	// region ByteBuffer
+
+	@Test
+	public void canReadFromRemainingBytesOfBuffer() throws Exception {
+		// Arrange:
+		final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{
+				0x7F, 0x11, 0x00, 0x00, 0x00, 0x13, 0x00, 0x00, 0x00, 0x11, 0x00, 0x00, 0x00, 0x03, 0x00, 0x00, 0x00, 0x66, 0x6F, 0x6F, 0x2A,
+				0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00
+		});
+		buffer.position(1);
+
+		try (BinaryDeserializer deserializer = new BinaryDeserializer(buffer, null)) {
+			// Act:
+			final int i = deserializer.readInt("int");
+			final MockSerializableEntity entity = deserializer.readObject("object", MockSerializableEntity::new);
+
+			// Assert:
+			MatcherAssert.assertThat(i, IsEqual.equalTo(17));
+			MatcherAssert.assertThat(entity, IsEqual.equalTo(new MockSerializableEntity(17, "foo", 42)));
+			MatcherAssert.assertThat(deserializer.hasMoreData(), IsEqual.equalTo(false));
+			MatcherAssert.assertThat(buffer.position(), IsEqual.equalTo(1));
+		}
+	}
+
+	@Test
+	public void nestedObjectCannotReadPastItsOwnBytes() throws Exception {
+		// Arrange: an object with a size of 8 bytes that would need 19 bytes
+		final byte[] bytes = new byte[]{
+				0x08, 0x00, 0x00, 0x00, 0x11, 0x00, 0x00, 0x00, 0x03, 0x00, 0x00, 0x00, 0x66, 0x6F, 0x6F, 0x2A, 0x00, 0x00, 0x00, 0x00,
+				0x00, 0x00, 0x00
+		};
+		try (BinaryDeserializer deserializer = this.createBinaryDeserializer(bytes)) {
+			// Act:
+			ExceptionAssert.assertThrows(v -> deserializer.readObject("object", MockSerializableEntity::new), SerializationException.class);
+		}
+	}
+
+	// endregion
+
 	// region Corrupt Data Handling
 
 	@Test(expected = SerializationException.class)
@@ -270,6 +310,17 @@ public class BinarySerializerTest extends SerializerTest<BinarySerializer, Binar
 		}
 	}
 
+	@Test(expected = SerializationException.class)
+	public void readOfObjectFailsIfStreamIsTooSmall() throws Exception {
+		final byte[] bytes = new byte[]{
+				0x13, 0x00, 0x00, 0x00, 0x11, 0x00, 0x00, 0x00
+		};
+		try (BinaryDeserializer deserializer = this.createBinaryDeserializer(bytes)) {
+			// Assert:
+			deserializer.readObject("object", MockSerializableEntity::new);
+		}
+	}
+
 	private BinaryDeserializer createBinaryDeserializer(final byte[] bytes) {
 		return new BinaryDeserializer(bytes, null);
 	}
@@ -293,5 +344,82 @@ public class BinarySerializerTest extends SerializerTest<BinarySerializer, Binar
 		}
 	}
 
+	@Test
+	public void serializeToBytesCanSerializeEntityLargerThanInitialBuffer() {
+		// Arrange:
+		final byte[] bytes = Utils.generateRandomBytes(2_000);
+		final SerializableEntity entity = serializer -> {
+			serializer.writeInt("int", 17);
+			serializer.writeObject("object", s -> {
+				for (int i = 0; i < 5; ++i) {
+					s.writeBytes("bytes", bytes);
+				}
+			});
+		};
+
+		// Act:
+		final byte[] serializedBytes = BinarySerializer.serializeToBytes(entity);
+
+		// Assert:
+		final Deserializer deserializer = this.createBinaryDeserializer(serializedBytes);
+		MatcherAssert.assertThat(serializedBytes.length, IsEqual.equalTo(4 + 4 + 5 * (4 + 2_000)));
+		MatcherAssert.assertThat(deserializer.readInt("int"), IsEqual.equalTo(17));
+		deserializer.readOptionalObject("object", d -> {
+			for (int i = 0; i < 5; ++i) {
+				MatcherAssert.assertThat(d.readBytes("bytes"), IsEqual.equalTo(bytes));
+			}
+
+			return null;
+		});
+	}
+
+	@Test
+	public void serializeToBytesSupportsNestedSerializeToBytes() {
+		// Arrange: an entity that hashes a child entity while being serialized
+		final SerializableEntity child = new MockSerializableEntity(17, "foo", 42);
+		final SerializableEntity entity = serializer -> {
+			serializer.writeInt("int", 11);
+			serializer.writeBytes("child", BinarySerializer.serializeToBytes(child));
+			serializer.writeInt("int", 12);
+		};
+
+		// Act:
+		final byte[] serializedBytes = BinarySerializer.serializeToBytes(entity);
+
+		// Assert:
+		final Deserializer deserializer = this.createBinaryDeserializer(serializedBytes);
+		MatcherAssert.assertThat(deserializer.readInt("int"), IsEqual.equalTo(11));
+		MatcherAssert.assertThat(deserializer.readBytes("child"), IsEqual.equalTo(BinarySerializer.serializeToBytes(child)));
+		MatcherAssert.assertThat(deserializer.readInt("int"), IsEqual.equalTo(12));
+	}
+
+	@Test
+	public void serializeToBytesWrapsExceptionsInSerializationException() {
+		// Arrange:
+		final SerializableEntity entity = serializer -> {
+			throw new IllegalArgumentException();
+		};
+
+		// Act:
+		ExceptionAssert.assertThrows(v -> BinarySerializer.serializeToBytes(entity), SerializationException.class);
+	}
+
+	// endregion
+
+	// region serializeToStream
+
+	@Test
+	public void serializeToStreamWritesSameBytesAsSerializeToBytes() {
+		// Arrange:
+		final SerializableEntity entity = new MockSerializableEntity(17, "foo", 42);
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+		// Act:
+		BinarySerializer.serializeToStream(entity, stream);
+
+		// Assert:
+		MatcherAssert.assertThat(stream.toByteArray(), IsEqual.equalTo(BinarySerializer.serializeToBytes(entity)));
+	}
+
 	// endregion
 }
@@ -2,7 +2,7 @@ package org.nem.core.serialization.primitive;
 
 import java.util.*;
 import org.hamcrest.MatcherAssert;
-import org.hamcrest.core.IsNull;
+import org.hamcrest.core.*;
 import org.junit.*;
 import org.nem.core.serialization.*;
 import org.nem.core.test.MockSerializableEntity;
@@ -33,6 +33,50 @@ public abstract class AbstractObjectArraySerializationTest<TSerializer extends S
 		this.assertCanRoundtrip(new ArrayList<>());
 	}
 
+	@Test
+	public void canRoundtripArrayWrittenFromIterator() {
+		// Assert:
+		this.assertCanRoundtripFromIterator(this.getValue());
+	}
+
+	@Test
+	public void canRoundtripEmptyArrayWrittenFromIterator() {
+		// Assert:
+		this.assertCanRoundtripFromIterator(new ArrayList<>());
+	}
+
+	@Test
+	public void canRoundtripArrayWrittenFromIteratorFollowedByOtherValue() {
+		// Arrange:
+		final TSerializer serializer = this.createSerializer();
+
+		// Act:
+		serializer.writeObjectIterator("val", this.getValue().iterator());
+		serializer.writeInt("next", 17);
+
+		final Deserializer deserializer = this.createDeserializer(serializer);
+		final List<MockSerializableEntity> value = this.readValue(deserializer, "val");
+		final int nextValue = deserializer.readInt("next");
+
+		// Assert:
+		MatcherAssert.assertThat(value, IsEqual.equalTo(this.getValue()));
+		MatcherAssert.assertThat(nextValue, IsEqual.equalTo(17));
+	}
+
+	private void assertCanRoundtripFromIterator(final List<MockSerializableEntity> objects) {
+		// Arrange:
+		final TSerializer serializer = this.createSerializer();
+
+		// Act:
+		serializer.writeObjectIterator("val", objects.iterator());
+
+		final Deserializer deserializer = this.createDeserializer(serializer);
+		final List<MockSerializableEntity> value = this.readValue(deserializer, "val");
+
+		// Assert:
+		MatcherAssert.assertThat(value, IsEqual.equalTo(objects));
+	}
+
 	@Override
 	protected List<MockSerializableEntity> getValue() {
 		final List<MockSerializableEntity> objects = new ArrayList<>();
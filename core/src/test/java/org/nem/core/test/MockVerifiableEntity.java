@@ -69,6 +69,7 @@ public class MockVerifiableEntity extends VerifiableEntity {
 	 */
 	public void setCustomField(final int customField) {
 		this.customField = customField;
+		this.onModified();
 	}
 
 	@Override
@@ -1,6 +1,6 @@
 package org.nem.deploy;
 
-import java.io.InputStream;
+import java.io.*;
 import org.apache.commons.io.IOUtils;
 import org.nem.core.serialization.*;
 import org.nem.core.utils.ExceptionUtils;
@@ -31,6 +31,11 @@ public class BinarySerializationPolicy implements SerializationPolicy {
 		return BinarySerializer.serializeToBytes(entity);
 	}
 
+	@Override
+	public void toStream(final SerializableEntity entity, final OutputStream stream) {
+		BinarySerializer.serializeToStream(entity, stream);
+	}
+
 	@Override
 	public Deserializer fromStream(final InputStream stream) {
 		final byte[] bytes = ExceptionUtils.propagate(() -> IOUtils.toByteArray(stream));
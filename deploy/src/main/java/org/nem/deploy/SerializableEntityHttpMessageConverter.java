@@ -43,6 +43,6 @@ public class SerializableEntityHttpMessageConverter extends AbstractHttpMessageC
 	protected void writeInternal(final SerializableEntity serializableEntity, final HttpOutputMessage httpOutputMessage)
 			throws IOException, HttpMessageNotWritableException {
 
-		httpOutputMessage.getBody().write(this.policy.toBytes(serializableEntity));
+		this.policy.toStream(serializableEntity, httpOutputMessage.getBody());
 	}
 }
@@ -1,6 +1,6 @@
 package org.nem.deploy;
 
-import java.io.InputStream;
+import java.io.*;
 import org.nem.core.serialization.*;
 import org.springframework.http.MediaType;
 
@@ -24,6 +24,17 @@ public interface SerializationPolicy {
 	 */
 	byte[] toBytes(final SerializableEntity entity);
 
+	/**
+	 * Writes the byte representation of the specified serializable entity to a stream.
+	 *
+	 * @param entity The entity.
+	 * @param stream The output stream.
+	 * @throws IOException If the stream cannot be written.
+	 */
+	default void toStream(final SerializableEntity entity, final OutputStream stream) throws IOException {
+		stream.write(this.toBytes(entity));
+	}
+
 	/**
 	 * Creates a deserializer from a stream.
 	 *
@@ -126,7 +126,6 @@ public class SerializableEntityHttpMessageConverterTest {
 		final MediaType mediaType = new MediaType("application", "json");
 		final SerializationPolicy policy = Mockito.mock(SerializationPolicy.class);
 		Mockito.when(policy.getMediaType()).thenReturn(mediaType);
-		Mockito.when(policy.toBytes(Mockito.any())).thenReturn(new byte[0]);
 
 		final MockSerializableEntity originalEntity = new MockSerializableEntity(7, "foo", 3);
 		final SerializableEntityHttpMessageConverter mc = createMessageConverter(policy);
@@ -136,7 +135,7 @@ public class SerializableEntityHttpMessageConverterTest {
 		mc.write(originalEntity, mediaType, outputMessage);
 
 		// Assert:
-		Mockito.verify(policy, Mockito.times(1)).toBytes(originalEntity);
+		Mockito.verify(policy, Mockito.times(1)).toStream(originalEntity, outputMessage.getBody());
 	}
 
 	// endregion
@@ -1,6 +1,6 @@
 package org.nem.deploy;
 
-import java.io.InputStream;
+import java.io.*;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
 import org.junit.*;
@@ -71,4 +71,18 @@ public abstract class SerializationPolicyTest {
 		// Assert:
 		MatcherAssert.assertThat(accountLookup.getNumFindByIdCalls(), IsEqual.equalTo(1));
 	}
+
+	@Test
+	public void toStreamWritesSameBytesAsToBytes() throws IOException {
+		// Arrange:
+		final MockSerializableEntity entity = new MockSerializableEntity(7, "zuação danada", 3);
+		final SerializationPolicy policy = this.createPolicy(null);
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+		// Act:
+		policy.toStream(entity, stream);
+
+		// Assert:
+		MatcherAssert.assertThat(stream.toByteArray(), IsEqual.equalTo(policy.toBytes(entity)));
+	}
 }
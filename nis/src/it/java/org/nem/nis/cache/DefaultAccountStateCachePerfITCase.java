@@ -0,0 +1,130 @@
+package org.nem.nis.cache;
+
+import java.util.*;
+import java.util.logging.Logger;
+import java.util.stream.*;
+import org.junit.*;
+import org.nem.core.model.Address;
+import org.nem.core.test.Utils;
+import org.nem.nis.cache.delta.PersistentDeltaMap;
+
+public class DefaultAccountStateCachePerfITCase {
+	private static final Logger LOGGER = Logger.getLogger(DefaultAccountStateCachePerfITCase.class.getName());
+	private static final int NUM_ACCOUNTS = 100_000;
+	private static final int NUM_LOOKUPS = 2_000_000;
+	private static final int NUM_COPIES = 200;
+	private static final int NUM_CHANGES_PER_COPY = 50;
+
+	@Test
+	public void findStateByAddressIsFast() {
+		// Arrange:
+		final DefaultAccountStateCache cache = new DefaultAccountStateCache();
+		final List<Address> addresses = IntStream.range(0, NUM_ACCOUNTS).mapToObj(i -> Utils.generateRandomAddress())
+				.collect(Collectors.toList());
+		final DefaultAccountStateCache copy = cache.copy();
+		addresses.forEach(copy::findStateByAddress);
+		copy.commit();
+
+		// - lookups are usually done with addresses that were deserialized (and don't share the encoded string with the keys)
+		final List<Address> lookupAddresses = addresses.stream().map(a -> Address.fromEncoded(new String(a.getEncoded().toCharArray())))
+				.collect(Collectors.toList());
+
+		// Warm up
+		lookup(cache, lookupAddresses, NUM_LOOKUPS);
+
+		// Act:
+		final long start = System.nanoTime();
+		lookup(cache, lookupAddresses, NUM_LOOKUPS);
+		final long stop = System.nanoTime();
+
+		// Assert:
+		final long lookupsPerSecond = NUM_LOOKUPS * 1_000_000_000L / (stop - start);
+		LOGGER.info(String.format("account state cache performs %d lookups per second", lookupsPerSecond));
+		Assert.assertTrue(String.format("account state cache performs %d lookups per second (expected at least 1000000)",
+				lookupsPerSecond), lookupsPerSecond > 1_000_000);
+	}
+
+	@Test
+	public void fromEncodedAndFindStateByAddressIsFast() {
+		// Arrange:
+		final DefaultAccountStateCache cache = new DefaultAccountStateCache();
+		final List<Address> addresses = IntStream.range(0, NUM_ACCOUNTS).mapToObj(i -> Utils.generateRandomAddress())
+				.collect(Collectors.toList());
+		final DefaultAccountStateCache copy = cache.copy();
+		addresses.forEach(copy::findStateByAddress);
+		copy.commit();
+		final List<String> encodedAddresses = addresses.stream().map(a -> new String(a.getEncoded().toCharArray()))
+				.collect(Collectors.toList());
+
+		// Warm up
+		lookupEncoded(cache, encodedAddresses, NUM_LOOKUPS / 4);
+
+		// Act:
+		final long start = System.nanoTime();
+		lookupEncoded(cache, encodedAddresses, NUM_LOOKUPS / 4);
+		final long stop = System.nanoTime();
+
+		// Assert:
+		final long lookupsPerSecond = NUM_LOOKUPS / 4 * 1_000_000_000L / (stop - start);
+		LOGGER.info(String.format("account state cache performs %d lookups of encoded addresses per second", lookupsPerSecond));
+		Assert.assertTrue(String.format("account state cache performs %d lookups of encoded addresses per second (expected at least 250000)",
+				lookupsPerSecond), lookupsPerSecond > 250_000);
+	}
+
+	@Test
+	public void copyAndCommitIsFastForAllDeltaMaps() {
+		// Arrange:
+		final List<Address> addresses = IntStream.range(0, NUM_ACCOUNTS).mapToObj(i -> Utils.generateRandomAddress())
+				.collect(Collectors.toList());
+		final DefaultAccountStateCache defaultCache = createCache(new DefaultAccountStateCache(), addresses);
+		final DefaultAccountStateCache persistentCache = createCache(new DefaultAccountStateCache(new PersistentDeltaMap<>()), addresses);
+
+		// Warm up
+		copyAndCommit(defaultCache, addresses);
+		copyAndCommit(persistentCache, addresses);
+
+		// Act:
+		final long defaultMicros = copyAndCommit(defaultCache, addresses) / NUM_COPIES / 1000;
+		final long persistentMicros = copyAndCommit(persistentCache, addresses) / NUM_COPIES / 1000;
+
+		// Assert:
+		LOGGER.info(String.format("copy and commit (%d changes, %d accounts) takes %d us (mutable object aware) and %d us (persistent)",
+				NUM_CHANGES_PER_COPY, NUM_ACCOUNTS, defaultMicros, persistentMicros));
+		Assert.assertTrue(String.format("copy and commit takes %d us (expected at most 10000)", defaultMicros), defaultMicros < 10_000);
+		Assert.assertTrue(String.format("copy and commit takes %d us (expected at most 10000)", persistentMicros), persistentMicros < 10_000);
+	}
+
+	private static DefaultAccountStateCache createCache(final DefaultAccountStateCache cache, final List<Address> addresses) {
+		final DefaultAccountStateCache copy = cache.copy();
+		addresses.forEach(copy::findStateByAddress);
+		copy.commit();
+		return cache;
+	}
+
+	private static long copyAndCommit(final DefaultAccountStateCache cache, final List<Address> addresses) {
+		final long start = System.nanoTime();
+		for (int i = 0; i < NUM_COPIES; ++i) {
+			final DefaultAccountStateCache copy = cache.copy();
+			for (int j = 0; j < NUM_CHANGES_PER_COPY; ++j) {
+				final Address address = addresses.get((i * NUM_CHANGES_PER_COPY + j) % addresses.size());
+				copy.findStateByAddress(address).getAccountInfo().incrementHarvestedBlocks();
+			}
+
+			copy.commit();
+		}
+
+		return System.nanoTime() - start;
+	}
+
+	private static void lookup(final ReadOnlyAccountStateCache cache, final List<Address> addresses, final int numLookups) {
+		for (int i = 0; i < numLookups; ++i) {
+			Assert.assertNotNull(cache.findStateByAddress(addresses.get(i % addresses.size())));
+		}
+	}
+
+	private static void lookupEncoded(final ReadOnlyAccountStateCache cache, final List<String> encodedAddresses, final int numLookups) {
+		for (int i = 0; i < numLookups; ++i) {
+			Assert.assertNotNull(cache.findStateByAddress(Address.fromEncoded(encodedAddresses.get(i % encodedAddresses.size()))));
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package org.nem.nis.harvesting;
+
+import java.util.*;
+import java.util.logging.Logger;
+import java.util.stream.*;
+import org.junit.*;
+import org.nem.core.model.*;
+import org.nem.core.model.primitive.*;
+import org.nem.core.test.*;
+import org.nem.nis.cache.*;
+import org.nem.nis.test.*;
+
+public class TransactionSpamFilterPerfITCase {
+	private static final Logger LOGGER = Logger.getLogger(TransactionSpamFilterPerfITCase.class.getName());
+	private static final int MAX_TRANSACTIONS_PER_BLOCK = 120;
+	private static final int BATCH_SIZE = 1000;
+
+	@Test
+	public void batchAdmissionIsFastWhenCacheIsFull() {
+		// Arrange: fill the cache up to the max cache size
+		final DefaultPoxFacade poxFacade = new DefaultPoxFacade(NisUtils.createImportanceCalculator()) {
+			@Override
+			public BlockHeight getLastRecalculationHeight() {
+				return BlockHeight.ONE;
+			}
+		};
+		final ReadOnlyNisCache nisCache = NisCacheFactory.createReal(poxFacade, BlockHeight.MAX);
+		final UnconfirmedTransactionsCache transactions = new UnconfirmedTransactionsCache();
+		createTransactions(10 * MAX_TRANSACTIONS_PER_BLOCK).forEach(transactions::add);
+		final TransactionSpamFilter spamFilter = new TransactionSpamFilter(nisCache, transactions, MAX_TRANSACTIONS_PER_BLOCK);
+		final List<Collection<Transaction>> batches = IntStream.range(0, 60).mapToObj(i -> createTransactions(BATCH_SIZE))
+				.collect(Collectors.toList());
+
+		// - pushed transactions have already been hashed (and the hashes cached) before they reach the spam filter
+		batches.forEach(batch -> batch.forEach(HashUtils::calculateHash));
+
+		// Warm up
+		batches.subList(0, 10).forEach(spamFilter::filter);
+
+		// Act:
+		final long start = System.nanoTime();
+		batches.subList(10, batches.size()).forEach(spamFilter::filter);
+		final long stop = System.nanoTime();
+
+		// Assert (should be at least 100k transactions per second on a decent computer):
+		final long numTransactions = (long) (batches.size() - 10) * BATCH_SIZE;
+		final long transactionsPerSecond = numTransactions * 1_000_000_000L / (stop - start);
+		LOGGER.info(String.format("spam filter admits %d transactions per second", transactionsPerSecond));
+		Assert.assertTrue(String.format("spam filter admits %d transactions per second (expected at least 100000)", transactionsPerSecond),
+				transactionsPerSecond > 100_000);
+	}
+
+	private static Collection<Transaction> createTransactions(final int count) {
+		// use a small set of debtors so that per debtor counts matter
+		final List<Account> debtors = IntStream.range(0, 50).mapToObj(i -> Utils.generateRandomAccount()).collect(Collectors.toList());
+		return IntStream.range(0, count).mapToObj(i -> {
+			final Transaction transaction = new MockTransaction(debtors.get(i % debtors.size()), i);
+			transaction.setFee(Amount.ZERO);
+			return transaction;
+		}).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,106 @@
+package org.nem.nis.pox.poi;
+
+import java.security.SecureRandom;
+import java.util.*;
+import java.util.logging.Logger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.*;
+import org.nem.core.math.ColumnVector;
+import org.nem.core.model.primitive.*;
+import org.nem.core.test.Utils;
+import org.nem.nis.pox.ImportanceCalculator;
+import org.nem.nis.state.*;
+
+public class PoiImportanceCalculatorPerfITCase {
+	private static final Logger LOGGER = Logger.getLogger(PoiImportanceCalculatorPerfITCase.class.getName());
+	private static final int NUM_ACCOUNTS = 50_000;
+	private static final int NUM_OUTLINKS_PER_ACCOUNT = 2;
+	private static final int NUM_ITERATIONS = 3;
+	private static final BlockHeight HEIGHT = new BlockHeight(100_000);
+
+	@Test
+	public void parallelModeCalculatesBitIdenticalImportances() {
+		// Arrange:
+		final List<AccountState> accountStates = createAccountStates();
+
+		// Act:
+		final ColumnVector serialImportances = calculateImportances(accountStates, false);
+		final ColumnVector parallelImportances = calculateImportances(accountStates, true);
+
+		// Assert:
+		MatcherAssert.assertThat(parallelImportances, IsEqual.equalTo(serialImportances));
+	}
+
+	@Test
+	public void parallelModeIsFasterThanSerialModeOnMultipleProcessors() {
+		// Arrange:
+		final List<AccountState> accountStates = createAccountStates();
+
+		// Warm up
+		calculateImportances(accountStates, false);
+		calculateImportances(accountStates, true);
+
+		// Act:
+		final long serialMillis = timeCalculateImportances(accountStates, false);
+		final long parallelMillis = timeCalculateImportances(accountStates, true);
+
+		// Assert:
+		final int numProcessors = Runtime.getRuntime().availableProcessors();
+		LOGGER.info(String.format("%d accounts on %d processors: serial %d ms, parallel %d ms (average of %d runs)", NUM_ACCOUNTS,
+				numProcessors, serialMillis, parallelMillis, NUM_ITERATIONS));
+
+		// the parallel mode can only be faster if there is more than one processor
+		Assume.assumeTrue(numProcessors > 1);
+		Assert.assertTrue(String.format("parallel mode (%d ms) should be faster than serial mode (%d ms)", parallelMillis, serialMillis),
+				parallelMillis < serialMillis);
+	}
+
+	private static long timeCalculateImportances(final Collection<AccountState> accountStates, final boolean isParallel) {
+		final long start = System.nanoTime();
+		for (int i = 0; i < NUM_ITERATIONS; ++i) {
+			calculateImportances(accountStates, isParallel);
+		}
+
+		final long stop = System.nanoTime();
+		return (stop - start) / 1_000_000 / NUM_ITERATIONS;
+	}
+
+	private static List<AccountState> createAccountStates() {
+		final SecureRandom random = new SecureRandom();
+		final List<AccountState> accountStates = new ArrayList<>();
+		for (int i = 0; i < NUM_ACCOUNTS; ++i) {
+			final AccountState accountState = new AccountState(Utils.generateRandomAddress());
+			accountState.getWeightedBalances().addFullyVested(BlockHeight.ONE, Amount.fromNem(10_000 + random.nextInt(1_000_000)));
+			accountStates.add(accountState);
+		}
+
+		for (final AccountState accountState : accountStates) {
+			for (int i = 0; i < NUM_OUTLINKS_PER_ACCOUNT; ++i) {
+				final AccountState otherAccountState = accountStates.get(random.nextInt(NUM_ACCOUNTS));
+				// outlinks must be added with increasing heights
+				final BlockHeight height = new BlockHeight(HEIGHT.getRaw() - (NUM_OUTLINKS_PER_ACCOUNT - i) * 5_000L);
+				final Amount amount = Amount.fromNem(1_000 + random.nextInt(100_000));
+				accountState.getImportanceInfo().addOutlink(new AccountLink(height, amount, otherAccountState.getAddress()));
+			}
+		}
+
+		return accountStates;
+	}
+
+	private static ColumnVector calculateImportances(final Collection<AccountState> accountStates, final boolean isParallel) {
+		final PoiOptionsBuilder builder = new PoiOptionsBuilder();
+		builder.setParallelModeEnabled(isParallel);
+		final PoiOptions options = builder.create();
+		final ImportanceCalculator importanceCalculator = new PoiImportanceCalculator(new PoiScorer(), height -> options);
+		importanceCalculator.recalculate(HEIGHT, accountStates);
+
+		final ColumnVector importances = new ColumnVector(accountStates.size());
+		int i = 0;
+		for (final AccountState accountState : accountStates) {
+			importances.setAt(i++, accountState.getImportanceInfo().getImportance(HEIGHT));
+		}
+
+		return importances;
+	}
+}
@@ -0,0 +1,71 @@
+package org.nem.nis.state;
+
+import java.util.*;
+import java.util.logging.Logger;
+import org.junit.*;
+import org.nem.core.model.primitive.*;
+
+public class TimeBasedVestingWeightedBalancesPerfITCase {
+	private static final Logger LOGGER = Logger.getLogger(TimeBasedVestingWeightedBalancesPerfITCase.class.getName());
+	private static final int NUM_TRANSFERS = 5_000;
+	private static final int NUM_HEIGHTS = 10_000;
+	private static final int NUM_ITERATIONS = 20;
+
+	@Test
+	public void visitBalancesIsFasterThanPointQueries() {
+		// Arrange: an account with a long history that is sampled over the whole history
+		final WeightedBalances weightedBalances = new TimeBasedVestingWeightedBalances();
+		for (int i = 1; i <= NUM_TRANSFERS; ++i) {
+			weightedBalances.addReceive(new BlockHeight(100L * i), Amount.fromNem(1_000));
+			weightedBalances.addSend(new BlockHeight(100L * i + 50), Amount.fromNem(10));
+		}
+
+		final List<BlockHeight> heights = new ArrayList<>();
+		for (int i = 1; i <= NUM_HEIGHTS; ++i) {
+			heights.add(new BlockHeight(50L * i));
+		}
+
+		// Warm up
+		queryPoints(weightedBalances, heights);
+		visit(weightedBalances, heights);
+
+		// Act:
+		final long pointStart = System.nanoTime();
+		for (int i = 0; i < NUM_ITERATIONS; ++i) {
+			queryPoints(weightedBalances, heights);
+		}
+
+		final long pointStop = System.nanoTime();
+
+		final long visitStart = System.nanoTime();
+		for (int i = 0; i < NUM_ITERATIONS; ++i) {
+			visit(weightedBalances, heights);
+		}
+
+		final long visitStop = System.nanoTime();
+
+		// Assert:
+		final long pointMillis = (pointStop - pointStart) / 1_000_000;
+		final long visitMillis = (visitStop - visitStart) / 1_000_000;
+		LOGGER.info(String.format("%d x %d heights: point queries %d ms, visitBalances %d ms", NUM_ITERATIONS, NUM_HEIGHTS, pointMillis,
+				visitMillis));
+		Assert.assertTrue(String.format("visitBalances (%d ms) should be faster than point queries (%d ms)", visitMillis, pointMillis),
+				visitMillis < pointMillis);
+	}
+
+	private static long queryPoints(final ReadOnlyWeightedBalances weightedBalances, final List<BlockHeight> heights) {
+		long sum = 0;
+		for (final BlockHeight height : heights) {
+			sum += weightedBalances.getVested(height).getNumMicroNem() + weightedBalances.getUnvested(height).getNumMicroNem();
+		}
+
+		return sum;
+	}
+
+	private static long visit(final ReadOnlyWeightedBalances weightedBalances, final List<BlockHeight> heights) {
+		final long[] sum = new long[1];
+		weightedBalances.visitBalances(heights,
+				(height, vested, unvested) -> sum[0] += vested.getNumMicroNem() + unvested.getNumMicroNem());
+		return sum[0];
+	}
+}
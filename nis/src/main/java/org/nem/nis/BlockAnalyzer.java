@@ -1,7 +1,7 @@
 package org.nem.nis;
 
 import java.util.*;
-import java.util.logging.Logger;
+import java.util.logging.*;
 import org.nem.core.crypto.Hash;
 import org.nem.core.model.*;
 import org.nem.core.model.observers.*;
@@ -15,7 +15,7 @@ import org.nem.nis.dbmodel.DbBlock;
 import org.nem.nis.mappers.*;
 import org.nem.nis.secret.*;
 import org.nem.nis.service.BlockChainLastBlockLayer;
-import org.nem.nis.state.AccountState;
+import org.nem.nis.state.*;
 import org.nem.nis.sync.BlockChainScoreManager;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -33,6 +33,8 @@ public class BlockAnalyzer {
 	private final NemesisBlockInfo nemesisBlockInfo;
 	private final int estimatedBlocksPerYear;
 	private final ForkConfiguration forkConfiguration;
+	private final NisCacheSnapshotStore snapshotStore;
+	private final HistoricalAccountDataStore historicalAccountDataStore;
 
 	/**
 	 * Creates a new block analyzer.
@@ -48,6 +50,43 @@ public class BlockAnalyzer {
 	public BlockAnalyzer(final BlockDao blockDao, final BlockChainScoreManager blockChainScoreManager,
 			final BlockChainLastBlockLayer blockChainLastBlockLayer, final NisMapperFactory mapperFactory, final int estimatedBlocksPerYear,
 			final ForkConfiguration forkConfiguration) {
+		this(blockDao, blockChainScoreManager, blockChainLastBlockLayer, mapperFactory, estimatedBlocksPerYear, forkConfiguration, null);
+	}
+
+	/**
+	 * Creates a new block analyzer that resumes from cache snapshots when possible.
+	 *
+	 * @param blockDao The block dao.
+	 * @param blockChainScoreManager The blockchain score manager.
+	 * @param blockChainLastBlockLayer The blockchain last block layer.
+	 * @param mapperFactory The mapper factory.
+	 * @param estimatedBlocksPerYear The estimated number of blocks per year.
+	 * @param forkConfiguration The fork configuration.
+	 * @param snapshotStore The cache snapshot store (optional).
+	 */
+	public BlockAnalyzer(final BlockDao blockDao, final BlockChainScoreManager blockChainScoreManager,
+			final BlockChainLastBlockLayer blockChainLastBlockLayer, final NisMapperFactory mapperFactory, final int estimatedBlocksPerYear,
+			final ForkConfiguration forkConfiguration, final NisCacheSnapshotStore snapshotStore) {
+		this(blockDao, blockChainScoreManager, blockChainLastBlockLayer, mapperFactory, estimatedBlocksPerYear, forkConfiguration,
+				snapshotStore, null);
+	}
+
+	/**
+	 * Creates a new block analyzer that resumes from cache snapshots when possible and moves historical account data to a store.
+	 *
+	 * @param blockDao The block dao.
+	 * @param blockChainScoreManager The blockchain score manager.
+	 * @param blockChainLastBlockLayer The blockchain last block layer.
+	 * @param mapperFactory The mapper factory.
+	 * @param estimatedBlocksPerYear The estimated number of blocks per year.
+	 * @param forkConfiguration The fork configuration.
+	 * @param snapshotStore The cache snapshot store (optional).
+	 * @param historicalAccountDataStore The historical account data store (optional).
+	 */
+	public BlockAnalyzer(final BlockDao blockDao, final BlockChainScoreManager blockChainScoreManager,
+			final BlockChainLastBlockLayer blockChainLastBlockLayer, final NisMapperFactory mapperFactory, final int estimatedBlocksPerYear,
+			final ForkConfiguration forkConfiguration, final NisCacheSnapshotStore snapshotStore,
+			final HistoricalAccountDataStore historicalAccountDataStore) {
 		this.blockDao = blockDao;
 		this.blockChainScoreManager = blockChainScoreManager;
 		this.blockChainLastBlockLayer = blockChainLastBlockLayer;
@@ -55,6 +94,8 @@ public class BlockAnalyzer {
 		this.nemesisBlockInfo = NetworkInfos.getDefault().getNemesisBlockInfo();
 		this.estimatedBlocksPerYear = estimatedBlocksPerYear;
 		this.forkConfiguration = forkConfiguration;
+		this.snapshotStore = snapshotStore;
+		this.historicalAccountDataStore = historicalAccountDataStore;
 	}
 
 	/**
@@ -70,13 +111,16 @@ public class BlockAnalyzer {
 
 	/**
 	 * Analyzes all blocks in the database up to the specified height.
+	 * If a snapshot matching the database is available, the cache is restored from it and only the blocks after it are analyzed.
 	 *
 	 * @param nisCache The cache.
 	 * @param maxHeight The max height.
 	 * @return true if the analysis succeeded.
 	 */
 	public boolean analyze(final NisCache nisCache, final EnumSet<ObserverOption> options, final Long maxHeight) {
-		final Block nemesisBlock = this.loadNemesisBlock(nisCache);
+		// the nemesis block amounts are part of the snapshot, so they must only be applied when there is no snapshot
+		final NisCacheSnapshot snapshot = this.findSnapshot(maxHeight);
+		final Block nemesisBlock = null == snapshot ? this.loadNemesisBlock(nisCache) : loadNemesisBlock();
 		final Hash nemesisBlockHash = HashUtils.calculateHash(nemesisBlock);
 
 		Long curBlockHeight;
@@ -95,36 +139,49 @@ public class BlockAnalyzer {
 		}
 
 		Block parentBlock = null;
-		final BlockIterator iterator = new BlockIterator(this.blockDao);
-
 		final AccountCache accountCache = nisCache.getAccountCache();
 		final BlockExecutor executor = new BlockExecutor(nisCache);
 		final BlockTransactionObserver observer = new BlockTransactionObserverFactory(options, this.estimatedBlocksPerYear,
-				this.forkConfiguration).createExecuteCommitObserver(nisCache);
+				this.forkConfiguration, this.historicalAccountDataStore).createExecuteCommitObserver(nisCache);
 		final NisDbModelToModelMapper mapper = this.mapperFactory.createDbModelToModelNisMapper(accountCache);
 
-		do {
-			final Block block = mapper.map(dbBlock);
-
-			if (null != parentBlock) {
-				this.blockChainScoreManager.updateScore(parentBlock, block);
+		curBlockHeight = dbBlock.getHeight();
+		if (null != snapshot) {
+			if (!this.restoreSnapshot(nisCache, snapshot)) {
+				return false;
 			}
 
-			executor.execute(block, observer);
-
-			parentBlock = block;
+			dbBlock = this.blockDao.findByHeight(snapshot.getHeight());
+			parentBlock = mapper.map(dbBlock);
+			this.blockChainLastBlockLayer.analyzeLastBlock(dbBlock);
 
 			curBlockHeight = dbBlock.getHeight() + 1;
+		}
 
-			final DbBlock currentBlock = iterator.findByHeight(curBlockHeight);
-			this.blockChainLastBlockLayer.analyzeLastBlock(dbBlock);
+		// subsequent blocks are loaded and mapped in the background while blocks are executed on this thread
+		final int numMapperThreads = Runtime.getRuntime().availableProcessors();
+		try (final PipelinedBlockIterator iterator = new PipelinedBlockIterator(this.blockDao, this.mapperFactory,
+				new BlockHeight(dbBlock.getHeight()), NUM_BLOCKS_TO_PULL_AT_ONCE, numMapperThreads)) {
+			PipelinedBlockIterator.MappedBlock mappedBlock = null == snapshot
+					? new PipelinedBlockIterator.MappedBlock(dbBlock, mapper.map(dbBlock))
+					: iterator.next();
+			while (null != mappedBlock && (null == maxHeight || mappedBlock.getDbBlock().getHeight() <= maxHeight)) {
+				final Block block = mappedBlock.getBlock();
+
+				if (null != parentBlock) {
+					this.blockChainScoreManager.updateScore(parentBlock, block);
+				}
+
+				executor.execute(block, observer);
 
-			dbBlock = currentBlock;
+				parentBlock = block;
 
-			if (null != maxHeight && dbBlock != null && dbBlock.getHeight() > maxHeight) {
-				break;
+				curBlockHeight = mappedBlock.getDbBlock().getHeight() + 1;
+				this.blockChainLastBlockLayer.analyzeLastBlock(mappedBlock.getDbBlock());
+
+				mappedBlock = iterator.next();
 			}
-		} while (dbBlock != null);
+		}
 
 		// note that curBlockHeight is one greater than the height of our last block
 		this.recalculateImportancesAtHeight(nisCache, new BlockHeight(curBlockHeight - 1));
@@ -132,52 +189,54 @@ public class BlockAnalyzer {
 		return true;
 	}
 
-	private void recalculateImportancesAtHeight(final NisCache nisCache, final BlockHeight height) {
-		final BlockTransactionObserver recalculateObserver = new RecalculateImportancesObserver(nisCache);
-		recalculateObserver.notify(new BalanceAdjustmentNotification(NotificationType.BlockHarvest,
-				new Account(this.nemesisBlockInfo.getAddress()), Amount.ZERO),
-				new BlockNotificationContext(height, TimeInstant.ZERO, NotificationTrigger.Execute));
-	}
-
-	private static class BlockIterator {
-		private final BlockDao blockDao;
-		private long curHeight;
-		private Iterator<DbBlock> iterator;
-		private boolean finished;
-
-		public BlockIterator(final BlockDao blockDao) {
-			this.curHeight = 1; // the nemesis block height
-			this.blockDao = blockDao;
-			this.finished = false;
+	private NisCacheSnapshot findSnapshot(final Long maxHeight) {
+		if (null == this.snapshotStore) {
+			return null;
 		}
 
-		public DbBlock findByHeight(final long height) {
-			if (this.finished) {
-				return null;
+		for (final BlockHeight height : this.snapshotStore.getHeights()) {
+			if (null != maxHeight && height.getRaw() > maxHeight) {
+				continue;
 			}
 
-			if (null == this.iterator || !this.iterator.hasNext()) {
-				this.iterator = this.blockDao.getBlocksAfterAndUpdateCache(new BlockHeight(this.curHeight), NUM_BLOCKS_TO_PULL_AT_ONCE)
-						.iterator();
-				if (!this.iterator.hasNext()) {
-					this.finished = true;
-					return null;
-				}
+			final DbBlock dbBlock = this.blockDao.findByHeight(height);
+			final NisCacheSnapshot snapshot = null == dbBlock ? null : this.snapshotStore.load(height);
+			if (null == snapshot) {
+				continue;
 			}
 
-			if (height != this.curHeight + 1) {
-				throw new IllegalStateException("iterator was called for non-consecutive block");
+			if (!snapshot.getBlockHash().equals(dbBlock.getBlockHash())) {
+				LOGGER.warning(String.format("ignoring cache snapshot at height %s because it does not match the database", height));
+				continue;
 			}
 
-			final DbBlock dbBlock = this.iterator.next();
-			if (!dbBlock.getHeight().equals(height)) {
-				throw new IllegalStateException(
-						"inconsistent db state, there's missing block you're probably using developer's build, drop the db and rerun");
-			}
+			return snapshot;
+		}
+
+		return null;
+	}
 
-			this.curHeight = dbBlock.getHeight();
-			return dbBlock;
+	private boolean restoreSnapshot(final NisCache nisCache, final NisCacheSnapshot snapshot) {
+		LOGGER.info(String.format("restoring cache snapshot at height %s", snapshot.getHeight()));
+		try {
+			snapshot.restoreTo(nisCache);
+		} catch (final RuntimeException e) {
+			// the cache might be partially restored, so the analysis cannot simply fall back to a full replay
+			LOGGER.log(Level.SEVERE, "unable to restore cache snapshot, it has been removed and will not be used after a restart", e);
+			this.snapshotStore.remove(snapshot.getHeight());
+			return false;
 		}
+
+		this.blockDao.updateMosaicIdCacheUpTo(snapshot.getHeight());
+		this.blockChainScoreManager.resetScore(snapshot.getScore());
+		return true;
+	}
+
+	private void recalculateImportancesAtHeight(final NisCache nisCache, final BlockHeight height) {
+		final BlockTransactionObserver recalculateObserver = new RecalculateImportancesObserver(nisCache);
+		recalculateObserver.notify(new BalanceAdjustmentNotification(NotificationType.BlockHarvest,
+				new Account(this.nemesisBlockInfo.getAddress()), Amount.ZERO),
+				new BlockNotificationContext(height, TimeInstant.ZERO, NotificationTrigger.Execute));
 	}
 
 	private Block loadNemesisBlock(final NisCache nisCache) {
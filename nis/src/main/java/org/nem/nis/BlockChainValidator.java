@@ -1,6 +1,5 @@
 package org.nem.nis;
 
-import java.math.BigInteger;
 import java.util.*;
 import java.util.function.Function;
 import java.util.logging.Logger;
@@ -22,6 +21,8 @@ public class BlockChainValidator {
 	private final int maxChainSize;
 	private final BlockValidator blockValidator;
 	private final SingleTransactionValidator transactionValidator;
+	private final SingleTransactionValidator statelessTransactionValidator;
+	private final SingleTransactionValidator statefulTransactionValidator;
 	private final ValidationState validationState;
 	private final ForkConfiguration forkConfiguration;
 
@@ -32,18 +33,23 @@ public class BlockChainValidator {
 	 * @param scorer The block scorer to use.
 	 * @param maxChainSize The maximum chain size.
 	 * @param blockValidator The validator to use for validating blocks.
-	 * @param transactionValidator The validator to use for validating transactions.
+	 * @param transactionValidator The validator to use for validating transactions that fail stateless validation.
+	 * @param statelessTransactionValidator The validator to use for validating transactions independent of any state.
+	 * @param statefulTransactionValidator The validator to use for validating transactions against the state of all previous transactions.
 	 * @param validationState The validation state.
 	 * @param forkConfiguration The fork configuration.
 	 */
 	public BlockChainValidator(final Function<Block, BlockProcessor> processorFactory, final BlockScorer scorer, final int maxChainSize,
 			final BlockValidator blockValidator, final SingleTransactionValidator transactionValidator,
+			final SingleTransactionValidator statelessTransactionValidator, final SingleTransactionValidator statefulTransactionValidator,
 			final ValidationState validationState, final ForkConfiguration forkConfiguration) {
 		this.processorFactory = processorFactory;
 		this.scorer = scorer;
 		this.maxChainSize = maxChainSize;
 		this.blockValidator = blockValidator;
 		this.transactionValidator = transactionValidator;
+		this.statelessTransactionValidator = statelessTransactionValidator;
+		this.statefulTransactionValidator = statefulTransactionValidator;
 		this.validationState = validationState;
 		this.forkConfiguration = forkConfiguration;
 	}
@@ -95,7 +101,13 @@ public class BlockChainValidator {
 					return ValidationResult.FAILURE_TRANSACTION_DUPLICATE_IN_CHAIN;
 				}
 
-				final ValidationResult transactionValidationResult = this.transactionValidator.validate(transaction, context);
+				// the stateless and stateful validators only preserve the relative order of the validators, so a transaction that failed
+				// stateless validation is revalidated by all validators in order to report the same failure as the unconfirmed validation
+				final ValidationResult statelessValidationResult = this.statelessTransactionValidator.validate(transaction, context);
+				final ValidationResult transactionValidationResult = statelessValidationResult.isFailure()
+						? this.transactionValidator.validate(transaction, context)
+						: ValidationResult.aggregate(Arrays.asList(statelessValidationResult,
+								this.statefulTransactionValidator.validate(transaction, context)).iterator());
 				if (!transactionValidationResult.isSuccess()) {
 					LOGGER.info(String.format("received transaction that failed validation: %s", transactionValidationResult));
 					return transactionValidationResult;
@@ -124,19 +136,18 @@ public class BlockChainValidator {
 	}
 
 	private boolean verifyTransactions(final Collection<Block> blocks) {
-		return blocks.parallelStream()
+		final List<Transaction> transactions = blocks.stream()
 				// TreasuryReissuanceForkTransactionBlockValidator ensures fork block contains expected transactions
 				.filter(b -> !b.getHeight().equals(this.forkConfiguration.getTreasuryReissuanceForkHeight()))
-				.flatMap(b -> b.getTransactions().stream()).allMatch(VerifiableEntity::verify);
+				.flatMap(b -> b.getTransactions().stream()).collect(Collectors.toList());
+		return VerifiableEntityBatchVerifier.verifyAll(transactions);
 	}
 
 	private static List<Hash> getHashes(final Transaction transaction) {
-		return TransactionExtensions.streamDefault(transaction).parallel().map(HashUtils::calculateHash).collect(Collectors.toList());
+		return TransactionExtensions.streamDefault(transaction).map(HashUtils::calculateHash).collect(Collectors.toList());
 	}
 
 	private boolean isBlockHit(final Block parentBlock, final Block block) {
-		final BigInteger hit = this.scorer.calculateHit(block);
-		final BigInteger target = this.scorer.calculateTarget(parentBlock, block);
-		return hit.compareTo(target) < 0;
+		return this.scorer.isHit(parentBlock, block);
 	}
 }
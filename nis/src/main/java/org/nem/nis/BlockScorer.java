@@ -50,10 +50,13 @@ public class BlockScorer {
 	 * @return the hit score.
 	 */
 	public BigInteger calculateHit(final Block block) {
-		BigInteger val = new BigInteger(1, block.getGenerationHash().getRaw());
+		return BigInteger.valueOf(calculateRawHit(block));
+	}
+
+	private static long calculateRawHit(final Block block) {
+		final BigInteger val = new BigInteger(1, block.getGenerationHash().getRaw());
 		final double tmp = Math.abs(Math.log(val.doubleValue() / TWO_TO_THE_POWER_OF_256));
-		val = BigInteger.valueOf((long) (TWO_TO_THE_POWER_OF_54 * tmp));
-		return val;
+		return (long) (TWO_TO_THE_POWER_OF_54 * tmp);
 	}
 
 	/**
@@ -74,14 +77,68 @@ public class BlockScorer {
 				.multiply(this.getMultiplierAt(timeStampDifference)).divide(block.getDifficulty().asBigInteger());
 	}
 
-	// TODO 20150928 J-B: should add tests for this (1. STABLIZE enabled; 2. non-default generation target time)
+	/**
+	 * Determines whether or not the hit of block is less than its target given the previous block.
+	 * This is equivalent to comparing calculateHit and calculateTarget but avoids BigInteger arithmetic whenever possible.
+	 *
+	 * @param prevBlock The previous block.
+	 * @param block The block.
+	 * @return true if the block is a hit.
+	 */
+	public boolean isHit(final Block prevBlock, final Block block) {
+		final int timeStampDifference = block.getTimeStamp().subtract(prevBlock.getTimeStamp());
+		if (timeStampDifference < 0) {
+			// the target is zero and the hit is never negative
+			return false;
+		}
+
+		final long hit = calculateRawHit(block);
+		final long harvesterEffectiveImportance = this.calculateHarvesterEffectiveImportance(block);
+		final long multiplier = getRawMultiplierAt(timeStampDifference);
+		final long difficulty = block.getDifficulty().getRaw();
+		if (hit < 0 || Long.MAX_VALUE == hit || harvesterEffectiveImportance < 0 || difficulty <= 0) {
+			return isHit(BigInteger.valueOf(hit), this.calculateTarget(prevBlock, block));
+		}
+
+		final long timeWeightedImportance;
+		try {
+			timeWeightedImportance = Math.multiplyExact((long) timeStampDifference, harvesterEffectiveImportance);
+		} catch (final ArithmeticException e) {
+			return isHit(BigInteger.valueOf(hit), this.calculateTarget(prevBlock, block));
+		}
+
+		// for positive integers: hit < floor(x * 2^10 / difficulty) <=> (hit + 1) * difficulty <= x * 2^10
+		// all factors are non-negative longs, so both products fit into 128 bits
+		final long lhsHigh = Math.multiplyHigh(hit + 1, difficulty);
+		final long lhsLow = (hit + 1) * difficulty;
+		final long rhsHigh = Math.multiplyHigh(timeWeightedImportance, multiplier);
+		final long rhsLow = timeWeightedImportance * multiplier;
+		if (rhsHigh >= 1L << 53) {
+			// x * 2^10 >= 2^127 > (hit + 1) * difficulty
+			return true;
+		}
+
+		final long shiftedRhsHigh = (rhsHigh << 10) | (rhsLow >>> 54);
+		final long shiftedRhsLow = rhsLow << 10;
+		return lhsHigh < shiftedRhsHigh || (lhsHigh == shiftedRhsHigh && Long.compareUnsigned(lhsLow, shiftedRhsLow) <= 0);
+	}
+
+	private static boolean isHit(final BigInteger hit, final BigInteger target) {
+		return hit.compareTo(target) < 0;
+	}
+
 	private BigInteger getMultiplierAt(final int timeDiff) {
+		return BigInteger.valueOf(getRawMultiplierAt(timeDiff)).shiftLeft(10);
+	}
+
+	// TODO 20150928 J-B: should add tests for this (1. STABLIZE enabled; 2. non-default generation target time)
+	private static long getRawMultiplierAt(final int timeDiff) {
 		final BlockChainConfiguration configuration = NemGlobals.getBlockChainConfiguration();
 		final double targetTime = (double) configuration.getBlockGenerationTargetTime();
 		final double tmp = configuration.isBlockChainFeatureSupported(BlockChainFeature.STABILIZE_BLOCK_TIMES)
 				? Math.min(Math.exp(6.0 * (timeDiff - targetTime) / targetTime), 100.0)
 				: 1.0;
-		return BigInteger.valueOf((long) (BlockScorer.TWO_TO_THE_POWER_OF_54 * tmp)).shiftLeft(10);
+		return (long) (BlockScorer.TWO_TO_THE_POWER_OF_54 * tmp);
 	}
 
 	/**
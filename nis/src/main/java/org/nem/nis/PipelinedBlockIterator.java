@@ -0,0 +1,186 @@
+package org.nem.nis;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.nem.core.model.*;
+import org.nem.core.model.primitive.BlockHeight;
+import org.nem.core.serialization.AccountLookup;
+import org.nem.core.utils.ExceptionUtils;
+import org.nem.nis.dao.BlockDao;
+import org.nem.nis.dbmodel.DbBlock;
+import org.nem.nis.mappers.*;
+
+/**
+ * Iterates over consecutive blocks in the database.
+ * <br>
+ * Pages of db blocks are prefetched by a loader thread while earlier blocks are being executed
+ * and the blocks of each page are mapped in parallel. Blocks are always returned in order.
+ */
+class PipelinedBlockIterator implements AutoCloseable {
+	private static final int MAX_PENDING_PAGES = 4;
+
+	private final BlockDao blockDao;
+	private final NisDbModelToModelMapper mapper;
+	private final int pageSize;
+	private final ExecutorService loaderExecutor;
+	private final ExecutorService mapperExecutor;
+	private final BlockingQueue<CompletableFuture<List<MappedBlock>>> pages = new ArrayBlockingQueue<>(MAX_PENDING_PAGES);
+	private Iterator<MappedBlock> iterator = Collections.emptyIterator();
+	private long curHeight;
+	private boolean finished;
+
+	/**
+	 * Creates a new iterator and starts loading blocks.
+	 *
+	 * @param blockDao The block dao.
+	 * @param mapperFactory The mapper factory.
+	 * @param startHeight The height of the block after which iteration should start.
+	 * @param pageSize The number of blocks to load at once.
+	 * @param numMapperThreads The number of threads mapping blocks.
+	 */
+	public PipelinedBlockIterator(final BlockDao blockDao, final NisMapperFactory mapperFactory, final BlockHeight startHeight,
+			final int pageSize, final int numMapperThreads) {
+		this.blockDao = blockDao;
+
+		// blocks are mapped concurrently with the execution of earlier blocks, so the mapping must not access the (mutable) account cache
+		this.mapper = mapperFactory.createDbModelToModelNisMapper(new DetachedAccountLookup());
+		this.pageSize = pageSize;
+		this.curHeight = startHeight.getRaw();
+		this.loaderExecutor = Executors.newSingleThreadExecutor(r -> createDaemonThread(r, "block-loader"));
+		this.mapperExecutor = Executors.newFixedThreadPool(numMapperThreads, r -> createDaemonThread(r, "block-mapper"));
+		this.loaderExecutor.execute(this::loadPages);
+	}
+
+	/**
+	 * Gets the next block or null if there are no more blocks.
+	 *
+	 * @return The next block.
+	 */
+	public MappedBlock next() {
+		if (this.finished) {
+			return null;
+		}
+
+		if (!this.iterator.hasNext()) {
+			final CompletableFuture<List<MappedBlock>> page = ExceptionUtils.propagate(this.pages::take);
+			this.iterator = ExceptionUtils.propagate(page::get).iterator();
+			if (!this.iterator.hasNext()) {
+				this.finished = true;
+				return null;
+			}
+		}
+
+		final MappedBlock mappedBlock = this.iterator.next();
+		if (mappedBlock.getDbBlock().getHeight() != this.curHeight + 1) {
+			throw new IllegalStateException(
+					"inconsistent db state, there's missing block you're probably using developer's build, drop the db and rerun");
+		}
+
+		this.curHeight = mappedBlock.getDbBlock().getHeight();
+		return mappedBlock;
+	}
+
+	@Override
+	public void close() {
+		this.loaderExecutor.shutdownNow();
+		this.mapperExecutor.shutdownNow();
+	}
+
+	private void loadPages() {
+		long height = this.curHeight;
+		try {
+			while (!Thread.currentThread().isInterrupted()) {
+				final List<DbBlock> dbBlocks = new ArrayList<>(this.blockDao.getBlocksAfterAndUpdateCache(new BlockHeight(height), this.pageSize));
+
+				this.putPage(this.mapPage(dbBlocks));
+				if (dbBlocks.isEmpty()) {
+					return;
+				}
+
+				height = dbBlocks.get(dbBlocks.size() - 1).getHeight();
+			}
+		} catch (final RuntimeException e) {
+			final CompletableFuture<List<MappedBlock>> failedPage = new CompletableFuture<>();
+			failedPage.completeExceptionally(e);
+			this.putPage(failedPage);
+		}
+	}
+
+	private void putPage(final CompletableFuture<List<MappedBlock>> page) {
+		// block until the consumer has caught up
+		try {
+			this.pages.put(page);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private CompletableFuture<List<MappedBlock>> mapPage(final List<DbBlock> dbBlocks) {
+		final List<CompletableFuture<MappedBlock>> futures = dbBlocks.stream()
+				.map(dbBlock -> CompletableFuture.supplyAsync(() -> new MappedBlock(dbBlock, this.mapper.map(dbBlock)), this.mapperExecutor))
+				.collect(Collectors.toList());
+		return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+				.thenApply(v -> futures.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+	}
+
+	private static Thread createDaemonThread(final Runnable runnable, final String name) {
+		final Thread thread = new Thread(runnable, name);
+		thread.setDaemon(true);
+		return thread;
+	}
+
+	/**
+	 * A db block and the block it is mapped to.
+	 */
+	public static class MappedBlock {
+		private final DbBlock dbBlock;
+		private final Block block;
+
+		public MappedBlock(final DbBlock dbBlock, final Block block) {
+			this.dbBlock = dbBlock;
+			this.block = block;
+		}
+
+		/**
+		 * Gets the db block.
+		 *
+		 * @return The db block.
+		 */
+		public DbBlock getDbBlock() {
+			return this.dbBlock;
+		}
+
+		/**
+		 * Gets the block.
+		 *
+		 * @return The block.
+		 */
+		public Block getBlock() {
+			return this.block;
+		}
+	}
+
+	/**
+	 * Account lookup that creates new accounts without accessing the account cache.
+	 * This is fine because db accounts contain public keys as soon as they are known.
+	 */
+	private static class DetachedAccountLookup implements AccountLookup {
+
+		@Override
+		public Account findByAddress(final Address id) {
+			return new Account(id);
+		}
+
+		@Override
+		public Account findByAddress(final Address id, final Predicate<Address> validator) {
+			return new Account(id);
+		}
+
+		@Override
+		public boolean isKnownAddress(final Address id) {
+			return false;
+		}
+	}
+}
@@ -4,7 +4,9 @@ import java.util.*;
 import java.util.function.*;
 import java.util.stream.Collectors;
 import org.nem.core.model.*;
+import org.nem.core.serialization.*;
 import org.nem.nis.cache.delta.*;
+import org.nem.nis.state.SnapshotAddressExtensions;
 
 /**
  * A simple, in-memory account cache that implements AccountLookup and provides the lookup of accounts by their addresses.
@@ -130,4 +132,29 @@ public class DefaultAccountCache implements ExtendedAccountCache<DefaultAccountC
 
 		return new DefaultAccountCache(this.addressToAccountMap.deepCopy());
 	}
+
+	// region snapshot
+
+	/**
+	 * Writes all accounts to the specified serializer so that they can be restored by readSnapshot.
+	 *
+	 * @param serializer The serializer.
+	 */
+	void writeSnapshot(final Serializer serializer) {
+		serializer.writeObjectArray("accounts", this.addressToAccountMap.streamValues()
+				.map(account -> (SerializableEntity) s -> SnapshotAddressExtensions.writeTo(s, "address", account.getAddress()))
+				.collect(Collectors.toList()));
+	}
+
+	/**
+	 * Adds all accounts previously written by writeSnapshot to this cache.
+	 *
+	 * @param deserializer The deserializer.
+	 */
+	void readSnapshot(final Deserializer deserializer) {
+		deserializer.readObjectArray("accounts", d -> SnapshotAddressExtensions.readFrom(d, "address"))
+				.forEach(address -> this.addAccountToCache(address, a -> true));
+	}
+
+	// endregion
 }
@@ -5,6 +5,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.nem.core.model.*;
 import org.nem.core.model.primitive.BlockHeight;
+import org.nem.core.serialization.*;
 import org.nem.nis.cache.delta.*;
 import org.nem.nis.state.*;
 
@@ -12,7 +13,7 @@ import org.nem.nis.state.*;
  * A repository of all mutable NEM account state.
  */
 public class DefaultAccountStateCache implements ExtendedAccountStateCache<DefaultAccountStateCache> {
-	private final MutableObjectAwareDeltaMap<Address, AccountState> addressToStateMap;
+	private final MutableObjectDeltaMap<Address, AccountState, ?> addressToStateMap;
 	private boolean isCopy = false;
 
 	// the default behavior is to return a new (non-cached) AccountState so that validators can inspect
@@ -26,11 +27,16 @@ public class DefaultAccountStateCache implements ExtendedAccountStateCache<Defau
 		this(new MutableObjectAwareDeltaMap<>(2048));
 	}
 
-	private DefaultAccountStateCache(final MutableObjectAwareDeltaMap<Address, AccountState> addressToStateMap) {
+	/**
+	 * Creates an account state cache around a (non-copied) delta map.
+	 *
+	 * @param addressToStateMap The delta map used to store the account states.
+	 */
+	public DefaultAccountStateCache(final MutableObjectDeltaMap<Address, AccountState, ?> addressToStateMap) {
 		this(addressToStateMap, AccountState::new);
 	}
 
-	private DefaultAccountStateCache(final MutableObjectAwareDeltaMap<Address, AccountState> addressToStateMap,
+	private DefaultAccountStateCache(final MutableObjectDeltaMap<Address, AccountState, ?> addressToStateMap,
 			final Function<Address, AccountState> unknownAddressHandler) {
 		this.addressToStateMap = addressToStateMap;
 		this.stateFinder = new StateFinder(this.addressToStateMap, unknownAddressHandler);
@@ -82,18 +88,19 @@ public class DefaultAccountStateCache implements ExtendedAccountStateCache<Defau
 
 	@Override
 	public void shallowCopyTo(final DefaultAccountStateCache rhs) {
-		this.addressToStateMap.shallowCopyTo(rhs.addressToStateMap);
+		// both caches are expected to use the same delta map implementation
+		this.addressToStateMap.shallowCopyToSameType(rhs.addressToStateMap);
 	}
 
 	@Override
 	public DefaultAccountStateCache copy() {
-		if (this.isCopy) {
+		if (this.isCopy && !this.addressToStateMap.supportsNestedCopies()) {
 			// TODO 20151013 J-J: add test for this case
 			throw new IllegalStateException("nested copies are currently not allowed");
 		}
 
 		// note that this is not copying at all.
-		final MutableObjectAwareDeltaMap<Address, AccountState> rebasedDeltaMap = this.addressToStateMap.rebase();
+		final MutableObjectDeltaMap<Address, AccountState, ?> rebasedDeltaMap = this.addressToStateMap.rebase();
 		final DefaultAccountStateCache copy = new DefaultAccountStateCache(rebasedDeltaMap, address -> {
 			final AccountState state = new AccountState(address);
 			rebasedDeltaMap.put(address, state);
@@ -177,4 +184,27 @@ public class DefaultAccountStateCache implements ExtendedAccountStateCache<Defau
 			return !shouldUseRemote ? state : this.findStateByAddress(remoteLink.getLinkedAddress());
 		}
 	}
+
+	// region snapshot
+
+	/**
+	 * Writes all account states to the specified serializer so that they can be restored by readSnapshot.
+	 *
+	 * @param serializer The serializer.
+	 */
+	void writeSnapshot(final Serializer serializer) {
+		serializer.writeObjectArray("states", this.addressToStateMap.readOnlyEntrySet().stream()
+				.map(e -> (SerializableEntity) e.getValue()::writeSnapshot).collect(Collectors.toList()));
+	}
+
+	/**
+	 * Adds all account states previously written by writeSnapshot to this cache.
+	 *
+	 * @param deserializer The deserializer.
+	 */
+	void readSnapshot(final Deserializer deserializer) {
+		deserializer.readObjectArray("states", AccountState::readSnapshot).forEach(state -> this.addressToStateMap.put(state.getAddress(), state));
+	}
+
+	// endregion
 }
@@ -1,8 +1,10 @@
 package org.nem.nis.cache;
 
 import java.util.*;
+import java.util.stream.Collectors;
 import org.nem.core.model.mosaic.*;
 import org.nem.core.model.primitive.*;
+import org.nem.core.serialization.*;
 import org.nem.nis.cache.delta.*;
 import org.nem.nis.state.*;
 
@@ -99,6 +101,33 @@ public class DefaultExpiredMosaicCache implements ExpiredMosaicCache, DeepCopyab
 
 	// endregion
 
+	// region snapshot
+
+	/**
+	 * Writes all expirations to the specified serializer so that they can be restored by readSnapshot.
+	 *
+	 * @param serializer The serializer.
+	 */
+	void writeSnapshot(final Serializer serializer) {
+		serializer.writeObjectArray("groups", this.map.readOnlyEntrySet().stream().map(e -> (SerializableEntity) s -> {
+			BlockHeight.writeTo(s, "height", e.getKey());
+			e.getValue().writeSnapshot(s);
+		}).collect(Collectors.toList()));
+	}
+
+	/**
+	 * Adds all expirations previously written by writeSnapshot to this cache.
+	 *
+	 * @param deserializer The deserializer.
+	 */
+	void readSnapshot(final Deserializer deserializer) {
+		deserializer.readObjectArray("groups",
+				d -> new AbstractMap.SimpleEntry<>(BlockHeight.readFrom(d, "height"), ExpiredMosaicBlockGroup.readSnapshot(d)))
+				.forEach(e -> this.map.put(e.getKey(), e.getValue()));
+	}
+
+	// endregion
+
 	// region ExpiredMosaicBlockGroup
 
 	private static class ExpiredMosaicBlockGroup implements Copyable<ExpiredMosaicBlockGroup> {
@@ -120,6 +149,27 @@ public class DefaultExpiredMosaicCache implements ExpiredMosaicCache, DeepCopyab
 			this.expiredMosaicEntries.removeIf(entry -> entry.getMosaicId().equals(mosaicId));
 		}
 
+		public void writeSnapshot(final Serializer serializer) {
+			serializer.writeObjectArray("entries", this.expiredMosaicEntries.stream().map(entry -> (SerializableEntity) s -> {
+				s.writeObject("mosaicId", entry.getMosaicId());
+				MosaicBalances.writeSnapshot(s, entry.getBalances());
+				s.writeInt("type", entry.getExpiredMosaicType().value());
+			}).collect(Collectors.toList()));
+		}
+
+		public static ExpiredMosaicBlockGroup readSnapshot(final Deserializer deserializer) {
+			final ExpiredMosaicBlockGroup group = new ExpiredMosaicBlockGroup();
+			deserializer.readObjectArray("entries", d -> {
+				final MosaicId mosaicId = d.readObject("mosaicId", MosaicId::new);
+				final MosaicBalances balances = MosaicBalances.readSnapshot(d);
+				final int type = d.readInt("type");
+				final ExpiredMosaicType expiredMosaicType = Arrays.stream(ExpiredMosaicType.values()).filter(t -> t.value() == type)
+						.findFirst().orElseThrow(() -> new IllegalArgumentException(String.format("unknown expired mosaic type %d", type)));
+				return new ExpiredMosaicEntry(mosaicId, balances, expiredMosaicType);
+			}).forEach(group::addExpiredMosaic);
+			return group;
+		}
+
 		@Override
 		public ExpiredMosaicBlockGroup copy() {
 			// notice that values are immutable, so no additional copies are needed
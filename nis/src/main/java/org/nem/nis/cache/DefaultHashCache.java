@@ -1,8 +1,11 @@
 package org.nem.nis.cache;
 
 import java.util.*;
+import java.util.stream.Collectors;
 import org.nem.core.crypto.Hash;
 import org.nem.core.model.*;
+import org.nem.core.model.primitive.BlockHeight;
+import org.nem.core.serialization.*;
 import org.nem.core.time.TimeInstant;
 import org.nem.nis.cache.delta.*;
 
@@ -168,4 +171,34 @@ public class DefaultHashCache implements HashCache, CopyableCache<DefaultHashCac
 
 		return new DefaultHashCache(this.map.deepCopy(), this.navigationalMap.deepCopy(), this.retentionTime);
 	}
+
+	// region snapshot
+
+	/**
+	 * Writes all hashes and their metadata to the specified serializer so that they can be restored by readSnapshot.
+	 *
+	 * @param serializer The serializer.
+	 */
+	void writeSnapshot(final Serializer serializer) {
+		serializer.writeObjectArray("hashes", this.map.entrySet().stream().map(e -> (SerializableEntity) s -> {
+			s.writeObject("hash", e.getKey());
+			BlockHeight.writeTo(s, "height", e.getValue().getHeight());
+			TimeInstant.writeTo(s, "timeStamp", e.getValue().getTimeStamp());
+		}).collect(Collectors.toList()));
+	}
+
+	/**
+	 * Adds all hashes previously written by writeSnapshot to this cache.
+	 *
+	 * @param deserializer The deserializer.
+	 */
+	void readSnapshot(final Deserializer deserializer) {
+		deserializer.readObjectArray("hashes", d -> {
+			final Hash hash = d.readObject("hash", Hash::new);
+			final HashMetaData metaData = new HashMetaData(BlockHeight.readFrom(d, "height"), TimeInstant.readFrom(d, "timeStamp"));
+			return new HashMetaDataPair(hash, metaData);
+		}).forEach(this::put);
+	}
+
+	// endregion
 }
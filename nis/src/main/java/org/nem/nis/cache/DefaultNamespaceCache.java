@@ -1,10 +1,12 @@
 package org.nem.nis.cache;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.nem.core.model.mosaic.MosaicConstants;
 import org.nem.core.model.namespace.*;
 import org.nem.core.model.primitive.BlockHeight;
+import org.nem.core.serialization.*;
 import org.nem.nis.NemNamespaceEntry;
 import org.nem.nis.cache.delta.*;
 import org.nem.nis.state.*;
@@ -217,6 +219,31 @@ public class DefaultNamespaceCache implements ExtendedNamespaceCache<DefaultName
 		return copy;
 	}
 
+	// region snapshot
+
+	/**
+	 * Writes all namespaces and mosaics (including historical ones) to the specified serializer so that they can be restored by
+	 * readSnapshot.
+	 *
+	 * @param serializer The serializer.
+	 */
+	void writeSnapshot(final Serializer serializer) {
+		serializer.writeObjectArray("roots", this.rootMap.readOnlyEntrySet().stream()
+				.map(e -> (SerializableEntity) e.getValue()::writeSnapshot).collect(Collectors.toList()));
+	}
+
+	/**
+	 * Adds all namespaces and mosaics previously written by writeSnapshot to this cache.
+	 *
+	 * @param deserializer The deserializer.
+	 */
+	void readSnapshot(final Deserializer deserializer) {
+		deserializer.readObjectArray("roots", d -> RootNamespaceHistory.readSnapshot(d, this.mosaicRedefinitionForkHeight))
+				.forEach(history -> this.rootMap.put(history.last().rootNamespace().getId(), history));
+	}
+
+	// endregion
+
 	// region ChildNamespace
 
 	private static class ChildNamespace {
@@ -390,6 +417,59 @@ public class DefaultNamespaceCache implements ExtendedNamespaceCache<DefaultName
 			this.namespaces.removeIf(rn -> rn.rootNamespace().getHeight().compareTo(height) < 0);
 		}
 
+		public void writeSnapshot(final Serializer serializer) {
+			// the same mosaics container can be shared by multiple roots in the history (when a root is renewed by the same owner),
+			// so write each container once and refer to it by index in order to preserve the sharing
+			final Map<Mosaics, Integer> mosaicsIndexes = new IdentityHashMap<>();
+			final List<SerializableEntity> mosaicsEntities = new ArrayList<>();
+			final Function<Mosaics, Integer> indexOf = mosaics -> mosaicsIndexes.computeIfAbsent(mosaics, m -> {
+				mosaicsEntities.add(s -> {
+					NamespaceId.writeTo(s, "namespaceId", m.getNamespaceId());
+					m.writeSnapshot(s);
+				});
+				return mosaicsEntities.size() - 1;
+			});
+
+			final List<SerializableEntity> namespaceEntities = new ArrayList<>();
+			for (final RootNamespace root : this.namespaces) {
+				final int rootMosaicsIndex = indexOf.apply(root.root().getMosaics());
+				final List<SerializableEntity> childEntities = new ArrayList<>();
+				for (final ChildNamespace child : root.children()) {
+					final int childMosaicsIndex = indexOf.apply(child.mosaics);
+					childEntities.add(s -> {
+						NamespaceId.writeTo(s, "id", child.id);
+						s.writeInt("mosaics", childMosaicsIndex);
+					});
+				}
+
+				namespaceEntities.add(s -> {
+					s.writeObject("namespace", root.rootNamespace());
+					s.writeInt("mosaics", rootMosaicsIndex);
+					s.writeObjectArray("children", childEntities);
+				});
+			}
+
+			serializer.writeObjectArray("mosaics", mosaicsEntities);
+			serializer.writeObjectArray("namespaces", namespaceEntities);
+		}
+
+		public static RootNamespaceHistory readSnapshot(final Deserializer deserializer, final BlockHeight mosaicRedefinitionForkHeight) {
+			final List<Mosaics> mosaics = deserializer.readObjectArray("mosaics", d -> {
+				final NamespaceId namespaceId = NamespaceId.readFrom(d, "namespaceId");
+				return Mosaics.readSnapshot(d, namespaceId, mosaicRedefinitionForkHeight);
+			});
+
+			final RootNamespaceHistory history = new RootNamespaceHistory(mosaicRedefinitionForkHeight);
+			deserializer.readObjectArray("namespaces", d -> {
+				final Namespace namespace = d.readObject("namespace", Namespace::new);
+				final Mosaics rootMosaics = mosaics.get(d.readInt("mosaics"));
+				final List<ChildNamespace> children = d.readObjectArray("children",
+						cd -> new ChildNamespace(NamespaceId.readFrom(cd, "id"), mosaics.get(cd.readInt("mosaics"))));
+				return new RootNamespace(namespace, rootMosaics, children, mosaicRedefinitionForkHeight);
+			}).forEach(history.namespaces::add);
+			return history;
+		}
+
 		@Override
 		public RootNamespaceHistory copy() {
 			final RootNamespaceHistory copy = new RootNamespaceHistory(this.mosaicRedefinitionForkHeight);
@@ -1,5 +1,9 @@
 package org.nem.nis.cache;
 
+import org.nem.core.crypto.Hash;
+import org.nem.core.model.primitive.*;
+import org.nem.core.serialization.*;
+
 /**
  * The central point for accessing NIS-mutable data.
  */
@@ -77,6 +81,39 @@ public class DefaultNisCache implements ReadOnlyNisCache {
 				this.transactionHashCache.deepCopy(), this.namespaceCache.deepCopy(), this.expiredMosaicCache.deepCopy());
 	}
 
+	// region snapshot
+
+	/**
+	 * Creates a snapshot of this cache that is associated with the specified block.
+	 *
+	 * @param height The block height.
+	 * @param blockHash The block hash.
+	 * @param score The block chain score at the block.
+	 * @return The snapshot.
+	 */
+	public NisCacheSnapshot createSnapshot(final BlockHeight height, final Hash blockHash, final BlockChainScore score) {
+		final byte[] cacheData = BinarySerializer.serializeToBytes(serializer -> {
+			this.accountCache.writeSnapshot(serializer);
+			this.accountStateCache.writeSnapshot(serializer);
+			this.poxFacade.writeSnapshot(serializer);
+			this.transactionHashCache.writeSnapshot(serializer);
+			this.namespaceCache.writeSnapshot(serializer);
+			this.expiredMosaicCache.writeSnapshot(serializer);
+		});
+
+		return new NisCacheSnapshot(height, blockHash, score, cacheData);
+	}
+
+	static void readSnapshot(final NisCache nisCache, final byte[] cacheData) {
+		if (!(nisCache instanceof DefaultNisCacheCopy)) {
+			throw new IllegalArgumentException("snapshots can only be restored into copies of a DefaultNisCache");
+		}
+
+		((DefaultNisCacheCopy) nisCache).readSnapshot(cacheData);
+	}
+
+	// endregion
+
 	private static class DefaultNisCacheCopy implements NisCache {
 		private final DefaultNisCache cache;
 		private final SynchronizedAccountCache accountCache;
@@ -131,6 +168,17 @@ public class DefaultNisCache implements ReadOnlyNisCache {
 			throw new IllegalStateException("nested copies are not currently allowed");
 		}
 
+		private void readSnapshot(final byte[] cacheData) {
+			// accounts are restored first so that the remaining data can look them up
+			final Deserializer deserializer = new BinaryDeserializer(cacheData, new DeserializationContext(this.accountCache));
+			this.accountCache.readSnapshot(deserializer);
+			this.accountStateCache.readSnapshot(deserializer);
+			this.poxFacade.readSnapshot(deserializer);
+			this.transactionHashCache.readSnapshot(deserializer);
+			this.namespaceCache.readSnapshot(deserializer);
+			this.expiredMosaicCache.readSnapshot(deserializer);
+		}
+
 		@Override
 		public void commit() {
 			this.accountCache.commit();
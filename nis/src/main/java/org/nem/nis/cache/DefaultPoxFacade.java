@@ -1,20 +1,27 @@
 package org.nem.nis.cache;
 
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import org.nem.core.model.*;
 import org.nem.core.model.primitive.BlockHeight;
-import org.nem.nis.pox.ImportanceCalculator;
+import org.nem.core.serialization.*;
+import org.nem.nis.pox.*;
 import org.nem.nis.pox.poi.GroupedHeight;
-import org.nem.nis.state.AccountState;
+import org.nem.nis.state.*;
 
 /**
  * A repository of all mutable NEM account state.
  */
 public class DefaultPoxFacade implements PoxFacade, CopyableCache<DefaultPoxFacade> {
+	// versions are unique across all facades, so two facades only share a version if one is a copy of the other
+	private static final AtomicLong NEXT_IMPORTANCE_INPUTS_VERSION = new AtomicLong();
+
 	private final ImportanceCalculator importanceCalculator;
+	private final ImportancePrecalculator importancePrecalculator;
 	private BlockHeight lastRecalculationHeight;
 	private int lastVectorSize;
+	private long importanceInputsVersion = NEXT_IMPORTANCE_INPUTS_VERSION.incrementAndGet();
 
 	/**
 	 * Creates a new pox facade.
@@ -22,7 +29,18 @@ public class DefaultPoxFacade implements PoxFacade, CopyableCache<DefaultPoxFaca
 	 * @param importanceCalculator The importance calculator to use.
 	 */
 	public DefaultPoxFacade(final ImportanceCalculator importanceCalculator) {
+		this(importanceCalculator, null);
+	}
+
+	/**
+	 * Creates a new pox facade that can precalculate importances.
+	 *
+	 * @param importanceCalculator The importance calculator to use.
+	 * @param importancePrecalculator The importance precalculator to use (optional).
+	 */
+	public DefaultPoxFacade(final ImportanceCalculator importanceCalculator, final ImportancePrecalculator importancePrecalculator) {
 		this.importanceCalculator = importanceCalculator;
+		this.importancePrecalculator = importancePrecalculator;
 	}
 
 	@Override
@@ -41,19 +59,47 @@ public class DefaultPoxFacade implements PoxFacade, CopyableCache<DefaultPoxFaca
 	}
 
 	private void recalculateImportancesAtGroupedHeight(final BlockHeight blockHeight, Collection<AccountState> accountStates) {
-		if (null != this.lastRecalculationHeight && 0 == this.lastRecalculationHeight.compareTo(blockHeight)) {
+		if (this.isRecalculated(blockHeight)) {
 			return;
 		}
 
-		accountStates = accountStates.stream().filter(a -> shouldIncludeInImportanceCalculation(a, blockHeight))
-				.collect(Collectors.toList());
+		accountStates = filterAccountStates(accountStates, blockHeight);
 
 		this.lastVectorSize = accountStates.size();
-		this.importanceCalculator.recalculate(blockHeight, accountStates);
+		if (null == this.importancePrecalculator
+				|| !this.importancePrecalculator.apply(blockHeight, this.importanceInputsVersion, accountStates)) {
+			this.importanceCalculator.recalculate(blockHeight, accountStates);
+		}
+
 		this.lastRecalculationHeight = blockHeight;
 	}
 
-	private static boolean shouldIncludeInImportanceCalculation(final AccountState accountState, final BlockHeight blockHeight) {
+	@Override
+	public void precalculateImportances(final BlockHeight blockHeight, final Collection<? extends ReadOnlyAccountState> accountStates) {
+		final BlockHeight groupedHeight = GroupedHeight.fromHeight(blockHeight);
+		if (null == this.importancePrecalculator || this.isRecalculated(groupedHeight)) {
+			return;
+		}
+
+		this.importancePrecalculator.precalculate(groupedHeight, this.importanceInputsVersion,
+				filterAccountStates(accountStates, groupedHeight));
+	}
+
+	@Override
+	public void markImportanceInputsChanged() {
+		this.importanceInputsVersion = NEXT_IMPORTANCE_INPUTS_VERSION.incrementAndGet();
+	}
+
+	private boolean isRecalculated(final BlockHeight blockHeight) {
+		return null != this.lastRecalculationHeight && 0 == this.lastRecalculationHeight.compareTo(blockHeight);
+	}
+
+	private static <T extends ReadOnlyAccountState> Collection<T> filterAccountStates(final Collection<T> accountStates,
+			final BlockHeight blockHeight) {
+		return accountStates.stream().filter(a -> shouldIncludeInImportanceCalculation(a, blockHeight)).collect(Collectors.toList());
+	}
+
+	private static boolean shouldIncludeInImportanceCalculation(final ReadOnlyAccountState accountState, final BlockHeight blockHeight) {
 		final Address nemesisAddress = NetworkInfos.getDefault().getNemesisBlockInfo().getAddress();
 		return null != accountState.getHeight() && accountState.getHeight().compareTo(blockHeight) <= 0
 				&& !accountState.getAddress().equals(nemesisAddress);
@@ -63,13 +109,41 @@ public class DefaultPoxFacade implements PoxFacade, CopyableCache<DefaultPoxFaca
 	public void shallowCopyTo(final DefaultPoxFacade rhs) {
 		rhs.lastRecalculationHeight = this.lastRecalculationHeight;
 		rhs.lastVectorSize = this.lastVectorSize;
+		rhs.importanceInputsVersion = this.importanceInputsVersion;
 	}
 
 	@Override
 	public DefaultPoxFacade copy() {
-		final DefaultPoxFacade copy = new DefaultPoxFacade(this.importanceCalculator);
+		final DefaultPoxFacade copy = new DefaultPoxFacade(this.importanceCalculator, this.importancePrecalculator);
 		copy.lastRecalculationHeight = this.lastRecalculationHeight;
 		copy.lastVectorSize = this.lastVectorSize;
+		copy.importanceInputsVersion = this.importanceInputsVersion;
 		return copy;
 	}
+
+	// region snapshot
+
+	/**
+	 * Writes the recalculation state to the specified serializer so that it can be restored by readSnapshot.
+	 *
+	 * @param serializer The serializer.
+	 */
+	void writeSnapshot(final Serializer serializer) {
+		serializer.writeLong("lastRecalculationHeight", null == this.lastRecalculationHeight ? 0 : this.lastRecalculationHeight.getRaw());
+		serializer.writeInt("lastVectorSize", this.lastVectorSize);
+	}
+
+	/**
+	 * Restores the recalculation state previously written by writeSnapshot.
+	 *
+	 * @param deserializer The deserializer.
+	 */
+	void readSnapshot(final Deserializer deserializer) {
+		final long rawHeight = deserializer.readLong("lastRecalculationHeight");
+		this.lastRecalculationHeight = 0 == rawHeight ? null : new BlockHeight(rawHeight);
+		this.lastVectorSize = deserializer.readInt("lastVectorSize");
+		this.markImportanceInputsChanged();
+	}
+
+	// endregion
 }
@@ -0,0 +1,95 @@
+package org.nem.nis.cache;
+
+import org.nem.core.crypto.Hash;
+import org.nem.core.model.primitive.*;
+import org.nem.core.serialization.*;
+
+/**
+ * A serialized image of a committed NIS cache that is associated with the block at which it was taken.
+ */
+public class NisCacheSnapshot implements SerializableEntity {
+	private static final int FORMAT_VERSION = 2;
+
+	private final BlockHeight height;
+	private final Hash blockHash;
+	private final BlockChainScore score;
+	private final byte[] cacheData;
+
+	/**
+	 * Creates a new snapshot.
+	 *
+	 * @param height The height of the block at which the snapshot was taken.
+	 * @param blockHash The hash of the block at which the snapshot was taken.
+	 * @param score The block chain score at the block at which the snapshot was taken.
+	 * @param cacheData The serialized cache data.
+	 */
+	public NisCacheSnapshot(final BlockHeight height, final Hash blockHash, final BlockChainScore score, final byte[] cacheData) {
+		this.height = height;
+		this.blockHash = blockHash;
+		this.score = score;
+		this.cacheData = cacheData;
+	}
+
+	/**
+	 * Deserializes a snapshot.
+	 *
+	 * @param deserializer The deserializer.
+	 */
+	public NisCacheSnapshot(final Deserializer deserializer) {
+		final int version = deserializer.readInt("version");
+		if (FORMAT_VERSION != version) {
+			throw new IllegalArgumentException(String.format("unsupported snapshot version %d", version));
+		}
+
+		this.height = BlockHeight.readFrom(deserializer, "height");
+		this.blockHash = deserializer.readObject("blockHash", Hash::new);
+		this.score = deserializer.readObject("score", BlockChainScore::new);
+		this.cacheData = deserializer.readBytes("cacheData", Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Gets the height of the block at which the snapshot was taken.
+	 *
+	 * @return The height.
+	 */
+	public BlockHeight getHeight() {
+		return this.height;
+	}
+
+	/**
+	 * Gets the hash of the block at which the snapshot was taken.
+	 *
+	 * @return The block hash.
+	 */
+	public Hash getBlockHash() {
+		return this.blockHash;
+	}
+
+	/**
+	 * Gets the block chain score at the block at which the snapshot was taken.
+	 *
+	 * @return The score.
+	 */
+	public BlockChainScore getScore() {
+		return this.score;
+	}
+
+	/**
+	 * Restores the snapshot into the specified (empty) cache. The cache must be a copy of a DefaultNisCache and its changes become visible
+	 * to the original cache when it is committed.
+	 *
+	 * @param nisCache The cache.
+	 */
+	public void restoreTo(final NisCache nisCache) {
+		DefaultNisCache.readSnapshot(nisCache, this.cacheData);
+	}
+
+	@Override
+	public void serialize(final Serializer serializer) {
+		serializer.writeInt("version", FORMAT_VERSION);
+		BlockHeight.writeTo(serializer, "height", this.height);
+		serializer.writeObject("blockHash", this.blockHash);
+		serializer.writeObject("score", this.score);
+		serializer.writeBytes("cacheData", this.cacheData, Integer.MAX_VALUE);
+	}
+}
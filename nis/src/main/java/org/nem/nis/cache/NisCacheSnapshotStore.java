@@ -0,0 +1,122 @@
+package org.nem.nis.cache;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.logging.*;
+import java.util.stream.*;
+import org.nem.core.model.primitive.BlockHeight;
+import org.nem.core.serialization.*;
+import org.nem.core.utils.ExceptionUtils;
+
+/**
+ * A directory-backed store of NIS cache snapshots. Only the most recent snapshots are kept.
+ */
+public class NisCacheSnapshotStore {
+	private static final Logger LOGGER = Logger.getLogger(NisCacheSnapshotStore.class.getName());
+	private static final String FILE_PREFIX = "nis_cache_";
+	private static final String FILE_EXTENSION = ".snapshot";
+	private static final String TEMP_FILE_EXTENSION = ".tmp";
+
+	private final File directory;
+	private final int maxSnapshots;
+
+	/**
+	 * Creates a new store.
+	 *
+	 * @param directory The directory containing the snapshot files.
+	 * @param maxSnapshots The maximum number of snapshots to keep.
+	 */
+	public NisCacheSnapshotStore(final File directory, final int maxSnapshots) {
+		if (maxSnapshots < 1) {
+			throw new IllegalArgumentException("at least one snapshot must be kept");
+		}
+
+		this.directory = directory;
+		this.maxSnapshots = maxSnapshots;
+	}
+
+	/**
+	 * Gets the heights of all stored snapshots ordered from newest to oldest.
+	 *
+	 * @return The snapshot heights.
+	 */
+	public List<BlockHeight> getHeights() {
+		final String[] fileNames = this.directory.list();
+		if (null == fileNames) {
+			return Collections.emptyList();
+		}
+
+		return Arrays.stream(fileNames).map(NisCacheSnapshotStore::parseHeight).filter(Objects::nonNull)
+				.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+	}
+
+	/**
+	 * Loads the snapshot at the specified height.
+	 *
+	 * @param height The snapshot height.
+	 * @return The snapshot or null if it is not available or cannot be read.
+	 */
+	public NisCacheSnapshot load(final BlockHeight height) {
+		final File file = this.getFile(height);
+		if (!file.exists()) {
+			return null;
+		}
+
+		try {
+			final byte[] bytes = Files.readAllBytes(file.toPath());
+			return new NisCacheSnapshot(new BinaryDeserializer(bytes, new DeserializationContext(null)));
+		} catch (final IOException | RuntimeException e) {
+			LOGGER.log(Level.WARNING, String.format("unable to read cache snapshot at height %s", height), e);
+			return null;
+		}
+	}
+
+	/**
+	 * Saves a snapshot and removes the oldest snapshots that are no longer needed.
+	 *
+	 * @param snapshot The snapshot.
+	 */
+	public void save(final NisCacheSnapshot snapshot) {
+		ExceptionUtils.propagateVoid(() -> {
+			Files.createDirectories(this.directory.toPath());
+
+			// write to a temporary file first so that a partially written snapshot is never picked up
+			final Path tempPath = new File(this.directory, getFileName(snapshot.getHeight()) + TEMP_FILE_EXTENSION).toPath();
+			Files.write(tempPath, BinarySerializer.serializeToBytes(snapshot));
+			Files.move(tempPath, this.getFile(snapshot.getHeight()).toPath(), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		});
+
+		this.getHeights().stream().skip(this.maxSnapshots).forEach(this::remove);
+	}
+
+	/**
+	 * Removes the snapshot at the specified height.
+	 *
+	 * @param height The snapshot height.
+	 */
+	public void remove(final BlockHeight height) {
+		ExceptionUtils.propagateVoid(() -> Files.deleteIfExists(this.getFile(height).toPath()));
+	}
+
+	private File getFile(final BlockHeight height) {
+		return new File(this.directory, getFileName(height));
+	}
+
+	private static String getFileName(final BlockHeight height) {
+		return FILE_PREFIX + height.getRaw() + FILE_EXTENSION;
+	}
+
+	private static BlockHeight parseHeight(final String fileName) {
+		if (!fileName.startsWith(FILE_PREFIX) || !fileName.endsWith(FILE_EXTENSION)) {
+			return null;
+		}
+
+		try {
+			return new BlockHeight(Long.parseLong(fileName.substring(FILE_PREFIX.length(), fileName.length() - FILE_EXTENSION.length())));
+		} catch (final IllegalArgumentException e) {
+			return null;
+		}
+	}
+}
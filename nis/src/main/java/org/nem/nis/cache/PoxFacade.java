@@ -2,7 +2,7 @@ package org.nem.nis.cache;
 
 import java.util.Collection;
 import org.nem.core.model.primitive.BlockHeight;
-import org.nem.nis.state.AccountState;
+import org.nem.nis.state.*;
 
 /**
  * A mutable facade on top of pox.
@@ -16,4 +16,19 @@ public interface PoxFacade extends ReadOnlyPoxFacade {
 	 * @param accountStates The account states.
 	 */
 	void recalculateImportances(final BlockHeight blockHeight, final Collection<AccountState> accountStates);
+
+	/**
+	 * Starts calculating the importance of all accounts at the specified block height ahead of time.
+	 * The importances are not changed until recalculateImportances is called.
+	 *
+	 * @param blockHeight The block height.
+	 * @param accountStates The account states.
+	 */
+	void precalculateImportances(final BlockHeight blockHeight, final Collection<? extends ReadOnlyAccountState> accountStates);
+
+	/**
+	 * Marks the importance inputs (vested balances, outlinks and accounts) as changed, so that importances precalculated from the previous
+	 * inputs are no longer used.
+	 */
+	void markImportanceInputsChanged();
 }
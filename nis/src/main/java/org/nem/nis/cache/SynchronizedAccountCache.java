@@ -1,5 +1,7 @@
 package org.nem.nis.cache;
 
+import org.nem.core.serialization.*;
+
 /**
  * A synchronized AccountCache implementation.
  */
@@ -43,4 +45,20 @@ public class SynchronizedAccountCache extends BasicSynchronizedAccountCache impl
 			return new SynchronizedAccountCache(this.accountCache.deepCopy());
 		}
 	}
+
+	// region snapshot
+
+	void writeSnapshot(final Serializer serializer) {
+		synchronized (this.lock) {
+			this.accountCache.writeSnapshot(serializer);
+		}
+	}
+
+	void readSnapshot(final Deserializer deserializer) {
+		synchronized (this.lock) {
+			this.accountCache.readSnapshot(deserializer);
+		}
+	}
+
+	// endregion
 }
@@ -1,5 +1,7 @@
 package org.nem.nis.cache;
 
+import org.nem.core.serialization.*;
+
 /**
  * A synchronized AccountStateCache implementation.
  */
@@ -44,4 +46,20 @@ public class SynchronizedAccountStateCache extends BasicSynchronizedAccountState
 			return new SynchronizedAccountStateCache(this.accountStateCache.deepCopy());
 		}
 	}
+
+	// region snapshot
+
+	void writeSnapshot(final Serializer serializer) {
+		synchronized (this.lock) {
+			this.accountStateCache.writeSnapshot(serializer);
+		}
+	}
+
+	void readSnapshot(final Deserializer deserializer) {
+		synchronized (this.lock) {
+			this.accountStateCache.readSnapshot(deserializer);
+		}
+	}
+
+	// endregion
 }
@@ -3,6 +3,7 @@ package org.nem.nis.cache;
 import java.util.*;
 import org.nem.core.model.mosaic.*;
 import org.nem.core.model.primitive.*;
+import org.nem.core.serialization.*;
 import org.nem.nis.state.*;
 
 /**
@@ -88,4 +89,20 @@ public class SynchronizedExpiredMosaicCache
 			this.cache.commit();
 		}
 	}
+
+	// region snapshot
+
+	void writeSnapshot(final Serializer serializer) {
+		synchronized (this.lock) {
+			this.cache.writeSnapshot(serializer);
+		}
+	}
+
+	void readSnapshot(final Deserializer deserializer) {
+		synchronized (this.lock) {
+			this.cache.readSnapshot(deserializer);
+		}
+	}
+
+	// endregion
 }
@@ -3,6 +3,7 @@ package org.nem.nis.cache;
 import java.util.*;
 import org.nem.core.crypto.Hash;
 import org.nem.core.model.*;
+import org.nem.core.serialization.*;
 import org.nem.core.time.TimeInstant;
 
 /**
@@ -132,4 +133,20 @@ public class SynchronizedHashCache implements HashCache, CopyableCache<Synchroni
 			return new SynchronizedHashCache(this.cache.deepCopy());
 		}
 	}
+
+	// region snapshot
+
+	void writeSnapshot(final Serializer serializer) {
+		synchronized (this.lock) {
+			this.cache.writeSnapshot(serializer);
+		}
+	}
+
+	void readSnapshot(final Deserializer deserializer) {
+		synchronized (this.lock) {
+			this.cache.readSnapshot(deserializer);
+		}
+	}
+
+	// endregion
 }
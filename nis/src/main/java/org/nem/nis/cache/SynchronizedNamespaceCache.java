@@ -3,6 +3,7 @@ package org.nem.nis.cache;
 import java.util.Collection;
 import org.nem.core.model.namespace.*;
 import org.nem.core.model.primitive.BlockHeight;
+import org.nem.core.serialization.*;
 import org.nem.nis.state.NamespaceEntry;
 
 /**
@@ -117,4 +118,20 @@ public class SynchronizedNamespaceCache implements ExtendedNamespaceCache<Synchr
 			return new SynchronizedNamespaceCache(this.cache.deepCopy());
 		}
 	}
+
+	// region snapshot
+
+	void writeSnapshot(final Serializer serializer) {
+		synchronized (this.lock) {
+			this.cache.writeSnapshot(serializer);
+		}
+	}
+
+	void readSnapshot(final Deserializer deserializer) {
+		synchronized (this.lock) {
+			this.cache.readSnapshot(deserializer);
+		}
+	}
+
+	// endregion
 }
@@ -2,7 +2,8 @@ package org.nem.nis.cache;
 
 import java.util.Collection;
 import org.nem.core.model.primitive.BlockHeight;
-import org.nem.nis.state.AccountState;
+import org.nem.core.serialization.*;
+import org.nem.nis.state.*;
 
 /**
  * A synchronized PoxFacade implementation.
@@ -41,6 +42,20 @@ public class SynchronizedPoxFacade implements PoxFacade, CopyableCache<Synchroni
 		}
 	}
 
+	@Override
+	public void precalculateImportances(final BlockHeight blockHeight, final Collection<? extends ReadOnlyAccountState> accountStates) {
+		synchronized (this.lock) {
+			this.poxFacade.precalculateImportances(blockHeight, accountStates);
+		}
+	}
+
+	@Override
+	public void markImportanceInputsChanged() {
+		synchronized (this.lock) {
+			this.poxFacade.markImportanceInputsChanged();
+		}
+	}
+
 	// region CopyableCache
 
 	@Override
@@ -58,4 +73,20 @@ public class SynchronizedPoxFacade implements PoxFacade, CopyableCache<Synchroni
 	}
 
 	// endregion
+
+	// region snapshot
+
+	void writeSnapshot(final Serializer serializer) {
+		synchronized (this.lock) {
+			this.poxFacade.writeSnapshot(serializer);
+		}
+	}
+
+	void readSnapshot(final Deserializer deserializer) {
+		synchronized (this.lock) {
+			this.poxFacade.readSnapshot(deserializer);
+		}
+	}
+
+	// endregion
 }
@@ -11,8 +11,7 @@ import java.util.stream.*;
  */
 public class MutableObjectAwareDeltaMap<TKey, TValue extends Copyable<TValue>>
 		implements
-			DeltaMap<TKey, TValue>,
-			CopyableDeltaMap<MutableObjectAwareDeltaMap<TKey, TValue>> {
+			MutableObjectDeltaMap<TKey, TValue, MutableObjectAwareDeltaMap<TKey, TValue>> {
 	private final Map<TKey, TValue> originalValues;
 	private final Map<TKey, TValue> copiedValues;
 	private final Map<TKey, TValue> addedValues;
@@ -223,11 +222,9 @@ public class MutableObjectAwareDeltaMap<TKey, TValue extends Copyable<TValue>>
 
 	// endregion
 
-	/**
-	 * Gets the entry set of the delta map without copying. This should only be used by methods that return read only data.
-	 *
-	 * @return The entry set.
-	 */
+	// region MutableObjectDeltaMap
+
+	@Override
 	public Set<Map.Entry<TKey, TValue>> readOnlyEntrySet() {
 		final Set<Map.Entry<TKey, TValue>> entrySet = new HashSet<>();
 		entrySet.addAll(this.copiedValues.entrySet());
@@ -239,4 +236,26 @@ public class MutableObjectAwareDeltaMap<TKey, TValue extends Copyable<TValue>>
 						.collect(Collectors.toList()));
 		return entrySet;
 	}
+
+	@Override
+	public boolean supportsNestedCopies() {
+		return false;
+	}
+
+	@Override
+	public void shallowCopyToSameType(final MutableObjectDeltaMap<TKey, TValue, ?> rhs) {
+		rhs.shallowCopyFrom(this);
+	}
+
+	@Override
+	public void shallowCopyFrom(final MutableObjectAwareDeltaMap<TKey, TValue> source) {
+		source.shallowCopyTo(this);
+	}
+
+	@Override
+	public void shallowCopyFrom(final PersistentDeltaMap<TKey, TValue> source) {
+		throw new IllegalArgumentException("cannot shallow copy a PersistentDeltaMap to a MutableObjectAwareDeltaMap");
+	}
+
+	// endregion
 }
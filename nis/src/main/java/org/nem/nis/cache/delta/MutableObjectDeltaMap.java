@@ -0,0 +1,54 @@
+package org.nem.nis.cache.delta;
+
+import java.util.*;
+
+/**
+ * A copyable delta map for storing mutable objects.
+ *
+ * @param <TKey> The key type.
+ * @param <TValue> The value type.
+ * @param <TDerived> The derived map type.
+ */
+public interface MutableObjectDeltaMap<TKey, TValue extends Copyable<TValue>, TDerived extends MutableObjectDeltaMap<TKey, TValue, TDerived>>
+		extends
+			DeltaMap<TKey, TValue>,
+			CopyableDeltaMap<TDerived> {
+
+	/**
+	 * Gets the entry set of the delta map without copying. This should only be used by methods that return read only data.
+	 *
+	 * @return The entry set.
+	 */
+	Set<Map.Entry<TKey, TValue>> readOnlyEntrySet();
+
+	/**
+	 * Gets a value indicating whether or not a rebased copy of this map can be rebased again.
+	 *
+	 * @return true if nested copies are supported.
+	 */
+	boolean supportsNestedCopies();
+
+	/**
+	 * Shallow copies this map to another map that has the same implementation but is not known to have it at compile time.
+	 *
+	 * @param rhs The other map.
+	 * @throws IllegalArgumentException If the other map has a different implementation.
+	 */
+	void shallowCopyToSameType(final MutableObjectDeltaMap<TKey, TValue, ?> rhs);
+
+	/**
+	 * Shallow copies a mutable object aware delta map to this map.
+	 *
+	 * @param source The source map.
+	 * @throws IllegalArgumentException If this map has a different implementation.
+	 */
+	void shallowCopyFrom(final MutableObjectAwareDeltaMap<TKey, TValue> source);
+
+	/**
+	 * Shallow copies a persistent delta map to this map.
+	 *
+	 * @param source The source map.
+	 * @throws IllegalArgumentException If this map has a different implementation.
+	 */
+	void shallowCopyFrom(final PersistentDeltaMap<TKey, TValue> source);
+}
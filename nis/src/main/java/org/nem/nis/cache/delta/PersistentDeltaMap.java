@@ -0,0 +1,223 @@
+package org.nem.nis.cache.delta;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * A delta map for storing mutable objects that is backed by a persistent hash map.
+ * <br>
+ * In contrast to MutableObjectAwareDeltaMap, pending changes are not tracked in separate maps. Instead, a rebased map starts with the
+ * (shared) persistent map of its parent and modifies its own version of it. Therefore rebasing is O(1), committing is a pointer swap
+ * (unless the parent has been changed in the meantime) and rebased maps can be rebased again. Values are still copied the first time
+ * they are retrieved from a rebased map so that changes to them do not leak into the parent.
+ *
+ * @param <TKey> The key type.
+ * @param <TValue> The value type.
+ */
+public class PersistentDeltaMap<TKey, TValue extends Copyable<TValue>>
+		implements
+			MutableObjectDeltaMap<TKey, TValue, PersistentDeltaMap<TKey, TValue>> {
+	private final PersistentDeltaMap<TKey, TValue> parent;
+	private PersistentHashMap<TKey, TValue> baseValues;
+	private PersistentHashMap<TKey, TValue> values;
+
+	// keys of values that were copied, added or removed since the last commit (these values are owned by this map)
+	private final Set<TKey> changedKeys = new HashSet<>();
+
+	/**
+	 * Creates a new persistent delta map.
+	 */
+	public PersistentDeltaMap() {
+		this(null, PersistentHashMap.empty());
+	}
+
+	private PersistentDeltaMap(final PersistentDeltaMap<TKey, TValue> parent, final PersistentHashMap<TKey, TValue> values) {
+		this.parent = parent;
+		this.baseValues = values;
+		this.values = values;
+	}
+
+	private boolean isMutable() {
+		return null != this.parent;
+	}
+
+	private void checkMutable(final String operation) {
+		if (!this.isMutable()) {
+			throw new IllegalStateException(String.format("%s called on immutable PersistentDeltaMap", operation));
+		}
+	}
+
+	// region DeltaMap
+
+	@Override
+	public int size() {
+		return this.values.size();
+	}
+
+	@Override
+	public void clear() {
+		this.values.forEach(entry -> this.changedKeys.add(entry.getKey()));
+		this.values = PersistentHashMap.empty();
+	}
+
+	@Override
+	public TValue get(final TKey key) {
+		final TValue value = this.values.get(key);
+		if (null == value || !this.isMutable() || this.changedKeys.contains(key)) {
+			return value;
+		}
+
+		final TValue copy = value.copy();
+		this.values = this.values.put(key, copy);
+		this.changedKeys.add(key);
+		return copy;
+	}
+
+	@Override
+	public TValue getOrDefault(final TKey key, final TValue defaultValue) {
+		final TValue value = this.get(key);
+		return null != value ? value : defaultValue;
+	}
+
+	@Override
+	public void put(final TKey key, final TValue value) {
+		this.checkMutable("put");
+		this.values = this.values.put(key, value);
+		this.changedKeys.add(key);
+	}
+
+	@Override
+	public void remove(final TKey key) {
+		this.checkMutable("remove");
+		if (this.values.containsKey(key)) {
+			this.values = this.values.remove(key);
+			this.changedKeys.add(key);
+		}
+	}
+
+	@Override
+	public boolean containsKey(final TKey key) {
+		return this.values.containsKey(key);
+	}
+
+	@Override
+	public Set<Map.Entry<TKey, TValue>> entrySet() {
+		this.checkMutable("entrySet");
+		this.copyAll();
+
+		final Map<TKey, TValue> map = new HashMap<>(this.size());
+		this.values.forEach(entry -> map.put(entry.getKey(), entry.getValue()));
+		return map.entrySet();
+	}
+
+	@Override
+	public Stream<TValue> streamValues() {
+		this.checkMutable("streamValues");
+		this.copyAll();
+
+		final List<TValue> values = new ArrayList<>(this.size());
+		this.values.forEach(entry -> values.add(entry.getValue()));
+		return values.stream();
+	}
+
+	private void copyAll() {
+		final List<TKey> keys = new ArrayList<>();
+		this.values.forEach(entry -> {
+			if (!this.changedKeys.contains(entry.getKey())) {
+				keys.add(entry.getKey());
+			}
+		});
+
+		keys.forEach(this::get);
+	}
+
+	// endregion
+
+	// region MutableObjectDeltaMap
+
+	@Override
+	public Set<Map.Entry<TKey, TValue>> readOnlyEntrySet() {
+		final Set<Map.Entry<TKey, TValue>> entrySet = new HashSet<>();
+		this.values.forEach(entrySet::add);
+		return entrySet;
+	}
+
+	@Override
+	public boolean supportsNestedCopies() {
+		return true;
+	}
+
+	@Override
+	public void shallowCopyToSameType(final MutableObjectDeltaMap<TKey, TValue, ?> rhs) {
+		rhs.shallowCopyFrom(this);
+	}
+
+	@Override
+	public void shallowCopyFrom(final PersistentDeltaMap<TKey, TValue> source) {
+		source.shallowCopyTo(this);
+	}
+
+	@Override
+	public void shallowCopyFrom(final MutableObjectAwareDeltaMap<TKey, TValue> source) {
+		throw new IllegalArgumentException("cannot shallow copy a MutableObjectAwareDeltaMap to a PersistentDeltaMap");
+	}
+
+	// endregion
+
+	// region CopyableDeltaMap
+
+	@Override
+	public void commit() {
+		this.checkMutable("commit");
+
+		if (this.parent.values == this.baseValues) {
+			this.parent.values = this.values;
+		} else {
+			// the parent has changed since this map was rebased, so only the changes of this map can be applied
+			PersistentHashMap<TKey, TValue> parentValues = this.parent.values;
+			for (final TKey key : this.changedKeys) {
+				final TValue value = this.values.get(key);
+				parentValues = null == value ? parentValues.remove(key) : parentValues.put(key, value);
+			}
+
+			this.parent.values = parentValues;
+			this.values = parentValues;
+		}
+
+		if (this.parent.isMutable()) {
+			// the committed values are owned by the parent now
+			this.parent.changedKeys.addAll(this.changedKeys);
+		}
+
+		this.baseValues = this.values;
+		this.changedKeys.clear();
+	}
+
+	@Override
+	public void shallowCopyTo(final PersistentDeltaMap<TKey, TValue> copy) {
+		copy.baseValues = this.baseValues;
+		copy.values = this.values;
+		copy.changedKeys.clear();
+		copy.changedKeys.addAll(this.changedKeys);
+	}
+
+	@Override
+	public PersistentDeltaMap<TKey, TValue> rebase() {
+		return new PersistentDeltaMap<>(this, this.values);
+	}
+
+	@Override
+	public PersistentDeltaMap<TKey, TValue> deepCopy() {
+		final List<Map.Entry<TKey, TValue>> entries = new ArrayList<>(this.size());
+		this.values.forEach(entries::add);
+
+		PersistentHashMap<TKey, TValue> values = PersistentHashMap.empty();
+		for (final Map.Entry<TKey, TValue> entry : entries) {
+			values = values.put(entry.getKey(), entry.getValue().copy());
+		}
+
+		return new PersistentDeltaMap<>(null, values);
+	}
+
+	// endregion
+}
@@ -0,0 +1,387 @@
+package org.nem.nis.cache.delta;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * An immutable hash map (hash array mapped trie) that shares structure between versions.
+ * <br>
+ * Each modification returns a new map that only copies the nodes on the path to the modified entry (at most seven nodes), so keeping
+ * older versions around is cheap.
+ *
+ * @param <TKey> The key type.
+ * @param <TValue> The value type.
+ */
+public class PersistentHashMap<TKey, TValue> {
+	private static final int BITS_PER_LEVEL = 5;
+	private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+
+	@SuppressWarnings("rawtypes")
+	private static final PersistentHashMap EMPTY = new PersistentHashMap<>(null, 0);
+
+	private final Node<TKey, TValue> root;
+	private final int size;
+
+	private PersistentHashMap(final Node<TKey, TValue> root, final int size) {
+		this.root = root;
+		this.size = size;
+	}
+
+	/**
+	 * Gets an empty map.
+	 *
+	 * @param <TKey> The key type.
+	 * @param <TValue> The value type.
+	 * @return The empty map.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <TKey, TValue> PersistentHashMap<TKey, TValue> empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Gets the number of entries in the map.
+	 *
+	 * @return The size.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Gets the value associated with a key.
+	 *
+	 * @param key The key.
+	 * @return The value or null if the key is unknown.
+	 */
+	public TValue get(final TKey key) {
+		final Entry<TKey, TValue> entry = this.findEntry(key);
+		return null == entry ? null : entry.value;
+	}
+
+	/**
+	 * Gets a value indicating whether or not the map contains a key.
+	 *
+	 * @param key The key.
+	 * @return true if the map contains the key.
+	 */
+	public boolean containsKey(final TKey key) {
+		return null != this.findEntry(key);
+	}
+
+	private Entry<TKey, TValue> findEntry(final TKey key) {
+		return null == this.root ? null : this.root.find(key, hash(key), 0);
+	}
+
+	/**
+	 * Creates a map that additionally associates a value with a key.
+	 *
+	 * @param key The key.
+	 * @param value The value.
+	 * @return The new map.
+	 */
+	public PersistentHashMap<TKey, TValue> put(final TKey key, final TValue value) {
+		final Entry<TKey, TValue> entry = new Entry<>(key, value, hash(key));
+		if (null == this.root) {
+			return new PersistentHashMap<>(BitmapNode.create(entry, 0), 1);
+		}
+
+		final boolean isNewKey = null == this.root.find(key, entry.hash, 0);
+		final Node<TKey, TValue> root = this.root.put(entry, 0);
+		return root == this.root ? this : new PersistentHashMap<>(root, isNewKey ? this.size + 1 : this.size);
+	}
+
+	/**
+	 * Creates a map that does not contain a key.
+	 *
+	 * @param key The key.
+	 * @return The new map.
+	 */
+	public PersistentHashMap<TKey, TValue> remove(final TKey key) {
+		if (!this.containsKey(key)) {
+			return this;
+		}
+
+		final Object root = this.root.remove(key, hash(key), 0);
+		if (null == root) {
+			return empty();
+		}
+
+		return new PersistentHashMap<>(toNode(root, 0), this.size - 1);
+	}
+
+	/**
+	 * Performs an action for each entry in the map.
+	 *
+	 * @param action The action.
+	 */
+	public void forEach(final Consumer<Map.Entry<TKey, TValue>> action) {
+		if (null != this.root) {
+			this.root.forEach(action);
+		}
+	}
+
+	private static int hash(final Object key) {
+		final int hash = key.hashCode();
+		return hash ^ (hash >>> 16);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <TKey, TValue> Node<TKey, TValue> toNode(final Object slot, final int shift) {
+		return slot instanceof Node ? (Node<TKey, TValue>) slot : BitmapNode.create((Entry<TKey, TValue>) slot, shift);
+	}
+
+	private static class Entry<TKey, TValue> implements Map.Entry<TKey, TValue> {
+		private final TKey key;
+		private final TValue value;
+		private final int hash;
+
+		public Entry(final TKey key, final TValue value, final int hash) {
+			this.key = key;
+			this.value = value;
+			this.hash = hash;
+		}
+
+		@Override
+		public TKey getKey() {
+			return this.key;
+		}
+
+		@Override
+		public TValue getValue() {
+			return this.value;
+		}
+
+		@Override
+		public TValue setValue(final TValue value) {
+			throw new UnsupportedOperationException("entries of persistent maps cannot be modified");
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(this.key) ^ Objects.hashCode(this.value);
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (!(obj instanceof Map.Entry)) {
+				return false;
+			}
+
+			final Map.Entry<?, ?> rhs = (Map.Entry<?, ?>) obj;
+			return Objects.equals(this.key, rhs.getKey()) && Objects.equals(this.value, rhs.getValue());
+		}
+	}
+
+	private interface Node<TKey, TValue> {
+
+		Entry<TKey, TValue> find(final TKey key, final int hash, final int shift);
+
+		Node<TKey, TValue> put(final Entry<TKey, TValue> entry, final int shift);
+
+		// returns null if the node is empty after the removal, an entry if only a single entry is left or the new node otherwise
+		Object remove(final TKey key, final int hash, final int shift);
+
+		void forEach(final Consumer<Map.Entry<TKey, TValue>> action);
+	}
+
+	private static class BitmapNode<TKey, TValue> implements Node<TKey, TValue> {
+		private final int bitmap;
+		private final Object[] slots; // each slot is either an entry or a child node
+
+		private BitmapNode(final int bitmap, final Object[] slots) {
+			this.bitmap = bitmap;
+			this.slots = slots;
+		}
+
+		public static <TKey, TValue> BitmapNode<TKey, TValue> create(final Entry<TKey, TValue> entry, final int shift) {
+			return new BitmapNode<>(bit(entry.hash, shift), new Object[]{
+					entry
+			});
+		}
+
+		private static <TKey, TValue> Node<TKey, TValue> create(final Entry<TKey, TValue> entry1, final Entry<TKey, TValue> entry2,
+				final int shift) {
+			if (entry1.hash == entry2.hash) {
+				return new CollisionNode<>(entry1.hash, Arrays.asList(entry1, entry2));
+			}
+
+			final int bit1 = bit(entry1.hash, shift);
+			final int bit2 = bit(entry2.hash, shift);
+			if (bit1 == bit2) {
+				return new BitmapNode<>(bit1, new Object[]{
+						create(entry1, entry2, shift + BITS_PER_LEVEL)
+				});
+			}
+
+			return new BitmapNode<>(bit1 | bit2, Integer.compareUnsigned(bit1, bit2) < 0 ? new Object[]{
+					entry1, entry2
+			} : new Object[]{
+					entry2, entry1
+			});
+		}
+
+		private static int bit(final int hash, final int shift) {
+			return 1 << ((hash >>> shift) & LEVEL_MASK);
+		}
+
+		private int index(final int bit) {
+			return Integer.bitCount(this.bitmap & (bit - 1));
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Entry<TKey, TValue> find(final TKey key, final int hash, final int shift) {
+			final int bit = bit(hash, shift);
+			if (0 == (this.bitmap & bit)) {
+				return null;
+			}
+
+			final Object slot = this.slots[this.index(bit)];
+			if (slot instanceof Node) {
+				return ((Node<TKey, TValue>) slot).find(key, hash, shift + BITS_PER_LEVEL);
+			}
+
+			final Entry<TKey, TValue> entry = (Entry<TKey, TValue>) slot;
+			return hash == entry.hash && key.equals(entry.key) ? entry : null;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Node<TKey, TValue> put(final Entry<TKey, TValue> entry, final int shift) {
+			final int bit = bit(entry.hash, shift);
+			final int index = this.index(bit);
+			if (0 == (this.bitmap & bit)) {
+				final Object[] slots = new Object[this.slots.length + 1];
+				System.arraycopy(this.slots, 0, slots, 0, index);
+				slots[index] = entry;
+				System.arraycopy(this.slots, index, slots, index + 1, this.slots.length - index);
+				return new BitmapNode<>(this.bitmap | bit, slots);
+			}
+
+			final Object slot = this.slots[index];
+			final Object newSlot;
+			if (slot instanceof Node) {
+				final Node<TKey, TValue> child = (Node<TKey, TValue>) slot;
+				newSlot = child.put(entry, shift + BITS_PER_LEVEL);
+			} else {
+				final Entry<TKey, TValue> existingEntry = (Entry<TKey, TValue>) slot;
+				if (existingEntry.hash == entry.hash && existingEntry.key.equals(entry.key)) {
+					newSlot = existingEntry.value == entry.value ? existingEntry : entry;
+				} else {
+					newSlot = create(existingEntry, entry, shift + BITS_PER_LEVEL);
+				}
+			}
+
+			return newSlot == slot ? this : this.replace(index, newSlot);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Object remove(final TKey key, final int hash, final int shift) {
+			final int bit = bit(hash, shift);
+			if (0 == (this.bitmap & bit)) {
+				return this;
+			}
+
+			final int index = this.index(bit);
+			final Object slot = this.slots[index];
+			final Object newSlot;
+			if (slot instanceof Node) {
+				newSlot = ((Node<TKey, TValue>) slot).remove(key, hash, shift + BITS_PER_LEVEL);
+				if (newSlot == slot) {
+					return this;
+				}
+			} else {
+				final Entry<TKey, TValue> entry = (Entry<TKey, TValue>) slot;
+				if (hash != entry.hash || !key.equals(entry.key)) {
+					return this;
+				}
+
+				newSlot = null;
+			}
+
+			if (null != newSlot) {
+				// a single remaining entry of a child node is inlined
+				return 1 == this.slots.length && !(newSlot instanceof Node) ? newSlot : this.replace(index, newSlot);
+			}
+
+			if (1 == this.slots.length) {
+				return null;
+			}
+
+			if (2 == this.slots.length && !(this.slots[1 - index] instanceof Node)) {
+				return this.slots[1 - index];
+			}
+
+			final Object[] slots = new Object[this.slots.length - 1];
+			System.arraycopy(this.slots, 0, slots, 0, index);
+			System.arraycopy(this.slots, index + 1, slots, index, this.slots.length - index - 1);
+			return new BitmapNode<TKey, TValue>(this.bitmap & ~bit, slots);
+		}
+
+		private BitmapNode<TKey, TValue> replace(final int index, final Object slot) {
+			final Object[] slots = this.slots.clone();
+			slots[index] = slot;
+			return new BitmapNode<>(this.bitmap, slots);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public void forEach(final Consumer<Map.Entry<TKey, TValue>> action) {
+			for (final Object slot : this.slots) {
+				if (slot instanceof Node) {
+					((Node<TKey, TValue>) slot).forEach(action);
+				} else {
+					action.accept((Entry<TKey, TValue>) slot);
+				}
+			}
+		}
+	}
+
+	private static class CollisionNode<TKey, TValue> implements Node<TKey, TValue> {
+		private final int hash;
+		private final List<Entry<TKey, TValue>> entries;
+
+		public CollisionNode(final int hash, final List<Entry<TKey, TValue>> entries) {
+			this.hash = hash;
+			this.entries = entries;
+		}
+
+		@Override
+		public Entry<TKey, TValue> find(final TKey key, final int hash, final int shift) {
+			return this.entries.stream().filter(e -> e.key.equals(key)).findFirst().orElse(null);
+		}
+
+		@Override
+		public Node<TKey, TValue> put(final Entry<TKey, TValue> entry, final int shift) {
+			if (this.hash != entry.hash) {
+				// the hashes differ at a lower level, so this node needs to be pushed down
+				final Node<TKey, TValue> node = new BitmapNode<TKey, TValue>(BitmapNode.bit(this.hash, shift), new Object[]{
+						this
+				});
+				return node.put(entry, shift);
+			}
+
+			final List<Entry<TKey, TValue>> entries = new ArrayList<>(this.entries);
+			entries.removeIf(e -> e.key.equals(entry.key));
+			entries.add(entry);
+			return new CollisionNode<>(this.hash, entries);
+		}
+
+		@Override
+		public Object remove(final TKey key, final int hash, final int shift) {
+			final List<Entry<TKey, TValue>> entries = new ArrayList<>(this.entries);
+			if (!entries.removeIf(e -> e.key.equals(key))) {
+				return this;
+			}
+
+			return 1 == entries.size() ? entries.get(0) : new CollisionNode<>(this.hash, entries);
+		}
+
+		@Override
+		public void forEach(final Consumer<Map.Entry<TKey, TValue>> action) {
+			this.entries.forEach(action);
+		}
+	}
+}
@@ -29,16 +29,18 @@ public class AccountInfoController {
 	private final AccountMetaDataFactory accountMetaDataFactory;
 	private final ReadOnlyAccountStateCache accountStateCache;
 	private final NisConfiguration nisConfiguration;
+	private final HistoricalAccountDataStore historicalAccountDataStore;
 
 	@Autowired(required = true)
 	AccountInfoController(final BlockChainLastBlockLayer blockChainLastBlockLayer, final AccountInfoFactory accountInfoFactory,
 			final AccountMetaDataFactory accountMetaDataFactory, final ReadOnlyAccountStateCache accountStateCache,
-			final NisConfiguration nisConfiguration) {
+			final NisConfiguration nisConfiguration, final HistoricalAccountDataStore historicalAccountDataStore) {
 		this.blockChainLastBlockLayer = blockChainLastBlockLayer;
 		this.accountInfoFactory = accountInfoFactory;
 		this.accountMetaDataFactory = accountMetaDataFactory;
 		this.accountStateCache = accountStateCache;
 		this.nisConfiguration = nisConfiguration;
+		this.historicalAccountDataStore = historicalAccountDataStore;
 	}
 
 	/**
@@ -122,13 +124,8 @@ public class AccountInfoController {
 		}
 
 		final AccountHistoricalDataRequest request = builder.build();
-		final long endHeight = Math.min(request.getEndHeight().getRaw(), this.blockChainLastBlockLayer.getLastBlockHeight().getRaw());
-		final List<AccountHistoricalDataViewModel> views = new ArrayList<>();
-		for (long i = request.getStartHeight().getRaw(); i <= endHeight; i += request.getIncrement()) {
-			views.add(this.getAccountHistoricalData(request.getAddress(), new BlockHeight(i)));
-		}
-
-		return new SerializableList<>(views);
+		final List<BlockHeight> heights = this.getHeights(request.getStartHeight(), request.getEndHeight(), request.getIncrement());
+		return this.getAccountHistoricalData(request.getAddress(), heights);
 	}
 
 	/**
@@ -146,16 +143,11 @@ public class AccountInfoController {
 		}
 
 		final AccountBatchHistoricalDataRequest request = new AccountBatchHistoricalDataRequest(deserializer);
-		final long startHeight = request.getStartHeight().getRaw();
-		final long endHeight = Math.min(request.getEndHeight().getRaw(), this.blockChainLastBlockLayer.getLastBlockHeight().getRaw());
-		final List<SerializableList<AccountHistoricalDataViewModel>> viewsCollection = new ArrayList<>();
-		for (AccountId accountId : request.getAccountIds()) {
-			final List<AccountHistoricalDataViewModel> views = new ArrayList<>();
-			for (long i = startHeight; i <= endHeight; i += request.getIncrement()) {
-				views.add(this.getAccountHistoricalData(accountId.getAddress(), new BlockHeight(i)));
-			}
+		final List<BlockHeight> heights = this.getHeights(request.getStartHeight(), request.getEndHeight(), request.getIncrement());
 
-			viewsCollection.add(new SerializableList<>(views));
+		final List<SerializableList<AccountHistoricalDataViewModel>> viewsCollection = new ArrayList<>();
+		for (final AccountId accountId : request.getAccountIds()) {
+			viewsCollection.add(this.getAccountHistoricalData(accountId.getAddress(), heights));
 		}
 
 		return new SerializableList<>(viewsCollection);
@@ -181,14 +173,39 @@ public class AccountInfoController {
 		return new AccountMetaDataPair(accountInfo, metaData);
 	}
 
-	private AccountHistoricalDataViewModel getAccountHistoricalData(final Address address, final BlockHeight height) {
-		final BlockHeight groupedHeight = GroupedHeight.fromHeight(height);
+	private List<BlockHeight> getHeights(final BlockHeight startHeight, final BlockHeight endHeight, final long increment) {
+		final long lastHeight = Math.min(endHeight.getRaw(), this.blockChainLastBlockLayer.getLastBlockHeight().getRaw());
+		final List<BlockHeight> heights = new ArrayList<>();
+		for (long i = startHeight.getRaw(); i <= lastHeight; i += increment) {
+			heights.add(new BlockHeight(i));
+		}
+
+		return heights;
+	}
+
+	private SerializableList<AccountHistoricalDataViewModel> getAccountHistoricalData(final Address address,
+			final List<BlockHeight> heights) {
 		final ReadOnlyAccountState accountState = this.accountStateCache.findStateByAddress(address);
-		final ReadOnlyWeightedBalances weightedBalances = accountState.getWeightedBalances();
-		final Amount vested = weightedBalances.getVested(height);
-		final Amount unvested = weightedBalances.getUnvested(height);
-		final ReadOnlyHistoricalImportances importances = accountState.getHistoricalImportances();
-		return new AccountHistoricalDataViewModel(height, address, vested.add(unvested), vested, unvested,
-				importances.getHistoricalImportance(groupedHeight), importances.getHistoricalPageRank(groupedHeight));
+		final ReadOnlyWeightedBalances weightedBalances = this.historicalAccountDataStore.getWeightedBalances(address,
+				accountState.getWeightedBalances());
+		final ReadOnlyHistoricalImportances importances = this.historicalAccountDataStore.getHistoricalImportances(address,
+				accountState.getHistoricalImportances());
+
+		// importances only change at grouped heights, so each of them only needs to be looked up once
+		final List<BlockHeight> groupedHeights = heights.stream().map(GroupedHeight::fromHeight).distinct().collect(Collectors.toList());
+		final Map<BlockHeight, double[]> groupedImportances = new HashMap<>();
+		importances.visitImportances(groupedHeights,
+				(height, importance, pageRank) -> groupedImportances.put(height, new double[]{
+						importance, pageRank
+				}));
+
+		final List<AccountHistoricalDataViewModel> views = new ArrayList<>(heights.size());
+		weightedBalances.visitBalances(heights, (height, vested, unvested) -> {
+			final double[] importance = groupedImportances.get(GroupedHeight.fromHeight(height));
+			views.add(new AccountHistoricalDataViewModel(height, address, vested.add(unvested), vested, unvested, importance[0],
+					importance[1]));
+		});
+
+		return new SerializableList<>(views);
 	}
 }
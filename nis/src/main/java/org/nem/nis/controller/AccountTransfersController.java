@@ -8,7 +8,6 @@ import org.nem.core.model.*;
 import org.nem.core.model.ncc.TransactionMetaDataPair;
 import org.nem.core.node.NodeFeature;
 import org.nem.core.serialization.SerializableList;
-import org.nem.nis.cache.ReadOnlyHashCache;
 import org.nem.nis.controller.annotations.*;
 import org.nem.nis.controller.requests.*;
 import org.nem.nis.dao.ReadOnlyTransferDao;
@@ -23,14 +22,11 @@ import org.springframework.web.bind.annotation.*;
 @RestController
 public class AccountTransfersController {
 	private final AccountIo accountIo;
-	private final ReadOnlyHashCache transactionHashCache;
 	private final NisConfiguration nisConfiguration;
 
 	@Autowired(required = true)
-	AccountTransfersController(final AccountIo accountIo, final ReadOnlyHashCache transactionHashCache,
-			final NisConfiguration nisConfiguration) {
+	AccountTransfersController(final AccountIo accountIo, final NisConfiguration nisConfiguration) {
 		this.accountIo = accountIo;
-		this.transactionHashCache = transactionHashCache;
 		this.nisConfiguration = nisConfiguration;
 	}
 
@@ -177,13 +173,7 @@ public class AccountTransfersController {
 			throw new UnsupportedOperationException("this node does not support transaction hash lookup");
 		}
 
-		final HashMetaData metaData = this.transactionHashCache.get(hash);
-		if (null != metaData) {
-			return this.accountIo.getAccountTransfersUsingHash(id.getAddress(), hash, metaData.getHeight(), transferType,
-					page.getPageSize());
-		} else {
-			throw new IllegalArgumentException("Neither transaction id was supplied nor hash was found in cache");
-		}
+		return this.accountIo.getAccountTransfersUsingHash(id.getAddress(), hash, transferType, page.getPageSize());
 	}
 
 	private boolean isTransactionHashLookupSupported() {
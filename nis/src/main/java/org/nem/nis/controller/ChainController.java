@@ -1,15 +1,15 @@
 package org.nem.nis.controller;
 
-import java.util.Collection;
+import java.util.*;
 import java.util.logging.Logger;
 import org.nem.core.crypto.HashChain;
 import org.nem.core.model.*;
 import org.nem.core.model.primitive.*;
 import org.nem.core.node.Node;
-import org.nem.core.serialization.SerializableList;
 import org.nem.nis.boot.NisPeerNetworkHost;
 import org.nem.nis.controller.annotations.*;
 import org.nem.nis.controller.requests.*;
+import org.nem.nis.controller.viewmodels.StreamingBlockList;
 import org.nem.nis.dao.ReadOnlyBlockDao;
 import org.nem.nis.dbmodel.*;
 import org.nem.nis.mappers.NisDbModelToModelMapper;
@@ -65,60 +65,112 @@ public class ChainController {
 	@RequestMapping(value = "/chain/blocks-after", method = RequestMethod.POST)
 	@P2PApi
 	@AuthenticatedApi
-	public AuthenticatedResponse<SerializableList<Block>> blocksAfter(@RequestBody final AuthenticatedChainRequest request) {
-		final long start = System.currentTimeMillis();
+	public AuthenticatedResponse<StreamingBlockList> blocksAfter(@RequestBody final AuthenticatedChainRequest request) {
+		// blocks are loaded, mapped and written one by one while the response is being serialized
 		final ChainRequest chainRequest = request.getEntity();
-		int numBlocks = chainRequest.getNumBlocks();
-		final SerializableList<Block> blockList = new SerializableList<>(this.blocksLimit);
-		boolean enough = this.addBlocks(blockList, chainRequest.getHeight(), numBlocks, chainRequest.getMaxTransactions());
-		numBlocks = 100;
-		while (!enough) {
-			enough = this.addBlocks(blockList, blockList.get(blockList.size() - 1).getHeight(), numBlocks,
-					chainRequest.getMaxTransactions());
-		}
-
-		final long stop = System.currentTimeMillis();
-		LOGGER.info(String.format("Pulling %d blocks from db starting at height %d needed %dms.", blockList.size(),
-				chainRequest.getHeight().getRaw(), stop - start));
+		final StreamingBlockList blockList = new StreamingBlockList(() -> new BlocksAfterIterator(chainRequest));
 		final Node localNode = this.host.getNetwork().getLocalNode();
 		return new AuthenticatedResponse<>(blockList, localNode.getIdentity(), request.getChallenge());
 	}
 
-	private boolean addBlocks(final SerializableList<Block> blockList, final BlockHeight height, final int numBlocksToRequest,
-			final int maxTransactions) {
-		int numTransactions = blockList.asCollection().stream().map(b -> b.getTransactions().size()).reduce(0, Integer::sum);
-		final Collection<DbBlock> dbBlockList = this.blockDao.getBlocksAfter(height, numBlocksToRequest);
-		if (dbBlockList.isEmpty()) {
-			return true;
+	private Collection<DbBlock> loadDbBlocksAfter(final BlockHeight height, final int numBlocks) {
+		return this.blockChainLastBlockLayer.isRecentBlock(height.next())
+				? this.blockChainLastBlockLayer.getRecentDbBlocksAfter(height, numBlocks)
+				: this.blockDao.getBlocksAfter(height, numBlocks);
+	}
+
+	/**
+	 * Iterates over the blocks after a height until either the transaction or the block budget is exhausted.
+	 * <br>
+	 * The db blocks are loaded in batches on the serializing thread, and each batch is only loaded once the previous one is consumed.
+	 */
+	private class BlocksAfterIterator implements Iterator<Block> {
+		private static final int NUM_BLOCKS_PER_BATCH = 100;
+
+		private final ChainRequest chainRequest;
+		private final long start = System.currentTimeMillis();
+		private Iterator<DbBlock> batch = Collections.emptyIterator();
+		private DbBlock previousDbBlock;
+		private DbBlock nextDbBlock;
+		private int numBlocks;
+		private int numTransactions;
+		private boolean isFinished;
+
+		public BlocksAfterIterator(final ChainRequest chainRequest) {
+			this.chainRequest = chainRequest;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (null == this.nextDbBlock && !this.isFinished) {
+				this.nextDbBlock = this.findNextDbBlock();
+			}
+
+			return null != this.nextDbBlock;
+		}
+
+		@Override
+		public Block next() {
+			if (!this.hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			final DbBlock dbBlock = this.nextDbBlock;
+			this.nextDbBlock = null;
+			final Block recentBlock = ChainController.this.blockChainLastBlockLayer.findRecentBlock(new BlockHeight(dbBlock.getHeight()));
+			return null != recentBlock ? recentBlock : ChainController.this.mapper.map(dbBlock);
 		}
 
-		DbBlock previousDbBlock = null;
-		for (final DbBlock dbBlock : dbBlockList) {
+		private DbBlock findNextDbBlock() {
+			if (!this.batch.hasNext() && !this.loadNextBatch()) {
+				return this.finish();
+			}
+
+			final DbBlock dbBlock = this.batch.next();
+
 			// There should be only one block per height. Just to be sure everything is fine we make this check.
-			if (null != previousDbBlock && (previousDbBlock.getHeight() + 1 != dbBlock.getHeight())) {
+			if (null != this.previousDbBlock && (this.previousDbBlock.getHeight() + 1 != dbBlock.getHeight())) {
 				throw new RuntimeException("Corrupt block list returned from db.");
 			}
 
-			previousDbBlock = dbBlock;
-			numTransactions += DbBlockExtensions.countTransactions(dbBlock);
-
-			if (numTransactions > maxTransactions || this.blocksLimit <= blockList.size()) {
-				return true;
+			this.previousDbBlock = dbBlock;
+			this.numTransactions += DbBlockExtensions.countTransactions(dbBlock);
+			if (this.numTransactions > this.chainRequest.getMaxTransactions() || ChainController.this.blocksLimit <= this.numBlocks) {
+				return this.finish();
 			}
 
-			blockList.add(this.mapper.map(dbBlock));
+			++this.numBlocks;
+			return dbBlock;
+		}
+
+		private boolean loadNextBatch() {
+			final Collection<DbBlock> dbBlocks = null == this.previousDbBlock
+					? ChainController.this.loadDbBlocksAfter(this.chainRequest.getHeight(), this.chainRequest.getNumBlocks())
+					: ChainController.this.loadDbBlocksAfter(new BlockHeight(this.previousDbBlock.getHeight()), NUM_BLOCKS_PER_BATCH);
+			this.batch = dbBlocks.iterator();
+			return this.batch.hasNext();
 		}
 
-		return false;
+		private DbBlock finish() {
+			this.isFinished = true;
+
+			final long stop = System.currentTimeMillis();
+			LOGGER.info(String.format("Pulling %d blocks from db starting at height %d needed %dms.", this.numBlocks,
+					this.chainRequest.getHeight().getRaw(), stop - this.start));
+			return null;
+		}
 	}
 
 	@RequestMapping(value = "/chain/hashes-from", method = RequestMethod.POST)
 	@P2PApi
 	@AuthenticatedApi
 	public AuthenticatedResponse<HashChain> hashesFrom(@RequestBody final AuthenticatedBlockHeightRequest request) {
+		final BlockHeight height = request.getEntity();
+		final HashChain hashChain = this.blockChainLastBlockLayer.isRecentBlock(height)
+				? this.blockChainLastBlockLayer.getRecentHashesFrom(height, this.blocksLimit)
+				: this.blockDao.getHashesFrom(height, this.blocksLimit);
 		final Node localNode = this.host.getNetwork().getLocalNode();
-		return new AuthenticatedResponse<>(this.blockDao.getHashesFrom(request.getEntity(), this.blocksLimit), localNode.getIdentity(),
-				request.getChallenge());
+		return new AuthenticatedResponse<>(hashChain, localNode.getIdentity(), request.getChallenge());
 	}
 
 	// region chainScore
@@ -10,7 +10,6 @@ import org.nem.core.node.*;
 import org.nem.core.serialization.*;
 import org.nem.core.utils.ExceptionUtils;
 import org.nem.nis.boot.NisPeerNetworkHost;
-import org.nem.nis.cache.ReadOnlyHashCache;
 import org.nem.nis.controller.annotations.*;
 import org.nem.nis.controller.requests.*;
 import org.nem.nis.harvesting.UnconfirmedTransactionsFilter;
@@ -32,14 +31,13 @@ public class TransactionController {
 	private final ValidationState validationState;
 	private final Supplier<BlockHeight> blockHeightSupplier;
 	private final TransactionIo transactionIo;
-	private final ReadOnlyHashCache transactionHashCache;
 	private final NisConfiguration nisConfiguration;
 
 	@Autowired(required = true)
 	TransactionController(final AccountLookup accountLookup, final PushService pushService,
 			final UnconfirmedTransactionsFilter unconfirmedTransactions, final SingleTransactionValidator validator,
 			final NisPeerNetworkHost host, final ValidationState validationState, final Supplier<BlockHeight> blockHeightSupplier,
-			final TransactionIo transactionIo, final ReadOnlyHashCache transactionHashCache, final NisConfiguration nisConfiguration) {
+			final TransactionIo transactionIo, final NisConfiguration nisConfiguration) {
 		this.accountLookup = accountLookup;
 		this.pushService = pushService;
 		this.unconfirmedTransactions = unconfirmedTransactions;
@@ -48,7 +46,6 @@ public class TransactionController {
 		this.validationState = validationState;
 		this.blockHeightSupplier = blockHeightSupplier;
 		this.transactionIo = transactionIo;
-		this.transactionHashCache = transactionHashCache;
 		this.nisConfiguration = nisConfiguration;
 	}
 
@@ -172,12 +169,6 @@ public class TransactionController {
 			throw new UnsupportedOperationException("this node does not support transaction lookup using a hash");
 		}
 
-		final Hash hash = hashBuilder.build();
-		final HashMetaData metaData = this.transactionHashCache.get(hash);
-		if (null != metaData) {
-			return this.transactionIo.getTransactionUsingHash(hash, metaData.getHeight());
-		} else {
-			throw new IllegalArgumentException("Hash was not found in cache");
-		}
+		return this.transactionIo.getTransactionUsingHash(hashBuilder.build());
 	}
 }
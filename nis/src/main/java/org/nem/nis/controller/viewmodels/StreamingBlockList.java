@@ -0,0 +1,38 @@
+package org.nem.nis.controller.viewmodels;
+
+import java.util.Iterator;
+import java.util.function.Supplier;
+import org.nem.core.model.Block;
+import org.nem.core.serialization.*;
+
+/**
+ * A list of blocks that are produced lazily while the list is being serialized.
+ * <br>
+ * The serialized representation is the same as the one of a SerializableList of blocks. Each block is written to the serializer as
+ * soon as it is produced, so neither the blocks nor separately serialized copies of them are kept in memory.
+ */
+public class StreamingBlockList implements SerializableEntity, Iterable<Block> {
+	private static final String LABEL = "data";
+
+	private final Supplier<Iterator<Block>> blocksSupplier;
+
+	/**
+	 * Creates a new streaming block list.
+	 *
+	 * @param blocksSupplier Supplier of a new iterator over the blocks.
+	 */
+	public StreamingBlockList(final Supplier<Iterator<Block>> blocksSupplier) {
+		this.blocksSupplier = blocksSupplier;
+	}
+
+	@Override
+	public Iterator<Block> iterator() {
+		return this.blocksSupplier.get();
+	}
+
+	@Override
+	public void serialize(final Serializer serializer) {
+		// each block is written as soon as it is produced; the number of blocks is filled in after the last block has been written
+		serializer.writeObjectIterator(LABEL, this.iterator());
+	}
+}
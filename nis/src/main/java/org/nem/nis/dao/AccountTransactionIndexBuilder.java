@@ -0,0 +1,143 @@
+package org.nem.nis.dao;
+
+import java.util.*;
+import org.nem.core.model.TransactionTypes;
+import org.nem.nis.dbmodel.*;
+import org.nem.nis.mappers.TransactionRegistry;
+
+/**
+ * Helper class used by the block dao that collects the account transactions index entries of a block.
+ * <br>
+ * An entry is added at most once for each (account, transaction, direction) combination.
+ */
+@SuppressWarnings("rawtypes")
+public class AccountTransactionIndexBuilder {
+	private final Long height;
+	private final Map<EntryKey, DbAccountTransaction> entries = new LinkedHashMap<>();
+
+	/**
+	 * Creates a builder.
+	 *
+	 * @param height The height of the block containing the transactions.
+	 */
+	public AccountTransactionIndexBuilder(final Long height) {
+		this.height = height;
+	}
+
+	/**
+	 * Adds entries for all top-level (non-multisig) transactions in a block.
+	 * <br>
+	 * Multisig transactions are not handled because the accounts involved in them depend on the current cosignatories
+	 * and need to be added by the caller.
+	 *
+	 * @param block The block.
+	 */
+	public void addTransactions(final DbBlock block) {
+		for (final TransactionRegistry.Entry<AbstractBlockTransfer, ?> entry : TransactionRegistry.iterate()) {
+			if (TransactionTypes.MULTISIG == entry.type) {
+				continue;
+			}
+
+			for (final AbstractBlockTransfer transfer : entry.getFromBlock.apply(block)) {
+				// inner transactions of multisig transactions are stored without a sender proof
+				if (null == transfer.getSenderProof()) {
+					continue;
+				}
+
+				this.addOutgoing(transfer.getSender().getId(), transfer.getId(), entry.type);
+				for (final DbAccount account : getIncomingAccounts(entry, transfer)) {
+					this.addIncoming(account.getId(), transfer.getId(), entry.type);
+				}
+			}
+		}
+	}
+
+	private static Collection<DbAccount> getIncomingAccounts(final TransactionRegistry.Entry<AbstractBlockTransfer, ?> entry,
+			final AbstractBlockTransfer transfer) {
+		// mosaic definition creation transactions have never been reported as incoming to the fee sinks
+		if (TransactionTypes.MOSAIC_DEFINITION_CREATION == entry.type) {
+			return Collections.emptyList();
+		}
+
+		final Collection<DbAccount> accounts = new ArrayList<>(entry.getOtherAccounts.apply(transfer));
+		final DbAccount recipient = entry.getRecipient.apply(transfer);
+		if (null != recipient) {
+			accounts.add(recipient);
+		}
+
+		return accounts;
+	}
+
+	/**
+	 * Adds an entry for an incoming transaction.
+	 *
+	 * @param accountId The account id.
+	 * @param transactionId The transaction id.
+	 * @param type The transaction type.
+	 */
+	public void addIncoming(final Long accountId, final Long transactionId, final int type) {
+		this.add(accountId, transactionId, type, DbAccountTransaction.INCOMING);
+	}
+
+	/**
+	 * Adds an entry for an outgoing transaction.
+	 *
+	 * @param accountId The account id.
+	 * @param transactionId The transaction id.
+	 * @param type The transaction type.
+	 */
+	public void addOutgoing(final Long accountId, final Long transactionId, final int type) {
+		this.add(accountId, transactionId, type, DbAccountTransaction.OUTGOING);
+	}
+
+	private void add(final Long accountId, final Long transactionId, final int type, final int direction) {
+		final EntryKey key = new EntryKey(accountId, transactionId, direction);
+		if (this.entries.containsKey(key)) {
+			return;
+		}
+
+		final DbAccountTransaction accountTransaction = new DbAccountTransaction();
+		accountTransaction.setAccountId(accountId);
+		accountTransaction.setTransactionId(transactionId);
+		accountTransaction.setHeight(this.height);
+		accountTransaction.setType(type);
+		accountTransaction.setDirection(direction);
+		this.entries.put(key, accountTransaction);
+	}
+
+	/**
+	 * Gets all collected entries.
+	 *
+	 * @return The entries.
+	 */
+	public Collection<DbAccountTransaction> getEntries() {
+		return this.entries.values();
+	}
+
+	private static class EntryKey {
+		private final Long accountId;
+		private final Long transactionId;
+		private final int direction;
+
+		private EntryKey(final Long accountId, final Long transactionId, final int direction) {
+			this.accountId = accountId;
+			this.transactionId = transactionId;
+			this.direction = direction;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.accountId, this.transactionId, this.direction);
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (!(obj instanceof EntryKey)) {
+				return false;
+			}
+
+			final EntryKey rhs = (EntryKey) obj;
+			return this.accountId.equals(rhs.accountId) && this.transactionId.equals(rhs.transactionId) && this.direction == rhs.direction;
+		}
+	}
+}
@@ -74,6 +74,42 @@ public class BlockDaoImpl implements BlockDao {
 		for (final DbMultisigReceive receive : receiveList) {
 			this.getCurrentSession().saveOrUpdate(receive);
 		}
+
+		final AccountTransactionIndexBuilder indexBuilder = new AccountTransactionIndexBuilder(block.getHeight());
+		indexBuilder.addTransactions(block);
+		sendList.forEach(send -> indexBuilder.addOutgoing(send.getAccountId(), send.getTransactionId(), TransactionTypes.MULTISIG));
+		receiveList.forEach(
+				receive -> indexBuilder.addIncoming(receive.getAccountId(), receive.getTransactionId(), TransactionTypes.MULTISIG));
+		for (final DbAccountTransaction accountTransaction : indexBuilder.getEntries()) {
+			this.getCurrentSession().saveOrUpdate(accountTransaction);
+		}
+
+		this.saveTransactionHashes(block, multisigTransactions);
+	}
+
+	private void saveTransactionHashes(final DbBlock block, final List<DbMultisigTransaction> multisigTransactions) {
+		for (final TransactionRegistry.Entry<AbstractBlockTransfer, ?> entry : TransactionRegistry.iterate()) {
+			for (final AbstractBlockTransfer transfer : entry.getFromBlock.apply(block)) {
+				this.saveTransactionHash(transfer, entry.type, block.getHeight());
+			}
+
+			// inner transactions are filtered out of the block lists but should be found by hash as well
+			for (final DbMultisigTransaction multisigTransaction : multisigTransactions) {
+				final AbstractBlockTransfer transfer = entry.getFromMultisig.apply(multisigTransaction);
+				if (null != transfer) {
+					this.saveTransactionHash(transfer, entry.type, block.getHeight());
+				}
+			}
+		}
+	}
+
+	private void saveTransactionHash(final AbstractBlockTransfer transfer, final int type, final Long height) {
+		final DbTransactionHash transactionHash = new DbTransactionHash();
+		transactionHash.setTransferHash(transfer.getTransferHash());
+		transactionHash.setType(type);
+		transactionHash.setTransactionId(transfer.getId());
+		transactionHash.setHeight(height);
+		this.getCurrentSession().saveOrUpdate(transactionHash);
 	}
 
 	private <TDbModel extends AbstractBlockTransfer> int processInnerTransaction(final DbMultisigTransaction transaction,
@@ -237,6 +273,18 @@ public class BlockDaoImpl implements BlockDao {
 		return dbBlocks;
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public void updateMosaicIdCacheUpTo(final BlockHeight height) {
+		// inner (multisig) mosaic definition creation transactions reference their containing block too
+		final Query query = this.getCurrentSession()
+				.createQuery("select t.mosaicDefinition from DbMosaicDefinitionCreationTransaction t "
+						+ "where t.block.height <= :height order by t.mosaicDefinition.id asc") // preserve-newline
+				.setParameter("height", height.getRaw());
+		final List<DbMosaicDefinition> dbMosaicDefinitions = HibernateUtils.listAndCast(query);
+		dbMosaicDefinitions.forEach(m -> this.mosaicIdCache.add(createMosaicId(m), new DbMosaicId(m.getId())));
+	}
+
 	@Override
 	@Transactional
 	public void deleteBlocksAfterHeight(final BlockHeight blockHeight) {
@@ -259,6 +307,12 @@ public class BlockDaoImpl implements BlockDao {
 		this.dropMosaicDefinitionCreationTransactions(blockHeight);
 		this.dropTransfers(blockHeight, "DbMosaicSupplyChangeTransaction", "MosaicSupplyChanges", v -> {
 		});
+		this.getCurrentSession().createQuery("delete from DbAccountTransaction a where a.height > :height") // preserve-newline
+				.setParameter("height", blockHeight.getRaw()) // preserve-newline
+				.executeUpdate();
+		this.getCurrentSession().createQuery("delete from DbTransactionHash h where h.height > :height") // preserve-newline
+				.setParameter("height", blockHeight.getRaw()) // preserve-newline
+				.executeUpdate();
 		final Query query = this.getCurrentSession().createQuery("delete from DbBlock a where a.height > :height") // preserve-newline
 				.setParameter("height", blockHeight.getRaw());
 		query.executeUpdate();
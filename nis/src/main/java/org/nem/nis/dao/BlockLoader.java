@@ -37,8 +37,61 @@ public class BlockLoader {
 			"id", "dbMosaicId", "quantity"
 	};
 
+	// the query strings are only built once instead of once per query
+	private static final String BLOCKS_QUERY = "SELECT b.* FROM BLOCKS b WHERE height >= :fromHeight AND height <= :toHeight "
+			+ "ORDER BY height ASC LIMIT :limit";
+	private static final String BLOCK_BY_ID_QUERY = "SELECT b.* FROM BLOCKS b WHERE id = :blockId";
+	private static final String TRANSFERS_QUERY = "SELECT t.*, " + createColumnList("tm", 1, TRANSFERRED_MOSAICS_COLUMNS)
+			+ " FROM transfers t " // preserve-newline
+			+ "LEFT OUTER JOIN transferredMosaics tm ON tm.transferId = t.id " // preserve-newline
+			+ "WHERE blockid > :minBlockId AND blockid < :maxBlockId " // preserve-newline
+			+ "ORDER BY blockid ASC";
+	private static final String IMPORTANCE_TRANSFERS_QUERY = "SELECT t.* FROM importancetransfers t " // preserve-newline
+			+ "WHERE blockid > :minBlockId AND blockid < :maxBlockId " // preserve-newline
+			+ "ORDER BY blockid ASC";
+	private static final String MODIFICATION_TRANSACTIONS_QUERY = "SELECT msm.*, "
+			+ createColumnList("mcm", 1, MULTISIG_COSIGNATORIES_MODIFICATIONS_COLUMNS) + ", "
+			+ createColumnList("mmcm", 2, MULTISIG_MIN_COSIGNATORIES_MODIFICATIONS_COLUMNS) + " FROM multisigsignermodifications msm "
+			+ "LEFT OUTER JOIN multisigModifications mcm ON mcm.multisigsignermodificationid = msm.id "
+			+ "LEFT OUTER JOIN minCosignatoriesModifications mmcm ON msm.minCosignatoriesModificationId = mmcm.id "
+			+ "WHERE msm.blockid > :minBlockId AND msm.blockid < :maxBlockId " // preserve-newline
+			+ "ORDER BY msm.blockid ASC";
+	private static final String MULTISIG_TRANSACTIONS_QUERY = "SELECT mt.*, " + createColumnList("ms", 1, MULTISIG_SIGNATURES_COLUMNS)
+			+ " FROM MULTISIGTRANSACTIONS mt " // preserve-newline
+			+ "LEFT OUTER JOIN multisigsignatures ms on ms.multisigtransactionid = mt.id "
+			+ "WHERE mt.blockid > :minBlockId and mt.blockid < :maxBlockId " // preserve-newline
+			+ "ORDER BY mt.blockid ASC";
+	private static final String PROVISION_NAMESPACE_TRANSACTIONS_QUERY = "SELECT np.*, " + createColumnList("n", 1, NAMESPACE_COLUMNS)
+			+ " FROM namespaceProvisions np " // preserve-newline
+			+ "LEFT OUTER JOIN namespaces n on np.namespaceId = n.id " // preserve-newline
+			+ "WHERE np.blockid > :minBlockId AND np.blockid < :maxBlockId " // preserve-newline
+			+ "ORDER BY np.blockid ASC";
+	private static final String MOSAIC_DEFINITION_CREATION_TRANSACTIONS_QUERY = "SELECT t.*, "
+			+ createColumnList("m", 1, MOSAIC_DEFINITION_COLUMNS) + " FROM mosaicDefinitionCreationTransactions t "
+			+ "LEFT OUTER JOIN mosaicdefinitions m on t.mosaicDefinitionId = m.id "
+			+ "WHERE t.blockid > :minBlockId AND t.blockid < :maxBlockId " // preserve-newline
+			+ "ORDER BY t.blockid ASC";
+	private static final String MOSAIC_PROPERTIES_QUERY = "SELECT mp.* FROM mosaicproperties mp " // preserve-newline
+			+ "WHERE mp.mosaicDefinitionId in (:ids) " // preserve-newline
+			+ "ORDER BY mp.mosaicDefinitionId ASC";
+	private static final String MOSAIC_SUPPLY_CHANGE_TRANSACTIONS_QUERY = "SELECT t.* FROM mosaicsupplychanges t " // preserve-newline
+			+ "WHERE blockid > :minBlockId AND blockid < :maxBlockId " // preserve-newline
+			+ "ORDER BY blockid ASC";
+
 	private final Session session;
-	private final IMapper mapper;
+	private final IMapping<Object[], DbBlock> blockMapping;
+	private final IMapping<Object[], DbTransferTransaction> transferMapping;
+	private final IMapping<Object[], DbMosaic> mosaicMapping;
+	private final IMapping<Object[], DbImportanceTransferTransaction> importanceTransferMapping;
+	private final IMapping<Object[], DbMultisigAggregateModificationTransaction> modificationTransactionMapping;
+	private final IMapping<Object[], DbMultisigModification> cosignatoryModificationMapping;
+	private final IMapping<Object[], DbMultisigMinCosignatoriesModification> minCosignatoriesModificationMapping;
+	private final IMapping<Object[], DbMultisigTransaction> multisigTransactionMapping;
+	private final IMapping<Object[], DbMultisigSignatureTransaction> multisigSignatureMapping;
+	private final IMapping<Object[], DbProvisionNamespaceTransaction> provisionNamespaceMapping;
+	private final IMapping<Object[], DbMosaicDefinitionCreationTransaction> mosaicDefinitionCreationMapping;
+	private final IMapping<Object[], DbMosaicProperty> mosaicPropertyMapping;
+	private final IMapping<Object[], DbMosaicSupplyChangeTransaction> mosaicSupplyChangeMapping;
 	private final List<DbBlock> dbBlocks = new ArrayList<>();
 	private final List<DbTransferTransaction> dbTransfers = new ArrayList<>();
 	private final List<DbImportanceTransferTransaction> dbImportanceTransfers = new ArrayList<>();
@@ -51,17 +104,28 @@ public class BlockLoader {
 	private final MultisigTransferMap multisigTransferMap = new MultisigTransferMap();
 
 	/**
-	 * Creates a new block analyzer.
+	 * Creates a new block loader.
 	 *
 	 * @param session The session.
 	 */
 	public BlockLoader(final Session session) {
-		this(session, null);
-	}
-
-	private BlockLoader(final Session session, final IMapper mapper) {
 		this.session = session;
-		this.mapper = null == mapper ? this.createDefaultMapper() : mapper;
+
+		// rows are mapped directly by the top level mappings; the repository is only used for nested (account, block, ...) lookups
+		final IMapper mapper = this.createDefaultMapper();
+		this.blockMapping = new BlockRawToDbModelMapping(mapper);
+		this.transferMapping = new TransferRawToDbModelMapping(mapper);
+		this.mosaicMapping = new MosaicRawToDbModelMapping();
+		this.importanceTransferMapping = new ImportanceTransferRawToDbModelMapping(mapper);
+		this.modificationTransactionMapping = new MultisigAggregateModificationRawToDbModelMapping(mapper);
+		this.cosignatoryModificationMapping = new MultisigModificationRawToDbModelMapping(mapper);
+		this.minCosignatoriesModificationMapping = new MultisigMinCosignatoriesModificationRawToDbModelMapping();
+		this.multisigTransactionMapping = new MultisigTransactionRawToDbModelMapping(mapper, this.multisigTransferMap);
+		this.multisigSignatureMapping = new MultisigSignatureRawToDbModelMapping(mapper);
+		this.provisionNamespaceMapping = new ProvisionNamespaceRawToDbModelMapping(mapper);
+		this.mosaicDefinitionCreationMapping = new MosaicDefinitionCreationRawToDbModelMapping(mapper);
+		this.mosaicPropertyMapping = new MosaicPropertyRawToDbModelMapping();
+		this.mosaicSupplyChangeMapping = new MosaicSupplyChangeRawToDbModelMapping(mapper);
 	}
 
 	private IMapper createDefaultMapper() {
@@ -135,18 +199,24 @@ public class BlockLoader {
 
 	private void retrieveTransactions(final long minBlockId, final long maxBlockId) {
 		this.dbTransfers.addAll(this.getDbTransfers(minBlockId, maxBlockId));
-		this.extractMultisigTransfers(this.dbTransfers, TransactionTypes.TRANSFER);
 		this.dbImportanceTransfers.addAll(this.getDbImportanceTransfers(minBlockId, maxBlockId));
-		this.extractMultisigTransfers(this.dbImportanceTransfers, TransactionTypes.IMPORTANCE_TRANSFER);
 		this.dbModificationTransactions.addAll(this.getDbModificationTransactions(minBlockId, maxBlockId));
-		this.extractMultisigTransfers(this.dbModificationTransactions, TransactionTypes.MULTISIG_AGGREGATE_MODIFICATION);
 		this.dbProvisionNamespaceTransactions.addAll(this.getDbProvisionNamespaceTransactions(minBlockId, maxBlockId));
-		this.extractMultisigTransfers(this.dbProvisionNamespaceTransactions, TransactionTypes.PROVISION_NAMESPACE);
 		this.dbMosaicDefinitionCreationTransactions.addAll(this.getDbMosaicDefinitionCreationTransactions(minBlockId, maxBlockId));
-		this.extractMultisigTransfers(this.dbMosaicDefinitionCreationTransactions, TransactionTypes.MOSAIC_DEFINITION_CREATION);
 		this.dbMosaicSupplyChangeTransactions.addAll(this.getDbMosaicSupplyChangeTransactions(minBlockId, maxBlockId));
+
+		// multisig transactions can only be mapped after all inner transfers are known
+		this.extractAllMultisigTransfers();
+		this.dbMultisigTransactions.addAll(this.mapToDbMultisigTransactions(this.getRawDbMultisigTransactions(minBlockId, maxBlockId)));
+	}
+
+	private void extractAllMultisigTransfers() {
+		this.extractMultisigTransfers(this.dbTransfers, TransactionTypes.TRANSFER);
+		this.extractMultisigTransfers(this.dbImportanceTransfers, TransactionTypes.IMPORTANCE_TRANSFER);
+		this.extractMultisigTransfers(this.dbModificationTransactions, TransactionTypes.MULTISIG_AGGREGATE_MODIFICATION);
+		this.extractMultisigTransfers(this.dbProvisionNamespaceTransactions, TransactionTypes.PROVISION_NAMESPACE);
+		this.extractMultisigTransfers(this.dbMosaicDefinitionCreationTransactions, TransactionTypes.MOSAIC_DEFINITION_CREATION);
 		this.extractMultisigTransfers(this.dbMosaicSupplyChangeTransactions, TransactionTypes.MOSAIC_SUPPLY_CHANGE);
-		this.dbMultisigTransactions.addAll(this.getDbMultisigTransactions(minBlockId, maxBlockId));
 	}
 
 	private void addTransactionsToBlocks() {
@@ -160,32 +230,21 @@ public class BlockLoader {
 	}
 
 	private List<DbBlock> getDbBlocks(final BlockHeight fromHeight, final BlockHeight toHeight) {
-		final Query query = this.session
-				.createSQLQuery(
-						"SELECT b.* FROM BLOCKS b WHERE height >= :fromHeight AND height <= :toHeight ORDER BY height ASC LIMIT :limit")
+		final Query query = this.session.createSQLQuery(BLOCKS_QUERY) // preserve-newline
 				.setParameter("fromHeight", fromHeight.getRaw()) // preserve-newline
 				.setParameter("toHeight", toHeight.getRaw()) // preserve-newline
 				.setParameter("limit", toHeight.getRaw() - fromHeight.getRaw() + 1);
-		return this.executeAndMapAll(query, DbBlock.class);
+		return executeAndMapAll(query, this.blockMapping);
 	}
 
 	private List<DbBlock> getDbBlockById(final long blockId) {
-		final Query query = this.session.createSQLQuery("SELECT b.* FROM BLOCKS b WHERE id = :blockId") // preserve-newline
+		final Query query = this.session.createSQLQuery(BLOCK_BY_ID_QUERY) // preserve-newline
 				.setParameter("blockId", blockId);
-		return this.executeAndMapAll(query, DbBlock.class);
+		return executeAndMapAll(query, this.blockMapping);
 	}
 
 	private List<DbTransferTransaction> getDbTransfers(final long minBlockId, final long maxBlockId) {
-		final String transferredMosaicsColumns = this.createColumnList("tm", 1, TRANSFERRED_MOSAICS_COLUMNS);
-
-		final String queryString = "SELECT t.*, " + transferredMosaicsColumns + " FROM transfers t "
-				+ "LEFT OUTER JOIN transferredMosaics tm ON tm.transferId = t.id "
-				+ "WHERE blockid > :minBlockId AND blockid < :maxBlockId " // preserve-newline
-				+ "ORDER BY blockid ASC";
-		final Query query = this.session.createSQLQuery(queryString) // preserve-newline
-				.setParameter("minBlockId", minBlockId) // preserve-newline
-				.setParameter("maxBlockId", maxBlockId);
-		final List<Object[]> objects = HibernateUtils.listAndCast(query);
+		final List<Object[]> objects = HibernateUtils.listAndCast(this.createBlockIdRangeQuery(TRANSFERS_QUERY, minBlockId, maxBlockId));
 		return this.mapToTransferTransactions(objects);
 	}
 
@@ -201,7 +260,7 @@ public class BlockLoader {
 			final Long txId = RawMapperUtils.castToLong(array[1]);
 			if (curTxId != txId) {
 				curTxId = txId;
-				dbTransferTransaction = this.mapper.map(array, DbTransferTransaction.class);
+				dbTransferTransaction = this.transferMapping.map(array);
 				transactions.add(dbTransferTransaction);
 			}
 
@@ -209,7 +268,7 @@ public class BlockLoader {
 
 			// array[15] = transferred mosaics row id if available
 			if (null != array[15]) {
-				dbTransferTransaction.getMosaics().add(this.mapper.map(Arrays.copyOfRange(array, 15, array.length), DbMosaic.class));
+				dbTransferTransaction.getMosaics().add(this.mosaicMapping.map(Arrays.copyOfRange(array, 15, array.length)));
 			}
 		}
 
@@ -217,29 +276,12 @@ public class BlockLoader {
 	}
 
 	private List<DbImportanceTransferTransaction> getDbImportanceTransfers(final long minBlockId, final long maxBlockId) {
-		final String queryString = "SELECT t.* FROM importancetransfers t " // preserve-newline
-				+ "WHERE blockid > :minBlockId AND blockid < :maxBlockId " // preserve-newline
-				+ "ORDER BY blockid ASC";
-		final Query query = this.session.createSQLQuery(queryString) // preserve-newline
-				.setParameter("minBlockId", minBlockId) // preserve-newline
-				.setParameter("maxBlockId", maxBlockId);
-		return this.executeAndMapAll(query, DbImportanceTransferTransaction.class);
+		final Query query = this.createBlockIdRangeQuery(IMPORTANCE_TRANSFERS_QUERY, minBlockId, maxBlockId);
+		return executeAndMapAll(query, this.importanceTransferMapping);
 	}
 
 	private List<DbMultisigAggregateModificationTransaction> getDbModificationTransactions(final long minBlockId, final long maxBlockId) {
-		final String cosignatoryModificationColumnList = this.createColumnList("mcm", 1, MULTISIG_COSIGNATORIES_MODIFICATIONS_COLUMNS);
-		final String minCosignatoryModificationColumnList = this.createColumnList("mmcm", 2,
-				MULTISIG_MIN_COSIGNATORIES_MODIFICATIONS_COLUMNS);
-
-		final String queryString = "SELECT msm.*, " + cosignatoryModificationColumnList + ", " + minCosignatoryModificationColumnList
-				+ " FROM multisigsignermodifications msm "
-				+ "LEFT OUTER JOIN multisigModifications mcm ON mcm.multisigsignermodificationid = msm.id "
-				+ "LEFT OUTER JOIN minCosignatoriesModifications mmcm ON msm.minCosignatoriesModificationId = mmcm.id "
-				+ "WHERE msm.blockid > :minBlockId AND msm.blockid < :maxBlockId " // preserve-newline
-				+ "ORDER BY msm.blockid ASC";
-		final Query query = this.session.createSQLQuery(queryString) // preserve-newline
-				.setParameter("minBlockId", minBlockId) // preserve-newline
-				.setParameter("maxBlockId", maxBlockId);
+		final Query query = this.createBlockIdRangeQuery(MODIFICATION_TRANSACTIONS_QUERY, minBlockId, maxBlockId);
 		final List<Object[]> objects = HibernateUtils.listAndCast(query);
 		return this.mapToDbModificationTransactions(objects);
 	}
@@ -273,30 +315,22 @@ public class BlockLoader {
 	}
 
 	private DbMultisigAggregateModificationTransaction mapToDbModificationTransaction(final Object[] array) {
-		return this.mapper.map(array, DbMultisigAggregateModificationTransaction.class);
+		return this.modificationTransactionMapping.map(array);
 	}
 
 	private DbMultisigModification mapToDbCosignatoryModification(
 			final DbMultisigAggregateModificationTransaction dbModificationTransaction, final Object[] array) {
-		final DbMultisigModification dbModification = this.mapper.map(array, DbMultisigModification.class);
+		final DbMultisigModification dbModification = this.cosignatoryModificationMapping.map(array);
 		dbModification.setMultisigAggregateModificationTransaction(dbModificationTransaction);
 		return dbModification;
 	}
 
 	private DbMultisigMinCosignatoriesModification mapToDbMinCosignatoriesModification(final Object[] array) {
-		return this.mapper.map(array, DbMultisigMinCosignatoriesModification.class);
+		return this.minCosignatoriesModificationMapping.map(array);
 	}
 
-	private List<DbMultisigTransaction> getDbMultisigTransactions(final long minBlockId, final long maxBlockId) {
-		final String columnList = this.createColumnList("ms", 1, MULTISIG_SIGNATURES_COLUMNS);
-		final String queryString = "SELECT mt.*, " + columnList + " FROM MULTISIGTRANSACTIONS mt "
-				+ "LEFT OUTER JOIN multisigsignatures ms on ms.multisigtransactionid = mt.id "
-				+ "WHERE mt.blockid > :minBlockId and mt.blockid < :maxBlockId " // preserve-newline
-				+ "ORDER BY mt.blockid ASC";
-		final Query query = this.session.createSQLQuery(queryString).setParameter("minBlockId", minBlockId) // preserve-newline
-				.setParameter("maxBlockId", maxBlockId);
-		final List<Object[]> objects = HibernateUtils.listAndCast(query);
-		return this.mapToDbMultisigTransactions(objects);
+	private List<Object[]> getRawDbMultisigTransactions(final long minBlockId, final long maxBlockId) {
+		return HibernateUtils.listAndCast(this.createBlockIdRangeQuery(MULTISIG_TRANSACTIONS_QUERY, minBlockId, maxBlockId));
 	}
 
 	private List<DbMultisigTransaction> mapToDbMultisigTransactions(final List<Object[]> arrays) {
@@ -330,41 +364,26 @@ public class BlockLoader {
 	}
 
 	private DbMultisigTransaction mapToDbMultisigTransaction(final Object[] array) {
-		return this.mapper.map(array, DbMultisigTransaction.class);
+		return this.multisigTransactionMapping.map(array);
 	}
 
 	private DbMultisigSignatureTransaction mapToDbMultisigSignature(final DbMultisigTransaction dbMultisigTransaction,
 			final Object[] array) {
-		final DbMultisigSignatureTransaction dbMultisigSignature = this.mapper
-				.map(Arrays.copyOfRange(array, NUM_MULTISIG_COLUMNS, array.length), DbMultisigSignatureTransaction.class);
+		final DbMultisigSignatureTransaction dbMultisigSignature = this.multisigSignatureMapping
+				.map(Arrays.copyOfRange(array, NUM_MULTISIG_COLUMNS, array.length));
 		dbMultisigSignature.setMultisigTransaction(dbMultisigTransaction);
 		return dbMultisigSignature;
 	}
 
 	private List<DbProvisionNamespaceTransaction> getDbProvisionNamespaceTransactions(final long minBlockId, final long maxBlockId) {
-		final String columnList = this.createColumnList("n", 1, NAMESPACE_COLUMNS);
-		final String queryString = "SELECT np.*, " + columnList + " FROM namespaceProvisions np "
-				+ "LEFT OUTER JOIN namespaces n on np.namespaceId = n.id " // preserve-newline
-				+ "WHERE np.blockid > :minBlockId AND np.blockid < :maxBlockId " // preserve-newline
-				+ "ORDER BY np.blockid ASC";
-		final Query query = this.session.createSQLQuery(queryString) // preserve-newline
-				.setParameter("minBlockId", minBlockId) // preserve-newline
-				.setParameter("maxBlockId", maxBlockId);
-		return this.executeAndMapAll(query, DbProvisionNamespaceTransaction.class);
+		final Query query = this.createBlockIdRangeQuery(PROVISION_NAMESPACE_TRANSACTIONS_QUERY, minBlockId, maxBlockId);
+		return executeAndMapAll(query, this.provisionNamespaceMapping);
 	}
 
 	private List<DbMosaicDefinitionCreationTransaction> getDbMosaicDefinitionCreationTransactions(final long minBlockId,
 			final long maxBlockId) {
-		final String columnList = this.createColumnList("m", 1, MOSAIC_DEFINITION_COLUMNS);
-		final String queryString = "SELECT t.*, " + columnList + " FROM mosaicDefinitionCreationTransactions t "
-				+ "LEFT OUTER JOIN mosaicdefinitions m on t.mosaicDefinitionId = m.id "
-				+ "WHERE t.blockid > :minBlockId AND t.blockid < :maxBlockId " // preserve-newline
-				+ "ORDER BY t.blockid ASC";
-		final Query query = this.session.createSQLQuery(queryString) // preserve-newline
-				.setParameter("minBlockId", minBlockId) // preserve-newline
-				.setParameter("maxBlockId", maxBlockId);
-		final List<DbMosaicDefinitionCreationTransaction> transactions = this.executeAndMapAll(query,
-				DbMosaicDefinitionCreationTransaction.class);
+		final Query query = this.createBlockIdRangeQuery(MOSAIC_DEFINITION_CREATION_TRANSACTIONS_QUERY, minBlockId, maxBlockId);
+		final List<DbMosaicDefinitionCreationTransaction> transactions = executeAndMapAll(query, this.mosaicDefinitionCreationMapping);
 		this.insertMosaicDefinitionProperties(transactions);
 		return transactions;
 	}
@@ -376,10 +395,7 @@ public class BlockLoader {
 
 		final HashMap<Long, DbMosaicDefinition> map = new HashMap<>(transactions.size());
 		transactions.stream().map(DbMosaicDefinitionCreationTransaction::getMosaicDefinition).forEach(m -> map.put(m.getId(), m));
-		final String queryString = "SELECT mp.* FROM mosaicproperties mp " // preserve-newline
-				+ "WHERE mp.mosaicDefinitionId in (:ids) " // preserve-newline
-				+ "ORDER BY mp.mosaicDefinitionId ASC";
-		final Query query = this.session.createSQLQuery(queryString) // preserve-newline
+		final Query query = this.session.createSQLQuery(MOSAIC_PROPERTIES_QUERY) // preserve-newline
 				.setParameterList("ids", map.keySet());
 		final List<Object[]> arrays = HibernateUtils.listAndCast(query);
 		for (final Object[] array : arrays) {
@@ -388,25 +404,26 @@ public class BlockLoader {
 			final DbMosaicDefinition dbMosaicDefinition = map.get(mosaicId);
 			assert null != dbMosaicDefinition;
 
-			final DbMosaicProperty property = this.mapper.map(array, DbMosaicProperty.class);
+			final DbMosaicProperty property = this.mosaicPropertyMapping.map(array);
 			property.setMosaicDefinition(dbMosaicDefinition);
 			dbMosaicDefinition.getProperties().add(property);
 		}
 	}
 
 	private List<DbMosaicSupplyChangeTransaction> getDbMosaicSupplyChangeTransactions(final long minBlockId, final long maxBlockId) {
-		final String queryString = "SELECT t.* FROM mosaicsupplychanges t " // preserve-newline
-				+ "WHERE blockid > :minBlockId AND blockid < :maxBlockId " // preserve-newline
-				+ "ORDER BY blockid ASC";
-		final Query query = this.session.createSQLQuery(queryString) // preserve-newline
+		final Query query = this.createBlockIdRangeQuery(MOSAIC_SUPPLY_CHANGE_TRANSACTIONS_QUERY, minBlockId, maxBlockId);
+		return executeAndMapAll(query, this.mosaicSupplyChangeMapping);
+	}
+
+	private Query createBlockIdRangeQuery(final String queryString, final long minBlockId, final long maxBlockId) {
+		return this.session.createSQLQuery(queryString) // preserve-newline
 				.setParameter("minBlockId", minBlockId) // preserve-newline
 				.setParameter("maxBlockId", maxBlockId);
-		return this.executeAndMapAll(query, DbMosaicSupplyChangeTransaction.class);
 	}
 
-	private <T> List<T> executeAndMapAll(final Query query, final Class<T> targetClass) {
+	private static <T> List<T> executeAndMapAll(final Query query, final IMapping<Object[], T> mapping) {
 		final List<Object[]> objects = HibernateUtils.listAndCast(query);
-		return objects.stream().map(raw -> this.mapper.map(raw, targetClass)).collect(Collectors.toList());
+		return objects.stream().map(mapping::map).collect(Collectors.toList());
 	}
 
 	private HashMap<Long, DbAccount> getAccounts(final HashSet<DbAccount> accounts) {
@@ -420,7 +437,7 @@ public class BlockLoader {
 		return accountMap;
 	}
 
-	private String createColumnList(final String prefix, final int postfix, final String[] columns) {
+	private static String createColumnList(final String prefix, final int postfix, final String[] columns) {
 		return StringUtils.join(
 				Arrays.stream(columns).map(col -> String.format("%s.%s as %s%d", prefix, col, col, postfix)).collect(Collectors.toList()),
 				", ");
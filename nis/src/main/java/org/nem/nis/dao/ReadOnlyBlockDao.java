@@ -65,6 +65,14 @@ public interface ReadOnlyBlockDao {
 	 */
 	Collection<DbBlock> getBlocksAfterAndUpdateCache(final BlockHeight height, int limit);
 
+	/**
+	 * Adds all mosaic definitions created at or before the specified height to the mosaic id cache. This function should only be called on
+	 * startup when the initial block loading skips blocks (e.g. because the state was restored from a snapshot).
+	 *
+	 * @param height The height of the last block to consider.
+	 */
+	void updateMosaicIdCacheUpTo(final BlockHeight height);
+
 	/**
 	 * Retrieves list of at most limit difficulties for blocks starting at given height.
 	 *
@@ -37,6 +37,8 @@ public class SessionFactoryLoader {
 		localSessionFactoryBuilder.addAnnotatedClasses(DbMultisigSignatureTransaction.class);
 		localSessionFactoryBuilder.addAnnotatedClasses(DbMultisigSend.class);
 		localSessionFactoryBuilder.addAnnotatedClasses(DbMultisigReceive.class);
+		localSessionFactoryBuilder.addAnnotatedClasses(DbAccountTransaction.class);
+		localSessionFactoryBuilder.addAnnotatedClasses(DbTransactionHash.class);
 		for (final TransactionRegistry.Entry<?, ?> entry : TransactionRegistry.iterate()) {
 			localSessionFactoryBuilder.addAnnotatedClasses(entry.dbModelClass);
 		}
@@ -3,9 +3,10 @@ package org.nem.nis.dao;
 import java.util.*;
 import java.util.stream.Collectors;
 import org.hibernate.*;
+import org.hibernate.criterion.Restrictions;
+import org.hibernate.type.*;
 import org.nem.core.crypto.Hash;
 import org.nem.core.model.Account;
-import org.nem.core.model.primitive.BlockHeight;
 import org.nem.nis.dbmodel.*;
 import org.nem.nis.mappers.TransactionRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,43 +33,37 @@ public class TransferDaoImpl implements TransferDao {
 
 	@Override
 	@Transactional(readOnly = true)
-	public TransferBlockPair getTransactionUsingHash(final Hash hash, final BlockHeight height) {
-		return this.getTransferBlockPairUsingHash(hash, height);
+	public TransferBlockPair getTransactionUsingHash(final Hash hash) {
+		final Object[] entry = this.getTransactionHashEntry(hash);
+		return this.getTransferBlockPairs((Integer) entry[0], Collections.singletonList((Long) entry[1])).iterator().next();
 	}
 
 	@Override
 	@Transactional(readOnly = true)
 	public Collection<TransferBlockPair> getTransactionsForAccountUsingHash(final Account address, final Hash hash,
-			final BlockHeight height, final TransferType transferType, final int limit) {
+			final TransferType transferType, final int limit) {
 		final Long accountId = this.getAccountId(address);
 		if (null == accountId) {
 			return new ArrayList<>();
 		}
 
-		final long maxId = null == hash ? Long.MAX_VALUE : this.getTransferBlockPairUsingHash(hash, height).getTransfer().getId();
+		final long maxId = null == hash ? Long.MAX_VALUE : (Long) this.getTransactionHashEntry(hash)[1];
 		return this.getTransactionsForAccountUsingId(address, maxId, transferType, limit);
 	}
 
-	@SuppressWarnings("rawtypes")
-	private TransferBlockPair getTransferBlockPairUsingHash(final Hash hash, final BlockHeight height) {
-		// since we know the block height and have to search for the hash in all transaction tables, the easiest way to do it
-		// is simply to load the complete block from the db. It will be fast enough.
-		final BlockLoader blockLoader = new BlockLoader(this.sessionFactory.getCurrentSession());
-		final List<DbBlock> dbBlocks = blockLoader.loadBlocks(height, height);
-		if (dbBlocks.isEmpty()) {
+	private Object[] getTransactionHashEntry(final Hash hash) {
+		final Query query = this.getCurrentSession()
+				.createSQLQuery("SELECT type, transactionId FROM transactionhashes WHERE transferHash = :hash ORDER BY id ASC")
+				.addScalar("type", IntegerType.INSTANCE) // preserve-newline
+				.addScalar("transactionId", LongType.INSTANCE) // preserve-newline
+				.setParameter("hash", hash.getRaw()) // preserve-newline
+				.setMaxResults(1);
+		final Object[] entry = (Object[]) query.uniqueResult();
+		if (null == entry) {
 			throw new MissingResourceException("transaction not found in the db", Hash.class.toString(), hash.toString());
 		}
 
-		final DbBlock dbBlock = dbBlocks.get(0);
-		for (final TransactionRegistry.Entry<AbstractBlockTransfer, ?> entry : TransactionRegistry.iterate()) {
-			final List<AbstractBlockTransfer> transfers = entry.getFromBlock.apply(dbBlock).stream()
-					.filter(t -> t.getTransferHash().equals(hash)).collect(Collectors.toList());
-			if (!transfers.isEmpty()) {
-				return new TransferBlockPair(transfers.get(0), dbBlock);
-			}
-		}
-
-		throw new MissingResourceException("transaction not found in the db", Hash.class.toString(), hash.toString());
+		return entry;
 	}
 
 	@Override
@@ -90,45 +85,66 @@ public class TransferDaoImpl implements TransferDao {
 
 	private Collection<TransferBlockPair> getTransactionsForAccountUpToTransaction(final Long accountId, final long maxId, final int limit,
 			final TransferType transferType) {
-		if (TransferType.ALL == transferType) {
-			// note that we have to do separate queries for incoming and outgoing transactions since otherwise h2
-			// is not able to use an index to speed up the query.
-			final Collection<TransferBlockPair> pairs = this.getTransactionsForAccountUpToTransactionWithTransferType(accountId, maxId,
-					limit, TransferType.INCOMING);
-			pairs.addAll(this.getTransactionsForAccountUpToTransactionWithTransferType(accountId, maxId, limit, TransferType.OUTGOING));
-			return this.sortAndLimit(pairs, limit);
-		} else {
-			final Collection<TransferBlockPair> pairs = this.getTransactionsForAccountUpToTransactionWithTransferType(accountId, maxId,
-					limit, transferType);
-			return this.sortAndLimit(pairs, limit);
+		// the account transactions index contains (at most) one incoming and one outgoing entry per transaction,
+		// so in case of ALL, twice the limit is requested in order to still get limit distinct transactions
+		final List<Object[]> entries = this.getAccountTransactionEntries(accountId, maxId, limit, transferType);
+		final Map<Long, Integer> transactionIdToTypeMap = new LinkedHashMap<>();
+		for (final Object[] entry : entries) {
+			transactionIdToTypeMap.putIfAbsent((Long) entry[0], (Integer) entry[1]);
+			if (limit == transactionIdToTypeMap.size()) {
+				break;
+			}
 		}
-	}
 
-	private Collection<TransferBlockPair> getTransactionsForAccountUpToTransactionWithTransferType(final Long accountId, final long maxId,
-			final int limit, final TransferType transferType) {
+		final Map<Integer, List<Long>> typeToTransactionIdsMap = transactionIdToTypeMap.entrySet().stream()
+				.collect(Collectors.groupingBy(Map.Entry::getValue, Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
 		final Collection<TransferBlockPair> pairs = new ArrayList<>();
-		for (final TransactionRegistry.Entry<?, ?> entry : TransactionRegistry.iterate()) {
-			pairs.addAll(entry.getTransactionRetriever.get().getTransfersForAccount(this.getCurrentSession(), accountId, maxId, limit,
-					transferType));
+		typeToTransactionIdsMap.forEach((type, ids) -> pairs.addAll(this.getTransferBlockPairs(type, ids)));
+		return pairs.stream().sorted().collect(Collectors.toList());
+	}
+
+	private List<Object[]> getAccountTransactionEntries(final Long accountId, final long maxId, final int limit,
+			final TransferType transferType) {
+		// note that the order by clauses match the indexes, so h2 can use them and stop scanning as soon as limit is reached
+		final SQLQuery query;
+		if (TransferType.ALL == transferType) {
+			query = this.getCurrentSession().createSQLQuery("SELECT transactionId, type FROM accounttransactions "
+					+ "WHERE accountId = :accountId AND transactionId < :maxId ORDER BY accountId ASC, transactionId DESC");
+			query.setMaxResults(2 * limit);
+		} else {
+			query = this.getCurrentSession().createSQLQuery("SELECT transactionId, type FROM accounttransactions "
+					+ "WHERE accountId = :accountId AND direction = :direction AND transactionId < :maxId "
+					+ "ORDER BY accountId ASC, direction ASC, transactionId DESC");
+			query.setParameter("direction", TransferType.INCOMING == transferType ? DbAccountTransaction.INCOMING : DbAccountTransaction.OUTGOING);
+			query.setMaxResults(limit);
 		}
 
-		return pairs;
+		query.addScalar("transactionId", LongType.INSTANCE) // preserve-newline
+				.addScalar("type", IntegerType.INSTANCE) // preserve-newline
+				.setParameter("accountId", accountId) // preserve-newline
+				.setParameter("maxId", maxId);
+		return HibernateUtils.listAndCast(query);
 	}
 
-	private Collection<TransferBlockPair> sortAndLimit(final Collection<TransferBlockPair> pairs, final int limit) {
-		final List<TransferBlockPair> list = pairs.stream().sorted().collect(Collectors.toList());
-		TransferBlockPair curPair = null;
-		final Collection<TransferBlockPair> result = new ArrayList<>();
-		for (final TransferBlockPair pair : list) {
-			if (null == curPair || !(curPair.getTransfer().getId().equals(pair.getTransfer().getId()))) {
-				result.add(pair);
-				if (limit == result.size()) {
-					break;
-				}
-			}
-			curPair = pair;
+	@SuppressWarnings("rawtypes")
+	private Collection<TransferBlockPair> getTransferBlockPairs(final Integer type, final List<Long> ids) {
+		final TransactionRegistry.Entry<?, ?> entry = TransactionRegistry.findByType(type);
+		if (null == entry) {
+			throw new IllegalStateException(String.format("account transactions index contains unknown transaction type %d", type));
 		}
 
-		return result;
+		final Criteria criteria = this.getCurrentSession().createCriteria(entry.dbModelClass) // preserve-newline
+				.setFetchMode("block", FetchMode.JOIN) // preserve-newline
+				.add(Restrictions.in("id", ids)) // preserve-newline
+				.setResultTransformer(Criteria.DISTINCT_ROOT_ENTITY);
+		final List<AbstractBlockTransfer> transfers = HibernateUtils.listAndCast(criteria);
+		return transfers.stream().map(t -> {
+			if (t instanceof DbMultisigTransaction) {
+				// multisig signatures are loaded lazily, so force them to be loaded while the session is still open
+				Hibernate.initialize(((DbMultisigTransaction) t).getMultisigSignatureTransactions());
+			}
+
+			return new TransferBlockPair(t, t.getBlock());
+		}).collect(Collectors.toList());
 	}
 }
@@ -0,0 +1,76 @@
+package org.nem.nis.dbmodel;
+
+import javax.persistence.*;
+
+/**
+ * Entry of the account transactions index, linking an account to a (top-level) transaction it is involved in.
+ */
+@Entity
+@Table(name = "accounttransactions")
+@SuppressWarnings("unused")
+public class DbAccountTransaction {
+
+	/**
+	 * Direction of transactions that are incoming for the account.
+	 */
+	public static final int INCOMING = 1;
+
+	/**
+	 * Direction of transactions that are outgoing for the account.
+	 */
+	public static final int OUTGOING = 2;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	private Long accountId;
+
+	private Long transactionId;
+
+	private Long height;
+
+	private Integer type;
+
+	private Integer direction;
+
+	public Long getAccountId() {
+		return this.accountId;
+	}
+
+	public void setAccountId(final Long accountId) {
+		this.accountId = accountId;
+	}
+
+	public Long getTransactionId() {
+		return this.transactionId;
+	}
+
+	public void setTransactionId(final Long transactionId) {
+		this.transactionId = transactionId;
+	}
+
+	public Long getHeight() {
+		return this.height;
+	}
+
+	public void setHeight(final Long height) {
+		this.height = height;
+	}
+
+	public Integer getType() {
+		return this.type;
+	}
+
+	public void setType(final Integer type) {
+		this.type = type;
+	}
+
+	public Integer getDirection() {
+		return this.direction;
+	}
+
+	public void setDirection(final Integer direction) {
+		this.direction = direction;
+	}
+}
@@ -0,0 +1,57 @@
+package org.nem.nis.dbmodel;
+
+import javax.persistence.*;
+import org.nem.core.crypto.Hash;
+
+/**
+ * Entry of the transaction hashes index, linking a transaction hash to the transaction table (via the type) and id.
+ */
+@Entity
+@Table(name = "transactionhashes")
+@SuppressWarnings("unused")
+public class DbTransactionHash {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	private byte[] transferHash;
+
+	private Integer type;
+
+	private Long transactionId;
+
+	private Long height;
+
+	public Hash getTransferHash() {
+		return new Hash(this.transferHash);
+	}
+
+	public void setTransferHash(final Hash transferHash) {
+		this.transferHash = transferHash.getRaw();
+	}
+
+	public Integer getType() {
+		return this.type;
+	}
+
+	public void setType(final Integer type) {
+		this.type = type;
+	}
+
+	public Long getTransactionId() {
+		return this.transactionId;
+	}
+
+	public void setTransactionId(final Long transactionId) {
+		this.transactionId = transactionId;
+	}
+
+	public Long getHeight() {
+		return this.height;
+	}
+
+	public void setHeight(final Long height) {
+		this.height = height;
+	}
+}
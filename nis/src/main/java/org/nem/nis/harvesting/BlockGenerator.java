@@ -1,14 +1,14 @@
 package org.nem.nis.harvesting;
 
-import java.math.BigInteger;
 import java.util.*;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 import org.nem.core.model.*;
 import org.nem.core.model.primitive.*;
 import org.nem.core.time.TimeInstant;
 import org.nem.nis.BlockScorer;
 import org.nem.nis.cache.ReadOnlyNisCache;
-import org.nem.nis.dao.BlockDao;
+import org.nem.nis.service.BlockChainLastBlockLayer;
 import org.nem.nis.state.ReadOnlyAccountState;
 import org.nem.nis.validators.BlockValidator;
 
@@ -19,7 +19,7 @@ public class BlockGenerator {
 	private static final Logger LOGGER = Logger.getLogger(BlockGenerator.class.getName());
 	private final ReadOnlyNisCache nisCache;
 	private final NewBlockTransactionsProvider transactionsProvider;
-	private final BlockDao blockDao;
+	private final BlockChainLastBlockLayer blockChainLastBlockLayer;
 	private final BlockScorer blockScorer;
 	private final BlockValidator blockValidator;
 
@@ -28,15 +28,15 @@ public class BlockGenerator {
 	 *
 	 * @param nisCache The NIS cache.
 	 * @param transactionsProvider The new block transactions provider.
-	 * @param blockDao The block dao.
+	 * @param blockChainLastBlockLayer The block chain last block layer.
 	 * @param blockScorer The block scorer.
 	 * @param blockValidator The block validator.
 	 */
-	public BlockGenerator(final ReadOnlyNisCache nisCache, final NewBlockTransactionsProvider transactionsProvider, final BlockDao blockDao,
-			final BlockScorer blockScorer, final BlockValidator blockValidator) {
+	public BlockGenerator(final ReadOnlyNisCache nisCache, final NewBlockTransactionsProvider transactionsProvider,
+			final BlockChainLastBlockLayer blockChainLastBlockLayer, final BlockScorer blockScorer, final BlockValidator blockValidator) {
 		this.nisCache = nisCache;
 		this.transactionsProvider = transactionsProvider;
-		this.blockDao = blockDao;
+		this.blockChainLastBlockLayer = blockChainLastBlockLayer;
 		this.blockScorer = blockScorer;
 		this.blockValidator = blockValidator;
 	}
@@ -50,92 +50,95 @@ public class BlockGenerator {
 	 * @return The block.
 	 */
 	public GeneratedBlock generateNextBlock(final Block lastBlock, final Account harvesterAccount, final TimeInstant blockTime) {
-		final GenerationState state = new GenerationState(this, lastBlock, harvesterAccount, blockTime);
-		if (!state.isHit()) {
+		return this.generateNextBlock(lastBlock, Collections.singletonList(harvesterAccount), blockTime);
+	}
+
+	/**
+	 * Generates the best next block that can be harvested by any of the specified harvesters.
+	 *
+	 * @param lastBlock The last block.
+	 * @param harvesterAccounts The harvester accounts.
+	 * @param blockTime The block time.
+	 * @return The block or null if none of the harvesters could generate a valid block.
+	 */
+	public GeneratedBlock generateNextBlock(final Block lastBlock, final Collection<Account> harvesterAccounts,
+			final TimeInstant blockTime) {
+		if (harvesterAccounts.isEmpty()) {
 			return null;
 		}
 
-		final Block newBlock = state.createBlock();
-		final ValidationResult result = this.blockValidator.validate(newBlock);
-		if (!result.isSuccess()) {
-			LOGGER.severe(String.format("generated block did not pass validation: %s", result));
-			return null;
+		// the difficulty only depends on the last block, so it is the same for all harvesters
+		final BlockDifficulty difficulty = this.calculateDifficulty(lastBlock.getHeight());
+
+		// checking for a hit only reads (but never modifies) account state, so all harvesters can be checked concurrently
+		final List<Candidate> candidates = harvesterAccounts.parallelStream()
+				.map(harvesterAccount -> new Candidate(this.blockScorer, lastBlock, harvesterAccount, blockTime, difficulty))
+				.filter(candidate -> candidate.isHit).collect(Collectors.toList());
+
+		// the score of a block does not depend on its transactions, so only the best candidate needs to be assembled
+		// (the sort is stable, so the first harvester wins ties)
+		candidates.sort(Comparator.comparingLong((Candidate candidate) -> candidate.score).reversed());
+		for (final Candidate candidate : candidates) {
+			final Block newBlock = this.assembleBlock(candidate.block, blockTime);
+			final ValidationResult result = this.blockValidator.validate(newBlock);
+			if (!result.isSuccess()) {
+				LOGGER.severe(String.format("generated block did not pass validation: %s", result));
+				continue;
+			}
+
+			LOGGER.info(String.format("[HIT] harvester: %s", newBlock.getSigner().getAddress()));
+			LOGGER.info(String.format("[HIT] harvester effective importance: %s",
+					this.blockScorer.calculateHarvesterEffectiveImportance(newBlock)));
+			LOGGER.info(String.format("[HIT] last block: %s", newBlock.getPreviousBlockHash()));
+			LOGGER.info(String.format("[HIT] timestamp diff: %s", newBlock.getTimeStamp().subtract(lastBlock.getTimeStamp())));
+			LOGGER.info(String.format("[HIT] block diff: %s", newBlock.getDifficulty()));
+			return new GeneratedBlock(newBlock, candidate.score);
 		}
 
-		LOGGER.info(String.format("[HIT] harvester: %s", harvesterAccount.getAddress()));
-		LOGGER.info(String.format("[HIT] harvester effective importance: %s",
-				this.blockScorer.calculateHarvesterEffectiveImportance(newBlock)));
-		LOGGER.info(String.format("[HIT] last block: %s", newBlock.getPreviousBlockHash()));
-		LOGGER.info(String.format("[HIT] timestamp diff: %s", newBlock.getTimeStamp().subtract(lastBlock.getTimeStamp())));
-		LOGGER.info(String.format("[HIT] block diff: %s", newBlock.getDifficulty()));
-		final long score = this.blockScorer.calculateBlockScore(lastBlock, newBlock);
-		return new GeneratedBlock(newBlock, score);
+		return null;
 	}
 
-	private static class GenerationState {
-		private final ReadOnlyNisCache nisCache;
-		private final NewBlockTransactionsProvider transactionsProvider;
-		private final BlockDao blockDao;
-		private final BlockScorer blockScorer;
-
-		private final Block lastBlock;
-		private final Account harvesterAccount;
-		private final TimeInstant blockTime;
-
-		private final BlockHeight harvestedBlockHeight;
-		private final Account ownerAccount;
-		private final Block newBlock;
-
-		public GenerationState(final BlockGenerator generator, final Block lastBlock, final Account harvesterAccount,
-				final TimeInstant blockTime) {
-			this.nisCache = generator.nisCache;
-			this.transactionsProvider = generator.transactionsProvider;
-			this.blockDao = generator.blockDao;
-			this.blockScorer = generator.blockScorer;
-
-			this.lastBlock = lastBlock;
-			this.harvesterAccount = harvesterAccount;
-			this.blockTime = blockTime;
-
-			this.harvestedBlockHeight = this.lastBlock.getHeight().next();
-			this.ownerAccount = this.getOwnerAccount(this.harvesterAccount, this.harvestedBlockHeight);
-			final BlockDifficulty difficulty = this.calculateDifficulty(this.blockScorer, this.lastBlock.getHeight());
-
-			this.newBlock = new Block(this.harvesterAccount, this.lastBlock, this.blockTime);
-			this.newBlock.setLessor(this.ownerAccount);
-			this.newBlock.setDifficulty(difficulty);
-		}
-
-		public boolean isHit() {
-			final BigInteger hit = this.blockScorer.calculateHit(this.newBlock);
-			final BigInteger target = this.blockScorer.calculateTarget(this.lastBlock, this.newBlock);
-			return hit.compareTo(target) < 0;
-		}
+	private Block assembleBlock(final Block newBlock, final TimeInstant blockTime) {
+		final Account harvesterAccount = newBlock.getSigner();
+		final Account ownerAccount = this.getOwnerAccount(harvesterAccount, newBlock.getHeight());
+		newBlock.setLessor(ownerAccount);
+
+		final Address harvesterAddress = ownerAccount.getAddress().equals(harvesterAccount.getAddress())
+				? harvesterAccount.getAddress()
+				: ownerAccount.getAddress();
+		final Collection<Transaction> transactions = this.transactionsProvider.getBlockTransactions(harvesterAddress, blockTime,
+				newBlock.getHeight());
+		newBlock.addTransactions(transactions);
+		newBlock.sign();
+		return newBlock;
+	}
 
-		public Block createBlock() {
-			final Address harvesterAddress = this.ownerAccount.getAddress().equals(this.harvesterAccount.getAddress())
-					? this.harvesterAccount.getAddress()
-					: this.ownerAccount.getAddress();
-			final Collection<Transaction> transactions = this.transactionsProvider.getBlockTransactions(harvesterAddress, this.blockTime,
-					this.harvestedBlockHeight);
-			this.newBlock.addTransactions(transactions);
-			this.newBlock.sign();
-			return this.newBlock;
-		}
+	private Account getOwnerAccount(final Account account, final BlockHeight height) {
+		final ReadOnlyAccountState ownerState = this.nisCache.getAccountStateCache().findForwardedStateByAddress(account.getAddress(),
+				height);
+		return this.nisCache.getAccountCache().findByAddress(ownerState.getAddress());
+	}
 
-		private Account getOwnerAccount(final Account account, final BlockHeight height) {
-			final ReadOnlyAccountState ownerState = this.nisCache.getAccountStateCache().findForwardedStateByAddress(account.getAddress(),
-					height);
-			return this.nisCache.getAccountCache().findByAddress(ownerState.getAddress());
-		}
+	private BlockDifficulty calculateDifficulty(final BlockHeight lastBlockHeight) {
+		final BlockHeight blockHeight = new BlockHeight(
+				Math.max(1L, lastBlockHeight.getRaw() - BlockScorer.NUM_BLOCKS_FOR_AVERAGE_CALCULATION + 1));
+		final int limit = (int) Math.min(lastBlockHeight.getRaw(), BlockScorer.NUM_BLOCKS_FOR_AVERAGE_CALCULATION);
+		final List<TimeInstant> timeStamps = this.blockChainLastBlockLayer.getTimeStampsFrom(blockHeight, limit);
+		final List<BlockDifficulty> difficulties = this.blockChainLastBlockLayer.getDifficultiesFrom(blockHeight, limit);
+		return this.blockScorer.getDifficultyScorer().calculateDifficulty(difficulties, timeStamps);
+	}
 
-		private BlockDifficulty calculateDifficulty(final BlockScorer scorer, final BlockHeight lastBlockHeight) {
-			final BlockHeight blockHeight = new BlockHeight(
-					Math.max(1L, lastBlockHeight.getRaw() - BlockScorer.NUM_BLOCKS_FOR_AVERAGE_CALCULATION + 1));
-			final int limit = (int) Math.min(lastBlockHeight.getRaw(), BlockScorer.NUM_BLOCKS_FOR_AVERAGE_CALCULATION);
-			final List<TimeInstant> timeStamps = this.blockDao.getTimeStampsFrom(blockHeight, limit);
-			final List<BlockDifficulty> difficulties = this.blockDao.getDifficultiesFrom(blockHeight, limit);
-			return scorer.getDifficultyScorer().calculateDifficulty(difficulties, timeStamps);
+	private static class Candidate {
+		private final Block block;
+		private final boolean isHit;
+		private final long score;
+
+		public Candidate(final BlockScorer blockScorer, final Block lastBlock, final Account harvesterAccount, final TimeInstant blockTime,
+				final BlockDifficulty difficulty) {
+			this.block = new Block(harvesterAccount, lastBlock, blockTime);
+			this.block.setDifficulty(difficulty);
+			this.isHit = blockScorer.isHit(lastBlock, this.block);
+			this.score = this.isHit ? blockScorer.calculateBlockScore(lastBlock, this.block) : 0;
 		}
 	}
 }
@@ -90,7 +90,11 @@ public class DefaultUnconfirmedState implements UnconfirmedState {
 			return transactionValidationResult;
 		}
 
-		return ValidationResult.aggregateNoShortCircuit(filteredTransactions.stream().map(this::add).iterator());
+		// verify all signatures at once; unsigned and unverifiable transactions are rejected individually
+		final Set<Transaction> unverifiableTransactions = Collections.newSetFromMap(new IdentityHashMap<>());
+		unverifiableTransactions.addAll(VerifiableEntityBatchVerifier.findUnverifiable(filteredTransactions));
+		return ValidationResult.aggregateNoShortCircuit(
+				filteredTransactions.stream().map(t -> this.add(t, !unverifiableTransactions.contains(t))).iterator());
 	}
 
 	@Override
@@ -106,12 +110,12 @@ public class DefaultUnconfirmedState implements UnconfirmedState {
 		}
 
 		final ValidationResult transactionValidationResult = this.validateBatch(filteredTransactions);
-		return transactionValidationResult.isSuccess() ? this.add(transaction) : transactionValidationResult;
+		return transactionValidationResult.isSuccess() ? this.add(transaction, transaction.verify()) : transactionValidationResult;
 	}
 
 	@Override
 	public ValidationResult addExisting(final Transaction transaction) {
-		return this.add(transaction);
+		return this.add(transaction, transaction.verify());
 	}
 
 	@Override
@@ -124,8 +128,8 @@ public class DefaultUnconfirmedState implements UnconfirmedState {
 		return this.listeners;
 	}
 
-	private ValidationResult verifyAndValidate(final Transaction transaction) {
-		if (!transaction.verify()) {
+	private ValidationResult verifyAndValidate(final Transaction transaction, final boolean isVerifiable) {
+		if (!isVerifiable) {
 			final Hash transactionHash = HashUtils.calculateHash(transaction);
 			if (!this.forkConfiguration.getTreasuryReissuanceForkTransactionHashes().contains(transactionHash)) {
 				return ValidationResult.FAILURE_SIGNATURE_NOT_VERIFIABLE;
@@ -143,8 +147,8 @@ public class DefaultUnconfirmedState implements UnconfirmedState {
 		return ValidationResult.SUCCESS;
 	}
 
-	private ValidationResult add(final Transaction transaction) {
-		ValidationResult validationResult = this.verifyAndValidate(transaction);
+	private ValidationResult add(final Transaction transaction, final boolean isVerifiable) {
+		ValidationResult validationResult = this.verifyAndValidate(transaction, isVerifiable);
 		if (!validationResult.isSuccess()) {
 			return validationResult;
 		}
@@ -7,7 +7,7 @@ import org.nem.core.model.*;
 import org.nem.core.model.mosaic.MosaicId;
 import org.nem.core.model.primitive.*;
 import org.nem.core.time.TimeInstant;
-import org.nem.nis.cache.ReadOnlyNisCache;
+import org.nem.nis.cache.*;
 import org.nem.nis.websocket.UnconfirmedTransactionListener;
 
 /**
@@ -34,8 +34,10 @@ public class DefaultUnconfirmedTransactions implements UnconfirmedTransactions {
 
 		final MultisigSignatureMatchPredicate matchPredicate = new MultisigSignatureMatchPredicate(nisCache.getAccountStateCache());
 		this.transactions = new UnconfirmedTransactionsCache(matchPredicate::isMatch);
+		final ReadOnlyAccountStateCache accountStateCache = nisCache.getAccountStateCache();
 		this.transactionsFilter = new DefaultUnconfirmedTransactionsFilter(this.transactions,
-				new ImpactfulTransactionPredicate(nisCache.getAccountStateCache()));
+				new ImpactfulTransactionPredicate(accountStateCache),
+				address -> accountStateCache.findStateByAddress(address).getMultisigLinks().getCosignatoriesOf());
 
 		this.resetState();
 	}
@@ -1,7 +1,7 @@
 package org.nem.nis.harvesting;
 
 import java.util.*;
-import java.util.function.BiPredicate;
+import java.util.function.*;
 import java.util.stream.Collectors;
 import org.nem.core.model.*;
 import org.nem.core.model.primitive.HashShortId;
@@ -13,16 +13,21 @@ import org.nem.core.time.TimeInstant;
 public class DefaultUnconfirmedTransactionsFilter implements UnconfirmedTransactionsFilter {
 	private final UnconfirmedTransactionsCache transactions;
 	private final BiPredicate<Address, Transaction> matchesPredicate;
+	private final Function<Address, Collection<Address>> multisigAddressesLookup;
 
 	/**
 	 * Creates a new filter.
 	 *
 	 * @param transactions The transactions to filter.
+	 * @param matchesPredicate A predicate that returns true if a transaction impacts an account.
+	 * @param multisigAddressesLookup A function that returns the addresses of all multisig accounts of which an account is a cosignatory.
 	 */
 	public DefaultUnconfirmedTransactionsFilter(final UnconfirmedTransactionsCache transactions,
-			final BiPredicate<Address, Transaction> matchesPredicate) {
+			final BiPredicate<Address, Transaction> matchesPredicate,
+			final Function<Address, Collection<Address>> multisigAddressesLookup) {
 		this.transactions = transactions;
 		this.matchesPredicate = matchesPredicate;
+		this.multisigAddressesLookup = multisigAddressesLookup;
 	}
 
 	@Override
@@ -47,8 +52,10 @@ public class DefaultUnconfirmedTransactionsFilter implements UnconfirmedTransact
 
 	@Override
 	public Collection<Transaction> getMostRecentTransactionsForAccount(final Address address, final int maxTransactions) {
-		return this.transactions.stream().filter(tx -> tx.getType() != TransactionTypes.MULTISIG_SIGNATURE)
-				.filter(tx -> this.matchesPredicate.test(address, tx)).sorted((t1, t2) -> -t1.getTimeStamp().compareTo(t2.getTimeStamp()))
+		final Collection<Address> multisigAddresses = this.multisigAddressesLookup.apply(address);
+		return this.transactions.streamForAccount(address, multisigAddresses)
+				.filter(tx -> tx.getType() != TransactionTypes.MULTISIG_SIGNATURE).filter(tx -> this.matchesPredicate.test(address, tx))
+				.sorted((t1, t2) -> -t1.getTimeStamp().compareTo(t2.getTimeStamp()))
 				.limit(maxTransactions).collect(Collectors.toList());
 	}
 
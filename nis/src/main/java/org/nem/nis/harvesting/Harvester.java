@@ -1,5 +1,6 @@
 package org.nem.nis.harvesting;
 
+import java.util.*;
 import java.util.logging.Logger;
 import org.nem.core.model.*;
 import org.nem.core.time.*;
@@ -55,15 +56,12 @@ public class Harvester {
 					String.format("db block hash: %s", dbLastBlock.getBlockHash().getRaw() == null ? "null" : dbLastBlock.getBlockHash()));
 		}
 		LOGGER.info(String.format("%d harvesters are attempting to harvest a new block.", this.unlockedAccounts.size()));
-		GeneratedBlock bestGeneratedBlock = null;
+		final List<Account> harvesters = new ArrayList<>();
 		for (final Account harvester : this.unlockedAccounts) {
-			final GeneratedBlock generatedBlock = this.generator.generateNextBlock(lastBlock, harvester, blockTime);
-
-			if (null != generatedBlock && (null == bestGeneratedBlock || generatedBlock.getScore() > bestGeneratedBlock.getScore())) {
-				bestGeneratedBlock = generatedBlock;
-			}
+			harvesters.add(harvester);
 		}
 
+		final GeneratedBlock bestGeneratedBlock = this.generator.generateNextBlock(lastBlock, harvesters, blockTime);
 		return null == bestGeneratedBlock ? null : bestGeneratedBlock.getBlock();
 	}
 }
@@ -1,7 +1,6 @@
 package org.nem.nis.harvesting;
 
 import java.util.*;
-import java.util.stream.*;
 import org.nem.core.model.*;
 import org.nem.core.model.primitive.BlockHeight;
 import org.nem.nis.cache.ReadOnlyNisCache;
@@ -39,31 +38,30 @@ public class TransactionSpamFilter {
 	 */
 	public Collection<Transaction> filter(final Collection<Transaction> transactions) {
 		final List<Transaction> filteredTransactions = new ArrayList<>();
-		transactions.stream().filter(t -> !this.transactions.contains(t) && this.isPermissible(t, filteredTransactions))
-				.forEach(filteredTransactions::add);
+		final BatchCounts batchCounts = new BatchCounts();
+		transactions.stream().filter(t -> !this.transactions.contains(t) && this.isPermissible(t, batchCounts)).forEach(t -> {
+			filteredTransactions.add(t);
+			batchCounts.add(t);
+		});
 		return filteredTransactions;
 	}
 
-	private boolean isPermissible(final Transaction transaction, final List<Transaction> filteredTransactions) {
+	private boolean isPermissible(final Transaction transaction, final BatchCounts batchCounts) {
 		final boolean isMultisig = TransactionTypes.MULTISIG == transaction.getType();
-		Collection<Transaction> relevantTransactions = Stream.concat(this.transactions.stream(), filteredTransactions.stream())
-				.filter(t -> isMultisig ? TransactionTypes.MULTISIG == t.getType() : TransactionTypes.MULTISIG != t.getType())
-				.collect(Collectors.toList());
-
-		if (this.maxTransactionsPerBlock > relevantTransactions.size()) {
+		final int numRelevantTransactions = this.transactions.size(isMultisig) + batchCounts.size(isMultisig);
+		if (this.maxTransactionsPerBlock > numRelevantTransactions) {
 			return true;
 		}
 
-		final Account debtor = transaction.getDebtor();
-		final ReadOnlyAccountImportance importanceInfo = this.nisCache.getAccountStateCache().findStateByAddress(debtor.getAddress())
-				.getImportanceInfo();
-		final long count = relevantTransactions.stream().filter(t -> t.getDebtor().getAddress().equals(debtor.getAddress())).count();
+		final Address debtor = transaction.getDebtor().getAddress();
+		final ReadOnlyAccountImportance importanceInfo = this.nisCache.getAccountStateCache().findStateByAddress(debtor).getImportanceInfo();
+		final long count = this.transactions.sizeForDebtor(debtor, isMultisig) + batchCounts.sizeForDebtor(debtor, isMultisig);
 		final BlockHeight importanceHeight = this.nisCache.getPoxFacade().getLastRecalculationHeight();
 		final double importance = importanceHeight.equals(importanceInfo.getHeight())
 				? importanceInfo.getImportance(importanceHeight)
 				: 0.0;
 		final double effectiveImportance = importance + Math.min(0.01, transaction.getFee().getNumMicroNem() / 1000000000.0);
-		final int maxAllowedTransactions = this.getMaxAllowedTransactions(effectiveImportance, relevantTransactions.size());
+		final int maxAllowedTransactions = this.getMaxAllowedTransactions(effectiveImportance, numRelevantTransactions);
 		return count < maxAllowedTransactions;
 	}
 
@@ -71,4 +69,37 @@ public class TransactionSpamFilter {
 		final int maxCacheSize = 10 * this.maxTransactionsPerBlock;
 		return (int) (importance * Math.exp(-3.0 * effectiveCacheSize / maxCacheSize) * 100 * (maxCacheSize - effectiveCacheSize));
 	}
+
+	/**
+	 * Counts of the transactions that already passed the filter in the current batch.
+	 */
+	private static class BatchCounts {
+		private final Map<Address, Integer> multisigDebtorCounts = new HashMap<>();
+		private final Map<Address, Integer> nonMultisigDebtorCounts = new HashMap<>();
+		private int numMultisigTransactions;
+		private int numNonMultisigTransactions;
+
+		public void add(final Transaction transaction) {
+			final boolean isMultisig = TransactionTypes.MULTISIG == transaction.getType();
+			if (isMultisig) {
+				++this.numMultisigTransactions;
+			} else {
+				++this.numNonMultisigTransactions;
+			}
+
+			this.getDebtorCounts(isMultisig).merge(transaction.getDebtor().getAddress(), 1, Integer::sum);
+		}
+
+		public int size(final boolean isMultisig) {
+			return isMultisig ? this.numMultisigTransactions : this.numNonMultisigTransactions;
+		}
+
+		public int sizeForDebtor(final Address debtor, final boolean isMultisig) {
+			return this.getDebtorCounts(isMultisig).getOrDefault(debtor, 0);
+		}
+
+		private Map<Address, Integer> getDebtorCounts(final boolean isMultisig) {
+			return isMultisig ? this.multisigDebtorCounts : this.nonMultisigDebtorCounts;
+		}
+	}
 }
@@ -12,9 +12,14 @@ import org.nem.core.model.*;
  */
 public class UnconfirmedTransactionsCache {
 	private final BiPredicate<MultisigSignatureTransaction, MultisigTransaction> isMatch;
-	private final List<TransactionListEntry> transactions = new ArrayList<>();
-	private final Set<Hash> transactionHashes = new HashSet<>();
+	private final Map<Hash, TransactionListEntry> transactions = new LinkedHashMap<>();
 	private final Set<Hash> childTransactionHashes = new HashSet<>();
+	private final Map<Address, Set<Hash>> multisigTransactionHashes = new HashMap<>();
+	private final Map<Address, Set<Hash>> accountTransactionHashes = new HashMap<>();
+	private final Map<Address, Integer> multisigDebtorCounts = new HashMap<>();
+	private final Map<Address, Integer> nonMultisigDebtorCounts = new HashMap<>();
+	private int numMultisigTransactions;
+	private long nextEntryId;
 
 	/**
 	 * Creates a new cache with no transaction validation.
@@ -55,8 +60,34 @@ public class UnconfirmedTransactionsCache {
 	 */
 	public void clear() {
 		this.transactions.clear();
-		this.transactionHashes.clear();
 		this.childTransactionHashes.clear();
+		this.multisigTransactionHashes.clear();
+		this.accountTransactionHashes.clear();
+		this.multisigDebtorCounts.clear();
+		this.nonMultisigDebtorCounts.clear();
+		this.numMultisigTransactions = 0;
+		this.nextEntryId = 0;
+	}
+
+	/**
+	 * Gets the number of root transactions that are (or are not) multisig transactions.
+	 *
+	 * @param isMultisig true if multisig transactions should be counted, false if all other transactions should be counted.
+	 * @return The number of root transactions.
+	 */
+	public int size(final boolean isMultisig) {
+		return isMultisig ? this.numMultisigTransactions : this.transactions.size() - this.numMultisigTransactions;
+	}
+
+	/**
+	 * Gets the number of root transactions that are (or are not) multisig transactions and have the specified debtor.
+	 *
+	 * @param debtor The debtor address.
+	 * @param isMultisig true if multisig transactions should be counted, false if all other transactions should be counted.
+	 * @return The number of root transactions.
+	 */
+	public int sizeForDebtor(final Address debtor, final boolean isMultisig) {
+		return this.getDebtorCounts(isMultisig).getOrDefault(debtor, 0);
 	}
 
 	/**
@@ -65,7 +96,7 @@ public class UnconfirmedTransactionsCache {
 	 * @return The transaction stream.
 	 */
 	public Stream<Transaction> stream() {
-		return this.transactions.stream().map(e -> e.transaction);
+		return this.transactions.values().stream().map(e -> e.transaction);
 	}
 
 	/**
@@ -77,6 +108,24 @@ public class UnconfirmedTransactionsCache {
 		return this.stream().flatMap(TransactionExtensions::streamDefault);
 	}
 
+	/**
+	 * Streams all root transactions that can impact the specified account in the order in which they were added.
+	 * This includes all root transactions affecting the account and all multisig transactions initiated by
+	 * the specified multisig accounts (because the account might be a cosignatory of them).
+	 *
+	 * @param address The account address.
+	 * @param multisigAddresses The addresses of the multisig accounts of which the account is a cosignatory.
+	 * @return The transaction stream.
+	 */
+	public Stream<Transaction> streamForAccount(final Address address, final Collection<Address> multisigAddresses) {
+		final Set<Hash> hashes = new HashSet<>(this.accountTransactionHashes.getOrDefault(address, Collections.emptySet()));
+		for (final Address multisigAddress : multisigAddresses) {
+			hashes.addAll(this.multisigTransactionHashes.getOrDefault(multisigAddress, Collections.emptySet()));
+		}
+
+		return hashes.stream().map(this.transactions::get).sorted(Comparator.comparingLong(e -> e.id)).map(e -> e.transaction);
+	}
+
 	/**
 	 * Adds a transaction to the cache.
 	 *
@@ -99,9 +148,13 @@ public class UnconfirmedTransactionsCache {
 
 	private ValidationResult handleMultisigSignature(final MultisigSignatureTransaction signatureTransaction,
 			final Hash signatureTransactionHash) {
-		final Optional<MultisigTransaction> multisigTransaction = this.transactions.stream().map(e -> e.transaction)
-				.filter(t -> TransactionTypes.MULTISIG == t.getType()).map(t -> (MultisigTransaction) t)
-				.filter(mt -> this.isMatch.test(signatureTransaction, mt)).findAny();
+		// only multisig transactions initiated by the debtor (multisig account) of the signature can match
+		final Set<Hash> candidateHashes = this.multisigTransactionHashes.getOrDefault(signatureTransaction.getDebtor().getAddress(),
+				Collections.emptySet());
+		final Optional<MultisigTransaction> multisigTransaction = candidateHashes.stream()
+				.map(hash -> (MultisigTransaction) this.transactions.get(hash).transaction)
+				.filter(mt -> this.isMatch.test(signatureTransaction, mt))
+				.findAny();
 
 		if (!multisigTransaction.isPresent()) {
 			return ValidationResult.FAILURE_MULTISIG_NO_MATCHING_MULTISIG;
@@ -109,6 +162,8 @@ public class UnconfirmedTransactionsCache {
 
 		this.childTransactionHashes.add(signatureTransactionHash);
 		multisigTransaction.get().addSignature(signatureTransaction);
+		this.addToIndex(this.accountTransactionHashes, signatureTransaction.getSigner().getAddress(),
+				HashUtils.calculateHash(multisigTransaction.get()));
 		return ValidationResult.SUCCESS;
 	}
 
@@ -133,27 +188,40 @@ public class UnconfirmedTransactionsCache {
 		final Hash transactionHash = HashUtils.calculateHash(transaction);
 
 		// do not call hasTransactionInCache here because only root transactions can be removed
-		if (!this.transactionHashes.contains(transactionHash)) {
+		final TransactionListEntry cachedEntry = this.transactions.get(transactionHash);
+		if (null == cachedEntry) {
 			return false;
 		}
 
-		this.removeTransactionFromCache(transaction, transactionHash);
+		// use the cached transaction because it contains all (cosignatory) signatures
+		this.removeTransactionFromCache(cachedEntry.transaction, transactionHash);
 		return true;
 	}
 
 	private boolean hasTransactionInCache(final Transaction transaction, final Hash transactionHash) {
-		return this.transactionHashes.contains(transactionHash) || this.childTransactionHashes.contains(transactionHash)
+		return this.transactions.containsKey(transactionHash) || this.childTransactionHashes.contains(transactionHash)
 				|| transaction.getChildTransactions().stream().anyMatch(t -> {
 					final Hash key = HashUtils.calculateHash(t);
-					return this.childTransactionHashes.contains(key) || this.transactionHashes.contains(key);
+					return this.childTransactionHashes.contains(key) || this.transactions.containsKey(key);
 				});
 	}
 
 	private void addTransactionToCache(final Transaction transaction, final Hash transactionHash) {
 		this.childTransactionHashes
 				.addAll(transaction.getChildTransactions().stream().map(HashUtils::calculateHash).collect(Collectors.toList()));
-		this.transactions.add(new TransactionListEntry(transaction, transactionHash));
-		this.transactionHashes.add(transactionHash);
+		this.transactions.put(transactionHash, new TransactionListEntry(transaction, this.nextEntryId++));
+
+		final boolean isMultisig = TransactionTypes.MULTISIG == transaction.getType();
+		if (isMultisig) {
+			this.addToIndex(this.multisigTransactionHashes, transaction.getDebtor().getAddress(), transactionHash);
+			++this.numMultisigTransactions;
+		}
+
+		this.getDebtorCounts(isMultisig).merge(transaction.getDebtor().getAddress(), 1, Integer::sum);
+
+		for (final Account account : transaction.getAccounts()) {
+			this.addToIndex(this.accountTransactionHashes, account.getAddress(), transactionHash);
+		}
 	}
 
 	private void removeTransactionFromCache(final Transaction transaction, final Hash transactionHash) {
@@ -161,32 +229,50 @@ public class UnconfirmedTransactionsCache {
 			this.childTransactionHashes.remove(HashUtils.calculateHash(childTransaction));
 		}
 
-		this.transactions.remove(new TransactionListEntry(transaction, transactionHash));
-		this.transactionHashes.remove(transactionHash);
+		this.transactions.remove(transactionHash);
+
+		final boolean isMultisig = TransactionTypes.MULTISIG == transaction.getType();
+		if (isMultisig) {
+			this.removeFromIndex(this.multisigTransactionHashes, transaction.getDebtor().getAddress(), transactionHash);
+			--this.numMultisigTransactions;
+		}
+
+		// remove the entry when the count drops to zero
+		this.getDebtorCounts(isMultisig).computeIfPresent(transaction.getDebtor().getAddress(),
+				(key, count) -> 1 == count ? null : count - 1);
+
+		for (final Account account : transaction.getAccounts()) {
+			this.removeFromIndex(this.accountTransactionHashes, account.getAddress(), transactionHash);
+		}
+	}
+
+	private Map<Address, Integer> getDebtorCounts(final boolean isMultisig) {
+		return isMultisig ? this.multisigDebtorCounts : this.nonMultisigDebtorCounts;
 	}
 
-	private static class TransactionListEntry {
-		public final Transaction transaction;
-		public final Hash hash;
+	private void addToIndex(final Map<Address, Set<Hash>> index, final Address address, final Hash transactionHash) {
+		index.computeIfAbsent(address, key -> new LinkedHashSet<>()).add(transactionHash);
+	}
 
-		public TransactionListEntry(final Transaction transaction, final Hash hash) {
-			this.transaction = transaction;
-			this.hash = hash;
+	private void removeFromIndex(final Map<Address, Set<Hash>> index, final Address address, final Hash transactionHash) {
+		final Set<Hash> hashes = index.get(address);
+		if (null == hashes) {
+			return;
 		}
 
-		@Override
-		public int hashCode() {
-			return this.hash.hashCode();
+		hashes.remove(transactionHash);
+		if (hashes.isEmpty()) {
+			index.remove(address);
 		}
+	}
 
-		@Override
-		public boolean equals(final Object obj) {
-			if (obj == null || !(obj instanceof TransactionListEntry)) {
-				return false;
-			}
+	private static class TransactionListEntry {
+		public final Transaction transaction;
+		public final long id;
 
-			final TransactionListEntry rhs = (TransactionListEntry) obj;
-			return this.hash.equals(rhs.hash);
+		public TransactionListEntry(final Transaction transaction, final long id) {
+			this.transaction = transaction;
+			this.id = id;
 		}
 	}
 }
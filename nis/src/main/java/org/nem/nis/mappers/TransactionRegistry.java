@@ -4,7 +4,6 @@ import java.util.*;
 import java.util.function.*;
 import java.util.stream.*;
 import org.nem.core.model.*;
-import org.nem.nis.dao.retrievers.*;
 import org.nem.nis.dbmodel.*;
 
 /**
@@ -63,11 +62,6 @@ public class TransactionRegistry {
 		 */
 		public final Function<? super TDbModel, Collection<DbAccount>> getOtherAccounts;
 
-		/**
-		 * A supplier for transaction retrievers.
-		 */
-		public final Supplier<TransactionRetriever> getTransactionRetriever;
-
 		/**
 		 * The db model transaction class.
 		 */
@@ -91,7 +85,6 @@ public class TransactionRegistry {
 				final BiConsumer<DbMultisigTransaction, AbstractBlockTransfer> setInMultisig,
 				final Function<TDbModel, AbstractBlockTransfer> getInnerTransaction, final Function<TDbModel, Integer> getTransactionCount,
 				final Function<TDbModel, DbAccount> getRecipient, final Function<TDbModel, Collection<DbAccount>> getOtherAccounts,
-				final Supplier<TransactionRetriever> getTransactionRetriever,
 				final Function<IMapper, IMapping<TModel, TDbModel>> createModelToDbModelMapper,
 				final Function<IMapper, IMapping<TDbModel, TModel>> createDbModelToModelMapper, final Class<TDbModel> dbModelClass,
 				final Class<TModel> modelClass, final String multisigJoinField) {
@@ -108,8 +101,6 @@ public class TransactionRegistry {
 			this.getRecipient = getRecipient;
 			this.getOtherAccounts = getOtherAccounts;
 
-			this.getTransactionRetriever = getTransactionRetriever;
-
 			this.createModelToDbModelMapper = createModelToDbModelMapper;
 			this.createDbModelToModelMapper = createDbModelToModelMapper;
 			this.dbModelClass = dbModelClass;
@@ -143,41 +134,38 @@ public class TransactionRegistry {
 			this.add(new Entry<>(TransactionTypes.TRANSFER, DbBlock::getBlockTransferTransactions, DbBlock::setBlockTransferTransactions,
 					DbMultisigTransaction::getTransferTransaction,
 					(multisig, t) -> multisig.setTransferTransaction((DbTransferTransaction) t), transfer -> null, transfer -> 1,
-					DbTransferTransaction::getRecipient, transfer -> new ArrayList<>(), TransferRetriever::new,
-					TransferModelToDbModelMapping::new, TransferDbModelToModelMapping::new, DbTransferTransaction.class,
-					TransferTransaction.class, "transferTransaction"));
+					DbTransferTransaction::getRecipient, transfer -> new ArrayList<>(), TransferModelToDbModelMapping::new,
+					TransferDbModelToModelMapping::new, DbTransferTransaction.class, TransferTransaction.class, "transferTransaction"));
 
 			this.add(new Entry<>(TransactionTypes.IMPORTANCE_TRANSFER, DbBlock::getBlockImportanceTransferTransactions,
 					DbBlock::setBlockImportanceTransferTransactions, DbMultisigTransaction::getImportanceTransferTransaction,
 					(multisig, t) -> multisig.setImportanceTransferTransaction((DbImportanceTransferTransaction) t), transfer -> null,
 					transfer -> 1, DbImportanceTransferTransaction::getRemote, transfer -> new ArrayList<>(),
-					ImportanceTransferRetriever::new, ImportanceTransferModelToDbModelMapping::new,
-					ImportanceTransferDbModelToModelMapping::new, DbImportanceTransferTransaction.class,
-					ImportanceTransferTransaction.class, "importanceTransferTransaction"));
+					ImportanceTransferModelToDbModelMapping::new, ImportanceTransferDbModelToModelMapping::new,
+					DbImportanceTransferTransaction.class, ImportanceTransferTransaction.class, "importanceTransferTransaction"));
 
 			this.add(new Entry<>(TransactionTypes.MULTISIG_AGGREGATE_MODIFICATION,
 					DbBlock::getBlockMultisigAggregateModificationTransactions, DbBlock::setBlockMultisigAggregateModificationTransactions,
 					DbMultisigTransaction::getMultisigAggregateModificationTransaction,
 					(multisig, t) -> multisig.setMultisigAggregateModificationTransaction((DbMultisigAggregateModificationTransaction) t),
 					transfer -> null, transfer -> 1, transfer -> null, DbMultisigAggregateModificationTransaction::getOtherAccounts,
-					MultisigModificationRetriever::new, MultisigAggregateModificationModelToDbModelMapping::new,
-					MultisigAggregateModificationDbModelToModelMapping::new, DbMultisigAggregateModificationTransaction.class,
-					MultisigAggregateModificationTransaction.class, "multisigAggregateModificationTransaction"));
+					MultisigAggregateModificationModelToDbModelMapping::new, MultisigAggregateModificationDbModelToModelMapping::new,
+					DbMultisigAggregateModificationTransaction.class, MultisigAggregateModificationTransaction.class,
+					"multisigAggregateModificationTransaction"));
 
 			this.add(new Entry<>(TransactionTypes.MULTISIG, DbBlock::getBlockMultisigTransactions, DbBlock::setBlockMultisigTransactions,
 					multisig -> null, null, DbModelUtils::getInnerTransaction,
 					multisig -> 2 + multisig.getMultisigSignatureTransactions().size(), multisig -> null,
-					DbMultisigTransaction::getOtherAccounts, MultisigTransactionRetriever::new,
-					MultisigTransactionModelToDbModelMapping::new, MultisigTransactionDbModelToModelMapping::new,
-					DbMultisigTransaction.class, org.nem.core.model.MultisigTransaction.class, null));
+					DbMultisigTransaction::getOtherAccounts, MultisigTransactionModelToDbModelMapping::new,
+					MultisigTransactionDbModelToModelMapping::new, DbMultisigTransaction.class,
+					org.nem.core.model.MultisigTransaction.class, null));
 
 			this.add(new Entry<>(TransactionTypes.PROVISION_NAMESPACE, DbBlock::getBlockProvisionNamespaceTransactions,
 					DbBlock::setBlockProvisionNamespaceTransactions, DbMultisigTransaction::getProvisionNamespaceTransaction,
 					(multisig, t) -> multisig.setProvisionNamespaceTransaction((DbProvisionNamespaceTransaction) t), transfer -> null,
 					transfer -> 1, transfer -> null, transfer -> Collections.singletonList(transfer.getRentalFeeSink()),
-					ProvisionNamespaceRetriever::new, ProvisionNamespaceModelToDbModelMapping::new,
-					ProvisionNamespaceDbModelToModelMapping::new, DbProvisionNamespaceTransaction.class,
-					ProvisionNamespaceTransaction.class, "provisionNamespaceTransaction"));
+					ProvisionNamespaceModelToDbModelMapping::new, ProvisionNamespaceDbModelToModelMapping::new,
+					DbProvisionNamespaceTransaction.class, ProvisionNamespaceTransaction.class, "provisionNamespaceTransaction"));
 
 			this.add(new Entry<>(TransactionTypes.MOSAIC_DEFINITION_CREATION, DbBlock::getBlockMosaicDefinitionCreationTransactions,
 					DbBlock::setBlockMosaicDefinitionCreationTransactions, DbMultisigTransaction::getMosaicDefinitionCreationTransaction,
@@ -192,16 +180,16 @@ public class TransactionRegistry {
 						}
 
 						return otherAccounts;
-					}, MosaicDefinitionCreationRetriever::new, MosaicDefinitionCreationModelToDbModelMapping::new,
+					}, MosaicDefinitionCreationModelToDbModelMapping::new,
 					MosaicDefinitionCreationDbModelToModelMapping::new, DbMosaicDefinitionCreationTransaction.class,
 					MosaicDefinitionCreationTransaction.class, "mosaicDefinitionCreationTransaction"));
 
 			this.add(new Entry<>(TransactionTypes.MOSAIC_SUPPLY_CHANGE, DbBlock::getBlockMosaicSupplyChangeTransactions,
 					DbBlock::setBlockMosaicSupplyChangeTransactions, DbMultisigTransaction::getMosaicSupplyChangeTransaction,
 					(multisig, t) -> multisig.setMosaicSupplyChangeTransaction((DbMosaicSupplyChangeTransaction) t), transfer -> null,
-					transfer -> 1, transfer -> null, transfer -> Collections.emptyList(), MosaicSupplyChangeRetriever::new,
-					MosaicSupplyChangeModelToDbModelMapping::new, MosaicSupplyChangeDbModelToModelMapping::new,
-					DbMosaicSupplyChangeTransaction.class, MosaicSupplyChangeTransaction.class, "mosaicSupplyChangeTransaction"));
+					transfer -> 1, transfer -> null, transfer -> Collections.emptyList(), MosaicSupplyChangeModelToDbModelMapping::new,
+					MosaicSupplyChangeDbModelToModelMapping::new, DbMosaicSupplyChangeTransaction.class,
+					MosaicSupplyChangeTransaction.class, "mosaicSupplyChangeTransaction"));
 		}
 	};
 
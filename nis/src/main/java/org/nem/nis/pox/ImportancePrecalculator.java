@@ -0,0 +1,178 @@
+package org.nem.nis.pox;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.logging.*;
+import java.util.stream.Collectors;
+import org.nem.core.model.*;
+import org.nem.core.model.primitive.*;
+import org.nem.nis.state.*;
+
+/**
+ * Calculates importances in the background before they are needed. <br>
+ * The inputs of a calculation are the vested balances at the calculation height and the outlinks within the outlink history, which is all
+ * account data the importance calculators read. precalculate copies these inputs and calculates importances from them on fresh account
+ * states. Precalculated importances are identified by the calculation height and an inputs version that changes whenever the inputs might
+ * have changed, so checking if they can be applied does not require inspecting any account.
+ */
+public class ImportancePrecalculator {
+	private static final Logger LOGGER = Logger.getLogger(ImportancePrecalculator.class.getName());
+
+	private final ImportanceCalculator calculator;
+	private final Executor executor;
+	private Precalculation precalculation;
+
+	/**
+	 * Creates a new precalculator.
+	 *
+	 * @param calculator The calculator used for calculating importances.
+	 * @param executor The executor used for calculating importances.
+	 */
+	public ImportancePrecalculator(final ImportanceCalculator calculator, final Executor executor) {
+		this.calculator = calculator;
+		this.executor = executor;
+	}
+
+	/**
+	 * Starts calculating the importances of the specified accounts in the background.
+	 *
+	 * @param blockHeight The block height.
+	 * @param inputsVersion The version of the importance inputs of the accounts.
+	 * @param accountStates The account states.
+	 */
+	public synchronized void precalculate(final BlockHeight blockHeight, final long inputsVersion,
+			final Collection<? extends ReadOnlyAccountState> accountStates) {
+		if (null != this.precalculation) {
+			if (this.precalculation.isFor(blockHeight, inputsVersion)) {
+				return;
+			}
+
+			// a superseded precalculation that has not started yet is skipped so that it does not delay the new one
+			this.precalculation.future.cancel(false);
+		}
+
+		LOGGER.info(String.format("precalculating importances at height %s", blockHeight));
+		final List<AccountInputs> inputs = captureInputs(blockHeight, accountStates);
+		final CompletableFuture<Map<Address, ReadOnlyAccountImportance>> future = new CompletableFuture<>();
+		this.executor.execute(() -> {
+			if (future.isDone()) {
+				return;
+			}
+
+			try {
+				final List<AccountState> inputAccountStates = inputs.stream().map(AccountInputs::createAccountState)
+						.collect(Collectors.toList());
+				this.calculator.recalculate(blockHeight, inputAccountStates);
+				future.complete(inputAccountStates.stream()
+						.collect(Collectors.toMap(AccountState::getAddress, AccountState::getImportanceInfo)));
+			} catch (final RuntimeException e) {
+				future.completeExceptionally(e);
+			}
+		});
+		this.precalculation = new Precalculation(blockHeight, inputsVersion, future);
+	}
+
+	/**
+	 * Applies precalculated importances to the specified accounts if they were calculated at the same height from the same inputs version.
+	 * This waits for a running precalculation to complete.
+	 *
+	 * @param blockHeight The block height.
+	 * @param inputsVersion The version of the importance inputs of the accounts.
+	 * @param accountStates The account states.
+	 * @return true if the importances were applied; false if they need to be calculated.
+	 */
+	public synchronized boolean apply(final BlockHeight blockHeight, final long inputsVersion,
+			final Collection<AccountState> accountStates) {
+		// the precalculation is kept after it is used because the same block can be executed against multiple cache copies
+		if (null == this.precalculation || !this.precalculation.isFor(blockHeight, inputsVersion)) {
+			return false;
+		}
+
+		final Map<Address, ReadOnlyAccountImportance> precalculatedImportances = this.precalculation.getResult();
+		if (!isForAccounts(precalculatedImportances, accountStates)) {
+			return false;
+		}
+
+		// the importances are matched by address because cache copies can return the same accounts in a different order
+		LOGGER.info(String.format("applying precalculated importances at height %s", blockHeight));
+		for (final AccountState accountState : accountStates) {
+			final ReadOnlyAccountImportance precalculatedImportance = precalculatedImportances.get(accountState.getAddress());
+			if (!precalculatedImportance.isSet()) {
+				// the calculator skipped this account (e.g. because it is not eligible for harvesting)
+				continue;
+			}
+
+			final double importance = precalculatedImportance.getImportance(blockHeight);
+			final double pageRank = precalculatedImportance.getLastPageRank();
+			final AccountImportance importanceInfo = accountState.getImportanceInfo();
+			importanceInfo.setLastPageRank(pageRank);
+			importanceInfo.setImportance(blockHeight, importance);
+			accountState.getHistoricalImportances().addHistoricalImportance(new AccountImportance(blockHeight, importance, pageRank));
+		}
+
+		return true;
+	}
+
+	private static boolean isForAccounts(final Map<Address, ReadOnlyAccountImportance> precalculatedImportances,
+			final Collection<AccountState> accountStates) {
+		return null != precalculatedImportances && precalculatedImportances.size() == accountStates.size()
+				&& accountStates.stream().allMatch(accountState -> precalculatedImportances.containsKey(accountState.getAddress()));
+	}
+
+	private static List<AccountInputs> captureInputs(final BlockHeight blockHeight,
+			final Collection<? extends ReadOnlyAccountState> accountStates) {
+		final int outlinkHistory = NemGlobals.getBlockChainConfiguration().getEstimatedBlocksPerMonth();
+		final BlockHeight startHeight = new BlockHeight(Math.max(1, blockHeight.getRaw() - outlinkHistory));
+		return accountStates.stream().map(accountState -> new AccountInputs(accountState, startHeight, blockHeight))
+				.collect(Collectors.toList());
+	}
+
+	private static class AccountInputs {
+		private final Address address;
+		private final Amount vestedBalance;
+		private final List<AccountLink> outlinks = new ArrayList<>();
+
+		public AccountInputs(final ReadOnlyAccountState accountState, final BlockHeight startHeight, final BlockHeight endHeight) {
+			this.address = accountState.getAddress();
+			this.vestedBalance = accountState.getWeightedBalances().getVested(endHeight);
+			accountState.getImportanceInfo().getOutlinksIterator(startHeight, endHeight).forEachRemaining(this.outlinks::add);
+		}
+
+		public AccountState createAccountState() {
+			final AccountState accountState = new AccountState(this.address);
+			if (!Amount.ZERO.equals(this.vestedBalance)) {
+				accountState.getWeightedBalances().addFullyVested(BlockHeight.ONE, this.vestedBalance);
+			}
+
+			// outlinks are added in their original order, so they are iterated in the same order as the original ones
+			this.outlinks.forEach(accountState.getImportanceInfo()::addOutlink);
+			return accountState;
+		}
+	}
+
+	private static class Precalculation {
+		private final BlockHeight blockHeight;
+		private final long inputsVersion;
+		private final CompletableFuture<Map<Address, ReadOnlyAccountImportance>> future;
+
+		public Precalculation(final BlockHeight blockHeight, final long inputsVersion,
+				final CompletableFuture<Map<Address, ReadOnlyAccountImportance>> future) {
+			this.blockHeight = blockHeight;
+			this.inputsVersion = inputsVersion;
+			this.future = future;
+		}
+
+		public boolean isFor(final BlockHeight blockHeight, final long inputsVersion) {
+			return this.blockHeight.equals(blockHeight) && this.inputsVersion == inputsVersion;
+		}
+
+		public Map<Address, ReadOnlyAccountImportance> getResult() {
+			try {
+				return this.future.join();
+			} catch (final CompletionException | CancellationException e) {
+				LOGGER.log(Level.WARNING, String.format("importance precalculation at height %s failed", this.blockHeight), e);
+				return null;
+			}
+		}
+	}
+}
@@ -10,6 +10,8 @@ import org.nem.nis.state.*;
  * Account information used by poi.
  */
 public class PoiAccountInfo {
+	private static final double[] DECAY_FACTORS = createDecayFactors(64);
+
 	private final int index;
 	private final AccountState accountState;
 
@@ -36,20 +38,34 @@ public class PoiAccountInfo {
 		final BlockHeight startHeight = new BlockHeight(Math.max(1, height.getRaw() - outlinkHistory));
 		final ReadOnlyAccountImportance importanceInfo = this.accountState.getImportanceInfo();
 		final Iterator<AccountLink> outlinks = importanceInfo.getOutlinksIterator(startHeight, height);
+		final long estimatedBlockPerDay = configuration.getEstimatedBlocksPerDay();
 
 		// weight = out-link amount * DECAY_BASE^(age in days)
 		while (outlinks.hasNext()) {
 			final AccountLink outlink = outlinks.next();
 			final long heightDifference = height.subtract(outlink.getHeight());
-			final long estimatedBlockPerDay = NemGlobals.getBlockChainConfiguration().getEstimatedBlocksPerDay();
 			final long age = heightDifference / estimatedBlockPerDay;
-			final double weight = outlink.getAmount().getNumMicroNem() * Math.pow(WeightedBalanceDecayConstants.DECAY_BASE, age);
+			final double weight = outlink.getAmount().getNumMicroNem() * getDecayFactor(age);
 
 			this.outlinks.add(new WeightedLink(outlink.getOtherAccountAddress(), weight));
 			this.increment(outlink.getOtherAccountAddress(), weight);
 		}
 	}
 
+	private static double[] createDecayFactors(final int numDays) {
+		final double[] decayFactors = new double[numDays];
+		for (int i = 0; i < numDays; ++i) {
+			decayFactors[i] = Math.pow(WeightedBalanceDecayConstants.DECAY_BASE, i);
+		}
+
+		return decayFactors;
+	}
+
+	private static double getDecayFactor(final long age) {
+		// the table holds the exact Math.pow results, so the weights (and importances) are unchanged
+		return age < DECAY_FACTORS.length ? DECAY_FACTORS[(int) age] : Math.pow(WeightedBalanceDecayConstants.DECAY_BASE, age);
+	}
+
 	private void increment(final Address address, final double amount) {
 		this.netOutlinks.put(address, this.netOutlinks.getOrDefault(address, 0.0) + amount);
 	}
@@ -106,6 +122,12 @@ public class PoiAccountInfo {
 	 * @return The net out-link score.
 	 */
 	public double getNetOutlinkScore() {
-		return this.getNetOutlinks().stream().map(WeightedLink::getWeight).reduce(0.0, Double::sum);
+		// sum in the same (map) order as getNetOutlinks without materializing the links
+		double score = 0.0;
+		for (final double weight : this.netOutlinks.values()) {
+			score += weight;
+		}
+
+		return score;
 	}
 }
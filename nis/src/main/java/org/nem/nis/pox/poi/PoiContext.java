@@ -295,6 +295,11 @@ public class PoiContext {
 			final NodeNeighborMap nodeNeighborMap = new NodeNeighborMap(this.outlinkMatrix);
 			this.neighborhood = new Neighborhood(nodeNeighborMap, new StructuralSimilarityStrategy(nodeNeighborMap),
 					this.options.getMuClusteringValue(), this.options.getEpsilonClusteringValue());
+			if (this.options.isParallelModeEnabled()) {
+				// the scan itself is sequential (cluster ids depend on the visiting order), but the communities it visits are not
+				this.neighborhood.precomputeCommunities();
+			}
+
 			this.clusteringResult = this.options.getClusteringStrategy().cluster(this.neighborhood);
 			LOGGER.info(String.format("clustering completed: { clusters: %d (average size: %s), hubs: %d, outliers: %d }",
 					this.clusteringResult.getClusters().size(), FormatUtils.format(this.clusteringResult.getAverageClusterSize(), 2),
@@ -3,7 +3,7 @@ package org.nem.nis.pox.poi;
 import java.util.Collection;
 import java.util.function.Function;
 import java.util.logging.Logger;
-import org.nem.core.math.ColumnVector;
+import org.nem.core.math.*;
 import org.nem.core.model.primitive.BlockHeight;
 import org.nem.nis.pox.ImportanceCalculator;
 import org.nem.nis.pox.poi.graph.InterLevelProximityMatrix;
@@ -69,50 +69,48 @@ public class PoiImportanceCalculator implements ImportanceCalculator {
 	private static class PoiPowerIterator extends PowerIterator {
 		private final PoiContext context;
 		private final PoiOptions options;
-		private final boolean useClustering;
+		private final CompressedSparseRowMatrix outlinkMatrix;
+		private final CompressedSparseRowMatrix interLevelMatrixA;
+		private final CompressedSparseRowMatrix interLevelMatrixR;
+		private final ColumnVector clusterVector;
 
 		public PoiPowerIterator(final PoiContext context, final PoiOptions options, final int numAccounts, final boolean useClustering) {
 			super(context.getPoiStartVector(), DEFAULT_MAX_ITERATIONS, DEFAULT_POWER_ITERATION_TOL / numAccounts);
 			this.context = context;
 			this.options = options;
-			this.useClustering = useClustering;
+			final boolean isParallel = options.isParallelModeEnabled();
+			this.outlinkMatrix = new CompressedSparseRowMatrix(context.getOutlinkMatrix(), isParallel);
+
+			if (useClustering) {
+				final InterLevelProximityMatrix interLevelMatrix = context.getInterLevelMatrix();
+				this.interLevelMatrixA = new CompressedSparseRowMatrix(interLevelMatrix.getA(), isParallel);
+				this.interLevelMatrixR = new CompressedSparseRowMatrix(interLevelMatrix.getR(), isParallel);
+				this.clusterVector = new ColumnVector(this.interLevelMatrixR.getRowCount());
+			} else {
+				this.interLevelMatrixA = null;
+				this.interLevelMatrixR = null;
+				this.clusterVector = null;
+			}
 		}
 
 		@Override
-		protected ColumnVector stepImpl(final ColumnVector prevIterImportances) {
-			final ColumnVector poiAdjustmentVector = this.createAdjustmentVector(prevIterImportances);
-			final ColumnVector importancesVector = this.createImportancesVector(prevIterImportances);
-
-			ColumnVector resultVector = importancesVector.addElementWise(poiAdjustmentVector);
-			if (this.useClustering) {
-				final ColumnVector interLevelVector = this.createInterLeverVector(prevIterImportances);
-				resultVector = resultVector.addElementWise(interLevelVector);
+		protected void stepImpl(final ColumnVector prevIterImportances, final ColumnVector result) {
+			// M(out-link) * V(last iter) .* V(teleportation) + V(dangle-sum + inverseTeleportation / N)
+			final double adjustment = this.calculateAdjustment(prevIterImportances);
+			this.outlinkMatrix.multiplyAdd(this.options.getTeleportationProbability(), prevIterImportances, 0.0, null, adjustment, result);
+
+			if (null != this.interLevelMatrixA) {
+				// inter-level proximity calc for NCD-Aware Rank: (R*(last iter) * A)
+				this.interLevelMatrixR.multiply(prevIterImportances, this.clusterVector);
+				this.interLevelMatrixA.multiplyAdd(this.options.getInterLevelTeleportationProbability(), this.clusterVector, 1.0, result, 0.0,
+						result);
 			}
-
-			return resultVector;
 		}
 
-		private ColumnVector createAdjustmentVector(final ColumnVector prevIterImportances) {
+		private double calculateAdjustment(final ColumnVector prevIterImportances) {
 			final double dangleSum = PoiUtils.calculateDangleSum(this.context.getDangleIndexes(),
 					this.options.getTeleportationProbability(), prevIterImportances);
-
-			// V(dangle-sum + inverseTeleportation / N)
-			final int size = prevIterImportances.size();
-			final ColumnVector dangleVector = new ColumnVector(size);
-			dangleVector.setAll(dangleSum + this.options.getInverseTeleportationProbability() / size);
-			return dangleVector;
-		}
-
-		private ColumnVector createImportancesVector(final ColumnVector prevIterImportances) {
-			// M(out-link) * V(last iter) .* V(teleportation)
-			return this.context.getOutlinkMatrix().multiply(prevIterImportances).multiply(this.options.getTeleportationProbability());
-		}
-
-		private ColumnVector createInterLeverVector(final ColumnVector prevIterImportances) {
-			// inter-level proximity calc for NCD-Aware Rank: (R*(last iter) * A)
-			final InterLevelProximityMatrix interLevelMatrix = this.context.getInterLevelMatrix();
-			return interLevelMatrix.getA().multiply(interLevelMatrix.getR().multiply(prevIterImportances))
-					.multiply(this.options.getInterLevelTeleportationProbability());
+			return dangleSum + this.options.getInverseTeleportationProbability() / prevIterImportances.size();
 		}
 	}
 }
@@ -102,4 +102,16 @@ public interface PoiOptions {
 	}
 
 	// endregion
+
+	// region execution
+
+	/**
+	 * Gets a value indicating whether or not the calculation should use multiple threads. <br>
+	 * The parallel mode must produce results that are bit-identical to the ones of the serial mode.
+	 *
+	 * @return true if the parallel mode is enabled.
+	 */
+	boolean isParallelModeEnabled();
+
+	// endregion
 }
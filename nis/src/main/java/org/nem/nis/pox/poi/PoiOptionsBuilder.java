@@ -16,6 +16,7 @@ public class PoiOptionsBuilder {
 	private GraphClusteringStrategy clusteringStrategy = new FastScanClusteringStrategy();
 	private int mu = 4;
 	private double epsilon = 0.3;
+	private boolean isParallelModeEnabled = false;
 
 	/**
 	 * Creates a new options builder.
@@ -126,6 +127,19 @@ public class PoiOptionsBuilder {
 
 	// endregion
 
+	// region execution
+
+	/**
+	 * Sets a value indicating whether or not the calculation should use multiple threads.
+	 *
+	 * @param isEnabled true if the parallel mode should be enabled.
+	 */
+	public void setParallelModeEnabled(final boolean isEnabled) {
+		this.isParallelModeEnabled = isEnabled;
+	}
+
+	// endregion
+
 	/**
 	 * Creates a new poi options.
 	 *
@@ -183,6 +197,11 @@ public class PoiOptionsBuilder {
 			public double getInterLevelTeleportationProbability() {
 				return PoiOptionsBuilder.this.interLevelTeleportationProbability;
 			}
+
+			@Override
+			public boolean isParallelModeEnabled() {
+				return PoiOptionsBuilder.this.isParallelModeEnabled;
+			}
 		};
 	}
 }
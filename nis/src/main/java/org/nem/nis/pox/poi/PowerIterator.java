@@ -43,12 +43,16 @@ public abstract class PowerIterator {
 	 * Runs the power iteration algorithm until convergence is reached or the maximum number of iterations have occurred.
 	 */
 	public void run() {
+		// two buffers are alternately used as input and output of a step so that no vectors are allocated while iterating
 		int numIterations = 0;
-		ColumnVector vector1;
-		ColumnVector vector2 = this.step(this.startVector);
+		ColumnVector vector1 = new ColumnVector(this.startVector.size());
+		ColumnVector vector2 = new ColumnVector(this.startVector.size());
+		this.step(this.startVector, vector2);
 		do {
+			final ColumnVector vector = vector1;
 			vector1 = vector2;
-			vector2 = this.step(vector1);
+			vector2 = vector;
+			this.step(vector1, vector2);
 			++numIterations;
 		} while (this.maxIterations > numIterations && !this.hasConverged(vector1, vector2));
 
@@ -61,14 +65,13 @@ public abstract class PowerIterator {
 	 * Performs a step of the algorithm.
 	 *
 	 * @param vector The vector that is the result of the last step.
-	 * @return The result of this step.
+	 * @param result The vector that should receive the result of this step (all elements must be overwritten).
 	 */
-	protected abstract ColumnVector stepImpl(final ColumnVector vector);
+	protected abstract void stepImpl(final ColumnVector vector, final ColumnVector result);
 
-	private ColumnVector step(final ColumnVector vector) {
-		final ColumnVector updatedVector = this.stepImpl(vector);
-		updatedVector.normalize();
-		return updatedVector;
+	private void step(final ColumnVector vector, final ColumnVector result) {
+		this.stepImpl(vector, result);
+		result.normalize();
 	}
 
 	private boolean hasConverged(final ColumnVector vector1, final ColumnVector vector2) {
@@ -1,7 +1,7 @@
 package org.nem.nis.pox.poi.graph;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.stream.*;
 import org.nem.core.model.primitive.NodeId;
 
 /**
@@ -47,6 +47,19 @@ public class Neighborhood {
 		return community;
 	}
 
+	/**
+	 * Creates the communities of all nodes in parallel and caches them. <br>
+	 * Each community only depends on the (immutable) repository and similarity strategy, so subsequent calls to getCommunity return
+	 * the same communities as if they had been created lazily.
+	 */
+	public void precomputeCommunities() {
+		final List<Community> communities = IntStream.range(0, this.size()).parallel().mapToObj(i -> this.createCommunity(new NodeId(i)))
+				.collect(Collectors.toList());
+		for (final Community community : communities) {
+			this.communityCache.putIfAbsent(community.getPivotId(), community);
+		}
+	}
+
 	private Community createCommunity(final NodeId nodeId) {
 		final NodeNeighbors epsilonNeighbors = new NodeNeighbors();
 		final NodeNeighbors nonEpsilonNeighbors = new NodeNeighbors();
@@ -4,6 +4,7 @@ import java.util.EnumSet;
 import org.nem.nis.ForkConfiguration;
 import org.nem.nis.cache.*;
 import org.nem.nis.secret.pruning.*;
+import org.nem.nis.state.HistoricalAccountDataStore;
 
 /**
  * Factory for creating BlockTransactionObserver objects.
@@ -13,6 +14,7 @@ public class BlockTransactionObserverFactory {
 	private final EnumSet<ObserverOption> observerOptions;
 	private final int estimatedBlocksPerYear;
 	private final ForkConfiguration forkConfiguration;
+	private final HistoricalAccountDataStore historicalAccountDataStore;
 
 	/**
 	 * Creates a new transaction observer factory with no additional options.
@@ -42,9 +44,24 @@ public class BlockTransactionObserverFactory {
 	 */
 	public BlockTransactionObserverFactory(final EnumSet<ObserverOption> observerOptions, final int estimatedBlocksPerYear,
 			final ForkConfiguration forkConfiguration) {
+		this(observerOptions, estimatedBlocksPerYear, forkConfiguration, null);
+	}
+
+	/**
+	 * Creates a new transaction observer factory which uses additional options, the estimated number of blocks per year and a store
+	 * for historical account data that is not pruned.
+	 *
+	 * @param observerOptions The observer options.
+	 * @param estimatedBlocksPerYear The estimated number of blocks per year.
+	 * @param forkConfiguration The fork configuration.
+	 * @param historicalAccountDataStore The historical account data store (optional).
+	 */
+	public BlockTransactionObserverFactory(final EnumSet<ObserverOption> observerOptions, final int estimatedBlocksPerYear,
+			final ForkConfiguration forkConfiguration, final HistoricalAccountDataStore historicalAccountDataStore) {
 		this.observerOptions = observerOptions;
 		this.estimatedBlocksPerYear = estimatedBlocksPerYear;
 		this.forkConfiguration = forkConfiguration;
+		this.historicalAccountDataStore = historicalAccountDataStore;
 	}
 
 	/**
@@ -91,12 +108,13 @@ public class BlockTransactionObserverFactory {
 
 		// pruners
 		builder.add(new AccountStateCachePruningObserver(nisCache.getAccountStateCache(),
-				!options.contains(ObserverOption.NoHistoricalDataPruning)));
+				!options.contains(ObserverOption.NoHistoricalDataPruning), this.historicalAccountDataStore));
 		builder.add(new NamespaceCachePruningObserver(nisCache.getNamespaceCache()));
 		builder.add(new TransactionHashCachePruningObserver(nisCache.getTransactionHashCache()));
 
 		// optional observers
 		if (!options.contains(ObserverOption.NoIncrementalPoi)) {
+			builder.add(new ImportanceInputsObserver(nisCache));
 			builder.add(new RecalculateImportancesObserver(nisCache));
 		}
 
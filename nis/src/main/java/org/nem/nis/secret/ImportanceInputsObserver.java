@@ -0,0 +1,44 @@
+package org.nem.nis.secret;
+
+import org.nem.core.model.observers.*;
+import org.nem.core.model.primitive.Amount;
+import org.nem.nis.cache.NisCache;
+
+/**
+ * An observer that marks the importance inputs as changed whenever a notification can change the vested balances, the outlinks or the
+ * accounts that importances are calculated from.
+ */
+public class ImportanceInputsObserver implements BlockTransactionObserver {
+	private final NisCache nisCache;
+
+	/**
+	 * Creates a new observer.
+	 *
+	 * @param nisCache The NIS cache.
+	 */
+	public ImportanceInputsObserver(final NisCache nisCache) {
+		this.nisCache = nisCache;
+	}
+
+	@Override
+	public void notify(final Notification notification, final BlockNotificationContext context) {
+		switch (notification.getType()) {
+			case Account:
+			case BalanceTransfer:
+				break;
+
+			case BalanceCredit:
+			case BalanceDebit:
+				// zero amount adjustments (e.g. the harvest reward of a block without fees) do not change any balance
+				if (Amount.ZERO.equals(((BalanceAdjustmentNotification) notification).getAmount())) {
+					return;
+				}
+				break;
+
+			default :
+				return;
+		}
+
+		this.nisCache.getPoxFacade().markImportanceInputsChanged();
+	}
+}
@@ -4,7 +4,7 @@ import org.nem.core.model.NemGlobals;
 import org.nem.core.model.primitive.BlockHeight;
 import org.nem.nis.cache.AccountStateCache;
 import org.nem.nis.secret.BlockNotificationContext;
-import org.nem.nis.state.AccountState;
+import org.nem.nis.state.*;
 
 /**
  * Pruning observer that prunes the account state cache.
@@ -12,6 +12,7 @@ import org.nem.nis.state.AccountState;
 public class AccountStateCachePruningObserver extends AbstractPruningObserver {
 	private final AccountStateCache accountStateCache;
 	private final boolean pruneHistoricalData;
+	private final HistoricalAccountDataStore historicalAccountDataStore;
 
 	/**
 	 * Creates a new observer.
@@ -20,8 +21,21 @@ public class AccountStateCachePruningObserver extends AbstractPruningObserver {
 	 * @param pruneHistoricalData Flag indicating if historical data should be pruned.
 	 */
 	public AccountStateCachePruningObserver(final AccountStateCache accountStateCache, final boolean pruneHistoricalData) {
+		this(accountStateCache, pruneHistoricalData, null);
+	}
+
+	/**
+	 * Creates a new observer.
+	 *
+	 * @param accountStateCache The account state cache.
+	 * @param pruneHistoricalData Flag indicating if historical data should be pruned.
+	 * @param historicalAccountDataStore The store that historical data is moved to when it is not pruned (optional).
+	 */
+	public AccountStateCachePruningObserver(final AccountStateCache accountStateCache, final boolean pruneHistoricalData,
+			final HistoricalAccountDataStore historicalAccountDataStore) {
 		this.accountStateCache = accountStateCache;
 		this.pruneHistoricalData = pruneHistoricalData;
+		this.historicalAccountDataStore = historicalAccountDataStore;
 	}
 
 	@Override
@@ -36,6 +50,9 @@ public class AccountStateCachePruningObserver extends AbstractPruningObserver {
 			if (this.pruneHistoricalData) {
 				accountState.getWeightedBalances().prune(weightedBalancePruneHeight);
 				accountState.getHistoricalImportances().prune();
+			} else if (null != this.historicalAccountDataStore) {
+				// data older than one day cannot be changed by a rollback, so it can safely be moved off-heap
+				this.historicalAccountDataStore.archive(accountState, weightedBalancePruneHeight);
 			}
 
 			accountState.getImportanceInfo().prune(outlinkPruneHeight);
@@ -3,7 +3,6 @@ package org.nem.nis.service;
 import org.nem.core.crypto.Hash;
 import org.nem.core.model.*;
 import org.nem.core.model.ncc.*;
-import org.nem.core.model.primitive.BlockHeight;
 import org.nem.core.serialization.SerializableList;
 import org.nem.nis.dao.ReadOnlyTransferDao;
 
@@ -26,13 +25,12 @@ public interface AccountIo {
 	 *
 	 * @param address The account address.
 	 * @param transactionHash The hash of "top-most" transfer.
-	 * @param height The block height at which to search for the hash.
 	 * @param transfersType The type of transfers.
 	 * @param limit The maximum number of transactions to be returned.
 	 * @return The transaction information.
 	 */
 	SerializableList<TransactionMetaDataPair> getAccountTransfersUsingHash(final Address address, final Hash transactionHash,
-			final BlockHeight height, final ReadOnlyTransferDao.TransferType transfersType, final int limit);
+			final ReadOnlyTransferDao.TransferType transfersType, final int limit);
 
 	/**
 	 * Gets all transaction information associated with an account.
@@ -37,9 +37,9 @@ public class AccountIoAdapter implements AccountIo {
 
 	@Override
 	public SerializableList<TransactionMetaDataPair> getAccountTransfersUsingHash(final Address address, final Hash transactionHash,
-			final BlockHeight height, final ReadOnlyTransferDao.TransferType transfersType, final int limit) {
+			final ReadOnlyTransferDao.TransferType transfersType, final int limit) {
 		final Account account = this.accountCache.findByAddress(address);
-		final Collection<TransferBlockPair> pairs = this.transferDao.getTransactionsForAccountUsingHash(account, transactionHash, height,
+		final Collection<TransferBlockPair> pairs = this.transferDao.getTransactionsForAccountUsingHash(account, transactionHash,
 				transfersType, limit);
 		return this.toSerializableTransactionMetaDataPairList(pairs);
 	}
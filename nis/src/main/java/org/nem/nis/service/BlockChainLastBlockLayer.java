@@ -1,8 +1,13 @@
 package org.nem.nis.service;
 
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.logging.Logger;
-import org.nem.core.model.Block;
-import org.nem.core.model.primitive.BlockHeight;
+import java.util.stream.Collectors;
+import org.nem.core.crypto.HashChain;
+import org.nem.core.model.*;
+import org.nem.core.model.primitive.*;
+import org.nem.core.time.TimeInstant;
 import org.nem.nis.dao.BlockDao;
 import org.nem.nis.dbmodel.DbBlock;
 import org.nem.nis.mappers.NisModelToDbModelMapper;
@@ -11,6 +16,9 @@ import org.springframework.stereotype.Service;
 
 /**
  * This is intermediate layer between blockchain or harvesting and actual Dao.
+ * <br>
+ * The layer keeps a window of the most recent blocks (at most blockChainRewriteLimit blocks ending with the last block) in memory so that
+ * lookups near the tip of the chain do not need to access the db.
  */
 @Service
 public class BlockChainLastBlockLayer {
@@ -22,6 +30,9 @@ public class BlockChainLastBlockLayer {
 	private boolean isLoading;
 	private DbBlock lastBlock;
 
+	// contiguous blocks ending with the last block
+	private final ConcurrentSkipListMap<Long, RecentBlock> recentBlocks = new ConcurrentSkipListMap<>();
+
 	@Autowired(required = true)
 	public BlockChainLastBlockLayer(final BlockDao blockDao, final NisModelToDbModelMapper mapper) {
 		this.blockDao = blockDao;
@@ -75,6 +86,7 @@ public class BlockChainLastBlockLayer {
 		}
 
 		this.lastBlock = curBlock;
+		this.addRecentBlock(curBlock, null);
 	}
 
 	/**
@@ -90,6 +102,7 @@ public class BlockChainLastBlockLayer {
 		// mind that there is NO cascade in transaction (near block field)
 		this.blockDao.save(dbBlock);
 		this.lastBlock = dbBlock;
+		this.addRecentBlock(dbBlock, block);
 	}
 
 	/**
@@ -101,7 +114,139 @@ public class BlockChainLastBlockLayer {
 		// optimization: check if there is anything to delete
 		if (0 < this.getLastBlockHeight().compareTo(height)) {
 			this.blockDao.deleteBlocksAfterHeight(height);
-			this.lastBlock = this.blockDao.findByHeight(height);
+			this.recentBlocks.tailMap(height.getRaw(), false).clear();
+
+			final RecentBlock recentBlock = this.recentBlocks.get(height.getRaw());
+			this.lastBlock = null != recentBlock ? recentBlock.dbBlock : this.blockDao.findByHeight(height);
+			if (null == recentBlock) {
+				this.recentBlocks.clear();
+				this.addRecentBlock(this.lastBlock, null);
+			}
+		}
+	}
+
+	// region recent blocks
+
+	/**
+	 * Gets a value indicating whether or not the block at the specified height is in the recent block window.
+	 *
+	 * @param height The height.
+	 * @return true if the block is in the recent block window.
+	 */
+	public boolean isRecentBlock(final BlockHeight height) {
+		return this.recentBlocks.containsKey(height.getRaw());
+	}
+
+	/**
+	 * Gets the db block at the specified height from the recent block window.
+	 *
+	 * @param height The height.
+	 * @return The db block or null if the block is not in the recent block window.
+	 */
+	public DbBlock findRecentDbBlock(final BlockHeight height) {
+		final RecentBlock recentBlock = this.recentBlocks.get(height.getRaw());
+		return null == recentBlock ? null : recentBlock.dbBlock;
+	}
+
+	/**
+	 * Gets the (model) block at the specified height from the recent block window.
+	 * Only blocks that were added by this layer are available as model blocks.
+	 *
+	 * @param height The height.
+	 * @return The block or null if the block is not in the recent block window or is only available as db block.
+	 */
+	public Block findRecentBlock(final BlockHeight height) {
+		final RecentBlock recentBlock = this.recentBlocks.get(height.getRaw());
+		return null == recentBlock ? null : recentBlock.block;
+	}
+
+	/**
+	 * Gets at most limit db blocks after the specified height from the recent block window.
+	 * This should only be called if the block following height is in the recent block window.
+	 *
+	 * @param height The height of the block before the first desired block.
+	 * @param limit The maximum number of blocks to return.
+	 * @return The db blocks.
+	 */
+	public Collection<DbBlock> getRecentDbBlocksAfter(final BlockHeight height, final int limit) {
+		return this.recentBlocks.tailMap(height.getRaw(), false).values().stream().limit(limit).map(recentBlock -> recentBlock.dbBlock)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Gets at most limit hashes of blocks starting at the specified height from the recent block window.
+	 * This should only be called if the block at height is in the recent block window.
+	 *
+	 * @param height The height of the first block.
+	 * @param limit The maximum number of hashes to return.
+	 * @return The hash chain.
+	 */
+	public HashChain getRecentHashesFrom(final BlockHeight height, final int limit) {
+		return new HashChain(this.recentBlocks.tailMap(height.getRaw(), true).values().stream().limit(limit)
+				.map(recentBlock -> recentBlock.dbBlock.getBlockHash()).collect(Collectors.toList()));
+	}
+
+	/**
+	 * Gets at most limit block difficulties starting at the specified height.
+	 * The recent block window is used if it contains the block at height, otherwise the difficulties are loaded from the db.
+	 *
+	 * @param height The height of the first block.
+	 * @param limit The maximum number of difficulties to return.
+	 * @return The block difficulties.
+	 */
+	public List<BlockDifficulty> getDifficultiesFrom(final BlockHeight height, final int limit) {
+		if (!this.isRecentBlock(height)) {
+			return this.blockDao.getDifficultiesFrom(height, limit);
 		}
+
+		return this.recentBlocks.tailMap(height.getRaw(), true).values().stream().limit(limit)
+				.map(recentBlock -> new BlockDifficulty(recentBlock.dbBlock.getDifficulty())).collect(Collectors.toList());
 	}
+
+	/**
+	 * Gets at most limit block time stamps starting at the specified height.
+	 * The recent block window is used if it contains the block at height, otherwise the time stamps are loaded from the db.
+	 *
+	 * @param height The height of the first block.
+	 * @param limit The maximum number of time stamps to return.
+	 * @return The block time stamps.
+	 */
+	public List<TimeInstant> getTimeStampsFrom(final BlockHeight height, final int limit) {
+		if (!this.isRecentBlock(height)) {
+			return this.blockDao.getTimeStampsFrom(height, limit);
+		}
+
+		return this.recentBlocks.tailMap(height.getRaw(), true).values().stream().limit(limit)
+				.map(recentBlock -> new TimeInstant(recentBlock.dbBlock.getTimeStamp())).collect(Collectors.toList());
+	}
+
+	private void addRecentBlock(final DbBlock dbBlock, final Block block) {
+		if (null == dbBlock) {
+			return;
+		}
+
+		if (!this.recentBlocks.isEmpty() && this.recentBlocks.lastKey() + 1 != dbBlock.getHeight()) {
+			// the window must not have gaps
+			this.recentBlocks.clear();
+		}
+
+		this.recentBlocks.put(dbBlock.getHeight(), new RecentBlock(dbBlock, block));
+
+		final int maxRecentBlocks = NemGlobals.getBlockChainConfiguration().getBlockChainRewriteLimit();
+		while (this.recentBlocks.lastKey() - this.recentBlocks.firstKey() >= maxRecentBlocks) {
+			this.recentBlocks.pollFirstEntry();
+		}
+	}
+
+	private static class RecentBlock {
+		private final DbBlock dbBlock;
+		private final Block block;
+
+		public RecentBlock(final DbBlock dbBlock, final Block block) {
+			this.dbBlock = dbBlock;
+			this.block = block;
+		}
+	}
+
+	// endregion
 }
@@ -23,8 +23,8 @@ public class DbTransferIoAdapter implements TransactionIo {
 	}
 
 	@Override
-	public TransactionMetaDataPair getTransactionUsingHash(Hash hash, BlockHeight blockHeight) {
-		final TransferBlockPair pair = this.transferDao.getTransactionUsingHash(hash, blockHeight);
+	public TransactionMetaDataPair getTransactionUsingHash(Hash hash) {
+		final TransferBlockPair pair = this.transferDao.getTransactionUsingHash(hash);
 		if (null == pair) {
 			throw createMissingResourceException(hash.toString());
 		}
@@ -1,9 +1,10 @@
 package org.nem.nis.state;
 
 import java.text.DecimalFormat;
-import java.util.Iterator;
+import java.util.*;
 import java.util.logging.Logger;
-import org.nem.core.model.primitive.BlockHeight;
+import org.nem.core.model.Address;
+import org.nem.core.model.primitive.*;
 import org.nem.core.serialization.*;
 import org.nem.core.utils.FormatUtils;
 
@@ -158,6 +159,38 @@ public class AccountImportance implements ReadOnlyAccountImportance {
 		return copy;
 	}
 
+	/**
+	 * Writes all of this importance, including its outlinks, to the specified serializer so that it can be restored by readSnapshot.
+	 *
+	 * @param serializer The serializer.
+	 */
+	void writeSnapshot(final Serializer serializer) {
+		this.serialize(serializer);
+
+		final List<SerializableEntity> outlinks = new ArrayList<>();
+		this.historicalOutlinks.outlinksIterator(BlockHeight.ONE, BlockHeight.MAX).forEachRemaining(link -> outlinks.add(s -> {
+			BlockHeight.writeTo(s, "height", link.getHeight());
+			Amount.writeTo(s, "amount", link.getAmount());
+			SnapshotAddressExtensions.writeTo(s, "address", link.getOtherAccountAddress());
+		}));
+		serializer.writeObjectArray("outlinks", outlinks);
+	}
+
+	/**
+	 * Restores an importance previously written by writeSnapshot.
+	 *
+	 * @param deserializer The deserializer.
+	 * @return The restored importance.
+	 */
+	static AccountImportance readSnapshot(final Deserializer deserializer) {
+		final AccountImportance importance = new AccountImportance(deserializer);
+		deserializer.readObjectArray("outlinks",
+				d -> new AccountLink(BlockHeight.readFrom(d, "height"), Amount.readFrom(d, "amount"),
+						SnapshotAddressExtensions.readFrom(d, "address")))
+				.forEach(importance::addOutlink);
+		return importance;
+	}
+
 	@Override
 	public void serialize(final Serializer serializer) {
 		serializer.writeInt("isSet", this.isSet() ? 1 : 0);
@@ -3,6 +3,7 @@ package org.nem.nis.state;
 import java.util.*;
 import org.nem.core.model.mosaic.MosaicId;
 import org.nem.core.model.primitive.*;
+import org.nem.core.serialization.*;
 
 /**
  * Information about an account.
@@ -143,6 +144,39 @@ public class AccountInfo implements ReadOnlyAccountInfo {
 
 	// endregion
 
+	// region snapshot
+
+	/**
+	 * Writes all of this info to the specified serializer so that it can be restored by readSnapshot.
+	 *
+	 * @param serializer The serializer.
+	 */
+	void writeSnapshot(final Serializer serializer) {
+		serializer.writeString("label", this.label, Integer.MAX_VALUE);
+		Amount.writeTo(serializer, "balance", this.balance);
+		BlockAmount.writeTo(serializer, "harvestedBlocks", this.harvestedBlocks);
+		serializer.writeLong("refCount", this.refCount.getRaw());
+		serializer.writeObjectArray("mosaicIds", this.mosaicIds);
+	}
+
+	/**
+	 * Restores an info previously written by writeSnapshot.
+	 *
+	 * @param deserializer The deserializer.
+	 * @return The restored info.
+	 */
+	static AccountInfo readSnapshot(final Deserializer deserializer) {
+		final AccountInfo info = new AccountInfo();
+		info.label = deserializer.readOptionalString("label", Integer.MAX_VALUE);
+		info.balance = Amount.readFrom(deserializer, "balance");
+		info.harvestedBlocks = BlockAmount.readFrom(deserializer, "harvestedBlocks");
+		info.refCount = new ReferenceCount(deserializer.readLong("refCount"));
+		info.mosaicIds.addAll(deserializer.readObjectArray("mosaicIds", MosaicId::new));
+		return info;
+	}
+
+	// endregion
+
 	/**
 	 * Creates a copy of this info.
 	 *
@@ -1,13 +1,17 @@
 package org.nem.nis.state;
 
 import org.nem.core.model.Address;
-import org.nem.core.model.primitive.BlockHeight;
+import org.nem.core.model.primitive.*;
+import org.nem.core.serialization.*;
 import org.nem.nis.cache.delta.Copyable;
 
 /**
  * Class containing extrinsic in-memory mutable account information.
  */
 public class AccountState implements ReadOnlyAccountState, Copyable<AccountState> {
+	private static final int WEIGHTED_BALANCES_TYPE_TIME_BASED = 1;
+	private static final int WEIGHTED_BALANCES_TYPE_ALWAYS_VESTED = 2;
+
 	private final Address address;
 	private final AccountImportance importance;
 	private final HistoricalImportances historicalImportances;
@@ -123,6 +127,69 @@ public class AccountState implements ReadOnlyAccountState, Copyable<AccountState
 		}
 	}
 
+	// region snapshot
+
+	/**
+	 * Writes all of this state to the specified serializer so that it can be restored by readSnapshot.
+	 *
+	 * @param serializer The serializer.
+	 */
+	public void writeSnapshot(final Serializer serializer) {
+		SnapshotAddressExtensions.writeTo(serializer, "address", this.address);
+		serializer.writeLong("height", null == this.height ? 0 : this.height.getRaw());
+		this.importance.writeSnapshot(serializer);
+		this.historicalImportances.writeSnapshot(serializer);
+		writeWeightedBalances(serializer, this.weightedBalances);
+		this.remoteLinks.writeSnapshot(serializer);
+		this.multisigLinks.writeSnapshot(serializer);
+		this.accountInfo.writeSnapshot(serializer);
+	}
+
+	private static void writeWeightedBalances(final Serializer serializer, final WeightedBalances weightedBalances) {
+		if (weightedBalances instanceof TimeBasedVestingWeightedBalances) {
+			serializer.writeInt("weightedBalancesType", WEIGHTED_BALANCES_TYPE_TIME_BASED);
+			((TimeBasedVestingWeightedBalances) weightedBalances).writeSnapshot(serializer);
+		} else if (weightedBalances instanceof AlwaysVestedBalances) {
+			serializer.writeInt("weightedBalancesType", WEIGHTED_BALANCES_TYPE_ALWAYS_VESTED);
+			Amount.writeTo(serializer, "balance", weightedBalances.getVested(BlockHeight.MAX));
+		} else {
+			throw new IllegalArgumentException(String.format("unsupported weighted balances %s", weightedBalances.getClass()));
+		}
+	}
+
+	/**
+	 * Restores a state previously written by writeSnapshot.
+	 *
+	 * @param deserializer The deserializer.
+	 * @return The restored state.
+	 */
+	public static AccountState readSnapshot(final Deserializer deserializer) {
+		final Address address = SnapshotAddressExtensions.readFrom(deserializer, "address");
+		final long rawHeight = deserializer.readLong("height");
+		final AccountImportance importance = AccountImportance.readSnapshot(deserializer);
+		final HistoricalImportances historicalImportances = HistoricalImportances.readSnapshot(deserializer);
+		final WeightedBalances weightedBalances = readWeightedBalances(deserializer);
+		final RemoteLinks remoteLinks = RemoteLinks.readSnapshot(deserializer);
+		final MultisigLinks multisigLinks = MultisigLinks.readSnapshot(deserializer);
+		final AccountInfo accountInfo = AccountInfo.readSnapshot(deserializer);
+		return new AccountState(address, importance, historicalImportances, weightedBalances, remoteLinks, multisigLinks, accountInfo,
+				0 == rawHeight ? null : new BlockHeight(rawHeight));
+	}
+
+	private static WeightedBalances readWeightedBalances(final Deserializer deserializer) {
+		final int type = deserializer.readInt("weightedBalancesType");
+		switch (type) {
+			case WEIGHTED_BALANCES_TYPE_TIME_BASED:
+				return TimeBasedVestingWeightedBalances.readSnapshot(deserializer);
+			case WEIGHTED_BALANCES_TYPE_ALWAYS_VESTED:
+				return new AlwaysVestedBalances(Amount.readFrom(deserializer, "balance"));
+			default:
+				throw new IllegalArgumentException(String.format("unsupported weighted balances type %d", type));
+		}
+	}
+
+	// endregion
+
 	@Override
 	public AccountState copy() {
 		return new AccountState(this.address, this.importance.copy(), this.historicalImportances.copy(), this.weightedBalances.copy(),
@@ -1,5 +1,7 @@
 package org.nem.nis.state;
 
+import java.util.List;
+import java.util.function.Consumer;
 import org.nem.core.model.primitive.*;
 
 /**
@@ -41,6 +43,13 @@ public class AlwaysVestedBalances implements WeightedBalances {
 		return 1;
 	}
 
+	@Override
+	public void visitBalances(final List<BlockHeight> heights, final HistoricalBalanceVisitor visitor) {
+		for (final BlockHeight height : heights) {
+			visitor.visit(height, this.balance, Amount.ZERO);
+		}
+	}
+
 	// endregion
 
 	// region WeightedBalances
@@ -87,5 +96,9 @@ public class AlwaysVestedBalances implements WeightedBalances {
 	public void prune(final BlockHeight minHeight) {
 	}
 
+	@Override
+	public void prune(final BlockHeight minHeight, final Consumer<WeightedBalance> prunedBalanceConsumer) {
+	}
+
 	// endregion
 }
@@ -0,0 +1,455 @@
+package org.nem.nis.state;
+
+import java.io.*;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.*;
+import org.nem.core.model.Address;
+import org.nem.core.model.primitive.*;
+import org.nem.core.utils.ExceptionUtils;
+
+/**
+ * An append-only, memory-mapped store of archived (historical) account balances and importances.
+ * <br>
+ * Each account has a balance column and an importance column. Every column is a list of fixed-size segments in a single mapped file;
+ * each segment holds up to SEGMENT_CAPACITY records of three primitive longs. Only the small per-account segment index lives on the
+ * heap. The store is not persistent across restarts; it is rebuilt while the block chain is loaded and its file is deleted when it is
+ * closed.
+ */
+public class HistoricalAccountDataStore implements Closeable {
+	private static final int SEGMENT_CAPACITY = 32;
+	private static final int RECORD_SIZE = 3 * Long.BYTES;
+	private static final int SEGMENT_SIZE = SEGMENT_CAPACITY * RECORD_SIZE;
+	private static final int DEFAULT_SEGMENTS_PER_CHUNK = 4096;
+
+	private final File file;
+	private final int segmentsPerChunk;
+	private final Map<Address, AccountColumns> accountColumns = new ConcurrentHashMap<>();
+	private final Object fileLock = new Object();
+	private FileChannel channel;
+	private volatile MappedByteBuffer[] chunks = new MappedByteBuffer[0];
+	private int numSegments;
+	private boolean isClosed;
+
+	/**
+	 * Creates a new store.
+	 *
+	 * @param file The backing file (any existing content is discarded).
+	 */
+	public HistoricalAccountDataStore(final File file) {
+		this(file, DEFAULT_SEGMENTS_PER_CHUNK);
+	}
+
+	/**
+	 * Creates a new store with a custom chunk size.
+	 *
+	 * @param file The backing file (any existing content is discarded).
+	 * @param segmentsPerChunk The number of segments per mapped chunk.
+	 */
+	HistoricalAccountDataStore(final File file, final int segmentsPerChunk) {
+		this.file = file;
+		this.segmentsPerChunk = segmentsPerChunk;
+	}
+
+	// region archive
+
+	/**
+	 * Moves all weighted balances and historical importances of an account at or below a height from the account state into this store.
+	 *
+	 * @param accountState The account state.
+	 * @param archiveHeight The archive height.
+	 */
+	public void archive(final AccountState accountState, final BlockHeight archiveHeight) {
+		final List<WeightedBalance> balances = new ArrayList<>();
+		accountState.getWeightedBalances().prune(archiveHeight, balances::add);
+		this.archiveBalances(accountState.getAddress(), archiveHeight, balances);
+
+		final List<AccountImportance> importances = new ArrayList<>();
+		accountState.getHistoricalImportances().prune(archiveHeight, importances::add);
+		this.archiveImportances(accountState.getAddress(), archiveHeight, importances);
+	}
+
+	/**
+	 * Archives weighted balances of an account. Balances at or below a previously archived height are ignored.
+	 *
+	 * @param address The account address.
+	 * @param archivedHeight The height up to which the balances of the account are (now) archived.
+	 * @param balances The balances sorted by height; all of them must have a height less than or equal to archivedHeight.
+	 */
+	void archiveBalances(final Address address, final BlockHeight archivedHeight, final Collection<WeightedBalance> balances) {
+		final Column column = this.getOrCreateColumns(address).balances;
+		synchronized (column) {
+			for (final WeightedBalance balance : balances) {
+				column.put(balance.getBlockHeight().getRaw(), balance.getVestedBalance().getNumMicroNem(),
+						balance.getUnvestedBalance().getNumMicroNem());
+			}
+
+			column.setArchivedHeight(archivedHeight.getRaw());
+		}
+	}
+
+	/**
+	 * Archives historical importances of an account. Importances at or below a previously archived height are ignored.
+	 *
+	 * @param address The account address.
+	 * @param archivedHeight The height up to which the importances of the account are (now) archived.
+	 * @param importances The importances; all of them must have a height less than or equal to archivedHeight.
+	 */
+	void archiveImportances(final Address address, final BlockHeight archivedHeight,
+			final Collection<AccountImportance> importances) {
+		final List<AccountImportance> sortedImportances = new ArrayList<>(importances);
+		sortedImportances.sort(Comparator.comparing(AccountImportance::getHeight));
+
+		final Column column = this.getOrCreateColumns(address).importances;
+		synchronized (column) {
+			for (final AccountImportance importance : sortedImportances) {
+				final BlockHeight height = importance.getHeight();
+				column.put(height.getRaw(), Double.doubleToRawLongBits(importance.getImportance(height)),
+						Double.doubleToRawLongBits(importance.getLastPageRank()));
+			}
+
+			column.setArchivedHeight(archivedHeight.getRaw());
+		}
+	}
+
+	private AccountColumns getOrCreateColumns(final Address address) {
+		return this.accountColumns.computeIfAbsent(address, a -> new AccountColumns());
+	}
+
+	// endregion
+
+	// region views
+
+	/**
+	 * Gets a view of the complete weighted balances of an account that reads archived heights from this store and all other heights
+	 * from the recent (on-heap) balances.
+	 *
+	 * @param address The account address.
+	 * @param recentBalances The recent balances.
+	 * @return The weighted balances view.
+	 */
+	public ReadOnlyWeightedBalances getWeightedBalances(final Address address, final ReadOnlyWeightedBalances recentBalances) {
+		final AccountColumns columns = this.accountColumns.get(address);
+		return null == columns ? recentBalances : new ArchivedWeightedBalances(columns.balances, recentBalances);
+	}
+
+	/**
+	 * Gets a view of the complete historical importances of an account that reads archived heights from this store and all other
+	 * heights from the recent (on-heap) importances.
+	 *
+	 * @param address The account address.
+	 * @param recentImportances The recent importances.
+	 * @return The historical importances view.
+	 */
+	public ReadOnlyHistoricalImportances getHistoricalImportances(final Address address,
+			final ReadOnlyHistoricalImportances recentImportances) {
+		final AccountColumns columns = this.accountColumns.get(address);
+		return null == columns ? recentImportances : new ArchivedHistoricalImportances(columns.importances, recentImportances);
+	}
+
+	private class ArchivedWeightedBalances implements ReadOnlyWeightedBalances {
+		private final Column column;
+		private final ReadOnlyWeightedBalances recentBalances;
+
+		public ArchivedWeightedBalances(final Column column, final ReadOnlyWeightedBalances recentBalances) {
+			this.column = column;
+			this.recentBalances = recentBalances;
+		}
+
+		@Override
+		public int size() {
+			// pruning leaves a balance consolidated at the archived height in the recent balances, which must not be counted twice
+			final int numRecentBalances = this.recentBalances.size();
+			synchronized (this.column) {
+				return 0 == this.column.archivedHeight ? numRecentBalances : this.column.size + Math.max(0, numRecentBalances - 1);
+			}
+		}
+
+		@Override
+		public Amount getVested(final BlockHeight height) {
+			return this.getAmount(height, 1, this.recentBalances::getVested);
+		}
+
+		@Override
+		public Amount getUnvested(final BlockHeight height) {
+			return this.getAmount(height, 2, this.recentBalances::getUnvested);
+		}
+
+		private Amount getAmount(final BlockHeight height, final int field, final Function<BlockHeight, Amount> getRecent) {
+			synchronized (this.column) {
+				if (height.getRaw() <= this.column.archivedHeight) {
+					final int index = this.column.findLast(height.getRaw());
+					return index < 0 ? Amount.ZERO : Amount.fromMicroNem(this.column.get(index, field));
+				}
+			}
+
+			return getRecent.apply(height);
+		}
+
+		@Override
+		public void visitBalances(final List<BlockHeight> heights, final HistoricalBalanceVisitor visitor) {
+			int numVisited = 0;
+			synchronized (this.column) {
+				int index = -1;
+				for (final BlockHeight height : heights) {
+					if (height.getRaw() > this.column.archivedHeight) {
+						break;
+					}
+
+					while (index + 1 < this.column.size && this.column.get(index + 1, 0) <= height.getRaw()) {
+						++index;
+					}
+
+					if (index < 0) {
+						visitor.visit(height, Amount.ZERO, Amount.ZERO);
+					} else {
+						visitor.visit(height, Amount.fromMicroNem(this.column.get(index, 1)),
+								Amount.fromMicroNem(this.column.get(index, 2)));
+					}
+
+					++numVisited;
+				}
+			}
+
+			if (numVisited < heights.size()) {
+				this.recentBalances.visitBalances(heights.subList(numVisited, heights.size()), visitor);
+			}
+		}
+	}
+
+	private class ArchivedHistoricalImportances implements ReadOnlyHistoricalImportances {
+		private final Column column;
+		private final ReadOnlyHistoricalImportances recentImportances;
+
+		public ArchivedHistoricalImportances(final Column column, final ReadOnlyHistoricalImportances recentImportances) {
+			this.column = column;
+			this.recentImportances = recentImportances;
+		}
+
+		@Override
+		public double getHistoricalImportance(final BlockHeight height) {
+			return this.getValue(height, 1, this.recentImportances::getHistoricalImportance);
+		}
+
+		@Override
+		public double getHistoricalPageRank(final BlockHeight height) {
+			return this.getValue(height, 2, this.recentImportances::getHistoricalPageRank);
+		}
+
+		@Override
+		public int size() {
+			return this.column.size() + this.recentImportances.size();
+		}
+
+		private double getValue(final BlockHeight height, final int field, final ToDoubleFunction<BlockHeight> getRecent) {
+			synchronized (this.column) {
+				if (height.getRaw() <= this.column.archivedHeight) {
+					final int index = this.column.findLast(height.getRaw());
+					return index < 0 || this.column.get(index, 0) != height.getRaw()
+							? 0.0
+							: Double.longBitsToDouble(this.column.get(index, field));
+				}
+			}
+
+			return getRecent.applyAsDouble(height);
+		}
+
+		@Override
+		public void visitImportances(final List<BlockHeight> heights, final HistoricalImportanceVisitor visitor) {
+			int numVisited = 0;
+			synchronized (this.column) {
+				int index = -1;
+				for (final BlockHeight height : heights) {
+					if (height.getRaw() > this.column.archivedHeight) {
+						break;
+					}
+
+					while (index + 1 < this.column.size && this.column.get(index + 1, 0) <= height.getRaw()) {
+						++index;
+					}
+
+					if (index < 0 || this.column.get(index, 0) != height.getRaw()) {
+						visitor.visit(height, 0.0, 0.0);
+					} else {
+						visitor.visit(height, Double.longBitsToDouble(this.column.get(index, 1)),
+								Double.longBitsToDouble(this.column.get(index, 2)));
+					}
+
+					++numVisited;
+				}
+			}
+
+			if (numVisited < heights.size()) {
+				this.recentImportances.visitImportances(heights.subList(numVisited, heights.size()), visitor);
+			}
+		}
+	}
+
+	// endregion
+
+	// region storage
+
+	private class AccountColumns {
+		private final Column balances = new Column();
+		private final Column importances = new Column();
+	}
+
+	// a column is a list of (height, value1, value2) records sorted by height
+	// all accesses must be synchronized on the column
+	private class Column {
+		private int[] segments = new int[4];
+		private int size;
+		private long archivedHeight;
+
+		public int size() {
+			synchronized (this) {
+				return this.size;
+			}
+		}
+
+		public void put(final long height, final long value1, final long value2) {
+			if (height <= this.archivedHeight) {
+				return;
+			}
+
+			// the last record at a height wins, so a record at the same height as the last record replaces it
+			int index = this.size - 1;
+			if (index < 0 || this.get(index, 0) != height) {
+				index = this.size;
+				if (0 == index % SEGMENT_CAPACITY) {
+					this.addSegment();
+				}
+
+				++this.size;
+			}
+
+			this.set(index, height, value1, value2);
+		}
+
+		public void setArchivedHeight(final long height) {
+			this.archivedHeight = Math.max(this.archivedHeight, height);
+		}
+
+		public int findLast(final long height) {
+			int low = 0;
+			int high = this.size - 1;
+			while (low <= high) {
+				final int mid = (low + high) >>> 1;
+				if (this.get(mid, 0) <= height) {
+					low = mid + 1;
+				} else {
+					high = mid - 1;
+				}
+			}
+
+			return high;
+		}
+
+		public long get(final int index, final int field) {
+			final int segment = this.segments[index / SEGMENT_CAPACITY];
+			return HistoricalAccountDataStore.this.getChunk(segment).getLong(getPosition(segment, index, field));
+		}
+
+		private void set(final int index, final long height, final long value1, final long value2) {
+			final int segment = this.segments[index / SEGMENT_CAPACITY];
+			final MappedByteBuffer chunk = HistoricalAccountDataStore.this.getChunk(segment);
+			chunk.putLong(getPosition(segment, index, 0), height);
+			chunk.putLong(getPosition(segment, index, 1), value1);
+			chunk.putLong(getPosition(segment, index, 2), value2);
+		}
+
+		private void addSegment() {
+			final int numSegments = this.size / SEGMENT_CAPACITY;
+			if (numSegments == this.segments.length) {
+				this.segments = Arrays.copyOf(this.segments, 2 * numSegments);
+			}
+
+			this.segments[numSegments] = HistoricalAccountDataStore.this.allocateSegment();
+		}
+
+		private int getPosition(final int segment, final int index, final int field) {
+			final int segmentPosition = (segment % HistoricalAccountDataStore.this.segmentsPerChunk) * SEGMENT_SIZE;
+			return segmentPosition + (index % SEGMENT_CAPACITY) * RECORD_SIZE + field * Long.BYTES;
+		}
+	}
+
+	private MappedByteBuffer getChunk(final int segment) {
+		final MappedByteBuffer[] chunks = this.chunks;
+		final int chunkIndex = segment / this.segmentsPerChunk;
+		if (chunkIndex >= chunks.length) {
+			throw new IllegalStateException("historical account data store is closed");
+		}
+
+		return chunks[chunkIndex];
+	}
+
+	private int allocateSegment() {
+		synchronized (this.fileLock) {
+			if (this.isClosed) {
+				throw new IllegalStateException("historical account data store is closed");
+			}
+
+			final int segment = this.numSegments;
+			final int chunkIndex = segment / this.segmentsPerChunk;
+			if (chunkIndex == this.chunks.length) {
+				this.chunks = this.mapChunk(chunkIndex);
+			}
+
+			++this.numSegments;
+			return segment;
+		}
+	}
+
+	private MappedByteBuffer[] mapChunk(final int chunkIndex) {
+		return ExceptionUtils.propagate(() -> {
+			if (null == this.channel) {
+				final File directory = this.file.getAbsoluteFile().getParentFile();
+				if (null != directory) {
+					Files.createDirectories(directory.toPath());
+				}
+
+				this.channel = FileChannel.open(this.file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+						StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+			}
+
+			final long chunkSize = (long) this.segmentsPerChunk * SEGMENT_SIZE;
+			final MappedByteBuffer[] chunks = Arrays.copyOf(this.chunks, chunkIndex + 1);
+			chunks[chunkIndex] = this.channel.map(FileChannel.MapMode.READ_WRITE, chunkIndex * chunkSize, chunkSize);
+			return chunks;
+		});
+	}
+
+	// endregion
+
+	/**
+	 * Closes the store and deletes its file. All archived data is discarded.
+	 * <br>
+	 * The mapped chunks are not unmapped forcibly because a concurrent reader would access unmapped memory. Instead, they are released
+	 * so that they are unmapped once they are garbage collected.
+	 *
+	 * @throws IOException If the file cannot be closed.
+	 */
+	@Override
+	public void close() throws IOException {
+		synchronized (this.fileLock) {
+			if (this.isClosed) {
+				return;
+			}
+
+			this.isClosed = true;
+			this.chunks = new MappedByteBuffer[0];
+			if (null != this.channel) {
+				this.channel.close();
+				this.channel = null;
+
+				// the file cannot be deleted while it is mapped on some platforms
+				if (!this.file.delete()) {
+					this.file.deleteOnExit();
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,19 @@
+package org.nem.nis.state;
+
+import org.nem.core.model.primitive.*;
+
+/**
+ * Visitor that visits historical balances.
+ */
+@FunctionalInterface
+public interface HistoricalBalanceVisitor {
+
+	/**
+	 * Visits the balances at a height.
+	 *
+	 * @param height The height.
+	 * @param vested The vested amount.
+	 * @param unvested The unvested amount.
+	 */
+	void visit(final BlockHeight height, final Amount vested, final Amount unvested);
+}
@@ -0,0 +1,19 @@
+package org.nem.nis.state;
+
+import org.nem.core.model.primitive.BlockHeight;
+
+/**
+ * Visitor that visits historical importances.
+ */
+@FunctionalInterface
+public interface HistoricalImportanceVisitor {
+
+	/**
+	 * Visits the importance at a height.
+	 *
+	 * @param height The height.
+	 * @param importance The importance.
+	 * @param pageRank The page rank.
+	 */
+	void visit(final BlockHeight height, final double importance, final double pageRank);
+}
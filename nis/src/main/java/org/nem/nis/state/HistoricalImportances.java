@@ -1,7 +1,9 @@
 package org.nem.nis.state;
 
-import java.util.HashMap;
+import java.util.*;
+import java.util.function.Consumer;
 import org.nem.core.model.primitive.BlockHeight;
+import org.nem.core.serialization.*;
 
 /**
  * Container for historical account importance information.
@@ -37,6 +39,18 @@ public class HistoricalImportances implements ReadOnlyHistoricalImportances {
 		return this.importances.size();
 	}
 
+	@Override
+	public void visitImportances(final List<BlockHeight> heights, final HistoricalImportanceVisitor visitor) {
+		for (final BlockHeight height : heights) {
+			final AccountImportance importance = this.importances.get(height);
+			if (null == importance) {
+				visitor.visit(height, 0.0, 0.0);
+			} else {
+				visitor.visit(height, importance.getImportance(height), importance.getLastPageRank());
+			}
+		}
+	}
+
 	/**
 	 * Adds an account importance to the historical importances.
 	 *
@@ -54,4 +68,43 @@ public class HistoricalImportances implements ReadOnlyHistoricalImportances {
 	public void prune() {
 		this.importances.clear();
 	}
+
+	/**
+	 * Removes all historical importances that have a height less than or equal to minHeight and passes each removed importance to a
+	 * consumer.
+	 *
+	 * @param minHeight The minimum height of importances to keep.
+	 * @param prunedImportanceConsumer The consumer of the removed importances.
+	 */
+	public void prune(final BlockHeight minHeight, final Consumer<AccountImportance> prunedImportanceConsumer) {
+		final Iterator<AccountImportance> iterator = this.importances.values().iterator();
+		while (iterator.hasNext()) {
+			final AccountImportance importance = iterator.next();
+			if (importance.getHeight().compareTo(minHeight) <= 0) {
+				prunedImportanceConsumer.accept(importance);
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Writes all historical importances to the specified serializer so that they can be restored by readSnapshot.
+	 *
+	 * @param serializer The serializer.
+	 */
+	void writeSnapshot(final Serializer serializer) {
+		serializer.writeObjectArray("importances", this.importances.values());
+	}
+
+	/**
+	 * Restores historical importances previously written by writeSnapshot.
+	 *
+	 * @param deserializer The deserializer.
+	 * @return The restored historical importances.
+	 */
+	static HistoricalImportances readSnapshot(final Deserializer deserializer) {
+		final HistoricalImportances historicalImportances = new HistoricalImportances();
+		deserializer.readObjectArray("importances", AccountImportance::new).forEach(historicalImportances::addHistoricalImportance);
+		return historicalImportances;
+	}
 }
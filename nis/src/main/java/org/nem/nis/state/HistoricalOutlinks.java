@@ -53,7 +53,8 @@ public class HistoricalOutlinks {
 	 * @return number of AccountLink
 	 */
 	public int outlinksSize(final BlockHeight blockHeight) {
-		return this.outlinks.stream().filter(x -> x.getHeight().compareTo(blockHeight) <= 0).map(HistoricalOutlink::size).reduce(0,
+		// historical outlinks are sorted by (strictly increasing) height, so the scan can stop at the first later one
+		return this.outlinks.stream().takeWhile(x -> x.getHeight().compareTo(blockHeight) <= 0).map(HistoricalOutlink::size).reduce(0,
 				Integer::sum);
 	}
 
@@ -65,8 +66,8 @@ public class HistoricalOutlinks {
 	 * @return iterator
 	 */
 	public Iterator<AccountLink> outlinksIterator(final BlockHeight startHeight, final BlockHeight endHeight) {
-		return this.outlinks.stream().filter(x -> x.getHeight().compareTo(startHeight) >= 0 && x.getHeight().compareTo(endHeight) <= 0)
-				.flatMap(x -> x.getOutlinks().stream()).iterator();
+		return this.outlinks.stream().dropWhile(x -> x.getHeight().compareTo(startHeight) < 0)
+				.takeWhile(x -> x.getHeight().compareTo(endHeight) <= 0).flatMap(x -> x.getOutlinks().stream()).iterator();
 	}
 
 	/**
@@ -1,8 +1,10 @@
 package org.nem.nis.state;
 
 import java.util.*;
+import java.util.stream.Collectors;
 import org.nem.core.model.Address;
 import org.nem.core.model.primitive.Quantity;
+import org.nem.core.serialization.*;
 
 /**
  * A mapping of mosaic balances.
@@ -57,6 +59,33 @@ public class MosaicBalances implements ReadOnlyMosaicBalances {
 		}
 	}
 
+	/**
+	 * Writes the specified balances to the specified serializer so that they can be restored by readSnapshot.
+	 *
+	 * @param serializer The serializer.
+	 * @param balances The balances.
+	 */
+	public static void writeSnapshot(final Serializer serializer, final ReadOnlyMosaicBalances balances) {
+		serializer.writeObjectArray("balances", balances.getOwners().stream().map(owner -> (SerializableEntity) s -> {
+			SnapshotAddressExtensions.writeTo(s, "owner", owner);
+			Quantity.writeTo(s, "quantity", balances.getBalance(owner));
+		}).collect(Collectors.toList()));
+	}
+
+	/**
+	 * Restores balances previously written by writeSnapshot.
+	 *
+	 * @param deserializer The deserializer.
+	 * @return The restored balances.
+	 */
+	public static MosaicBalances readSnapshot(final Deserializer deserializer) {
+		final MosaicBalances balances = new MosaicBalances();
+		deserializer.readObjectArray("balances",
+				d -> new AbstractMap.SimpleEntry<>(SnapshotAddressExtensions.readFrom(d, "owner"), Quantity.readFrom(d, "quantity")))
+				.forEach(e -> balances.update(e.getKey(), e.getValue()));
+		return balances;
+	}
+
 	/**
 	 * Creates a copy of this MosaicBalances.
 	 *
@@ -3,6 +3,7 @@ package org.nem.nis.state;
 import org.nem.core.model.Address;
 import org.nem.core.model.mosaic.*;
 import org.nem.core.model.primitive.*;
+import org.nem.core.serialization.*;
 
 /**
  * A writable mosaic entry.
@@ -92,6 +93,30 @@ public class MosaicEntry implements ReadOnlyMosaicEntry {
 		return MosaicUtils.toQuantity(supply, divisibility);
 	}
 
+	/**
+	 * Writes all of this entry to the specified serializer so that it can be restored by readSnapshot.
+	 *
+	 * @param serializer The serializer.
+	 */
+	public void writeSnapshot(final Serializer serializer) {
+		serializer.writeObject("mosaicDefinition", this.mosaicDefinition);
+		Supply.writeTo(serializer, "supply", this.supply);
+		MosaicBalances.writeSnapshot(serializer, this.balances);
+	}
+
+	/**
+	 * Restores an entry previously written by writeSnapshot.
+	 * Notice that the deserialization context must be able to look up the mosaic creator.
+	 *
+	 * @param deserializer The deserializer.
+	 * @return The restored entry.
+	 */
+	public static MosaicEntry readSnapshot(final Deserializer deserializer) {
+		final MosaicDefinition mosaicDefinition = deserializer.readObject("mosaicDefinition", MosaicDefinition::new);
+		final Supply supply = Supply.readFrom(deserializer, "supply");
+		return new MosaicEntry(mosaicDefinition, supply, MosaicBalances.readSnapshot(deserializer));
+	}
+
 	/**
 	 * Creates a copy of this entry.
 	 *
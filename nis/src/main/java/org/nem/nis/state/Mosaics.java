@@ -6,6 +6,7 @@ import java.util.stream.Collectors;
 import org.nem.core.model.mosaic.*;
 import org.nem.core.model.namespace.NamespaceId;
 import org.nem.core.model.primitive.BlockHeight;
+import org.nem.core.serialization.*;
 
 /**
  * A writable mosaics container.
@@ -164,6 +165,36 @@ public class Mosaics implements ReadOnlyMosaics {
 		return copy;
 	}
 
+	/**
+	 * Writes all mosaic entries (including historical ones) to the specified serializer so that they can be restored by readSnapshot.
+	 *
+	 * @param serializer The serializer.
+	 */
+	public void writeSnapshot(final Serializer serializer) {
+		serializer.writeObjectArray("histories", this.hashMap.values().stream().map(history -> (SerializableEntity) s -> s.writeObjectArray(
+				"entries", history.mosaicEntries.stream().map(entry -> (SerializableEntity) entry::writeSnapshot).collect(Collectors.toList())))
+				.collect(Collectors.toList()));
+	}
+
+	/**
+	 * Restores a mosaics container previously written by writeSnapshot.
+	 *
+	 * @param deserializer The deserializer.
+	 * @param namespaceId The namespace id of all mosaics in the container.
+	 * @param mosaicRedefinitionForkHeight The mosaic redefinition fork height.
+	 * @return The restored mosaics container.
+	 */
+	public static Mosaics readSnapshot(final Deserializer deserializer, final NamespaceId namespaceId,
+			final BlockHeight mosaicRedefinitionForkHeight) {
+		final Mosaics mosaics = new Mosaics(namespaceId, mosaicRedefinitionForkHeight);
+		deserializer.readObjectArray("histories", d -> {
+			final MosaicEntryHistory history = new MosaicEntryHistory();
+			d.readObjectArray("entries", MosaicEntry::readSnapshot).forEach(history::push);
+			return history;
+		}).forEach(history -> mosaics.hashMap.put(history.last().getMosaicDefinition().getId(), history));
+		return mosaics;
+	}
+
 	// region MosaicEntryHistory
 
 	private static class MosaicEntryHistory {
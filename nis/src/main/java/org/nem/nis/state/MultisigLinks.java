@@ -1,7 +1,9 @@
 package org.nem.nis.state;
 
 import java.util.*;
+import java.util.stream.Collectors;
 import org.nem.core.model.Address;
+import org.nem.core.serialization.*;
 
 /**
  * A collection of multisig information associated with an account.
@@ -99,6 +101,41 @@ public class MultisigLinks implements ReadOnlyMultisigLinks {
 		return this.minCosignatories;
 	}
 
+	/**
+	 * Writes all multisig links to the specified serializer so that they can be restored by readSnapshot.
+	 *
+	 * @param serializer The serializer.
+	 */
+	void writeSnapshot(final Serializer serializer) {
+		writeAddresses(serializer, "cosignatories", this.cosignatories);
+		writeAddresses(serializer, "cosignatoryOf", this.cosignatoryOf);
+		serializer.writeInt("minCosignatories", this.minCosignatories);
+	}
+
+	private static void writeAddresses(final Serializer serializer, final String label, final Collection<Address> addresses) {
+		serializer.writeObjectArray(label, addresses.stream()
+				.map(address -> (SerializableEntity) s -> SnapshotAddressExtensions.writeTo(s, "address", address))
+				.collect(Collectors.toList()));
+	}
+
+	/**
+	 * Restores multisig links previously written by writeSnapshot.
+	 *
+	 * @param deserializer The deserializer.
+	 * @return The restored multisig links.
+	 */
+	static MultisigLinks readSnapshot(final Deserializer deserializer) {
+		final MultisigLinks multisigLinks = new MultisigLinks();
+		multisigLinks.cosignatories.addAll(readAddresses(deserializer, "cosignatories"));
+		multisigLinks.cosignatoryOf.addAll(readAddresses(deserializer, "cosignatoryOf"));
+		multisigLinks.minCosignatories = deserializer.readInt("minCosignatories");
+		return multisigLinks;
+	}
+
+	private static List<Address> readAddresses(final Deserializer deserializer, final String label) {
+		return deserializer.readObjectArray(label, d -> SnapshotAddressExtensions.readFrom(d, "address"));
+	}
+
 	/**
 	 * Creates a deep copy of the multisig links.
 	 *
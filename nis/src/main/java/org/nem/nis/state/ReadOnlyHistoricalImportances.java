@@ -1,5 +1,6 @@
 package org.nem.nis.state;
 
+import java.util.List;
 import org.nem.core.model.primitive.BlockHeight;
 
 @SuppressWarnings("unused")
@@ -27,4 +28,12 @@ public interface ReadOnlyHistoricalImportances {
 	 * @return The size.
 	 */
 	int size();
+
+	/**
+	 * Visits the (historical) importances and page ranks at all specified heights in a single pass.
+	 *
+	 * @param heights The heights (in ascending order).
+	 * @param visitor The visitor.
+	 */
+	void visitImportances(final List<BlockHeight> heights, final HistoricalImportanceVisitor visitor);
 }
@@ -1,5 +1,6 @@
 package org.nem.nis.state;
 
+import java.util.List;
 import org.nem.core.model.primitive.*;
 
 public interface ReadOnlyWeightedBalances {
@@ -26,4 +27,12 @@ public interface ReadOnlyWeightedBalances {
 	 * @return The unvested amount.
 	 */
 	Amount getUnvested(BlockHeight height);
+
+	/**
+	 * Visits the vested and unvested amounts at all specified heights in a single pass.
+	 *
+	 * @param heights The heights (in ascending order).
+	 * @param visitor The visitor.
+	 */
+	void visitBalances(final List<BlockHeight> heights, final HistoricalBalanceVisitor visitor);
 }
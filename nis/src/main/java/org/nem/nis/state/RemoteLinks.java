@@ -1,7 +1,9 @@
 package org.nem.nis.state;
 
+import java.util.*;
 import org.nem.core.model.*;
 import org.nem.core.model.primitive.BlockHeight;
+import org.nem.core.serialization.*;
 import org.nem.core.utils.CircularStack;
 
 /**
@@ -119,6 +121,39 @@ public class RemoteLinks implements ReadOnlyRemoteLinks {
 		}
 	}
 
+	/**
+	 * Writes all remote links to the specified serializer so that they can be restored by readSnapshot.
+	 *
+	 * @param serializer The serializer.
+	 */
+	void writeSnapshot(final Serializer serializer) {
+		final List<SerializableEntity> links = new ArrayList<>();
+		for (final RemoteLink link : this.remoteLinks) {
+			links.add(s -> {
+				SnapshotAddressExtensions.writeTo(s, "address", link.getLinkedAddress());
+				BlockHeight.writeTo(s, "height", link.getEffectiveHeight());
+				s.writeInt("mode", link.getMode().value());
+				s.writeInt("owner", link.getOwner().ordinal());
+			});
+		}
+
+		serializer.writeObjectArray("links", links);
+	}
+
+	/**
+	 * Restores remote links previously written by writeSnapshot.
+	 *
+	 * @param deserializer The deserializer.
+	 * @return The restored remote links.
+	 */
+	static RemoteLinks readSnapshot(final Deserializer deserializer) {
+		final RemoteLinks remoteLinks = new RemoteLinks();
+		deserializer.readObjectArray("links", d -> new RemoteLink(SnapshotAddressExtensions.readFrom(d, "address"), BlockHeight.readFrom(d, "height"),
+				ImportanceTransferMode.fromValueOrDefault(d.readInt("mode")), RemoteLink.Owner.values()[d.readInt("owner")]))
+				.forEach(remoteLinks::addLink);
+		return remoteLinks;
+	}
+
 	/**
 	 * Creates a copy of this collection.
 	 *
@@ -0,0 +1,39 @@
+package org.nem.nis.state;
+
+import org.nem.core.crypto.PublicKey;
+import org.nem.core.model.Address;
+import org.nem.core.serialization.*;
+
+/**
+ * Static helper class for writing addresses to and reading addresses from cache snapshots.
+ * <br>
+ * An address is written together with its public key (if known), so restored addresses are indistinguishable from the original ones.
+ */
+public class SnapshotAddressExtensions {
+
+	/**
+	 * Writes an address and its public key.
+	 *
+	 * @param serializer The serializer to use.
+	 * @param label The label.
+	 * @param address The address.
+	 */
+	public static void writeTo(final Serializer serializer, final String label, final Address address) {
+		Address.writeTo(serializer, label, address);
+		final PublicKey publicKey = address.getPublicKey();
+		serializer.writeBytes(label + "PublicKey", null == publicKey ? null : publicKey.getRaw());
+	}
+
+	/**
+	 * Reads an address and its public key previously written by writeTo.
+	 *
+	 * @param deserializer The deserializer to use.
+	 * @param label The label.
+	 * @return The address.
+	 */
+	public static Address readFrom(final Deserializer deserializer, final String label) {
+		final Address address = Address.readFrom(deserializer, label);
+		final byte[] publicKey = deserializer.readOptionalBytes(label + "PublicKey");
+		return null == publicKey ? address : Address.fromPublicKey(address.getVersion(), new PublicKey(publicKey));
+	}
+}
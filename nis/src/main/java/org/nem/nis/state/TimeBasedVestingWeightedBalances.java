@@ -1,10 +1,11 @@
 package org.nem.nis.state;
 
 import java.util.*;
-import java.util.function.Function;
+import java.util.function.*;
 import java.util.stream.Collectors;
 import org.nem.core.model.NemGlobals;
 import org.nem.core.model.primitive.*;
+import org.nem.core.serialization.*;
 
 /**
  * WeightedBalances implementation that converts balances from unvested to vested as time passes.
@@ -41,6 +42,34 @@ public class TimeBasedVestingWeightedBalances implements WeightedBalances {
 		return this.getAmountSafe(height, WeightedBalance::getUnvestedBalance);
 	}
 
+	@Override
+	public void visitBalances(final List<BlockHeight> heights, final HistoricalBalanceVisitor visitor) {
+		// unlike getVested and getUnvested, this does not append the daily vesting steps after the last balance to the list;
+		// instead, they are calculated on the fly, so concurrent readers do not modify the balances
+		int index = -1;
+		WeightedBalance current = null;
+		for (final BlockHeight height : heights) {
+			while (index + 1 < this.balances.size() && this.balances.get(index + 1).getBlockHeight().compareTo(height) <= 0) {
+				current = this.balances.get(++index);
+			}
+
+			if (null == current) {
+				visitor.visit(height, Amount.ZERO, Amount.ZERO);
+				continue;
+			}
+
+			if (this.balances.size() - 1 == index) {
+				WeightedBalance next = current.next();
+				while (next.getBlockHeight().compareTo(height) <= 0) {
+					current = next;
+					next = current.next();
+				}
+			}
+
+			visitor.visit(height, current.getVestedBalance(), current.getUnvestedBalance());
+		}
+	}
+
 	private Amount getAmountSafe(final BlockHeight height, final Function<WeightedBalance, Amount> getAmount) {
 		if (this.balances.isEmpty()) {
 			return Amount.ZERO;
@@ -194,13 +223,45 @@ public class TimeBasedVestingWeightedBalances implements WeightedBalances {
 
 	@Override
 	public void prune(final BlockHeight minHeight) {
+		this.prune(minHeight, balance -> {
+		});
+	}
+
+	@Override
+	public void prune(final BlockHeight minHeight, final Consumer<WeightedBalance> prunedBalanceConsumer) {
+		// getVested fills in all balances up to minHeight, so the removed balances are complete
 		final Amount vested = this.getVested(minHeight);
 		final Amount unvested = this.getUnvested(minHeight);
 
 		final WeightedBalance consolidatedBalance = WeightedBalance.create(minHeight, vested, unvested);
+		this.balances.stream().filter(balance -> balance.getBlockHeight().compareTo(minHeight) <= 0).forEach(prunedBalanceConsumer);
 		this.balances.removeIf(balance -> balance.getBlockHeight().compareTo(minHeight) <= 0);
 		this.balances.add(0, consolidatedBalance);
 	}
 
 	// endregion
+
+	// region snapshot
+
+	/**
+	 * Writes all weighted balances to the specified serializer so that they can be restored by readSnapshot.
+	 *
+	 * @param serializer The serializer.
+	 */
+	void writeSnapshot(final Serializer serializer) {
+		serializer.writeObjectArray("balances",
+				this.balances.stream().map(balance -> (SerializableEntity) balance::writeSnapshot).collect(Collectors.toList()));
+	}
+
+	/**
+	 * Restores weighted balances previously written by writeSnapshot.
+	 *
+	 * @param deserializer The deserializer.
+	 * @return The restored weighted balances.
+	 */
+	static TimeBasedVestingWeightedBalances readSnapshot(final Deserializer deserializer) {
+		return new TimeBasedVestingWeightedBalances(deserializer.readObjectArray("balances", WeightedBalance::readSnapshot));
+	}
+
+	// endregion
 }
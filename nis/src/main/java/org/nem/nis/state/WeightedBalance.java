@@ -2,6 +2,7 @@ package org.nem.nis.state;
 
 import org.nem.core.model.NemGlobals;
 import org.nem.core.model.primitive.*;
+import org.nem.core.serialization.*;
 
 /**
  * Calculates vested and unvested balances at a specified block height. <br>
@@ -172,6 +173,34 @@ class WeightedBalance implements Comparable<WeightedBalance> {
 		return this.amount;
 	}
 
+	/**
+	 * Writes all of this weighted balance to the specified serializer so that it can be restored by readSnapshot.
+	 *
+	 * @param serializer The serializer.
+	 */
+	public void writeSnapshot(final Serializer serializer) {
+		Amount.writeTo(serializer, "amount", this.amount);
+		BlockHeight.writeTo(serializer, "height", this.blockHeight);
+		Amount.writeTo(serializer, "balance", this.balance);
+		serializer.writeLong("unvested", this.unvestedBalance);
+		serializer.writeLong("vested", this.vestedBalance);
+	}
+
+	/**
+	 * Restores a weighted balance previously written by writeSnapshot.
+	 *
+	 * @param deserializer The deserializer.
+	 * @return The restored weighted balance.
+	 */
+	public static WeightedBalance readSnapshot(final Deserializer deserializer) {
+		final Amount amount = Amount.readFrom(deserializer, "amount");
+		final BlockHeight height = BlockHeight.readFrom(deserializer, "height");
+		final Amount balance = Amount.readFrom(deserializer, "balance");
+		final long unvested = deserializer.readLong("unvested");
+		final long vested = deserializer.readLong("vested");
+		return new WeightedBalance(amount, height, balance, unvested, vested);
+	}
+
 	@Override
 	public int compareTo(final WeightedBalance o) {
 		return this.blockHeight.compareTo(o.blockHeight);
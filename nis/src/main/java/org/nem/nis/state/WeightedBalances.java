@@ -1,5 +1,6 @@
 package org.nem.nis.state;
 
+import java.util.function.Consumer;
 import org.nem.core.model.primitive.*;
 
 /**
@@ -75,4 +76,12 @@ public interface WeightedBalances extends ReadOnlyWeightedBalances {
 	 * @param minHeight The minimum height of balances to keep.
 	 */
 	void prune(final BlockHeight minHeight);
+
+	/**
+	 * Removes all weighted balances that have a height less than minHeight and passes each removed balance to a consumer.
+	 *
+	 * @param minHeight The minimum height of balances to keep.
+	 * @param prunedBalanceConsumer The consumer of the removed balances (called in order of increasing height).
+	 */
+	void prune(final BlockHeight minHeight, final Consumer<WeightedBalance> prunedBalanceConsumer);
 }
@@ -22,4 +22,11 @@ public interface BlockChainScoreManager {
 	 * @param block The block.
 	 */
 	void updateScore(final Block parentBlock, final Block block);
+
+	/**
+	 * Resets the score of this chain to the specified score (e.g. after the chain state has been restored from a snapshot).
+	 *
+	 * @param score The score.
+	 */
+	void resetScore(final BlockChainScore score);
 }
@@ -9,9 +9,9 @@ import org.nem.nis.*;
 import org.nem.nis.ForkConfiguration;
 import org.nem.nis.cache.*;
 import org.nem.nis.chain.*;
-import org.nem.nis.dao.BlockDao;
 import org.nem.nis.mappers.*;
 import org.nem.nis.secret.*;
+import org.nem.nis.service.BlockChainLastBlockLayer;
 import org.nem.nis.validators.*;
 import org.nem.nis.visitors.*;
 
@@ -20,17 +20,17 @@ import org.nem.nis.visitors.*;
  * BlockChainValidator from the BlockChain COMPLETELY.
  */
 public class BlockChainServices {
-	private final BlockDao blockDao;
+	private final BlockChainLastBlockLayer blockChainLastBlockLayer;
 	private final BlockTransactionObserverFactory observerFactory;
 	private final BlockValidatorFactory blockValidatorFactory;
 	private final TransactionValidatorFactory transactionValidatorFactory;
 	private final NisMapperFactory mapperFactory;
 	private final ForkConfiguration forkConfiguration;
 
-	public BlockChainServices(final BlockDao blockDao, final BlockTransactionObserverFactory observerFactory,
+	public BlockChainServices(final BlockChainLastBlockLayer blockChainLastBlockLayer, final BlockTransactionObserverFactory observerFactory,
 			final BlockValidatorFactory blockValidatorFactory, final TransactionValidatorFactory transactionValidatorFactory,
 			final NisMapperFactory mapperFactory, final ForkConfiguration forkConfiguration) {
-		this.blockDao = blockDao;
+		this.blockChainLastBlockLayer = blockChainLastBlockLayer;
 		this.observerFactory = observerFactory;
 		this.blockValidatorFactory = blockValidatorFactory;
 		this.transactionValidatorFactory = transactionValidatorFactory;
@@ -66,7 +66,8 @@ public class BlockChainServices {
 
 		final BlockChainValidator validator = new BlockChainValidator(block -> new BlockExecuteProcessor(nisCache, block, observer), scorer,
 				comparisonContext.getMaxNumBlocksToAnalyze(), this.blockValidatorFactory.create(nisCache),
-				this.transactionValidatorFactory.createSingle(nisCache), NisCacheUtils.createValidationState(nisCache),
+				this.transactionValidatorFactory.createSingle(nisCache), this.transactionValidatorFactory.createStatelessSingle(),
+				this.transactionValidatorFactory.createStatefulSingle(nisCache), NisCacheUtils.createValidationState(nisCache),
 				this.forkConfiguration);
 		return validator.isValid(parentBlock, peerChain);
 	}
@@ -91,6 +92,9 @@ public class BlockChainServices {
 		final BlockVisitor visitor = new AggregateBlockVisitor(visitors);
 		BlockIterator.unwindUntil(localBlockLookup, commonBlockHeight, visitor);
 		accountStateCache.undoVesting(commonBlockHeight);
+
+		// undoing the vesting is not observed, so importances precalculated before the rollback must not be used
+		nisCache.getPoxFacade().markImportanceInputsChanged();
 		return scoreVisitor.getScore();
 	}
 
@@ -106,8 +110,8 @@ public class BlockChainServices {
 		final BlockHeight blockHeight = new BlockHeight(Math.max(1L, blockDifference));
 
 		final int limit = (int) Math.min(parentBlock.getHeight().getRaw(), BlockScorer.NUM_BLOCKS_FOR_AVERAGE_CALCULATION);
-		final List<TimeInstant> timeStamps = this.blockDao.getTimeStampsFrom(blockHeight, limit);
-		final List<BlockDifficulty> difficulties = this.blockDao.getDifficultiesFrom(blockHeight, limit);
+		final List<TimeInstant> timeStamps = this.blockChainLastBlockLayer.getTimeStampsFrom(blockHeight, limit);
+		final List<BlockDifficulty> difficulties = this.blockChainLastBlockLayer.getDifficultiesFrom(blockHeight, limit);
 
 		for (final Block block : peerChain) {
 			final BlockDifficulty difficulty = blockScorer.getDifficultyScorer().calculateDifficulty(difficulties, timeStamps);
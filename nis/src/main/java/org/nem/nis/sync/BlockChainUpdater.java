@@ -60,6 +60,11 @@ public class BlockChainUpdater implements BlockChainScoreManager {
 		this.score = this.score.add(new BlockChainScore(scorer.calculateBlockScore(parentBlock, block)));
 	}
 
+	@Override
+	public void resetScore(final BlockChainScore score) {
+		this.score = score;
+	}
+
 	// endregion
 
 	// region updateChain
@@ -112,7 +117,7 @@ public class BlockChainUpdater implements BlockChainScoreManager {
 				return NodeInteractionResult.NEUTRAL;
 			}
 
-			final DbBlock dbParent = this.blockDao.findByHeight(commonBlockHeight);
+			final DbBlock dbParent = this.findDbBlockByHeight(commonBlockHeight);
 
 			// revert TXes inside contemporaryAccountAnalyzer
 			BlockChainScore ourScore = BlockChainScore.ZERO;
@@ -183,7 +188,7 @@ public class BlockChainUpdater implements BlockChainScoreManager {
 		BlockChainScore ourScore = BlockChainScore.ZERO;
 		boolean hasOwnChain = false;
 		// we have parent, check if it has child
-		if (this.blockDao.findByHeight(new BlockHeight(dbParent.getHeight() + 1)) != null) {
+		if (this.findDbBlockByHeight(new BlockHeight(dbParent.getHeight() + 1)) != null) {
 			final long lastBlockHeightRaw = this.blockChainLastBlockLayer.getLastBlockHeight().getRaw();
 			LOGGER.info(String.format("processBlock -> chain inconsistent: calling undoTxesAndGetScore() (%d blocks to: %d).",
 					lastBlockHeightRaw - dbParent.getHeight(), lastBlockHeightRaw));
@@ -198,7 +203,7 @@ public class BlockChainUpdater implements BlockChainScoreManager {
 	}
 
 	private DbBlock findBlock(final Hash hash, final BlockHeight height) {
-		final DbBlock dbBlock = this.blockDao.findByHeight(height);
+		final DbBlock dbBlock = this.findDbBlockByHeight(height);
 
 		LOGGER.fine(String.format("has block in db? %s", dbBlock));
 		LOGGER.fine(String.format("db block hash: %s", null == dbBlock ? "null" : dbBlock.getBlockHash()));
@@ -206,6 +211,12 @@ public class BlockChainUpdater implements BlockChainScoreManager {
 		return null != dbBlock && dbBlock.getBlockHash().equals(hash) ? dbBlock : null;
 	}
 
+	private DbBlock findDbBlockByHeight(final BlockHeight height) {
+		// blocks near the tip of the chain are served from the recent block window
+		final DbBlock dbBlock = this.blockChainLastBlockLayer.findRecentDbBlock(height);
+		return null != dbBlock ? dbBlock : this.blockDao.findByHeight(height);
+	}
+
 	private void fixBlock(final Block block, final DbBlock parent) {
 		// blocks that are received via /push/block do not have their generation hashes set
 		// (generation hashes are not serialized), so we need to recalculate it for
@@ -0,0 +1,44 @@
+package org.nem.nis.sync;
+
+import java.util.Collection;
+import org.nem.core.model.*;
+import org.nem.core.model.primitive.*;
+import org.nem.nis.cache.*;
+import org.nem.nis.pox.poi.GroupedHeight;
+import org.nem.nis.websocket.BlockListener;
+
+/**
+ * Block listener that starts precalculating importances when the block following the committed blocks will recalculate them.
+ */
+public class ImportancePrecalculationListener implements BlockListener {
+	private final ReadOnlyAccountStateCache accountStateCache;
+	private final PoxFacade poxFacade;
+
+	/**
+	 * Creates a new listener.
+	 *
+	 * @param accountStateCache The (committed) account state cache.
+	 * @param poxFacade The (committed) pox facade.
+	 */
+	public ImportancePrecalculationListener(final ReadOnlyAccountStateCache accountStateCache, final PoxFacade poxFacade) {
+		this.accountStateCache = accountStateCache;
+		this.poxFacade = poxFacade;
+	}
+
+	@Override
+	public void pushBlocks(final Collection<Block> peerChain, final BlockChainScore peerScore) {
+		Block lastBlock = null;
+		for (final Block block : peerChain) {
+			lastBlock = block;
+		}
+
+		// the next block recalculates the importances if its effective height is in a different group than its height
+		final BlockHeight nextHeight = lastBlock.getHeight().next();
+		final BlockHeight nextEffectiveHeight = nextHeight.next();
+		if (GroupedHeight.fromHeight(nextHeight).equals(GroupedHeight.fromHeight(nextEffectiveHeight))) {
+			return;
+		}
+
+		this.poxFacade.precalculateImportances(nextEffectiveHeight, this.accountStateCache.contents().asCollection());
+	}
+}
@@ -0,0 +1,87 @@
+package org.nem.nis.sync;
+
+import java.util.Collection;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.*;
+import org.nem.core.crypto.Hash;
+import org.nem.core.model.*;
+import org.nem.core.model.primitive.*;
+import org.nem.nis.cache.*;
+import org.nem.nis.websocket.BlockListener;
+
+/**
+ * Block listener that periodically takes a snapshot of the NIS cache so that it does not need to be rebuilt from scratch on boot.
+ */
+public class NisCacheSnapshotListener implements BlockListener {
+	private static final Logger LOGGER = Logger.getLogger(NisCacheSnapshotListener.class.getName());
+
+	private final DefaultNisCache nisCache;
+	private final BlockChainScoreManager scoreManager;
+	private final NisCacheSnapshotStore store;
+	private final long interval;
+	private final Executor executor;
+	private final AtomicBoolean isSaving = new AtomicBoolean();
+
+	/**
+	 * Creates a new listener.
+	 *
+	 * @param nisCache The (committed) nis cache.
+	 * @param scoreManager The block chain score manager.
+	 * @param store The snapshot store.
+	 * @param interval The number of blocks between snapshots.
+	 * @param executor The executor used to serialize and save snapshots.
+	 */
+	public NisCacheSnapshotListener(final DefaultNisCache nisCache, final BlockChainScoreManager scoreManager,
+			final NisCacheSnapshotStore store, final long interval, final Executor executor) {
+		if (interval < 1) {
+			throw new IllegalArgumentException("interval must be positive");
+		}
+
+		this.nisCache = nisCache;
+		this.scoreManager = scoreManager;
+		this.store = store;
+		this.interval = interval;
+		this.executor = executor;
+	}
+
+	@Override
+	public void pushBlocks(final Collection<Block> peerChain, final BlockChainScore peerScore) {
+		// a snapshot is taken at the last block whenever the pushed blocks cross a snapshot height
+		if (peerChain.stream().noneMatch(block -> 0 == block.getHeight().getRaw() % this.interval)) {
+			return;
+		}
+
+		Block lastBlock = null;
+		for (final Block block : peerChain) {
+			lastBlock = block;
+		}
+
+		// a new snapshot is only started after the previous one has been saved so that at most one cache copy is kept alive
+		if (!this.isSaving.compareAndSet(false, true)) {
+			LOGGER.info(String.format("skipping cache snapshot at height %s because the previous snapshot is still being saved",
+					lastBlock.getHeight()));
+			return;
+		}
+
+		// the cache is only modified by the block chain updater, which is notifying this listener, so the copy is consistent with the
+		// last block; the (much more expensive) serialization of the copy is done by the executor
+		final BlockHeight height = lastBlock.getHeight();
+		final Hash blockHash = HashUtils.calculateHash(lastBlock);
+		final BlockChainScore score = this.scoreManager.getScore();
+		final DefaultNisCache nisCacheCopy = this.nisCache.deepCopy();
+		try {
+			CompletableFuture.runAsync(() -> this.store.save(nisCacheCopy.createSnapshot(height, blockHash, score)), this.executor)
+					.whenComplete((v, e) -> {
+						if (null != e) {
+							LOGGER.log(Level.WARNING, String.format("unable to save cache snapshot at height %s", height), e);
+						}
+
+						this.isSaving.set(false);
+					});
+		} catch (final RejectedExecutionException e) {
+			LOGGER.warning(String.format("unable to save cache snapshot at height %s because the executor is shut down", height));
+			this.isSaving.set(false);
+		}
+	}
+}
@@ -113,6 +113,82 @@ public class TransactionValidatorFactory {
 		return builder;
 	}
 
+	/**
+	 * Creates a transaction validator that only contains single validators that do not depend on any state (other than the block height).
+	 * Such a validator can validate the transactions of a chain concurrently and before any of them are processed. The validators are in
+	 * the same relative order as in createSingleBuilder.
+	 *
+	 * @return The validator.
+	 */
+	public SingleTransactionValidator createStatelessSingle() {
+		final AggregateSingleTransactionValidatorBuilder builder = new AggregateSingleTransactionValidatorBuilder();
+
+		builder.add(new DeadlineValidator());
+		builder.add(new VersionTransactionValidator(this.forkConfiguration.getMosaicsForkHeight(),
+				this.forkConfiguration.getMultisigMOfNForkHeight()));
+		builder.add(new TransactionNonFutureEntityValidator(this.timeProvider));
+		builder.add(new NemesisSinkValidator(this.forkConfiguration.getTreasuryReissuanceForkHeight()));
+		builder.add(new TransactionNetworkValidator());
+
+		builder.add(new TSingleTransactionValidatorAdapter<>(TransactionTypes.TRANSFER, new TransferTransactionValidator(
+				this.forkConfiguration.getRemoteAccountForkHeight(), this.forkConfiguration.getMultisigMOfNForkHeight())));
+
+		builder.add(new TSingleTransactionValidatorAdapter<>(TransactionTypes.MULTISIG,
+				new FeeSinkNonOperationalValidator(this.forkConfiguration)));
+
+		return builder.build();
+	}
+
+	/**
+	 * Creates a transaction validator that contains all single validators used for verifying blocks that are not part of the validator
+	 * created by createStatelessSingle. The validators are in the same relative order as in createSingleBuilder.
+	 *
+	 * @param nisCache The nis cache.
+	 * @return The validator.
+	 */
+	public SingleTransactionValidator createStatefulSingle(final ReadOnlyNisCache nisCache) {
+		final ReadOnlyAccountStateCache accountStateCache = nisCache.getAccountStateCache();
+		final ReadOnlyNamespaceCache namespaceCache = nisCache.getNamespaceCache();
+		final AggregateSingleTransactionValidatorBuilder builder = new AggregateSingleTransactionValidatorBuilder();
+
+		builder.add(
+				new MinimumFeeValidator(this.networkInfo, nisCache.getNamespaceCache(), ignoreFees, this.forkConfiguration.getFeeFork()));
+		builder.add(new BalanceValidator());
+
+		builder.add(new RemoteNonOperationalValidator(accountStateCache, this.forkConfiguration.getMosaicRedefinitionForkHeight()));
+		builder.add(new MultisigNonOperationalValidator(this.forkConfiguration, accountStateCache));
+
+		builder.add(
+				new TSingleTransactionValidatorAdapter<>(TransactionTypes.IMPORTANCE_TRANSFER, new ImportanceTransferTransactionValidator(
+						accountStateCache, namespaceCache, this.forkConfiguration.getRemoteAccountForkHeight())));
+
+		builder.add(new TSingleTransactionValidatorAdapter<>(TransactionTypes.MULTISIG,
+				new MultisigTransactionSignerValidator(accountStateCache)));
+
+		builder.add(new TSingleTransactionValidatorAdapter<>(TransactionTypes.MULTISIG_AGGREGATE_MODIFICATION,
+				new MultisigCosignatoryModificationValidator(accountStateCache, this.forkConfiguration.getMultisigMOfNForkHeight())));
+		builder.add(new TSingleTransactionValidatorAdapter<>(TransactionTypes.MULTISIG_AGGREGATE_MODIFICATION,
+				new NumCosignatoryRangeValidator(accountStateCache)));
+
+		builder.add(new TSingleTransactionValidatorAdapter<>(TransactionTypes.PROVISION_NAMESPACE,
+				new ProvisionNamespaceTransactionValidator(namespaceCache, this.forkConfiguration.getFeeFork())));
+
+		builder.add(new TSingleTransactionValidatorAdapter<>(TransactionTypes.MOSAIC_DEFINITION_CREATION,
+				new MosaicDefinitionCreationTransactionValidator(namespaceCache, this.forkConfiguration.getFeeFork())));
+
+		builder.add(new TSingleTransactionValidatorAdapter<>(TransactionTypes.MOSAIC_SUPPLY_CHANGE,
+				new MosaicSupplyChangeTransactionValidator(namespaceCache)));
+
+		builder.add(new TSingleTransactionValidatorAdapter<>(TransactionTypes.TRANSFER, new MosaicBagValidator(namespaceCache)));
+
+		builder.add(new MosaicBalanceValidator());
+
+		builder.add(new TSingleTransactionValidatorAdapter<>(TransactionTypes.MULTISIG,
+				new MultisigSignaturesPresentValidator(accountStateCache)));
+
+		return builder.build();
+	}
+
 	/**
 	 * Creates a transaction validator that only contains batch validators.
 	 *
@@ -24,10 +24,13 @@ public class NisConfiguration extends CommonConfiguration {
 	private final IpDetectionMode ipDetectionMode;
 	private final int unlockedLimit;
 	private final int transactionHashRetentionTime;
+	private final int cacheSnapshotInterval;
+	private final int maxCacheSnapshots;
 	private final String[] additionalLocalIps;
 	private final NodeFeature[] optionalFeatures;
 	private final Address[] allowedHarvesterAddresses;
 	private final boolean delayBlockLoading;
+	private final boolean usePersistentAccountStateCache;
 	private final BlockChainConfiguration blockChainConfiguration;
 	private final ForkConfiguration forkConfiguration;
 
@@ -77,6 +80,8 @@ public class NisConfiguration extends CommonConfiguration {
 		this.unlockedLimit = properties.getOptionalInteger("nis.unlockedLimit", 4);
 
 		this.transactionHashRetentionTime = properties.getOptionalInteger("nis.transactionHashRetentionTime", 36);
+		this.cacheSnapshotInterval = properties.getOptionalInteger("nis.cacheSnapshotInterval", 1440);
+		this.maxCacheSnapshots = properties.getOptionalInteger("nis.maxCacheSnapshots", 2);
 		this.additionalLocalIps = properties.getOptionalStringArray("nis.additionalLocalIps", "");
 
 		this.optionalFeatures = Arrays.stream(properties.getOptionalStringArray("nis.optionalFeatures", "TRANSACTION_HASH_LOOKUP"))
@@ -86,6 +91,7 @@ public class NisConfiguration extends CommonConfiguration {
 				.map(Address::fromEncoded).toArray(Address[]::new);
 
 		this.delayBlockLoading = properties.getOptionalBoolean("nis.delayBlockLoading", true);
+		this.usePersistentAccountStateCache = properties.getOptionalBoolean("nis.usePersistentAccountStateCache", false);
 
 		this.blockChainConfiguration = parseBlockChainConfiguration(properties);
 
@@ -231,6 +237,24 @@ public class NisConfiguration extends CommonConfiguration {
 		return this.transactionHashRetentionTime;
 	}
 
+	/**
+	 * Gets the number of blocks between cache snapshots (0 if snapshots are disabled).
+	 *
+	 * @return The number of blocks.
+	 */
+	public int getCacheSnapshotInterval() {
+		return this.cacheSnapshotInterval;
+	}
+
+	/**
+	 * Gets the maximum number of cache snapshots to keep.
+	 *
+	 * @return The maximum number of snapshots.
+	 */
+	public int getMaxCacheSnapshots() {
+		return this.maxCacheSnapshots;
+	}
+
 	/**
 	 * Gets the block chain configuration.
 	 *
@@ -285,6 +309,15 @@ public class NisConfiguration extends CommonConfiguration {
 		return this.delayBlockLoading;
 	}
 
+	/**
+	 * Gets a value indicating whether or not the account state cache should be backed by a persistent map.
+	 *
+	 * @return true if the account state cache should be backed by a persistent map.
+	 */
+	public boolean usePersistentAccountStateCache() {
+		return this.usePersistentAccountStateCache;
+	}
+
 	/**
 	 * Gets a value indicating whether or not the node supports the specified feature.
 	 *
@@ -1,7 +1,9 @@
 package org.nem.specific.deploy.appconfig;
 
-import java.io.IOException;
+import java.io.*;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 import javax.sql.DataSource;
 import org.flywaydb.core.Flyway;
@@ -15,12 +17,13 @@ import org.nem.nis.*;
 import org.nem.nis.audit.AuditCollection;
 import org.nem.nis.boot.*;
 import org.nem.nis.cache.*;
+import org.nem.nis.cache.delta.PersistentDeltaMap;
 import org.nem.nis.connect.*;
 import org.nem.nis.controller.interceptors.LocalHostDetector;
 import org.nem.nis.dao.*;
 import org.nem.nis.harvesting.*;
 import org.nem.nis.mappers.*;
-import org.nem.nis.pox.ImportanceCalculator;
+import org.nem.nis.pox.*;
 import org.nem.nis.pox.poi.*;
 import org.nem.nis.pox.pos.PosImportanceCalculator;
 import org.nem.nis.secret.*;
@@ -125,14 +128,53 @@ public class NisAppConfig {
 
 	@Bean
 	public BlockChainServices blockChainServices() {
-		return new BlockChainServices(this.blockDao, this.blockTransactionObserverFactory(), this.blockValidatorFactory(),
+		return new BlockChainServices(this.blockChainLastBlockLayer, this.blockTransactionObserverFactory(), this.blockValidatorFactory(),
 				this.transactionValidatorFactory(), this.nisMapperFactory(), this.nisConfiguration().getForkConfiguration());
 	}
 
 	@Bean
 	public BlockChainUpdater blockChainUpdater() {
-		return new BlockChainUpdater(this.nisCache(), this.blockChainLastBlockLayer, this.blockDao, this.blockChainContextFactory(),
-				this.unconfirmedTransactions(), this.nisConfiguration());
+		final BlockChainUpdater updater = new BlockChainUpdater(this.nisCache(), this.blockChainLastBlockLayer, this.blockDao,
+				this.blockChainContextFactory(), this.unconfirmedTransactions(), this.nisConfiguration());
+		updater.addListener(new ImportancePrecalculationListener(this.accountStateCache(), this.poxFacade()));
+
+		// snapshots do not contain the historical account data that was moved off-heap, so they cannot be used in historical mode
+		final int cacheSnapshotInterval = this.nisConfiguration().getCacheSnapshotInterval();
+		if (cacheSnapshotInterval > 0 && !this.isHistoricalAccountDataSupported()) {
+			updater.addListener(new NisCacheSnapshotListener(this.nisCache(), updater, this.nisCacheSnapshotStore(), cacheSnapshotInterval,
+					this.nisCacheSnapshotExecutor()));
+		}
+
+		return updater;
+	}
+
+	@Bean
+	public NisCacheSnapshotStore nisCacheSnapshotStore() {
+		final NisConfiguration configuration = this.nisConfiguration();
+		final String snapshotsFolder = "snapshots_" + configuration.getNetworkName();
+		final File directory = Paths.get(configuration.getNemFolder(), "nis", "data", snapshotsFolder).toFile();
+		return new NisCacheSnapshotStore(directory, configuration.getMaxCacheSnapshots());
+	}
+
+	@Bean(destroyMethod = "shutdown")
+	public ExecutorService nisCacheSnapshotExecutor() {
+		return createSingleThreadExecutor("cache-snapshot");
+	}
+
+	@Bean(destroyMethod = "close")
+	public HistoricalAccountDataStore historicalAccountDataStore() {
+		final NisConfiguration configuration = this.nisConfiguration();
+		final File file = Paths.get(configuration.getNemFolder(), "nis", "data", "historical_" + configuration.getNetworkName() + ".bin")
+				.toFile();
+		return new HistoricalAccountDataStore(file);
+	}
+
+	private HistoricalAccountDataStore historicalAccountDataStoreOrNull() {
+		return this.isHistoricalAccountDataSupported() ? this.historicalAccountDataStore() : null;
+	}
+
+	private boolean isHistoricalAccountDataSupported() {
+		return this.nisConfiguration().isFeatureSupported(NodeFeature.HISTORICAL_ACCOUNT_DATA);
 	}
 
 	@Bean
@@ -171,7 +213,8 @@ public class NisAppConfig {
 	public BlockTransactionObserverFactory blockTransactionObserverFactory() {
 		final int estimatedBlocksPerYear = this.nisConfiguration().getBlockChainConfiguration().getEstimatedBlocksPerYear();
 		final ForkConfiguration forkConfiguration = this.nisConfiguration().getForkConfiguration();
-		return new BlockTransactionObserverFactory(this.observerOptions(), estimatedBlocksPerYear, forkConfiguration);
+		return new BlockTransactionObserverFactory(this.observerOptions(), estimatedBlocksPerYear, forkConfiguration,
+				this.historicalAccountDataStoreOrNull());
 	}
 
 	@Bean
@@ -200,7 +243,7 @@ public class NisAppConfig {
 				this.transactionValidatorFactory(), this.blockValidatorFactory(), this.blockTransactionObserverFactory(),
 				this.unconfirmedTransactionsFilter(), this.nisConfiguration().getForkConfiguration());
 
-		final BlockGenerator generator = new BlockGenerator(this.nisCache(), transactionsProvider, this.blockDao,
+		final BlockGenerator generator = new BlockGenerator(this.nisCache(), transactionsProvider, this.blockChainLastBlockLayer,
 				new BlockScorer(this.accountStateCache()), this.blockValidatorFactory().create(this.nisCache()));
 		return new Harvester(this.timeProvider(), this.blockChainLastBlockLayer, this.unlockedAccounts(), this.nisDbModelToModelMapper(),
 				generator);
@@ -213,12 +256,23 @@ public class NisAppConfig {
 
 	@Bean
 	public SynchronizedAccountStateCache accountStateCache() {
-		return new SynchronizedAccountStateCache(new DefaultAccountStateCache());
+		final DefaultAccountStateCache accountStateCache = this.nisConfiguration().usePersistentAccountStateCache()
+				? new DefaultAccountStateCache(new PersistentDeltaMap<>())
+				: new DefaultAccountStateCache();
+		return new SynchronizedAccountStateCache(accountStateCache);
 	}
 
 	@Bean
 	public SynchronizedPoxFacade poxFacade() {
-		return new SynchronizedPoxFacade(new DefaultPoxFacade(this.importanceCalculator()));
+		final ImportanceCalculator importanceCalculator = this.importanceCalculator();
+		final ImportancePrecalculator importancePrecalculator = new ImportancePrecalculator(importanceCalculator,
+				this.importancePrecalculationExecutor());
+		return new SynchronizedPoxFacade(new DefaultPoxFacade(importanceCalculator, importancePrecalculator));
+	}
+
+	@Bean(destroyMethod = "shutdown")
+	public ExecutorService importancePrecalculationExecutor() {
+		return createSingleThreadExecutor("importance-precalculation");
 	}
 
 	@Bean
@@ -240,7 +294,7 @@ public class NisAppConfig {
 	}
 
 	@Bean
-	public ReadOnlyNisCache nisCache() {
+	public DefaultNisCache nisCache() {
 		return new DefaultNisCache(this.accountCache(), this.accountStateCache(), this.poxFacade(), this.transactionHashCache(),
 				this.namespaceCache(), this.expiredMosaicCache());
 	}
@@ -276,7 +330,10 @@ public class NisAppConfig {
 	}
 
 	private static org.nem.nis.pox.poi.PoiOptions getBlockDependentPoiOptions(final BlockHeight height) {
-		return new PoiOptionsBuilder(height).create();
+		// the parallel mode yields bit-identical importances, so it is safe to use for consensus
+		final PoiOptionsBuilder builder = new PoiOptionsBuilder(height);
+		builder.setParallelModeEnabled(true);
+		return builder.create();
 	}
 
 	@Bean
@@ -348,8 +405,9 @@ public class NisAppConfig {
 	public BlockAnalyzer blockAnalyzer() {
 		final int estimatedBlocksPerYear = this.nisConfiguration().getBlockChainConfiguration().getEstimatedBlocksPerYear();
 		final ForkConfiguration forkConfiguration = this.nisConfiguration().getForkConfiguration();
+		final NisCacheSnapshotStore snapshotStore = this.isHistoricalAccountDataSupported() ? null : this.nisCacheSnapshotStore();
 		return new BlockAnalyzer(this.blockDao, this.blockChainUpdater(), this.blockChainLastBlockLayer, this.nisMapperFactory(),
-				estimatedBlocksPerYear, forkConfiguration);
+				estimatedBlocksPerYear, forkConfiguration, snapshotStore, this.historicalAccountDataStoreOrNull());
 	}
 
 	@Bean
@@ -428,7 +486,7 @@ public class NisAppConfig {
 	@Bean
 	public EnumSet<ObserverOption> observerOptions() {
 		final EnumSet<ObserverOption> observerOptions = EnumSet.noneOf(ObserverOption.class);
-		if (this.nisConfiguration().isFeatureSupported(NodeFeature.HISTORICAL_ACCOUNT_DATA)) {
+		if (this.isHistoricalAccountDataSupported()) {
 			observerOptions.add(ObserverOption.NoHistoricalDataPruning);
 		}
 
@@ -449,4 +507,12 @@ public class NisAppConfig {
 	public MosaicIdCache mosaicIdCache() {
 		return new SynchronizedMosaicIdCache(new DefaultMosaicIdCache());
 	}
+
+	private static ExecutorService createSingleThreadExecutor(final String name) {
+		return Executors.newSingleThreadExecutor(r -> {
+			final Thread thread = new Thread(r, name);
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
 }
@@ -0,0 +1,67 @@
+--
+-- ACCOUNT TRANSACTIONS
+--
+-- denormalized index of all (top-level) transactions an account is involved in
+-- direction: 1 = incoming, 2 = outgoing
+--
+
+CREATE TABLE IF NOT EXISTS `accounttransactions` (
+  `id` BIGINT NOT NULL AUTO_INCREMENT,
+
+  `accountId` BIGINT NOT NULL,
+  `transactionId` BIGINT NOT NULL,
+  `height` BIGINT NOT NULL,
+  `type` INT NOT NULL,
+  `direction` INT NOT NULL,
+
+  PRIMARY KEY (`id`)
+);
+
+ALTER TABLE public.accounttransactions ADD
+  FOREIGN KEY (accountId)
+  REFERENCES public.accounts(id);
+
+--
+-- populate the index from the existing transaction tables
+--
+
+INSERT INTO `accounttransactions` (accountId, transactionId, height, type, direction)
+  SELECT t.senderId, t.id, b.height, 257, 2 FROM transfers t JOIN blocks b ON b.id = t.blockId WHERE t.senderProof IS NOT NULL;
+INSERT INTO `accounttransactions` (accountId, transactionId, height, type, direction)
+  SELECT t.recipientId, t.id, b.height, 257, 1 FROM transfers t JOIN blocks b ON b.id = t.blockId WHERE t.senderProof IS NOT NULL;
+
+INSERT INTO `accounttransactions` (accountId, transactionId, height, type, direction)
+  SELECT t.senderId, t.id, b.height, 2049, 2 FROM importancetransfers t JOIN blocks b ON b.id = t.blockId WHERE t.senderProof IS NOT NULL;
+INSERT INTO `accounttransactions` (accountId, transactionId, height, type, direction)
+  SELECT t.remoteId, t.id, b.height, 2049, 1 FROM importancetransfers t JOIN blocks b ON b.id = t.blockId WHERE t.senderProof IS NOT NULL;
+
+INSERT INTO `accounttransactions` (accountId, transactionId, height, type, direction)
+  SELECT t.senderId, t.id, b.height, 4097, 2 FROM multisigsignermodifications t JOIN blocks b ON b.id = t.blockId WHERE t.senderProof IS NOT NULL;
+INSERT INTO `accounttransactions` (accountId, transactionId, height, type, direction)
+  SELECT DISTINCT m.cosignatoryId, t.id, b.height, 4097, 1 FROM multisigmodifications m
+    JOIN multisigsignermodifications t ON t.id = m.multisigSignerModificationId
+    JOIN blocks b ON b.id = t.blockId WHERE t.senderProof IS NOT NULL;
+
+INSERT INTO `accounttransactions` (accountId, transactionId, height, type, direction)
+  SELECT s.accountId, s.transactionId, s.height, 4100, 2 FROM multisigsends s;
+INSERT INTO `accounttransactions` (accountId, transactionId, height, type, direction)
+  SELECT r.accountId, r.transactionId, r.height, 4100, 1 FROM multisigreceives r;
+
+INSERT INTO `accounttransactions` (accountId, transactionId, height, type, direction)
+  SELECT t.senderId, t.id, b.height, 8193, 2 FROM namespaceprovisions t JOIN blocks b ON b.id = t.blockId WHERE t.senderProof IS NOT NULL;
+INSERT INTO `accounttransactions` (accountId, transactionId, height, type, direction)
+  SELECT t.rentalFeeSinkId, t.id, b.height, 8193, 1 FROM namespaceprovisions t JOIN blocks b ON b.id = t.blockId WHERE t.senderProof IS NOT NULL;
+
+INSERT INTO `accounttransactions` (accountId, transactionId, height, type, direction)
+  SELECT t.senderId, t.id, b.height, 16385, 2 FROM mosaicdefinitioncreationtransactions t JOIN blocks b ON b.id = t.blockId WHERE t.senderProof IS NOT NULL;
+
+INSERT INTO `accounttransactions` (accountId, transactionId, height, type, direction)
+  SELECT t.senderId, t.id, b.height, 16386, 2 FROM mosaicsupplychanges t JOIN blocks b ON b.id = t.blockId WHERE t.senderProof IS NOT NULL;
+
+--
+-- indices
+--
+
+CREATE INDEX IDX_ACCOUNTTRANSACTIONS_ACCOUNTID_TRANSACTIONID ON `accounttransactions` (accountId asc, transactionId DESC);
+CREATE INDEX IDX_ACCOUNTTRANSACTIONS_ACCOUNTID_DIRECTION_TRANSACTIONID ON `accounttransactions` (accountId asc, direction asc, transactionId DESC);
+CREATE INDEX IDX_ACCOUNTTRANSACTIONS_HEIGHT ON `accounttransactions` (height);
@@ -0,0 +1,42 @@
+--
+-- TRANSACTION HASHES
+--
+-- index of the hashes of all transactions (including inner multisig transactions)
+--
+
+CREATE TABLE IF NOT EXISTS `transactionhashes` (
+  `id` BIGINT NOT NULL AUTO_INCREMENT,
+
+  `transferHash` VARBINARY(34) NOT NULL,
+  `type` INT NOT NULL,
+  `transactionId` BIGINT NOT NULL,
+  `height` BIGINT NOT NULL,
+
+  PRIMARY KEY (`id`)
+);
+
+--
+-- populate the index from the existing transaction tables
+--
+
+INSERT INTO `transactionhashes` (transferHash, type, transactionId, height)
+  SELECT t.transferHash, 257, t.id, b.height FROM transfers t JOIN blocks b ON b.id = t.blockId ORDER BY t.id;
+INSERT INTO `transactionhashes` (transferHash, type, transactionId, height)
+  SELECT t.transferHash, 2049, t.id, b.height FROM importancetransfers t JOIN blocks b ON b.id = t.blockId ORDER BY t.id;
+INSERT INTO `transactionhashes` (transferHash, type, transactionId, height)
+  SELECT t.transferHash, 4097, t.id, b.height FROM multisigsignermodifications t JOIN blocks b ON b.id = t.blockId ORDER BY t.id;
+INSERT INTO `transactionhashes` (transferHash, type, transactionId, height)
+  SELECT t.transferHash, 4100, t.id, b.height FROM multisigtransactions t JOIN blocks b ON b.id = t.blockId ORDER BY t.id;
+INSERT INTO `transactionhashes` (transferHash, type, transactionId, height)
+  SELECT t.transferHash, 8193, t.id, b.height FROM namespaceprovisions t JOIN blocks b ON b.id = t.blockId ORDER BY t.id;
+INSERT INTO `transactionhashes` (transferHash, type, transactionId, height)
+  SELECT t.transferHash, 16385, t.id, b.height FROM mosaicdefinitioncreationtransactions t JOIN blocks b ON b.id = t.blockId ORDER BY t.id;
+INSERT INTO `transactionhashes` (transferHash, type, transactionId, height)
+  SELECT t.transferHash, 16386, t.id, b.height FROM mosaicsupplychanges t JOIN blocks b ON b.id = t.blockId ORDER BY t.id;
+
+--
+-- indices
+--
+
+CREATE INDEX IDX_TRANSACTIONHASHES_TRANSFERHASH ON `transactionhashes` (transferHash);
+CREATE INDEX IDX_TRANSACTIONHASHES_HEIGHT ON `transactionhashes` (height);
@@ -116,7 +116,8 @@ public class BlockAnalyzerTest {
 		Mockito.verify(context.blockChainLastBlockLayer, Mockito.times(568)).analyzeLastBlock(Mockito.any());
 		Mockito.verify(context.blockChainLastBlockLayer, Mockito.times(1)).setLoaded();
 		Mockito.verify(context.scoreManager, Mockito.times(567)).updateScore(Mockito.any(), Mockito.any());
-		Mockito.verify(context.nisMapperFactory, Mockito.only()).createDbModelToModelNisMapper(Mockito.any());
+		// - one mapper is used for the nemesis block and one is used by the background iterator
+		Mockito.verify(context.nisMapperFactory, Mockito.times(2)).createDbModelToModelNisMapper(Mockito.any());
 		Mockito.verify(context.importanceCalculator, Mockito.only()).recalculate(Mockito.any(), Mockito.any());
 	}
 
@@ -219,6 +220,99 @@ public class BlockAnalyzerTest {
 		MatcherAssert.assertThat(success, IsEqual.equalTo(false));
 	}
 
+	// region snapshot
+
+	@Test
+	public void analyzeRestoresMatchingSnapshotAndAnalyzesOnlySubsequentBlocks() {
+		// Arrange: create a snapshot after the transfer block
+		final TestContext snapshotContext = new TestContext();
+		final List<Block> blocks = snapshotContext.fillDatabaseWithTransfer(5);
+		final NisCacheSnapshot snapshot = snapshotContext.analyzeAndCreateSnapshot(new BlockHeight(2));
+
+		final TestContext context = new TestContext();
+		context.fillDatabase(blocks.get(0), blocks.subList(1, blocks.size()));
+		context.setSnapshots(snapshot);
+		final NisCache copy = context.nisCache.copy();
+
+		// Act:
+		final boolean success = context.blockAnalyzer.analyze(copy, DEFAULT_OPTIONS);
+
+		// Assert:
+		MatcherAssert.assertThat(success, IsEqual.equalTo(true));
+		MatcherAssert.assertThat(getBalance(copy, TEST_ADDRESS1), IsEqual.equalTo(Amount.fromNem(48_999_900L)));
+		MatcherAssert.assertThat(getBalance(copy, TEST_ADDRESS2), IsEqual.equalTo(Amount.fromNem(51_000_000L)));
+		MatcherAssert.assertThat(context.blockChainLastBlockLayer.getLastBlockHeight(), IsEqual.equalTo(new BlockHeight(7)));
+
+		Mockito.verify(context.blockDao, Mockito.times(1)).updateMosaicIdCacheUpTo(new BlockHeight(2));
+		Mockito.verify(context.scoreManager, Mockito.times(1)).resetScore(snapshot.getScore());
+		Mockito.verify(context.scoreManager, Mockito.times(5)).updateScore(Mockito.any(), Mockito.any());
+		Mockito.verify(context.blockChainLastBlockLayer, Mockito.times(6)).analyzeLastBlock(Mockito.any());
+		Mockito.verify(context.blockChainLastBlockLayer, Mockito.times(1)).setLoaded();
+	}
+
+	@Test
+	public void analyzeIgnoresSnapshotNotMatchingDatabase() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		context.fillDatabaseWithTransfer(5);
+		context.setSnapshots(new NisCacheSnapshot(new BlockHeight(2), Utils.generateRandomHash(), BlockChainScore.ZERO, new byte[0]));
+		final NisCache copy = context.nisCache.copy();
+
+		// Act:
+		final boolean success = context.blockAnalyzer.analyze(copy, DEFAULT_OPTIONS);
+
+		// Assert: all blocks were analyzed
+		MatcherAssert.assertThat(success, IsEqual.equalTo(true));
+		MatcherAssert.assertThat(getBalance(copy, TEST_ADDRESS1), IsEqual.equalTo(Amount.fromNem(48_999_900L)));
+		Mockito.verify(context.blockDao, Mockito.never()).updateMosaicIdCacheUpTo(Mockito.any());
+		Mockito.verify(context.scoreManager, Mockito.never()).resetScore(Mockito.any());
+		Mockito.verify(context.scoreManager, Mockito.times(6)).updateScore(Mockito.any(), Mockito.any());
+	}
+
+	@Test
+	public void analyzeIgnoresSnapshotAboveMaxHeight() {
+		// Arrange:
+		final TestContext snapshotContext = new TestContext();
+		final List<Block> blocks = snapshotContext.fillDatabaseWithTransfer(5);
+		final NisCacheSnapshot snapshot = snapshotContext.analyzeAndCreateSnapshot(new BlockHeight(4));
+
+		final TestContext context = new TestContext();
+		context.fillDatabase(blocks.get(0), blocks.subList(1, blocks.size()));
+		context.setSnapshots(snapshot);
+		final NisCache copy = context.nisCache.copy();
+
+		// Act:
+		final boolean success = context.blockAnalyzer.analyze(copy, DEFAULT_OPTIONS, 3L);
+
+		// Assert:
+		MatcherAssert.assertThat(success, IsEqual.equalTo(true));
+		MatcherAssert.assertThat(context.blockChainLastBlockLayer.getLastBlockHeight(), IsEqual.equalTo(new BlockHeight(3)));
+		Mockito.verify(context.snapshotStore, Mockito.never()).load(Mockito.any());
+		Mockito.verify(context.scoreManager, Mockito.never()).resetScore(Mockito.any());
+	}
+
+	@Test
+	public void analyzeFailsAndRemovesSnapshotIfSnapshotCannotBeRestored() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		context.fillDatabaseWithTransfer(5);
+		final Hash blockHash = context.blockDao.findByHeight(new BlockHeight(2)).getBlockHash();
+		context.setSnapshots(new NisCacheSnapshot(new BlockHeight(2), blockHash, BlockChainScore.ZERO, new byte[]{
+				1, 2, 3
+		}));
+		final NisCache copy = context.nisCache.copy();
+
+		// Act:
+		final boolean success = context.blockAnalyzer.analyze(copy, DEFAULT_OPTIONS);
+
+		// Assert:
+		MatcherAssert.assertThat(success, IsEqual.equalTo(false));
+		Mockito.verify(context.snapshotStore, Mockito.times(1)).remove(new BlockHeight(2));
+		Mockito.verify(context.scoreManager, Mockito.never()).resetScore(Mockito.any());
+	}
+
+	// endregion
+
 	private static Amount getBalance(final ReadOnlyNisCache cache, final Address address) {
 		return cache.getAccountStateCache().findStateByAddress(address).getAccountInfo().getBalance();
 	}
@@ -231,7 +325,8 @@ public class BlockAnalyzerTest {
 	private class TestContext {
 		private static final int ESTIMATED_BLOCKS_PER_YEAR = 1234;
 		private final ImportanceCalculator importanceCalculator = Mockito.spy(new MockImportanceCalculator());
-		private final ReadOnlyNisCache nisCache;
+		private final DefaultNisCache nisCache;
+		private final NisCacheSnapshotStore snapshotStore = Mockito.mock(NisCacheSnapshotStore.class);
 		private final MockAccountDao accountDao = Mockito.spy(new MockAccountDao());
 		private final MockBlockDao blockDao = Mockito.spy(new MockBlockDao(MockBlockDao.MockBlockDaoMode.MultipleBlocks, this.accountDao));
 		private final NisModelToDbModelMapper mapper = MapperUtils.createModelToDbModelNisMapperAccountDao(this.accountDao);
@@ -244,12 +339,50 @@ public class BlockAnalyzerTest {
 		private TestContext() {
 			final DefaultPoxFacade poxFacade = new DefaultPoxFacade(this.importanceCalculator);
 			final ForkConfiguration forkConfiguration = new ForkConfiguration.Builder().build();
-			this.nisCache = NisCacheFactory.createReal(poxFacade, forkConfiguration.getMosaicRedefinitionForkHeight());
+			this.nisCache = (DefaultNisCache) NisCacheFactory.createReal(poxFacade, forkConfiguration.getMosaicRedefinitionForkHeight());
 			this.scoreManager = Mockito.spy(new MockBlockChainScoreManager(this.nisCache.getAccountStateCache()));
 			final MapperFactory mapperFactory = MapperUtils.createMapperFactory();
 			this.nisMapperFactory = Mockito.spy(new NisMapperFactory(mapperFactory));
 			this.blockAnalyzer = new BlockAnalyzer(this.blockDao, this.scoreManager, this.blockChainLastBlockLayer, this.nisMapperFactory,
-					ESTIMATED_BLOCKS_PER_YEAR, forkConfiguration);
+					ESTIMATED_BLOCKS_PER_YEAR, forkConfiguration, this.snapshotStore);
+		}
+
+		private void setSnapshots(final NisCacheSnapshot... snapshots) {
+			final List<BlockHeight> heights = new ArrayList<>();
+			for (final NisCacheSnapshot snapshot : snapshots) {
+				heights.add(snapshot.getHeight());
+				Mockito.when(this.snapshotStore.load(snapshot.getHeight())).thenReturn(snapshot);
+			}
+
+			Mockito.when(this.snapshotStore.getHeights()).thenReturn(heights);
+		}
+
+		private List<Block> fillDatabaseWithTransfer(final int numBlocksAfterTransfer) {
+			// the nemesis block is followed by a block containing a transfer and some empty blocks
+			final Block nemesisBlock = this.blockAnalyzer.loadNemesisBlock();
+			final List<Block> blocks = NisUtils.createBlockList(nemesisBlock, 1 + numBlocksAfterTransfer);
+			final Block block = blocks.get(0);
+			final Transaction transfer = new TransferTransaction(TimeInstant.ZERO, new Account(new KeyPair(TEST_ADDRESS1_PK)),
+					new Account(TEST_ADDRESS2), Amount.fromNem(1_000_000), null);
+			transfer.setFee(Amount.fromNem(100));
+			transfer.sign();
+			block.addTransaction(transfer);
+			block.sign();
+			this.fillDatabase(nemesisBlock, blocks);
+
+			final List<Block> allBlocks = new ArrayList<>();
+			allBlocks.add(nemesisBlock);
+			allBlocks.addAll(blocks);
+			return allBlocks;
+		}
+
+		private NisCacheSnapshot analyzeAndCreateSnapshot(final BlockHeight height) {
+			final NisCache copy = this.nisCache.copy();
+			this.blockAnalyzer.analyze(copy, DEFAULT_OPTIONS, height.getRaw());
+			copy.commit();
+
+			final Hash blockHash = this.blockDao.findByHeight(height).getBlockHash();
+			return this.nisCache.createSnapshot(height, blockHash, this.scoreManager.getScore());
 		}
 
 		private void fillDatabase(final Block nemesisBlock, final int numBlocks) {
@@ -1,6 +1,5 @@
 package org.nem.nis;
 
-import java.math.BigInteger;
 import java.util.*;
 import java.util.function.Function;
 import org.hamcrest.MatcherAssert;
@@ -276,7 +275,7 @@ public class BlockChainValidatorTest {
 		// Arrange:
 		final SingleTransactionValidator transactionValidator = Mockito.mock(SingleTransactionValidator.class);
 		final BlockChainValidatorFactory factory = new BlockChainValidatorFactory();
-		factory.transactionValidator = transactionValidator;
+		factory.statefulTransactionValidator = transactionValidator;
 		final BlockChainValidator validator = factory.create();
 		final Block parentBlock = createParentBlock(Utils.generateRandomAccount(), 11);
 		parentBlock.sign();
@@ -295,6 +294,75 @@ public class BlockChainValidatorTest {
 		Mockito.verify(transactionValidator, Mockito.times(2)).validate(Mockito.any(), Mockito.any());
 	}
 
+	@Test
+	public void transactionFailingStatelessValidationIsRejectedWithResultOfAllValidators() {
+		// Arrange:
+		final BlockChainValidatorFactory factory = new BlockChainValidatorFactory();
+		final BlockChainValidator validator = factory.create();
+		final Block parentBlock = createParentBlock(Utils.generateRandomAccount(), 11);
+		parentBlock.sign();
+
+		final List<Block> blocks = createBlocksForTransactionValidationTests(parentBlock);
+		final Transaction failedTransaction = blocks.get(1).getTransactions().get(1);
+		Mockito.when(factory.statelessTransactionValidator.validate(Mockito.eq(failedTransaction), Mockito.any()))
+				.thenReturn(ValidationResult.FAILURE_FUTURE_DEADLINE);
+		Mockito.when(factory.transactionValidator.validate(Mockito.eq(failedTransaction), Mockito.any()))
+				.thenReturn(ValidationResult.FAILURE_INSUFFICIENT_FEE);
+
+		// Act:
+		final ValidationResult result = validator.isValid(parentBlock, blocks);
+
+		// Assert: (validation stops at the failed transaction, so the last transaction is not validated at all;
+		// the failed transaction is revalidated by all validators so that the first failure in validator order is reported)
+		MatcherAssert.assertThat(result, IsEqual.equalTo(ValidationResult.FAILURE_INSUFFICIENT_FEE));
+		Mockito.verify(factory.statelessTransactionValidator, Mockito.times(2)).validate(Mockito.any(), Mockito.any());
+		Mockito.verify(factory.statefulTransactionValidator, Mockito.only()).validate(Mockito.any(), Mockito.any());
+		Mockito.verify(factory.statefulTransactionValidator, Mockito.never()).validate(Mockito.eq(failedTransaction), Mockito.any());
+		Mockito.verify(factory.transactionValidator, Mockito.only()).validate(Mockito.eq(failedTransaction), Mockito.any());
+	}
+
+	@Test
+	public void statelessValidationFailureDoesNotPreemptEarlierStatefulValidationFailure() {
+		// Arrange:
+		final BlockChainValidatorFactory factory = new BlockChainValidatorFactory();
+		final BlockChainValidator validator = factory.create();
+		final Block parentBlock = createParentBlock(Utils.generateRandomAccount(), 11);
+		parentBlock.sign();
+
+		final List<Block> blocks = createBlocksForTransactionValidationTests(parentBlock);
+		Mockito.when(factory.statefulTransactionValidator.validate(Mockito.eq(blocks.get(1).getTransactions().get(0)), Mockito.any()))
+				.thenReturn(ValidationResult.FAILURE_INSUFFICIENT_BALANCE);
+		Mockito.when(factory.statelessTransactionValidator.validate(Mockito.eq(blocks.get(1).getTransactions().get(1)), Mockito.any()))
+				.thenReturn(ValidationResult.FAILURE_FUTURE_DEADLINE);
+
+		// Act:
+		final ValidationResult result = validator.isValid(parentBlock, blocks);
+
+		// Assert:
+		MatcherAssert.assertThat(result, IsEqual.equalTo(ValidationResult.FAILURE_INSUFFICIENT_BALANCE));
+	}
+
+	@Test
+	public void neutralStatelessValidationResultIsAggregatedWithStatefulValidationResult() {
+		// Arrange:
+		final BlockChainValidatorFactory factory = new BlockChainValidatorFactory();
+		final BlockChainValidator validator = factory.create();
+		final Block parentBlock = createParentBlock(Utils.generateRandomAccount(), 11);
+		parentBlock.sign();
+
+		final List<Block> blocks = createBlocksForTransactionValidationTests(parentBlock);
+		final Transaction neutralTransaction = blocks.get(1).getTransactions().get(0);
+		Mockito.when(factory.statelessTransactionValidator.validate(Mockito.eq(neutralTransaction), Mockito.any()))
+				.thenReturn(ValidationResult.NEUTRAL);
+
+		// Act:
+		final ValidationResult result = validator.isValid(parentBlock, blocks);
+
+		// Assert:
+		MatcherAssert.assertThat(result, IsEqual.equalTo(ValidationResult.NEUTRAL));
+		Mockito.verify(factory.statefulTransactionValidator, Mockito.times(1)).validate(Mockito.eq(neutralTransaction), Mockito.any());
+	}
+
 	private static List<Block> createBlocksForTransactionValidationTests(final Block parentBlock) {
 		final List<Block> blocks = NisUtils.createBlockList(parentBlock, 2);
 		final Block middleBlock = blocks.get(1);
@@ -548,7 +616,7 @@ public class BlockChainValidatorTest {
 		// Arrange:
 		final SingleTransactionValidator transactionValidator = Mockito.mock(SingleTransactionValidator.class);
 		Mockito.when(transactionValidator.validate(Mockito.any(), Mockito.any())).thenReturn(ValidationResult.SUCCESS);
-		factory.transactionValidator = transactionValidator;
+		factory.statefulTransactionValidator = transactionValidator;
 
 		final BlockChainValidator validator = factory.create();
 		final Block parentBlock = createParentBlock(Utils.generateRandomAccount(), parentBlockHeight);
@@ -636,14 +704,17 @@ public class BlockChainValidatorTest {
 		public final int maxChainSize = 21;
 		public BlockValidator blockValidator = Mockito.mock(BlockValidator.class);
 		public SingleTransactionValidator transactionValidator = Mockito.mock(SingleTransactionValidator.class);
+		public SingleTransactionValidator statelessTransactionValidator = Mockito.mock(SingleTransactionValidator.class);
+		public SingleTransactionValidator statefulTransactionValidator = Mockito.mock(SingleTransactionValidator.class);
 		public final ValidationState validationState = Mockito.mock(ValidationState.class);
 
 		public BlockChainValidatorFactory() {
-			Mockito.when(this.scorer.calculateHit(Mockito.any())).thenReturn(BigInteger.ZERO);
-			Mockito.when(this.scorer.calculateTarget(Mockito.any(), Mockito.any())).thenReturn(BigInteger.ONE);
+			Mockito.when(this.scorer.isHit(Mockito.any(), Mockito.any())).thenReturn(true);
 
 			Mockito.when(this.blockValidator.validate(Mockito.any())).thenReturn(ValidationResult.SUCCESS);
 			Mockito.when(this.transactionValidator.validate(Mockito.any(), Mockito.any())).thenReturn(ValidationResult.SUCCESS);
+			Mockito.when(this.statelessTransactionValidator.validate(Mockito.any(), Mockito.any())).thenReturn(ValidationResult.SUCCESS);
+			Mockito.when(this.statefulTransactionValidator.validate(Mockito.any(), Mockito.any())).thenReturn(ValidationResult.SUCCESS);
 		}
 
 		public BlockChainValidator create() {
@@ -652,7 +723,8 @@ public class BlockChainValidatorTest {
 
 		public BlockChainValidator create(final ForkConfiguration forkConfiguration) {
 			return new BlockChainValidator(this.processorFactory, this.scorer, this.maxChainSize, this.blockValidator,
-					this.transactionValidator, this.validationState, forkConfiguration);
+					this.transactionValidator, this.statelessTransactionValidator, this.statefulTransactionValidator, this.validationState,
+					forkConfiguration);
 		}
 	}
 
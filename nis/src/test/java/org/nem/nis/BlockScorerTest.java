@@ -2,7 +2,7 @@ package org.nem.nis;
 
 import java.lang.reflect.Field;
 import java.math.BigInteger;
-import java.util.Arrays;
+import java.util.*;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.*;
 import org.junit.*;
@@ -143,6 +143,121 @@ public class BlockScorerTest {
 
 	// endregion
 
+	// region isHit
+
+	@Test
+	public void isHitReturnsFalseWhenElapsedTimeIsZero() throws NoSuchFieldException, IllegalAccessException {
+		// Arrange:
+		final TestContext context = new TestContext();
+		final Account blockSigner = context.createAccountWithBalance(72);
+
+		final Block previousBlock = createBlock(Utils.generateRandomAccount(), 1, 11);
+		final Block block = createBlock(blockSigner, Utils.generateRandomHash(), 1, 11);
+		context.recalculateImportances(block.getHeight());
+
+		// Act:
+		final boolean isHit = context.scorer.isHit(previousBlock, block);
+
+		// Assert:
+		MatcherAssert.assertThat(isHit, IsEqual.equalTo(false));
+	}
+
+	@Test
+	public void isHitReturnsFalseWhenElapsedTimeIsNegative() throws NoSuchFieldException, IllegalAccessException {
+		// Arrange:
+		final TestContext context = new TestContext();
+		final Account blockSigner = context.createAccountWithBalance(72);
+
+		final Block previousBlock = createBlock(Utils.generateRandomAccount(), 101, 11);
+		final Block block = createBlock(blockSigner, Utils.generateRandomHash(), 1, 11);
+		context.recalculateImportances(block.getHeight());
+
+		// Act:
+		final boolean isHit = context.scorer.isHit(previousBlock, block);
+
+		// Assert:
+		MatcherAssert.assertThat(isHit, IsEqual.equalTo(false));
+	}
+
+	@Test
+	public void isHitIsConsistentWithHitAndTargetWhenHitIsMaximal() throws NoSuchFieldException, IllegalAccessException {
+		// Arrange: a zero generation hash results in the largest possible hit
+		final TestContext context = new TestContext();
+		final Account blockSigner = context.createAccountWithBalance(1_000_000_000);
+
+		final Block previousBlock = createBlock(Utils.generateRandomAccount(), 1, 11);
+		final Block block = createBlock(blockSigner, Hash.ZERO, 1001, 11);
+		context.recalculateImportances(block.getHeight());
+
+		// Assert:
+		MatcherAssert.assertThat(context.scorer.calculateHit(block), IsEqual.equalTo(BigInteger.valueOf(Long.MAX_VALUE)));
+		assertIsHitIsConsistentWithHitAndTarget(context.scorer, previousBlock, block);
+	}
+
+	@Test
+	public void isHitIsConsistentWithHitAndTarget() throws NoSuchFieldException, IllegalAccessException {
+		// Arrange:
+		final TestContext context = new TestContext();
+		final Account blockSigner = context.createAccountWithBalance(1_000_000);
+		final Block previousBlock = createBlock(Utils.generateRandomAccount(), 1, 11);
+		context.recalculateImportances(new BlockHeight(11));
+
+		final Random random = new Random();
+		for (int i = 0; i < 100; ++i) {
+			final Block block = createBlock(blockSigner, Utils.generateRandomHash(), 1 + 3 * i, 11);
+			block.setDifficulty(new BlockDifficulty((long) (random.nextDouble() * BlockDifficulty.INITIAL_DIFFICULTY.getRaw() * 10)));
+
+			// Assert:
+			assertIsHitIsConsistentWithHitAndTarget(context.scorer, previousBlock, block);
+		}
+	}
+
+	@Test
+	public void isHitIsConsistentWithHitAndTargetAroundThreshold() throws NoSuchFieldException, IllegalAccessException {
+		// Arrange:
+		final TestContext context = new TestContext();
+		final Account blockSigner = context.createAccountWithBalance(Amount.fromMicroNem(10_000));
+		final Block previousBlock = createBlock(Utils.generateRandomAccount(), 1, 11);
+		context.recalculateImportances(new BlockHeight(11));
+
+		final Set<Boolean> observedResults = new HashSet<>();
+		for (int i = 0; i < 100; ++i) {
+			final Block block = createBlock(blockSigner, Utils.generateRandomHash(), 2 + i % 5, 11);
+
+			// - find the (approximate) difficulty at which the target is equal to the hit
+			final long referenceDifficulty = BlockDifficulty.INITIAL_DIFFICULTY.getRaw();
+			block.setDifficulty(new BlockDifficulty(referenceDifficulty));
+			final BigInteger hit = context.scorer.calculateHit(block);
+			final BigInteger thresholdDifficulty = context.scorer.calculateTarget(previousBlock, block)
+					.multiply(BigInteger.valueOf(referenceDifficulty)).divide(hit);
+			if (thresholdDifficulty.compareTo(BigInteger.valueOf(referenceDifficulty / 5)) < 0
+					|| thresholdDifficulty.compareTo(BigInteger.valueOf(referenceDifficulty * 5)) > 0) {
+				continue;
+			}
+
+			// Assert:
+			for (long difficulty = thresholdDifficulty.longValue() - 10; difficulty <= thresholdDifficulty.longValue() + 10; ++difficulty) {
+				block.setDifficulty(new BlockDifficulty(difficulty));
+				observedResults.add(assertIsHitIsConsistentWithHitAndTarget(context.scorer, previousBlock, block));
+			}
+		}
+
+		// - both hits and misses should have been checked
+		MatcherAssert.assertThat(observedResults, IsEqual.equalTo(new HashSet<>(Arrays.asList(true, false))));
+	}
+
+	private static boolean assertIsHitIsConsistentWithHitAndTarget(final BlockScorer scorer, final Block previousBlock, final Block block) {
+		// Act:
+		final boolean isHit = scorer.isHit(previousBlock, block);
+
+		// Assert:
+		final boolean expectedIsHit = scorer.calculateHit(block).compareTo(scorer.calculateTarget(previousBlock, block)) < 0;
+		MatcherAssert.assertThat(isHit, IsEqual.equalTo(expectedIsHit));
+		return isHit;
+	}
+
+	// endregion
+
 	// region calculateHarvesterEffectiveImportance
 
 	@Test
@@ -227,7 +342,12 @@ public class BlockScorerTest {
 
 	private static Block createBlock(final Account account, final int timeStamp, final long height)
 			throws NoSuchFieldException, IllegalAccessException {
-		final Block block = new Block(account, Hash.ZERO, Hash.ZERO, new TimeInstant(timeStamp), new BlockHeight(height));
+		return createBlock(account, Hash.ZERO, timeStamp, height);
+	}
+
+	private static Block createBlock(final Account account, final Hash generationHash, final int timeStamp, final long height)
+			throws NoSuchFieldException, IllegalAccessException {
+		final Block block = new Block(account, Hash.ZERO, generationHash, new TimeInstant(timeStamp), new BlockHeight(height));
 		block.sign();
 
 		final AccountCache accountCache = new DefaultAccountCache();
@@ -262,9 +382,13 @@ public class BlockScorerTest {
 		}
 
 		private Account createAccountWithBalance(final long balance) {
+			return this.createAccountWithBalance(Amount.fromNem(balance));
+		}
+
+		private Account createAccountWithBalance(final Amount balance) {
 			final Account account = Utils.generateRandomAccount();
 			final AccountState accountState = this.accountStateCache.findStateByAddress(account.getAddress());
-			accountState.getWeightedBalances().addReceive(BlockHeight.ONE, Amount.fromNem(balance));
+			accountState.getWeightedBalances().addReceive(BlockHeight.ONE, balance);
 			accountState.setHeight(BlockHeight.ONE);
 			return account;
 		}
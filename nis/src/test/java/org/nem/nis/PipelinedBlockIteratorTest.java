@@ -0,0 +1,190 @@
+package org.nem.nis;
+
+import java.util.*;
+import java.util.stream.*;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.*;
+import org.junit.*;
+import org.mockito.*;
+import org.nem.core.model.*;
+import org.nem.core.model.primitive.BlockHeight;
+import org.nem.core.serialization.AccountLookup;
+import org.nem.core.test.*;
+import org.nem.nis.cache.AccountCache;
+import org.nem.nis.dao.BlockDao;
+import org.nem.nis.dbmodel.DbBlock;
+import org.nem.nis.mappers.*;
+import org.nem.nis.test.NisUtils;
+
+public class PipelinedBlockIteratorTest {
+	private static final int PAGE_SIZE = 10;
+
+	@Test
+	public void iteratorReturnsAllBlocksInOrder() {
+		// Arrange:
+		final TestContext context = new TestContext(1, 55);
+
+		// Act:
+		final List<Long> heights = context.iterateAll(BlockHeight.ONE);
+
+		// Assert:
+		MatcherAssert.assertThat(heights, IsEqual.equalTo(LongStream.rangeClosed(2, 55).boxed().collect(Collectors.toList())));
+	}
+
+	@Test
+	public void iteratorReturnsBlocksAfterStartHeight() {
+		// Arrange:
+		final TestContext context = new TestContext(1, 55);
+
+		// Act:
+		final List<Long> heights = context.iterateAll(new BlockHeight(30));
+
+		// Assert:
+		MatcherAssert.assertThat(heights, IsEqual.equalTo(LongStream.rangeClosed(31, 55).boxed().collect(Collectors.toList())));
+	}
+
+	@Test
+	public void iteratorReturnsMappedBlocks() {
+		// Arrange:
+		final TestContext context = new TestContext(1, 5);
+
+		// Act:
+		try (final PipelinedBlockIterator iterator = context.createIterator(BlockHeight.ONE)) {
+			final PipelinedBlockIterator.MappedBlock mappedBlock = iterator.next();
+
+			// Assert:
+			MatcherAssert.assertThat(mappedBlock.getDbBlock().getHeight(), IsEqual.equalTo(2L));
+			MatcherAssert.assertThat(mappedBlock.getBlock().getHeight(), IsEqual.equalTo(new BlockHeight(2)));
+		}
+	}
+
+	@Test
+	public void iteratorReturnsNullWhenAllBlocksHaveBeenReturned() {
+		// Arrange:
+		final TestContext context = new TestContext(1, 20);
+
+		// Act:
+		try (final PipelinedBlockIterator iterator = context.createIterator(BlockHeight.ONE)) {
+			for (int i = 0; i < 19; ++i) {
+				iterator.next();
+			}
+
+			// Assert:
+			MatcherAssert.assertThat(iterator.next(), IsNull.nullValue());
+			MatcherAssert.assertThat(iterator.next(), IsNull.nullValue());
+		}
+
+		// - two full pages and one empty page were loaded
+		Mockito.verify(context.blockDao, Mockito.times(3)).getBlocksAfterAndUpdateCache(Mockito.any(), Mockito.eq(PAGE_SIZE));
+	}
+
+	@Test
+	public void iteratorDoesNotUseAccountCacheForMapping() {
+		// Arrange:
+		final TestContext context = new TestContext(1, 5);
+
+		// Act:
+		context.iterateAll(BlockHeight.ONE);
+
+		// Assert:
+		final ArgumentCaptor<AccountLookup> captor = ArgumentCaptor.forClass(AccountLookup.class);
+		Mockito.verify(context.mapperFactory, Mockito.only()).createDbModelToModelNisMapper(captor.capture());
+		MatcherAssert.assertThat(captor.getValue(), IsNot.not(IsInstanceOf.instanceOf(AccountCache.class)));
+	}
+
+	@Test
+	public void iteratorFailsIfBlockIsMissing() {
+		// Arrange:
+		final TestContext context = new TestContext(1, 5);
+		context.dbBlocks.remove(3);
+
+		// Act:
+		try (final PipelinedBlockIterator iterator = context.createIterator(BlockHeight.ONE)) {
+			iterator.next();
+			iterator.next();
+
+			ExceptionAssert.assertThrows(v -> iterator.next(), IllegalStateException.class);
+		}
+	}
+
+	@Test
+	public void iteratorPropagatesLoadingFailures() {
+		// Arrange:
+		final TestContext context = new TestContext(1, 5);
+		Mockito.doThrow(new IllegalArgumentException("db failure")).when(context.blockDao).getBlocksAfterAndUpdateCache(Mockito.any(),
+				Mockito.anyInt());
+
+		// Act:
+		try (final PipelinedBlockIterator iterator = context.createIterator(BlockHeight.ONE)) {
+			ExceptionAssert.assertThrows(v -> iterator.next(), IllegalArgumentException.class);
+		}
+	}
+
+	@Test
+	public void iteratorPropagatesMappingFailures() {
+		// Arrange:
+		final TestContext context = new TestContext(1, 5);
+		Mockito.doThrow(new IllegalArgumentException("mapping failure")).when(context.mapper).map(Mockito.any(DbBlock.class));
+
+		// Act:
+		try (final PipelinedBlockIterator iterator = context.createIterator(BlockHeight.ONE)) {
+			ExceptionAssert.assertThrows(v -> iterator.next(), IllegalArgumentException.class);
+		}
+	}
+
+	@Test
+	public void iteratorOnlyPrefetchesBoundedNumberOfPages() throws InterruptedException {
+		// Arrange:
+		final TestContext context = new TestContext(1, 1000);
+
+		// Act:
+		try (final PipelinedBlockIterator iterator = context.createIterator(BlockHeight.ONE)) {
+			iterator.next();
+			Thread.sleep(200);
+
+			// Assert: the page being consumed, the pending pages and the page waiting to be queued
+			Mockito.verify(context.blockDao, Mockito.atMost(1 + 4 + 1)).getBlocksAfterAndUpdateCache(Mockito.any(), Mockito.anyInt());
+		}
+	}
+
+	private static class TestContext {
+		private final List<DbBlock> dbBlocks = new ArrayList<>();
+		private final BlockDao blockDao = Mockito.mock(BlockDao.class);
+		private final NisDbModelToModelMapper mapper = Mockito.mock(NisDbModelToModelMapper.class);
+		private final NisMapperFactory mapperFactory = Mockito.mock(NisMapperFactory.class);
+
+		private TestContext(final long startHeight, final long endHeight) {
+			for (long height = startHeight; height <= endHeight; ++height) {
+				this.dbBlocks.add(NisUtils.createDbBlockWithTimeStampAtHeight((int) height, height));
+			}
+
+			Mockito.when(this.blockDao.getBlocksAfterAndUpdateCache(Mockito.any(), Mockito.anyInt())).then(invocation -> {
+				final BlockHeight height = (BlockHeight) invocation.getArguments()[0];
+				final int limit = (Integer) invocation.getArguments()[1];
+				return this.dbBlocks.stream().filter(dbBlock -> dbBlock.getHeight() > height.getRaw()).limit(limit)
+						.collect(Collectors.toList());
+			});
+			Mockito.when(this.mapper.map(Mockito.any(DbBlock.class))).then(invocation -> {
+				final DbBlock dbBlock = (DbBlock) invocation.getArguments()[0];
+				return NisUtils.createRandomBlockWithHeight(dbBlock.getHeight());
+			});
+			Mockito.when(this.mapperFactory.createDbModelToModelNisMapper(Mockito.any())).thenReturn(this.mapper);
+		}
+
+		private PipelinedBlockIterator createIterator(final BlockHeight startHeight) {
+			return new PipelinedBlockIterator(this.blockDao, this.mapperFactory, startHeight, PAGE_SIZE, 3);
+		}
+
+		private List<Long> iterateAll(final BlockHeight startHeight) {
+			final List<Long> heights = new ArrayList<>();
+			try (final PipelinedBlockIterator iterator = this.createIterator(startHeight)) {
+				PipelinedBlockIterator.MappedBlock mappedBlock;
+				while (null != (mappedBlock = iterator.next())) {
+					heights.add(mappedBlock.getDbBlock().getHeight());
+				}
+			}
+
+			return heights;
+		}
+	}
+}
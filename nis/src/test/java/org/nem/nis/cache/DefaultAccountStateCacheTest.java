@@ -1,9 +1,34 @@
 package org.nem.nis.cache;
 
+import org.junit.Test;
+import org.nem.core.test.*;
+import org.nem.nis.cache.delta.PersistentDeltaMap;
+
 public class DefaultAccountStateCacheTest extends AccountStateCacheTest<DefaultAccountStateCache> {
 
 	@Override
 	protected DefaultAccountStateCache createCacheWithoutAutoCache() {
 		return new DefaultAccountStateCache();
 	}
+
+	@Test
+	public void copyOfCopyIsNotAllowed() {
+		// Arrange:
+		final DefaultAccountStateCache copy = this.createCacheWithoutAutoCache().copy();
+
+		// Act:
+		ExceptionAssert.assertThrows(v -> copy.copy(), IllegalStateException.class);
+	}
+
+	@Test
+	public void cannotShallowCopyToCacheWithDifferentMapImplementation() {
+		// Arrange:
+		final DefaultAccountStateCache cache = this.createCacheWithoutAutoCache();
+		cache.findStateByAddress(Utils.generateRandomAddress());
+		final DefaultAccountStateCache persistentCache = new DefaultAccountStateCache(new PersistentDeltaMap<>());
+
+		// Act:
+		ExceptionAssert.assertThrows(v -> cache.shallowCopyTo(persistentCache), IllegalArgumentException.class);
+		ExceptionAssert.assertThrows(v -> persistentCache.shallowCopyTo(cache), IllegalArgumentException.class);
+	}
 }
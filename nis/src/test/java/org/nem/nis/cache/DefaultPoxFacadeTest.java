@@ -1,11 +1,12 @@
 package org.nem.nis.cache;
 
-import org.nem.nis.pox.ImportanceCalculator;
+import org.nem.nis.pox.*;
 
 public class DefaultPoxFacadeTest extends PoxFacadeTest<DefaultPoxFacade> {
 
 	@Override
-	protected DefaultPoxFacade createPoxFacade(final ImportanceCalculator importanceCalculator) {
-		return new DefaultPoxFacade(importanceCalculator);
+	protected DefaultPoxFacade createPoxFacade(final ImportanceCalculator importanceCalculator,
+			final ImportancePrecalculator importancePrecalculator) {
+		return new DefaultPoxFacade(importanceCalculator, importancePrecalculator);
 	}
 }
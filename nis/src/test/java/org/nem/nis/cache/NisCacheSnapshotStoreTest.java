@@ -0,0 +1,131 @@
+package org.nem.nis.cache;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.util.*;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.*;
+import org.junit.*;
+import org.junit.rules.TemporaryFolder;
+import org.nem.core.crypto.Hash;
+import org.nem.core.model.primitive.*;
+import org.nem.core.test.*;
+
+public class NisCacheSnapshotStoreTest {
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void cannotCreateStoreWithoutSnapshots() {
+		// Act:
+		ExceptionAssert.assertThrows(v -> new NisCacheSnapshotStore(this.folder.getRoot(), 0), IllegalArgumentException.class);
+	}
+
+	@Test
+	public void getHeightsReturnsEmptyListWhenDirectoryDoesNotExist() {
+		// Arrange:
+		final NisCacheSnapshotStore store = new NisCacheSnapshotStore(new File(this.folder.getRoot(), "missing"), 2);
+
+		// Act:
+		final List<BlockHeight> heights = store.getHeights();
+
+		// Assert:
+		MatcherAssert.assertThat(heights.isEmpty(), IsEqual.equalTo(true));
+	}
+
+	@Test
+	public void canSaveAndLoadSnapshot() {
+		// Arrange:
+		final NisCacheSnapshotStore store = new NisCacheSnapshotStore(new File(this.folder.getRoot(), "snapshots"), 2);
+		final Hash blockHash = Utils.generateRandomHash();
+		store.save(new NisCacheSnapshot(new BlockHeight(123), blockHash, new BlockChainScore(456), new byte[]{
+				1, 2, 3
+		}));
+
+		// Act:
+		final NisCacheSnapshot snapshot = store.load(new BlockHeight(123));
+
+		// Assert:
+		MatcherAssert.assertThat(snapshot.getHeight(), IsEqual.equalTo(new BlockHeight(123)));
+		MatcherAssert.assertThat(snapshot.getBlockHash(), IsEqual.equalTo(blockHash));
+		MatcherAssert.assertThat(snapshot.getScore(), IsEqual.equalTo(new BlockChainScore(456)));
+	}
+
+	@Test
+	public void getHeightsReturnsSnapshotHeightsFromNewestToOldest() throws IOException {
+		// Arrange:
+		final NisCacheSnapshotStore store = new NisCacheSnapshotStore(this.folder.getRoot(), 5);
+		saveSnapshots(store, 20, 30, 10);
+		this.folder.newFile("nis_cache_abc.snapshot");
+		this.folder.newFile("other.file");
+
+		// Act:
+		final List<BlockHeight> heights = store.getHeights();
+
+		// Assert:
+		MatcherAssert.assertThat(heights, IsEqual.equalTo(Arrays.asList(new BlockHeight(30), new BlockHeight(20), new BlockHeight(10))));
+	}
+
+	@Test
+	public void saveRemovesOldestSnapshotsBeyondLimit() {
+		// Arrange:
+		final NisCacheSnapshotStore store = new NisCacheSnapshotStore(this.folder.getRoot(), 2);
+
+		// Act:
+		saveSnapshots(store, 10, 20, 30);
+
+		// Assert:
+		MatcherAssert.assertThat(store.getHeights(), IsEqual.equalTo(Arrays.asList(new BlockHeight(30), new BlockHeight(20))));
+		MatcherAssert.assertThat(store.load(new BlockHeight(10)), IsNull.nullValue());
+	}
+
+	@Test
+	public void loadReturnsNullForUnknownHeight() {
+		// Arrange:
+		final NisCacheSnapshotStore store = new NisCacheSnapshotStore(this.folder.getRoot(), 2);
+		saveSnapshots(store, 10);
+
+		// Act:
+		final NisCacheSnapshot snapshot = store.load(new BlockHeight(11));
+
+		// Assert:
+		MatcherAssert.assertThat(snapshot, IsNull.nullValue());
+	}
+
+	@Test
+	public void loadReturnsNullForCorruptSnapshot() throws IOException {
+		// Arrange:
+		final NisCacheSnapshotStore store = new NisCacheSnapshotStore(this.folder.getRoot(), 2);
+		Files.write(this.folder.newFile("nis_cache_10.snapshot").toPath(), new byte[]{
+				1, 2, 3
+		});
+
+		// Act:
+		final NisCacheSnapshot snapshot = store.load(new BlockHeight(10));
+
+		// Assert:
+		MatcherAssert.assertThat(snapshot, IsNull.nullValue());
+	}
+
+	@Test
+	public void removeDeletesSnapshot() {
+		// Arrange:
+		final NisCacheSnapshotStore store = new NisCacheSnapshotStore(this.folder.getRoot(), 3);
+		saveSnapshots(store, 10, 20);
+
+		// Act:
+		store.remove(new BlockHeight(20));
+
+		// Assert:
+		MatcherAssert.assertThat(store.getHeights(), IsEqual.equalTo(Collections.singletonList(new BlockHeight(10))));
+	}
+
+	private static void saveSnapshots(final NisCacheSnapshotStore store, final long... heights) {
+		for (final long height : heights) {
+			store.save(new NisCacheSnapshot(new BlockHeight(height), Utils.generateRandomHash(), BlockChainScore.ZERO, new byte[]{
+					1
+			}));
+		}
+	}
+}
@@ -0,0 +1,287 @@
+package org.nem.nis.cache;
+
+import java.util.*;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.*;
+import org.junit.*;
+import org.mockito.Mockito;
+import org.nem.core.crypto.*;
+import org.nem.core.model.*;
+import org.nem.core.model.mosaic.*;
+import org.nem.core.model.namespace.*;
+import org.nem.core.model.primitive.*;
+import org.nem.core.serialization.*;
+import org.nem.core.test.*;
+import org.nem.core.time.TimeInstant;
+import org.nem.nis.state.*;
+import org.nem.nis.test.NisCacheFactory;
+
+public class NisCacheSnapshotTest {
+	private static final NamespaceId ROOT_ID = new NamespaceId("foo");
+	private static final NamespaceId CHILD_ID = new NamespaceId("foo.bar");
+
+	// region constructor / serialization
+
+	@Test
+	public void canCreateSnapshot() {
+		// Arrange:
+		final Hash blockHash = Utils.generateRandomHash();
+
+		// Act:
+		final NisCacheSnapshot snapshot = new NisCacheSnapshot(new BlockHeight(123), blockHash, new BlockChainScore(456), new byte[]{
+				1, 2, 3
+		});
+
+		// Assert:
+		MatcherAssert.assertThat(snapshot.getHeight(), IsEqual.equalTo(new BlockHeight(123)));
+		MatcherAssert.assertThat(snapshot.getBlockHash(), IsEqual.equalTo(blockHash));
+		MatcherAssert.assertThat(snapshot.getScore(), IsEqual.equalTo(new BlockChainScore(456)));
+	}
+
+	@Test
+	public void canRoundTripSnapshot() {
+		// Arrange:
+		final Hash blockHash = Utils.generateRandomHash();
+		final NisCacheSnapshot original = new NisCacheSnapshot(new BlockHeight(123), blockHash, new BlockChainScore(456), new byte[]{
+				1, 2, 3
+		});
+
+		// Act:
+		final NisCacheSnapshot snapshot = new NisCacheSnapshot(Utils.roundtripSerializableEntity(original, null));
+
+		// Assert:
+		MatcherAssert.assertThat(snapshot.getHeight(), IsEqual.equalTo(new BlockHeight(123)));
+		MatcherAssert.assertThat(snapshot.getBlockHash(), IsEqual.equalTo(blockHash));
+		MatcherAssert.assertThat(snapshot.getScore(), IsEqual.equalTo(new BlockChainScore(456)));
+	}
+
+	@Test
+	public void cannotDeserializeSnapshotWithUnsupportedVersion() {
+		// Arrange:
+		final NisCacheSnapshot original = new NisCacheSnapshot(new BlockHeight(123), Utils.generateRandomHash(), BlockChainScore.ZERO,
+				new byte[0]);
+		final JsonSerializer serializer = new JsonSerializer();
+		original.serialize(serializer);
+		serializer.getObject().put("version", 3);
+
+		// Act:
+		ExceptionAssert.assertThrows(v -> new NisCacheSnapshot(new JsonDeserializer(serializer.getObject(), null)),
+				IllegalArgumentException.class);
+	}
+
+	// endregion
+
+	// region restoreTo
+
+	@Test
+	public void restoreToRestoresAccounts() {
+		// Arrange:
+		final TestContext context = new TestContext();
+
+		// Act:
+		final ReadOnlyNisCache restoredCache = context.roundtrip();
+
+		// Assert:
+		final ReadOnlyAccountCache accountCache = restoredCache.getAccountCache();
+		MatcherAssert.assertThat(accountCache.size(), IsEqual.equalTo(2));
+		MatcherAssert.assertThat(accountCache.findByAddress(context.owner.getAddress()).getAddress().getPublicKey(),
+				IsEqual.equalTo(context.owner.getAddress().getPublicKey()));
+		MatcherAssert.assertThat(accountCache.findByAddress(context.recipient).getAddress().getPublicKey(), IsNull.nullValue());
+	}
+
+	@Test
+	public void restoreToRestoresAccountStates() {
+		// Arrange:
+		final TestContext context = new TestContext();
+
+		// Act:
+		final ReadOnlyNisCache restoredCache = context.roundtrip();
+
+		// Assert:
+		final ReadOnlyAccountState state = restoredCache.getAccountStateCache().findStateByAddress(context.owner.getAddress());
+		MatcherAssert.assertThat(state.getHeight(), IsEqual.equalTo(new BlockHeight(7)));
+		MatcherAssert.assertThat(state.getAccountInfo().getBalance(), IsEqual.equalTo(Amount.fromNem(1234)));
+		MatcherAssert.assertThat(state.getAccountInfo().getLabel(), IsEqual.equalTo("owner"));
+		MatcherAssert.assertThat(state.getWeightedBalances().getVested(new BlockHeight(7)), IsEqual.equalTo(Amount.fromNem(1234)));
+		MatcherAssert.assertThat(state.getWeightedBalances().getUnvested(new BlockHeight(7)), IsEqual.equalTo(Amount.ZERO));
+		MatcherAssert.assertThat(state.getImportanceInfo().getImportance(new BlockHeight(5)), IsEqual.equalTo(0.25));
+		MatcherAssert.assertThat(state.getMultisigLinks().isCosignatoryOf(context.recipient), IsEqual.equalTo(true));
+	}
+
+	@Test
+	public void restoreToRestoresPublicKeysOfAccountStateAddresses() {
+		// Arrange:
+		final TestContext context = new TestContext();
+
+		// Act:
+		final ReadOnlyNisCache restoredCache = context.roundtrip();
+
+		// Assert:
+		final ReadOnlyAccountState state = restoredCache.getAccountStateCache().findStateByAddress(context.owner.getAddress());
+		final PublicKey cosignatoryPublicKey = context.cosignatory.getAddress().getPublicKey();
+		MatcherAssert.assertThat(state.getAddress().getPublicKey(), IsEqual.equalTo(context.owner.getAddress().getPublicKey()));
+		final Map<Address, PublicKey> multisigPublicKeys = new HashMap<>();
+		state.getMultisigLinks().getCosignatoriesOf().forEach(address -> multisigPublicKeys.put(address, address.getPublicKey()));
+		MatcherAssert.assertThat(multisigPublicKeys.get(context.cosignatory.getAddress()), IsEqual.equalTo(cosignatoryPublicKey));
+		MatcherAssert.assertThat(multisigPublicKeys.get(context.recipient), IsNull.nullValue());
+		MatcherAssert.assertThat(state.getRemoteLinks().getCurrent().getLinkedAddress().getPublicKey(),
+				IsEqual.equalTo(cosignatoryPublicKey));
+		final AccountLink outlink = state.getImportanceInfo().getOutlinksIterator(BlockHeight.ONE, BlockHeight.MAX).next();
+		MatcherAssert.assertThat(outlink.getOtherAccountAddress().getPublicKey(), IsEqual.equalTo(cosignatoryPublicKey));
+	}
+
+	@Test
+	public void restoreToRestoresTransactionHashes() {
+		// Arrange:
+		final TestContext context = new TestContext();
+
+		// Act:
+		final ReadOnlyNisCache restoredCache = context.roundtrip();
+
+		// Assert:
+		MatcherAssert.assertThat(restoredCache.getTransactionHashCache().get(context.transactionHash),
+				IsEqual.equalTo(new HashMetaData(new BlockHeight(7), new TimeInstant(321))));
+	}
+
+	@Test
+	public void restoreToRestoresNamespacesAndMosaics() {
+		// Arrange:
+		final TestContext context = new TestContext();
+
+		// Act:
+		final ReadOnlyNisCache restoredCache = context.roundtrip();
+
+		// Assert:
+		// - entries are retrieved from a copy because retrieving them is not supported by the committed cache
+		final ReadOnlyNamespaceCache namespaceCache = restoredCache.copy().getNamespaceCache();
+		MatcherAssert.assertThat(namespaceCache.size(), IsEqual.equalTo(context.cache.copy().getNamespaceCache().size()));
+		MatcherAssert.assertThat(namespaceCache.deepSize(), IsEqual.equalTo(context.cache.copy().getNamespaceCache().deepSize()));
+		MatcherAssert.assertThat(namespaceCache.get(ROOT_ID).getNamespace().getHeight(), IsEqual.equalTo(new BlockHeight(5)));
+
+		final ReadOnlyMosaicEntry entry = namespaceCache.get(CHILD_ID).getMosaics().get(context.mosaicDefinition.getId());
+		MatcherAssert.assertThat(entry.getMosaicDefinition(), IsEqual.equalTo(context.mosaicDefinition));
+		MatcherAssert.assertThat(entry.getSupply(), IsEqual.equalTo(new Supply(100)));
+		MatcherAssert.assertThat(entry.getBalances().getBalance(context.recipient), IsEqual.equalTo(Quantity.fromValue(25)));
+	}
+
+	@Test
+	public void restoreToPreservesRootNamespaceHistory() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		final ReadOnlyNisCache restoredCache = context.roundtrip();
+
+		// Act: add a mosaic to the active root and undo the renewal of the root in both caches
+		final NamespaceEntry originalEntry = undoRootRenewalAfterAddingMosaic(context.cache, context.owner);
+		final NamespaceEntry restoredEntry = undoRootRenewalAfterAddingMosaic(restoredCache, context.owner);
+
+		// Assert: the restored root history behaves like the original one
+		MatcherAssert.assertThat(restoredEntry.getNamespace().getHeight(), IsEqual.equalTo(new BlockHeight(1)));
+		MatcherAssert.assertThat(restoredEntry.getNamespace(), IsEqual.equalTo(originalEntry.getNamespace()));
+		MatcherAssert.assertThat(new HashSet<>(restoredEntry.getMosaics().getMosaicIds()),
+				IsEqual.equalTo(new HashSet<>(originalEntry.getMosaics().getMosaicIds())));
+		MatcherAssert.assertThat(restoredCache.getNamespaceCache().contains(CHILD_ID), IsEqual.equalTo(true));
+	}
+
+	private static NamespaceEntry undoRootRenewalAfterAddingMosaic(final ReadOnlyNisCache cache, final Account owner) {
+		final NisCache copy = cache.copy();
+		final MosaicDefinition mosaicDefinition = Utils.createMosaicDefinition(owner, Utils.createMosaicId(ROOT_ID, 2),
+				Utils.createMosaicProperties());
+		copy.getNamespaceCache().get(ROOT_ID).getMosaics().add(mosaicDefinition);
+		copy.getNamespaceCache().remove(ROOT_ID);
+		return copy.getNamespaceCache().get(ROOT_ID);
+	}
+
+	@Test
+	public void restoreToRestoresExpiredMosaics() {
+		// Arrange:
+		final TestContext context = new TestContext();
+
+		// Act:
+		final ReadOnlyNisCache restoredCache = context.roundtrip();
+
+		// Assert:
+		final Collection<ExpiredMosaicEntry> expirations = restoredCache.getExpiredMosaicCache()
+				.findExpirationsAtHeight(new BlockHeight(6));
+		MatcherAssert.assertThat(expirations.size(), IsEqual.equalTo(1));
+
+		final ExpiredMosaicEntry expiration = expirations.iterator().next();
+		MatcherAssert.assertThat(expiration.getMosaicId(), IsEqual.equalTo(context.mosaicDefinition.getId()));
+		MatcherAssert.assertThat(expiration.getExpiredMosaicType(), IsEqual.equalTo(ExpiredMosaicType.Expired));
+		MatcherAssert.assertThat(expiration.getBalances().getBalance(context.owner.getAddress()), IsEqual.equalTo(new Quantity(75)));
+	}
+
+	@Test
+	public void restoreToIsRejectedForNonCopy() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		final NisCacheSnapshot snapshot = context.createSnapshot();
+		final NisCache cache = Mockito.mock(NisCache.class);
+
+		// Act:
+		ExceptionAssert.assertThrows(v -> snapshot.restoreTo(cache), IllegalArgumentException.class);
+	}
+
+	// endregion
+
+	private static class TestContext {
+		private final DefaultNisCache cache = (DefaultNisCache) NisCacheFactory.createReal();
+		private final Account owner = Utils.generateRandomAccount();
+		private final Address recipient = Utils.generateRandomAddress();
+		private final Account cosignatory = Utils.generateRandomAccount();
+		private final Hash transactionHash = Utils.generateRandomHash();
+		private final MosaicDefinition mosaicDefinition = Utils.createMosaicDefinition(this.owner, Utils.createMosaicId(CHILD_ID, 1),
+				Utils.createMosaicProperties());
+
+		private TestContext() {
+			final NisCache copy = this.cache.copy();
+			copy.getAccountCache().addAccountToCache(this.owner.getAddress());
+			copy.getAccountCache().addAccountToCache(this.recipient);
+
+			final AccountState state = copy.getAccountStateCache().findStateByAddress(this.owner.getAddress());
+			state.setHeight(new BlockHeight(7));
+			state.getAccountInfo().incrementBalance(Amount.fromNem(1234));
+			state.getAccountInfo().setLabel("owner");
+			state.getWeightedBalances().addFullyVested(new BlockHeight(7), Amount.fromNem(1234));
+			state.getImportanceInfo().setImportance(new BlockHeight(5), 0.25);
+			state.getMultisigLinks().addCosignatoryOf(this.recipient);
+			state.getMultisigLinks().addCosignatoryOf(this.cosignatory.getAddress());
+			state.getRemoteLinks().addLink(new RemoteLink(this.cosignatory.getAddress(), new BlockHeight(4), ImportanceTransferMode.Activate,
+					RemoteLink.Owner.HarvestingRemotely));
+			state.getImportanceInfo().addOutlink(new AccountLink(new BlockHeight(6), Amount.fromNem(12), this.cosignatory.getAddress()));
+
+			copy.getTransactionHashCache().put(new HashMetaDataPair(this.transactionHash,
+					new HashMetaData(new BlockHeight(7), new TimeInstant(321))));
+
+			// the root is renewed by the same owner, so the mosaics are shared by both root entries
+			copy.getNamespaceCache().add(new Namespace(ROOT_ID, this.owner, new BlockHeight(1)));
+			copy.getNamespaceCache().add(new Namespace(CHILD_ID, this.owner, new BlockHeight(3)));
+			copy.getNamespaceCache().add(new Namespace(ROOT_ID, this.owner, new BlockHeight(5)));
+
+			final MosaicEntry entry = copy.getNamespaceCache().get(CHILD_ID).getMosaics().add(this.mosaicDefinition);
+			entry.increaseSupply(new Supply(100));
+			entry.getBalances().decrementBalance(this.owner.getAddress(), Quantity.fromValue(25));
+			entry.getBalances().incrementBalance(this.recipient, Quantity.fromValue(25));
+
+			final MosaicBalances expiredBalances = new MosaicBalances();
+			expiredBalances.incrementBalance(this.owner.getAddress(), new Quantity(75));
+			copy.getExpiredMosaicCache().addExpiration(new BlockHeight(6), this.mosaicDefinition.getId(), expiredBalances,
+					ExpiredMosaicType.Expired);
+			copy.commit();
+		}
+
+		private NisCacheSnapshot createSnapshot() {
+			return this.cache.createSnapshot(new BlockHeight(7), Utils.generateRandomHash(), new BlockChainScore(99));
+		}
+
+		private ReadOnlyNisCache roundtrip() {
+			final NisCacheSnapshot snapshot = new NisCacheSnapshot(
+					new BinaryDeserializer(BinarySerializer.serializeToBytes(this.createSnapshot()), new DeserializationContext(null)));
+
+			final DefaultNisCache restoredCache = (DefaultNisCache) NisCacheFactory.createReal();
+			final NisCache copy = restoredCache.copy();
+			snapshot.restoreTo(copy);
+			copy.commit();
+			return restoredCache;
+		}
+	}
+}
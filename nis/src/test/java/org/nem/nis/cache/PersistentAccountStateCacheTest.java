@@ -0,0 +1,41 @@
+package org.nem.nis.cache;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.*;
+import org.junit.*;
+import org.nem.core.model.Address;
+import org.nem.core.test.Utils;
+import org.nem.nis.cache.delta.PersistentDeltaMap;
+import org.nem.nis.state.AccountState;
+
+public class PersistentAccountStateCacheTest extends AccountStateCacheTest<DefaultAccountStateCache> {
+
+	@Override
+	protected DefaultAccountStateCache createCacheWithoutAutoCache() {
+		return new DefaultAccountStateCache(new PersistentDeltaMap<>());
+	}
+
+	@Test
+	public void copyOfCopyCommitsIntoCopy() {
+		// Arrange:
+		final Address address = Utils.generateRandomAddress();
+		final DefaultAccountStateCache cache = this.createCacheWithoutAutoCache();
+		final DefaultAccountStateCache copy = cache.copy();
+
+		// Act:
+		final DefaultAccountStateCache nestedCopy = copy.copy();
+		final AccountState state = nestedCopy.findStateByAddress(address);
+		nestedCopy.commit();
+
+		// Assert:
+		MatcherAssert.assertThat(copy.findStateByAddress(address), IsSame.sameInstance(state));
+		MatcherAssert.assertThat(cache.size(), IsEqual.equalTo(0));
+
+		// Act:
+		copy.commit();
+
+		// Assert:
+		MatcherAssert.assertThat(cache.size(), IsEqual.equalTo(1));
+		MatcherAssert.assertThat(cache.findStateByAddress(address), IsSame.sameInstance(state));
+	}
+}
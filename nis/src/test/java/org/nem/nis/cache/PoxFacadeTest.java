@@ -1,26 +1,39 @@
 package org.nem.nis.cache;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.hamcrest.MatcherAssert;
-import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.*;
 import org.junit.*;
 import org.mockito.*;
 import org.nem.core.model.NetworkInfos;
 import org.nem.core.model.primitive.BlockHeight;
 import org.nem.core.test.*;
-import org.nem.nis.pox.ImportanceCalculator;
+import org.nem.nis.pox.*;
 import org.nem.nis.state.AccountState;
 
 public abstract class PoxFacadeTest<T extends CopyableCache<T> & PoxFacade> {
 
+	/**
+	 * Creates a pox facade given an importance calculator and an importance precalculator.
+	 *
+	 * @param importanceCalculator The importance calculator.
+	 * @param importancePrecalculator The importance precalculator.
+	 * @return The pox facade
+	 */
+	protected abstract T createPoxFacade(final ImportanceCalculator importanceCalculator,
+			final ImportancePrecalculator importancePrecalculator);
+
 	/**
 	 * Creates a pox facade given an importance calculator.
 	 *
 	 * @param importanceCalculator The importance calculator.
 	 * @return The pox facade
 	 */
-	protected abstract T createPoxFacade(final ImportanceCalculator importanceCalculator);
+	protected T createPoxFacade(final ImportanceCalculator importanceCalculator) {
+		return this.createPoxFacade(importanceCalculator, null);
+	}
 
 	/**
 	 * Creates a pox facade.
@@ -268,4 +281,208 @@ public abstract class PoxFacadeTest<T extends CopyableCache<T> & PoxFacade> {
 	}
 
 	// endregion
+
+	// region precalculateImportances
+
+	@Test
+	public void precalculateImportancesDelegatesToImportancePrecalculator() {
+		// Arrange:
+		final ImportanceCalculator importanceCalculator = Mockito.mock(ImportanceCalculator.class);
+		final ImportancePrecalculator importancePrecalculator = Mockito.mock(ImportancePrecalculator.class);
+		final PoxFacade facade = this.createPoxFacade(importanceCalculator, importancePrecalculator);
+		final List<AccountState> accountStates = createAccountStatesForRecalculateTests(3);
+
+		// Act:
+		facade.precalculateImportances(G_HEIGHT_70_PLUS, accountStates);
+
+		// Assert: the precalculator was asked to precalculate a collection with three accounts
+		final ArgumentCaptor<Collection<AccountState>> argument = createAccountStateCollectionArgumentCaptor();
+		Mockito.verify(importancePrecalculator, Mockito.only()).precalculate(Mockito.eq(G_HEIGHT_70.prev()), Mockito.anyLong(),
+				argument.capture());
+		Mockito.verify(importanceCalculator, Mockito.never()).recalculate(Mockito.any(), Mockito.any());
+		MatcherAssert.assertThat(this.heightsAsList(argument.getValue()), IsEquivalent.equivalentTo(G_HEIGHTS_A1_TO_A3));
+	}
+
+	@Test
+	public void precalculateImportancesIgnoresAccountsWithGreaterHeightAndNemesisAccount() {
+		// Arrange:
+		final ImportancePrecalculator importancePrecalculator = Mockito.mock(ImportancePrecalculator.class);
+		final PoxFacade facade = this.createPoxFacade(Mockito.mock(ImportanceCalculator.class), importancePrecalculator);
+		final List<AccountState> accountStates = createAccountStatesForRecalculateTests(3);
+		accountStates.add(new AccountState(NetworkInfos.getDefault().getNemesisBlockInfo().getAddress()));
+
+		// Act:
+		facade.precalculateImportances(G_HEIGHT_20, accountStates);
+
+		// Assert: the precalculator was asked to precalculate a collection with two accounts
+		final ArgumentCaptor<Collection<AccountState>> argument = createAccountStateCollectionArgumentCaptor();
+		Mockito.verify(importancePrecalculator, Mockito.only()).precalculate(Mockito.eq(G_HEIGHT_20.prev()), Mockito.anyLong(),
+				argument.capture());
+		MatcherAssert.assertThat(this.heightsAsList(argument.getValue()),
+				IsEquivalent.equivalentTo(Arrays.asList(G_HEIGHT_A1, G_HEIGHT_A2)));
+	}
+
+	@Test
+	public void precalculateImportancesDoesNotPrecalculateImportancesForLastBlockHeight() {
+		// Arrange:
+		final ImportancePrecalculator importancePrecalculator = Mockito.mock(ImportancePrecalculator.class);
+		final PoxFacade facade = this.createPoxFacade(Mockito.mock(ImportanceCalculator.class), importancePrecalculator);
+		facade.recalculateImportances(G_HEIGHT_20, new ArrayList<>());
+
+		// Act:
+		facade.precalculateImportances(G_HEIGHT_20, new ArrayList<>());
+
+		// Assert:
+		Mockito.verify(importancePrecalculator, Mockito.never()).precalculate(Mockito.any(), Mockito.anyLong(), Mockito.any());
+	}
+
+	@Test
+	public void precalculateImportancesDoesNothingWithoutImportancePrecalculator() {
+		// Arrange:
+		final ImportanceCalculator importanceCalculator = Mockito.mock(ImportanceCalculator.class);
+		final PoxFacade facade = this.createPoxFacade(importanceCalculator);
+
+		// Act:
+		facade.precalculateImportances(G_HEIGHT_70, createAccountStatesForRecalculateTests(3));
+
+		// Assert:
+		Mockito.verifyZeroInteractions(importanceCalculator);
+	}
+
+	@Test
+	public void precalculateImportancesDoesNotUpdateRecalculationState() {
+		// Arrange:
+		final PoxFacade facade = this.createPoxFacade(Mockito.mock(ImportanceCalculator.class),
+				Mockito.mock(ImportancePrecalculator.class));
+		final List<AccountState> accountStates = createAccountStatesForRecalculateTests(3);
+
+		// Act:
+		facade.precalculateImportances(G_HEIGHT_70, accountStates);
+
+		// Assert:
+		MatcherAssert.assertThat(facade.getLastRecalculationHeight(), IsNull.nullValue());
+		MatcherAssert.assertThat(facade.getLastVectorSize(), IsEqual.equalTo(0));
+	}
+
+	@Test
+	public void recalculateImportancesAppliesPrecalculatedImportancesIfAvailable() {
+		// Arrange:
+		final ImportanceCalculator importanceCalculator = Mockito.mock(ImportanceCalculator.class);
+		final ImportancePrecalculator importancePrecalculator = Mockito.mock(ImportancePrecalculator.class);
+		Mockito.when(importancePrecalculator.apply(Mockito.any(), Mockito.anyLong(), Mockito.any())).thenReturn(true);
+		final PoxFacade facade = this.createPoxFacade(importanceCalculator, importancePrecalculator);
+		final List<AccountState> accountStates = createAccountStatesForRecalculateTests(3);
+
+		// Act:
+		facade.recalculateImportances(G_HEIGHT_70_PLUS, accountStates);
+
+		// Assert:
+		Mockito.verify(importancePrecalculator, Mockito.only()).apply(Mockito.eq(G_HEIGHT_70.prev()), Mockito.anyLong(), Mockito.any());
+		Mockito.verify(importanceCalculator, Mockito.never()).recalculate(Mockito.any(), Mockito.any());
+		MatcherAssert.assertThat(facade.getLastRecalculationHeight(), IsEqual.equalTo(G_HEIGHT_70.prev()));
+		MatcherAssert.assertThat(facade.getLastVectorSize(), IsEqual.equalTo(3));
+	}
+
+	@Test
+	public void recalculateImportancesRecalculatesImportancesIfPrecalculatedImportancesAreNotAvailable() {
+		// Arrange:
+		final ImportanceCalculator importanceCalculator = Mockito.mock(ImportanceCalculator.class);
+		final ImportancePrecalculator importancePrecalculator = Mockito.mock(ImportancePrecalculator.class);
+		final PoxFacade facade = this.createPoxFacade(importanceCalculator, importancePrecalculator);
+		final List<AccountState> accountStates = createAccountStatesForRecalculateTests(3);
+
+		// Act:
+		facade.recalculateImportances(G_HEIGHT_70_PLUS, accountStates);
+
+		// Assert:
+		Mockito.verify(importancePrecalculator, Mockito.only()).apply(Mockito.eq(G_HEIGHT_70.prev()), Mockito.anyLong(), Mockito.any());
+		Mockito.verify(importanceCalculator, Mockito.only()).recalculate(Mockito.eq(G_HEIGHT_70.prev()), Mockito.any());
+	}
+
+	// endregion
+
+	// region importance inputs version
+
+	@Test
+	public void importanceInputsVersionIsUnchangedByRecalculation() {
+		// Assert:
+		this.assertImportanceInputsVersionIsKept(context -> {
+			context.facade.recalculateImportances(G_HEIGHT_20, new ArrayList<>());
+			return context.facade;
+		});
+	}
+
+	@Test
+	public void copyHasSameImportanceInputsVersion() {
+		// Assert:
+		this.assertImportanceInputsVersionIsKept(context -> context.facade.copy());
+	}
+
+	@Test
+	public void shallowCopyToCopiesImportanceInputsVersion() {
+		// Assert:
+		this.assertImportanceInputsVersionIsKept(context -> {
+			final T copyFacade = this.createPoxFacade(Mockito.mock(ImportanceCalculator.class), context.importancePrecalculator);
+			context.facade.shallowCopyTo(copyFacade);
+			return copyFacade;
+		});
+	}
+
+	@Test
+	public void markImportanceInputsChangedChangesImportanceInputsVersion() {
+		// Assert:
+		this.assertImportanceInputsVersionIsChanged(context -> {
+			context.facade.markImportanceInputsChanged();
+			return context.facade;
+		});
+	}
+
+	@Test
+	public void independentFacadesHaveDifferentImportanceInputsVersions() {
+		// Assert:
+		this.assertImportanceInputsVersionIsChanged(context -> this.createPoxFacade(Mockito.mock(ImportanceCalculator.class),
+				context.importancePrecalculator));
+	}
+
+	private void assertImportanceInputsVersionIsKept(final Function<TestContext, T> createFacade) {
+		// Act:
+		final List<Long> versions = this.getImportanceInputsVersions(createFacade);
+
+		// Assert:
+		MatcherAssert.assertThat(versions.get(1), IsEqual.equalTo(versions.get(0)));
+	}
+
+	private void assertImportanceInputsVersionIsChanged(final Function<TestContext, T> createFacade) {
+		// Act:
+		final List<Long> versions = this.getImportanceInputsVersions(createFacade);
+
+		// Assert:
+		MatcherAssert.assertThat(versions.get(1), IsNot.not(IsEqual.equalTo(versions.get(0))));
+	}
+
+	private List<Long> getImportanceInputsVersions(final Function<TestContext, T> createFacade) {
+		// Arrange:
+		final TestContext context = new TestContext();
+		context.facade.precalculateImportances(G_HEIGHT_70, new ArrayList<>());
+
+		// Act:
+		createFacade.apply(context).recalculateImportances(G_HEIGHT_70, new ArrayList<>());
+
+		// Assert: the version passed to apply is compared to the version passed to precalculate
+		final ArgumentCaptor<Long> precalculateVersion = ArgumentCaptor.forClass(Long.class);
+		final ArgumentCaptor<Long> applyVersion = ArgumentCaptor.forClass(Long.class);
+		Mockito.verify(context.importancePrecalculator, Mockito.times(1)).precalculate(Mockito.any(), precalculateVersion.capture(),
+				Mockito.any());
+		Mockito.verify(context.importancePrecalculator, Mockito.times(1)).apply(Mockito.eq(G_HEIGHT_70.prev()), applyVersion.capture(),
+				Mockito.any());
+		return Arrays.asList(precalculateVersion.getValue(), applyVersion.getValue());
+	}
+
+	private class TestContext {
+		private final ImportancePrecalculator importancePrecalculator = Mockito.mock(ImportancePrecalculator.class);
+		private final T facade = PoxFacadeTest.this.createPoxFacade(Mockito.mock(ImportanceCalculator.class),
+				this.importancePrecalculator);
+	}
+
+	// endregion
 }
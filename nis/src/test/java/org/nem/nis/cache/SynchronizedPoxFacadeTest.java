@@ -1,11 +1,12 @@
 package org.nem.nis.cache;
 
-import org.nem.nis.pox.ImportanceCalculator;
+import org.nem.nis.pox.*;
 
 public class SynchronizedPoxFacadeTest extends PoxFacadeTest<SynchronizedPoxFacade> {
 
 	@Override
-	protected SynchronizedPoxFacade createPoxFacade(final ImportanceCalculator importanceCalculator) {
-		return new SynchronizedPoxFacade(new DefaultPoxFacade(importanceCalculator));
+	protected SynchronizedPoxFacade createPoxFacade(final ImportanceCalculator importanceCalculator,
+			final ImportancePrecalculator importancePrecalculator) {
+		return new SynchronizedPoxFacade(new DefaultPoxFacade(importanceCalculator, importancePrecalculator));
 	}
 }
@@ -0,0 +1,386 @@
+package org.nem.nis.cache.delta;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.*;
+import org.junit.*;
+import org.nem.core.model.Address;
+import org.nem.core.test.*;
+import org.nem.nis.state.AccountState;
+
+public class PersistentDeltaMapTest {
+
+	// region ctor
+
+	@Test
+	public void canCreatePersistentDeltaMap() {
+		// Act:
+		final PersistentDeltaMap<Address, AccountState> deltaMap = new PersistentDeltaMap<>();
+
+		// Assert:
+		MatcherAssert.assertThat(deltaMap.size(), IsEqual.equalTo(0));
+		MatcherAssert.assertThat(deltaMap.supportsNestedCopies(), IsEqual.equalTo(true));
+	}
+
+	// endregion
+
+	// region getOrDefault
+
+	@Test
+	public void getOrDefaultReturnsExistingValueIfKeyIsFound() {
+		// Arrange:
+		final Address address = Utils.generateRandomAddress();
+		final AccountState state = new AccountState(address);
+		final PersistentDeltaMap<Address, AccountState> deltaMap = new PersistentDeltaMap<>();
+		final PersistentDeltaMap<Address, AccountState> mutableDeltaMap = deltaMap.rebase();
+		mutableDeltaMap.put(address, state);
+		mutableDeltaMap.commit();
+
+		// Act:
+		final AccountState foundState = deltaMap.getOrDefault(address, null);
+
+		// Assert:
+		MatcherAssert.assertThat(foundState, IsSame.sameInstance(state));
+	}
+
+	@Test
+	public void getOrDefaultReturnsDefaultValueIfKeyIsNotFound() {
+		// Arrange:
+		final Address address = Utils.generateRandomAddress();
+		final AccountState defaultState = new AccountState(address);
+		final PersistentDeltaMap<Address, AccountState> deltaMap = new PersistentDeltaMap<>();
+
+		// Act:
+		final AccountState foundState = deltaMap.getOrDefault(address, defaultState);
+
+		// Assert:
+		MatcherAssert.assertThat(foundState, IsSame.sameInstance(defaultState));
+	}
+
+	// endregion
+
+	// region trying to modify delta map that is not a copy
+
+	@Test
+	public void cannotPutKeyValuePairIfDeltaMapIsNotACopy() {
+		// Arrange:
+		final Address address = Utils.generateRandomAddress();
+		final AccountState state = new AccountState(address);
+		final PersistentDeltaMap<Address, AccountState> deltaMap = new PersistentDeltaMap<>();
+
+		// Assert:
+		ExceptionAssert.assertThrows(v -> deltaMap.put(address, state), IllegalStateException.class);
+	}
+
+	@Test
+	public void cannotRemoveKeyValuePairIfDeltaMapIsNotACopy() {
+		// Arrange:
+		final Address address = Utils.generateRandomAddress();
+		final PersistentDeltaMap<Address, AccountState> deltaMap = new PersistentDeltaMap<>();
+
+		// Assert:
+		ExceptionAssert.assertThrows(v -> deltaMap.remove(address), IllegalStateException.class);
+	}
+
+	@Test
+	public void cannotStreamValuesIfDeltaMapIsNotACopy() {
+		// Arrange:
+		final PersistentDeltaMap<Address, AccountState> deltaMap = new PersistentDeltaMap<>();
+
+		// Assert:
+		ExceptionAssert.assertThrows(v -> deltaMap.streamValues(), IllegalStateException.class);
+	}
+
+	@Test
+	public void cannotCommitIfDeltaMapIsNotACopy() {
+		// Arrange:
+		final PersistentDeltaMap<Address, AccountState> deltaMap = new PersistentDeltaMap<>();
+
+		// Assert:
+		ExceptionAssert.assertThrows(v -> deltaMap.commit(), IllegalStateException.class);
+	}
+
+	// endregion
+
+	// region copy on read
+
+	@Test
+	public void getReturnsSameValueIfDeltaMapIsNotACopy() {
+		// Arrange:
+		final Address address = Utils.generateRandomAddress();
+		final PersistentDeltaMap<Address, AccountState> deltaMap = createDeltaMap(address);
+		final AccountState state = deltaMap.get(address);
+
+		// Act:
+		final AccountState foundState = deltaMap.get(address);
+
+		// Assert:
+		MatcherAssert.assertThat(foundState, IsSame.sameInstance(state));
+	}
+
+	@Test
+	public void getReturnsCopyOfValueIfDeltaMapIsACopy() {
+		// Arrange:
+		final Address address = Utils.generateRandomAddress();
+		final PersistentDeltaMap<Address, AccountState> deltaMap = createDeltaMap(address);
+		final PersistentDeltaMap<Address, AccountState> copy = deltaMap.rebase();
+
+		// Act:
+		final AccountState foundState1 = copy.get(address);
+		final AccountState foundState2 = copy.get(address);
+
+		// Assert:
+		MatcherAssert.assertThat(foundState1, IsNot.not(IsSame.sameInstance(deltaMap.get(address))));
+		MatcherAssert.assertThat(foundState1.getAddress(), IsEqual.equalTo(address));
+		MatcherAssert.assertThat(foundState2, IsSame.sameInstance(foundState1));
+	}
+
+	@Test
+	public void changesToCopiedValueAreOnlyVisibleInParentAfterCommit() {
+		// Arrange:
+		final Address address = Utils.generateRandomAddress();
+		final PersistentDeltaMap<Address, AccountState> deltaMap = createDeltaMap(address);
+		final AccountState originalState = deltaMap.get(address);
+		final PersistentDeltaMap<Address, AccountState> copy = deltaMap.rebase();
+
+		// Act:
+		final AccountState copiedState = copy.get(address);
+		copiedState.getAccountInfo().setLabel("foo");
+
+		// Assert:
+		MatcherAssert.assertThat(originalState.getAccountInfo().getLabel(), IsNull.nullValue());
+		MatcherAssert.assertThat(deltaMap.get(address), IsSame.sameInstance(originalState));
+
+		// Act:
+		copy.commit();
+
+		// Assert:
+		MatcherAssert.assertThat(deltaMap.get(address), IsSame.sameInstance(copiedState));
+	}
+
+	@Test
+	public void getReturnsCopyOfValueAfterCommit() {
+		// Arrange:
+		final Address address = Utils.generateRandomAddress();
+		final PersistentDeltaMap<Address, AccountState> deltaMap = createDeltaMap(address);
+		final PersistentDeltaMap<Address, AccountState> copy = deltaMap.rebase();
+		final AccountState committedState = copy.get(address);
+		copy.commit();
+
+		// Act:
+		final AccountState foundState = copy.get(address);
+
+		// Assert: the committed value is owned by the parent, so it must be copied again
+		MatcherAssert.assertThat(foundState, IsNot.not(IsSame.sameInstance(committedState)));
+		MatcherAssert.assertThat(deltaMap.get(address), IsSame.sameInstance(committedState));
+	}
+
+	// endregion
+
+	// region put / remove / commit
+
+	@Test
+	public void putAndRemoveAreOnlyVisibleInParentAfterCommit() {
+		// Arrange:
+		final Address address1 = Utils.generateRandomAddress();
+		final Address address2 = Utils.generateRandomAddress();
+		final PersistentDeltaMap<Address, AccountState> deltaMap = createDeltaMap(address1);
+		final PersistentDeltaMap<Address, AccountState> copy = deltaMap.rebase();
+
+		// Act:
+		copy.remove(address1);
+		copy.put(address2, new AccountState(address2));
+
+		// Assert:
+		assertKeys(deltaMap, Collections.singletonList(address1));
+		assertKeys(copy, Collections.singletonList(address2));
+
+		// Act:
+		copy.commit();
+
+		// Assert:
+		assertKeys(deltaMap, Collections.singletonList(address2));
+		assertKeys(copy, Collections.singletonList(address2));
+	}
+
+	@Test
+	public void commitMergesChangesIfParentWasChangedAfterRebase() {
+		// Arrange:
+		final Address address1 = Utils.generateRandomAddress();
+		final Address address2 = Utils.generateRandomAddress();
+		final Address address3 = Utils.generateRandomAddress();
+		final PersistentDeltaMap<Address, AccountState> deltaMap = createDeltaMap(address1);
+		final PersistentDeltaMap<Address, AccountState> copy1 = deltaMap.rebase();
+		final PersistentDeltaMap<Address, AccountState> copy2 = deltaMap.rebase();
+
+		copy1.put(address2, new AccountState(address2));
+		copy1.commit();
+
+		// Act:
+		final AccountState state3 = new AccountState(address3);
+		copy2.put(address3, state3);
+		copy2.remove(address1);
+		copy2.commit();
+
+		// Assert:
+		assertKeys(deltaMap, Arrays.asList(address2, address3));
+		assertKeys(copy2, Arrays.asList(address2, address3));
+		MatcherAssert.assertThat(deltaMap.get(address3), IsSame.sameInstance(state3));
+	}
+
+	@Test
+	public void clearRemovesAllValuesFromParentAfterCommit() {
+		// Arrange:
+		final Address address = Utils.generateRandomAddress();
+		final PersistentDeltaMap<Address, AccountState> deltaMap = createDeltaMap(address);
+		final PersistentDeltaMap<Address, AccountState> copy = deltaMap.rebase();
+
+		// Act:
+		copy.clear();
+
+		// Assert:
+		MatcherAssert.assertThat(deltaMap.size(), IsEqual.equalTo(1));
+		MatcherAssert.assertThat(copy.size(), IsEqual.equalTo(0));
+
+		// Act:
+		copy.commit();
+
+		// Assert:
+		MatcherAssert.assertThat(deltaMap.size(), IsEqual.equalTo(0));
+	}
+
+	// endregion
+
+	// region nested copies
+
+	@Test
+	public void nestedCopyCommitsIntoCopy() {
+		// Arrange:
+		final Address address1 = Utils.generateRandomAddress();
+		final Address address2 = Utils.generateRandomAddress();
+		final PersistentDeltaMap<Address, AccountState> deltaMap = createDeltaMap(address1);
+		final PersistentDeltaMap<Address, AccountState> copy = deltaMap.rebase();
+		final PersistentDeltaMap<Address, AccountState> nestedCopy = copy.rebase();
+
+		// Act:
+		nestedCopy.put(address2, new AccountState(address2));
+		nestedCopy.commit();
+
+		// Assert:
+		assertKeys(deltaMap, Collections.singletonList(address1));
+		assertKeys(copy, Arrays.asList(address1, address2));
+
+		// Act:
+		copy.commit();
+
+		// Assert:
+		assertKeys(deltaMap, Arrays.asList(address1, address2));
+	}
+
+	@Test
+	public void valuesCommittedByNestedCopyAreOwnedByCopy() {
+		// Arrange:
+		final Address address = Utils.generateRandomAddress();
+		final PersistentDeltaMap<Address, AccountState> deltaMap = createDeltaMap(address);
+		final PersistentDeltaMap<Address, AccountState> copy = deltaMap.rebase();
+		final PersistentDeltaMap<Address, AccountState> nestedCopy = copy.rebase();
+		final AccountState nestedState = nestedCopy.get(address);
+		nestedCopy.commit();
+
+		// Act:
+		final AccountState foundState = copy.get(address);
+
+		// Assert: the copy does not need to copy the value again
+		MatcherAssert.assertThat(foundState, IsSame.sameInstance(nestedState));
+		MatcherAssert.assertThat(deltaMap.get(address), IsNot.not(IsSame.sameInstance(nestedState)));
+	}
+
+	@Test
+	public void changesInNestedCopyAreDiscardedIfNotCommitted() {
+		// Arrange:
+		final Address address1 = Utils.generateRandomAddress();
+		final Address address2 = Utils.generateRandomAddress();
+		final PersistentDeltaMap<Address, AccountState> deltaMap = createDeltaMap(address1);
+		final PersistentDeltaMap<Address, AccountState> copy = deltaMap.rebase();
+		final PersistentDeltaMap<Address, AccountState> nestedCopy = copy.rebase();
+
+		// Act:
+		nestedCopy.put(address2, new AccountState(address2));
+		nestedCopy.get(address1).getAccountInfo().setLabel("foo");
+		copy.commit();
+
+		// Assert:
+		assertKeys(deltaMap, Collections.singletonList(address1));
+		MatcherAssert.assertThat(deltaMap.get(address1).getAccountInfo().getLabel(), IsNull.nullValue());
+	}
+
+	// endregion
+
+	// region shallowCopyTo / deepCopy
+
+	@Test
+	public void shallowCopyToSharesValues() {
+		// Arrange:
+		final Address address = Utils.generateRandomAddress();
+		final PersistentDeltaMap<Address, AccountState> deltaMap = createDeltaMap(address);
+		final PersistentDeltaMap<Address, AccountState> copy = createDeltaMap(Utils.generateRandomAddress());
+
+		// Act:
+		deltaMap.shallowCopyTo(copy);
+
+		// Assert:
+		assertKeys(copy, Collections.singletonList(address));
+		MatcherAssert.assertThat(copy.get(address), IsSame.sameInstance(deltaMap.get(address)));
+	}
+
+	@Test
+	public void deepCopyCopiesValues() {
+		// Arrange:
+		final Address address = Utils.generateRandomAddress();
+		final PersistentDeltaMap<Address, AccountState> deltaMap = createDeltaMap(address);
+
+		// Act:
+		final PersistentDeltaMap<Address, AccountState> copy = deltaMap.deepCopy();
+
+		// Assert:
+		assertKeys(copy, Collections.singletonList(address));
+		MatcherAssert.assertThat(copy.get(address), IsNot.not(IsSame.sameInstance(deltaMap.get(address))));
+		MatcherAssert.assertThat(copy.get(address).getAddress(), IsEqual.equalTo(address));
+	}
+
+	// endregion
+
+	// region readOnlyEntrySet
+
+	@Test
+	public void readOnlyEntrySetDoesNotCopyValues() {
+		// Arrange:
+		final Address address = Utils.generateRandomAddress();
+		final PersistentDeltaMap<Address, AccountState> deltaMap = createDeltaMap(address);
+		final PersistentDeltaMap<Address, AccountState> copy = deltaMap.rebase();
+
+		// Act:
+		final Set<Map.Entry<Address, AccountState>> entrySet = copy.readOnlyEntrySet();
+
+		// Assert:
+		MatcherAssert.assertThat(entrySet.size(), IsEqual.equalTo(1));
+		MatcherAssert.assertThat(entrySet.iterator().next().getValue(), IsSame.sameInstance(deltaMap.get(address)));
+	}
+
+	// endregion
+
+	private static PersistentDeltaMap<Address, AccountState> createDeltaMap(final Address address) {
+		final PersistentDeltaMap<Address, AccountState> deltaMap = new PersistentDeltaMap<>();
+		final PersistentDeltaMap<Address, AccountState> copy = deltaMap.rebase();
+		copy.put(address, new AccountState(address));
+		copy.commit();
+		return deltaMap;
+	}
+
+	private static void assertKeys(final PersistentDeltaMap<Address, AccountState> deltaMap, final Collection<Address> expectedKeys) {
+		final Set<Address> keys = deltaMap.readOnlyEntrySet().stream().map(Map.Entry::getKey).collect(Collectors.toSet());
+		MatcherAssert.assertThat(deltaMap.size(), IsEqual.equalTo(expectedKeys.size()));
+		MatcherAssert.assertThat(keys, IsEqual.equalTo(new HashSet<>(expectedKeys)));
+	}
+}
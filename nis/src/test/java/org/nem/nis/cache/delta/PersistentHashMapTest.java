@@ -0,0 +1,232 @@
+package org.nem.nis.cache.delta;
+
+import java.util.*;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.*;
+import org.junit.*;
+
+public class PersistentHashMapTest {
+
+	// region empty
+
+	@Test
+	public void emptyMapHasNoEntries() {
+		// Act:
+		final PersistentHashMap<Integer, String> map = PersistentHashMap.empty();
+
+		// Assert:
+		MatcherAssert.assertThat(map.size(), IsEqual.equalTo(0));
+		MatcherAssert.assertThat(map.get(7), IsNull.nullValue());
+		MatcherAssert.assertThat(map.containsKey(7), IsEqual.equalTo(false));
+	}
+
+	// endregion
+
+	// region put
+
+	@Test
+	public void putReturnsNewMapContainingEntry() {
+		// Arrange:
+		final PersistentHashMap<Integer, String> map = PersistentHashMap.empty();
+
+		// Act:
+		final PersistentHashMap<Integer, String> newMap = map.put(7, "aaa");
+
+		// Assert:
+		MatcherAssert.assertThat(newMap.size(), IsEqual.equalTo(1));
+		MatcherAssert.assertThat(newMap.get(7), IsEqual.equalTo("aaa"));
+		MatcherAssert.assertThat(newMap.containsKey(7), IsEqual.equalTo(true));
+	}
+
+	@Test
+	public void putDoesNotChangeOriginalMap() {
+		// Arrange:
+		final PersistentHashMap<Integer, String> map = createMap(100);
+
+		// Act:
+		map.put(7, "zzz");
+		map.put(1000, "zzz");
+
+		// Assert:
+		assertMap(map, 100);
+	}
+
+	@Test
+	public void putCanReplaceExistingValue() {
+		// Arrange:
+		final PersistentHashMap<Integer, String> map = createMap(100);
+
+		// Act:
+		final PersistentHashMap<Integer, String> newMap = map.put(7, "zzz");
+
+		// Assert:
+		MatcherAssert.assertThat(newMap.size(), IsEqual.equalTo(100));
+		MatcherAssert.assertThat(newMap.get(7), IsEqual.equalTo("zzz"));
+		MatcherAssert.assertThat(map.get(7), IsEqual.equalTo("7"));
+	}
+
+	@Test
+	public void putReturnsSameMapIfValueIsAlreadyAssociatedWithKey() {
+		// Arrange:
+		final PersistentHashMap<Integer, String> map = createMap(100);
+
+		// Act:
+		final PersistentHashMap<Integer, String> newMap = map.put(7, map.get(7));
+
+		// Assert:
+		MatcherAssert.assertThat(newMap, IsSame.sameInstance(map));
+	}
+
+	@Test
+	public void canPutManyEntries() {
+		// Act:
+		final PersistentHashMap<Integer, String> map = createMap(10000);
+
+		// Assert:
+		assertMap(map, 10000);
+	}
+
+	// endregion
+
+	// region remove
+
+	@Test
+	public void removeReturnsNewMapNotContainingEntry() {
+		// Arrange:
+		final PersistentHashMap<Integer, String> map = createMap(100);
+
+		// Act:
+		final PersistentHashMap<Integer, String> newMap = map.remove(7);
+
+		// Assert:
+		MatcherAssert.assertThat(newMap.size(), IsEqual.equalTo(99));
+		MatcherAssert.assertThat(newMap.get(7), IsNull.nullValue());
+		MatcherAssert.assertThat(newMap.containsKey(7), IsEqual.equalTo(false));
+		assertMap(map, 100);
+	}
+
+	@Test
+	public void removeReturnsSameMapIfKeyIsUnknown() {
+		// Arrange:
+		final PersistentHashMap<Integer, String> map = createMap(100);
+
+		// Act:
+		final PersistentHashMap<Integer, String> newMap = map.remove(1000);
+
+		// Assert:
+		MatcherAssert.assertThat(newMap, IsSame.sameInstance(map));
+	}
+
+	@Test
+	public void canRemoveAllEntries() {
+		// Arrange:
+		PersistentHashMap<Integer, String> map = createMap(10000);
+
+		// Act:
+		for (int i = 0; i < 10000; ++i) {
+			map = map.remove(i);
+			MatcherAssert.assertThat(map.size(), IsEqual.equalTo(10000 - i - 1));
+		}
+
+		// Assert:
+		MatcherAssert.assertThat(map.size(), IsEqual.equalTo(0));
+		MatcherAssert.assertThat(map.containsKey(0), IsEqual.equalTo(false));
+	}
+
+	// endregion
+
+	// region hash collisions
+
+	@Test
+	public void canStoreKeysWithSameHashCode() {
+		// Arrange:
+		PersistentHashMap<CollidingKey, String> map = PersistentHashMap.empty();
+
+		// Act:
+		for (int i = 0; i < 10; ++i) {
+			map = map.put(new CollidingKey(i), String.valueOf(i));
+		}
+
+		// Assert:
+		MatcherAssert.assertThat(map.size(), IsEqual.equalTo(10));
+		for (int i = 0; i < 10; ++i) {
+			MatcherAssert.assertThat(map.get(new CollidingKey(i)), IsEqual.equalTo(String.valueOf(i)));
+		}
+
+		MatcherAssert.assertThat(map.containsKey(new CollidingKey(10)), IsEqual.equalTo(false));
+	}
+
+	@Test
+	public void canRemoveKeysWithSameHashCode() {
+		// Arrange:
+		PersistentHashMap<CollidingKey, String> map = PersistentHashMap.empty();
+		for (int i = 0; i < 10; ++i) {
+			map = map.put(new CollidingKey(i), String.valueOf(i));
+		}
+
+		// Act:
+		for (int i = 0; i < 9; ++i) {
+			map = map.remove(new CollidingKey(i));
+		}
+
+		// Assert:
+		MatcherAssert.assertThat(map.size(), IsEqual.equalTo(1));
+		MatcherAssert.assertThat(map.get(new CollidingKey(9)), IsEqual.equalTo("9"));
+		MatcherAssert.assertThat(map.containsKey(new CollidingKey(0)), IsEqual.equalTo(false));
+	}
+
+	private static class CollidingKey {
+		private final int id;
+
+		public CollidingKey(final int id) {
+			this.id = id;
+		}
+
+		@Override
+		public int hashCode() {
+			return 12345;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj instanceof CollidingKey && this.id == ((CollidingKey) obj).id;
+		}
+	}
+
+	// endregion
+
+	// region forEach
+
+	@Test
+	public void forEachVisitsAllEntries() {
+		// Arrange:
+		final PersistentHashMap<Integer, String> map = createMap(1000).remove(17);
+
+		// Act:
+		final Map<Integer, String> visited = new HashMap<>();
+		map.forEach(entry -> visited.put(entry.getKey(), entry.getValue()));
+
+		// Assert:
+		MatcherAssert.assertThat(visited.size(), IsEqual.equalTo(999));
+		MatcherAssert.assertThat(visited.containsKey(17), IsEqual.equalTo(false));
+		visited.forEach((key, value) -> MatcherAssert.assertThat(value, IsEqual.equalTo(String.valueOf(key))));
+	}
+
+	// endregion
+
+	private static PersistentHashMap<Integer, String> createMap(final int size) {
+		PersistentHashMap<Integer, String> map = PersistentHashMap.empty();
+		for (int i = 0; i < size; ++i) {
+			map = map.put(i, String.valueOf(i));
+		}
+
+		return map;
+	}
+
+	private static void assertMap(final PersistentHashMap<Integer, String> map, final int size) {
+		MatcherAssert.assertThat(map.size(), IsEqual.equalTo(size));
+		for (int i = 0; i < size; ++i) {
+			MatcherAssert.assertThat(map.get(i), IsEqual.equalTo(String.valueOf(i)));
+		}
+	}
+}
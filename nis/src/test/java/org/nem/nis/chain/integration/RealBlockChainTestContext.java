@@ -130,7 +130,7 @@ public class RealBlockChainTestContext {
 	}
 
 	private BlockChain createBlockChain() {
-		final BlockChainServices blockChainServices = new BlockChainServices(this.blockDao, this.blockTransactionObserverFactory,
+		final BlockChainServices blockChainServices = new BlockChainServices(this.blockChainLastBlockLayer, this.blockTransactionObserverFactory,
 				this.blockValidatorFactory, this.transactionValidatorFactory, this.nisMapperFactory,
 				this.nisConfiguration.getForkConfiguration());
 
@@ -148,7 +148,7 @@ public class RealBlockChainTestContext {
 				this.transactionValidatorFactory, this.blockValidatorFactory, this.blockTransactionObserverFactory,
 				this.unconfirmedTransactions.asFilter(), this.nisConfiguration.getForkConfiguration());
 
-		final BlockGenerator generator = new BlockGenerator(this.nisCache, transactionsProvider, this.blockDao,
+		final BlockGenerator generator = new BlockGenerator(this.nisCache, transactionsProvider, this.blockChainLastBlockLayer,
 				new BlockScorer(this.nisCache.getAccountStateCache()), this.blockValidatorFactory.create(this.nisCache));
 		return new Harvester(this.timeProvider, this.blockChainLastBlockLayer, this.unlockedAccounts,
 				this.nisMapperFactory.createDbModelToModelNisMapper(this.nisCache.getAccountCache()), generator);
@@ -410,6 +410,57 @@ public class AccountInfoControllerTest {
 			}
 		}
 
+		@Test
+		public void accountHistoricalDataGetReadsHistoricalDataThroughHistoricalAccountDataStore() {
+			// Arrange:
+			final TestContext context = new TestContext();
+			Mockito.when(context.nisConfiguration.isFeatureSupported(NodeFeature.HISTORICAL_ACCOUNT_DATA)).thenReturn(true);
+			final List<SerializableAccountId> accountIds = Collections.singletonList(new SerializableAccountId(context.address));
+			final BlockHeight height = new BlockHeight(625);
+			context.prepareHistoricalData(accountIds, new BlockHeight[]{
+					height
+			}, new Amount[]{
+					Amount.fromNem(234)
+			}, new Amount[]{
+					Amount.fromNem(345)
+			}, new Double[]{
+					0.456
+			}, new Double[]{
+					0.567
+			});
+
+			final ReadOnlyWeightedBalances archivedBalances = Mockito.mock(ReadOnlyWeightedBalances.class);
+			delegateVisitToGetters(archivedBalances);
+			Mockito.when(archivedBalances.getVested(height)).thenReturn(Amount.fromNem(111));
+			Mockito.when(archivedBalances.getUnvested(height)).thenReturn(Amount.fromNem(222));
+			Mockito.when(context.historicalAccountDataStore.getWeightedBalances(Mockito.eq(context.address), Mockito.any()))
+					.thenReturn(archivedBalances);
+
+			final ReadOnlyHistoricalImportances archivedImportances = Mockito.mock(ReadOnlyHistoricalImportances.class);
+			delegateVisitToGetters(archivedImportances);
+			Mockito.when(archivedImportances.getHistoricalImportance(GroupedHeight.fromHeight(height))).thenReturn(0.123);
+			Mockito.when(archivedImportances.getHistoricalPageRank(GroupedHeight.fromHeight(height))).thenReturn(0.234);
+			Mockito.when(context.historicalAccountDataStore.getHistoricalImportances(Mockito.eq(context.address), Mockito.any()))
+					.thenReturn(archivedImportances);
+
+			final AccountHistoricalDataRequestBuilder builder = new AccountHistoricalDataRequestBuilder();
+			builder.setAddress(context.address.toString());
+			builder.setStartHeight("625");
+			builder.setEndHeight("625");
+			builder.setIncrement("1");
+
+			// Act:
+			final SerializableList<AccountHistoricalDataViewModel> viewModels = context.controller.accountHistoricalDataGet(builder);
+
+			// Assert:
+			MatcherAssert.assertThat(viewModels.size(), IsEqual.equalTo(1));
+			final AccountHistoricalDataViewModel viewModel = viewModels.get(0);
+			MatcherAssert.assertThat(viewModel.getVestedBalance(), IsEqual.equalTo(Amount.fromNem(111)));
+			MatcherAssert.assertThat(viewModel.getUnvestedBalance(), IsEqual.equalTo(Amount.fromNem(222)));
+			MatcherAssert.assertThat(viewModel.getImportance(), IsEqual.equalTo(0.123));
+			MatcherAssert.assertThat(viewModel.getPageRank(), IsEqual.equalTo(0.234));
+		}
+
 		@Test
 		public void accountHistoricalDataGetFailsIfNodeFeatureIsNotSupported() {
 			// Arrange:
@@ -607,6 +658,31 @@ public class AccountInfoControllerTest {
 				Utils.generateRandomAccount());
 	}
 
+	private static void delegateVisitToGetters(final ReadOnlyWeightedBalances weightedBalances) {
+		Mockito.doAnswer(invocation -> {
+			final HistoricalBalanceVisitor visitor = (HistoricalBalanceVisitor) invocation.getArguments()[1];
+			for (final Object height : (List<?>) invocation.getArguments()[0]) {
+				final BlockHeight blockHeight = (BlockHeight) height;
+				visitor.visit(blockHeight, weightedBalances.getVested(blockHeight), weightedBalances.getUnvested(blockHeight));
+			}
+
+			return null;
+		}).when(weightedBalances).visitBalances(Mockito.any(), Mockito.any());
+	}
+
+	private static void delegateVisitToGetters(final ReadOnlyHistoricalImportances importances) {
+		Mockito.doAnswer(invocation -> {
+			final HistoricalImportanceVisitor visitor = (HistoricalImportanceVisitor) invocation.getArguments()[1];
+			for (final Object height : (List<?>) invocation.getArguments()[0]) {
+				final BlockHeight blockHeight = (BlockHeight) height;
+				visitor.visit(blockHeight, importances.getHistoricalImportance(blockHeight),
+						importances.getHistoricalPageRank(blockHeight));
+			}
+
+			return null;
+		}).when(importances).visitImportances(Mockito.any(), Mockito.any());
+	}
+
 	private static class TestContext {
 		private final Address address = Utils.generateRandomAddressWithPublicKey();
 
@@ -617,6 +693,7 @@ public class AccountInfoControllerTest {
 		private final BlockChainLastBlockLayer blockChainLastBlockLayer = Mockito.mock(BlockChainLastBlockLayer.class);
 		private final ReadOnlyAccountStateCache accountStateCache = Mockito.mock(ReadOnlyAccountStateCache.class);
 		private final NisConfiguration nisConfiguration = Mockito.mock(NisConfiguration.class);
+		private final HistoricalAccountDataStore historicalAccountDataStore = Mockito.mock(HistoricalAccountDataStore.class);
 		private final AccountMetaDataFactory accountMetaDataFactory;
 
 		public TestContext() {
@@ -630,8 +707,14 @@ public class AccountInfoControllerTest {
 			this.setRemoteStatus(AccountRemoteStatus.ACTIVATING, 1);
 			Mockito.when(this.accountInfoFactory.createInfo(this.address)).thenReturn(Mockito.mock(AccountInfo.class));
 
+			// by default, nothing is archived and all historical data is read from the account states
+			Mockito.when(this.historicalAccountDataStore.getWeightedBalances(Mockito.any(), Mockito.any()))
+					.then(invocation -> invocation.getArguments()[1]);
+			Mockito.when(this.historicalAccountDataStore.getHistoricalImportances(Mockito.any(), Mockito.any()))
+					.then(invocation -> invocation.getArguments()[1]);
+
 			this.controller = new AccountInfoController(this.blockChainLastBlockLayer, this.accountInfoFactory, this.accountMetaDataFactory,
-					this.accountStateCache, this.nisConfiguration);
+					this.accountStateCache, this.nisConfiguration, this.historicalAccountDataStore);
 		}
 
 		private AccountIdBuilder getBuilder() {
@@ -719,6 +802,8 @@ public class AccountInfoControllerTest {
 				final ReadOnlyAccountState accountState = Mockito.mock(AccountState.class);
 				final WeightedBalances weightedBalances = Mockito.mock(WeightedBalances.class);
 				final HistoricalImportances historicalImportances = Mockito.mock(HistoricalImportances.class);
+				delegateVisitToGetters(weightedBalances);
+				delegateVisitToGetters(historicalImportances);
 				for (int i = 0; i < heights.length; i++) {
 					final BlockHeight groupedHeight = GroupedHeight.fromHeight(heights[i]);
 					Mockito.when(this.accountStateCache.findStateByAddress(accountId.getAddress())).thenReturn(accountState);
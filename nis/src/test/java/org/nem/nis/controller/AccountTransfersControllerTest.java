@@ -17,7 +17,6 @@ import org.nem.core.node.NodeFeature;
 import org.nem.core.serialization.SerializableList;
 import org.nem.core.test.*;
 import org.nem.core.time.TimeInstant;
-import org.nem.nis.cache.DefaultHashCache;
 import org.nem.nis.controller.requests.*;
 import org.nem.nis.dao.ReadOnlyTransferDao;
 import org.nem.nis.service.AccountIoAdapter;
@@ -85,7 +84,6 @@ public class AccountTransfersControllerTest {
 			context.enableHashLookup();
 
 			final Hash hash = Hash.fromHexString("ffeeddccbbaa99887766554433221100");
-			final HashMetaData metaData = new HashMetaData(new BlockHeight(12), new TimeInstant(123));
 
 			final AccountTransactionsIdBuilder idBuilder = new AccountTransactionsIdBuilder();
 			idBuilder.setAddress(address.getEncoded());
@@ -93,18 +91,14 @@ public class AccountTransfersControllerTest {
 			final DefaultPageBuilder pageBuilder = new DefaultPageBuilder();
 			pageBuilder.setPageSize("35");
 
-			Mockito.when(context.transactionHashCache.get(hash)).thenReturn(metaData);
-			Mockito.when(accountIoAdapter.getAccountTransfersUsingHash(address, hash, new BlockHeight(12), this.getTransferType(), 35))
-					.thenReturn(expectedList);
+			Mockito.when(accountIoAdapter.getAccountTransfersUsingHash(address, hash, this.getTransferType(), 35)).thenReturn(expectedList);
 
 			// Act:
 			final SerializableList<TransactionMetaDataPair> resultList = this.execute(context.controller, idBuilder, pageBuilder);
 
 			// Assert:
 			MatcherAssert.assertThat(resultList, IsSame.sameInstance(expectedList));
-			Mockito.verify(accountIoAdapter, Mockito.times(1)).getAccountTransfersUsingHash(address, hash, new BlockHeight(12),
-					this.getTransferType(), 35);
-			Mockito.verify(context.transactionHashCache, Mockito.times(1)).get(hash);
+			Mockito.verify(accountIoAdapter, Mockito.times(1)).getAccountTransfersUsingHash(address, hash, this.getTransferType(), 35);
 		}
 
 		@Test
@@ -144,11 +138,13 @@ public class AccountTransfersControllerTest {
 			idBuilder.setAddress(address.getEncoded());
 			idBuilder.setHash(hash.toString());
 
-			Mockito.when(context.transactionHashCache.get(hash)).thenReturn(null);
+			Mockito.when(accountIoAdapter.getAccountTransfersUsingHash(Mockito.eq(address), Mockito.eq(hash),
+					Mockito.eq(this.getTransferType()), Mockito.anyInt()))
+					.thenThrow(new MissingResourceException("transaction not found in the db", Hash.class.toString(), hash.toString()));
 
 			// Act:
 			ExceptionAssert.assertThrows(v -> this.execute(context.controller, idBuilder, new DefaultPageBuilder()),
-					IllegalArgumentException.class);
+					MissingResourceException.class);
 		}
 
 		@Test
@@ -160,15 +156,13 @@ public class AccountTransfersControllerTest {
 			final TestContext context = new TestContext(accountIoAdapter);
 
 			final Hash hash = Hash.fromHexString("ffeeddccbbaa99887766554433221100");
-			final HashMetaData metaData = new HashMetaData(new BlockHeight(12), new TimeInstant(123));
 
 			final AccountTransactionsIdBuilder idBuilder = new AccountTransactionsIdBuilder();
 			idBuilder.setAddress(address.getEncoded());
 			idBuilder.setHash(hash.toString());
 
-			Mockito.when(context.transactionHashCache.get(hash)).thenReturn(metaData);
 			Mockito.when(accountIoAdapter.getAccountTransfersUsingHash(Mockito.eq(address), Mockito.eq(hash),
-					Mockito.eq(new BlockHeight(12)), Mockito.eq(this.getTransferType()), Mockito.anyInt())).thenReturn(expectedList);
+					Mockito.eq(this.getTransferType()), Mockito.anyInt())).thenReturn(expectedList);
 
 			// Act:
 			ExceptionAssert.assertThrows(v -> this.execute(context.controller, idBuilder, new DefaultPageBuilder()),
@@ -385,12 +379,11 @@ public class AccountTransfersControllerTest {
 
 	private static class TestContext {
 		private final AccountTransfersController controller;
-		private final DefaultHashCache transactionHashCache = Mockito.mock(DefaultHashCache.class);
 		private final NisConfiguration nisConfiguration = Mockito.mock(NisConfiguration.class);
 
 		public TestContext(final AccountIoAdapter accountIoAdapter) {
 			this.controller = Mockito
-					.spy(new AccountTransfersController(accountIoAdapter, this.transactionHashCache, this.nisConfiguration));
+					.spy(new AccountTransfersController(accountIoAdapter, this.nisConfiguration));
 			Mockito.when(this.nisConfiguration.getOptionalFeatures()).thenReturn(new NodeFeature[]{});
 		}
 
@@ -15,6 +15,7 @@ import org.nem.core.test.*;
 import org.nem.core.time.TimeInstant;
 import org.nem.nis.boot.NisPeerNetworkHost;
 import org.nem.nis.controller.requests.*;
+import org.nem.nis.controller.viewmodels.StreamingBlockList;
 import org.nem.nis.dao.ReadOnlyBlockDao;
 import org.nem.nis.dbmodel.DbBlock;
 import org.nem.nis.service.BlockChainLastBlockLayer;
@@ -94,6 +95,31 @@ public class ChainControllerTest {
 		Mockito.verify(context.blockDao, Mockito.times(1)).getHashesFrom(height, defaultLimit);
 	}
 
+	@Test
+	public void hashesFromReturnsHashesFromRecentBlocksIfAvailable() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		final Node localNode = context.network.getLocalNode();
+		final NodeChallenge challenge = new NodeChallenge(Utils.generateRandomBytes());
+
+		final BlockHeight height = new BlockHeight(44);
+		final AuthenticatedBlockHeightRequest request = new AuthenticatedBlockHeightRequest(height, challenge);
+
+		final int defaultLimit = NisTestConstants.BLOCKS_LIMIT;
+		final HashChain originalHashes = new HashChain(NisUtils.createHashesList(3));
+		Mockito.when(context.blockChainLastBlockLayer.isRecentBlock(height)).thenReturn(true);
+		Mockito.when(context.blockChainLastBlockLayer.getRecentHashesFrom(height, defaultLimit)).thenReturn(originalHashes);
+
+		// Act:
+		final AuthenticatedResponse<HashChain> response = context.controller.hashesFrom(request);
+		final HashChain chain = response.getEntity(localNode.getIdentity(), challenge);
+
+		// Assert:
+		MatcherAssert.assertThat(chain, IsEqual.equalTo(originalHashes));
+		Mockito.verify(context.blockChainLastBlockLayer, Mockito.times(1)).getRecentHashesFrom(height, defaultLimit);
+		Mockito.verify(context.blockDao, Mockito.never()).getHashesFrom(Mockito.any(), Mockito.anyInt());
+	}
+
 	// endregion
 
 	// region chainScore
@@ -220,23 +246,126 @@ public class ChainControllerTest {
 		final AuthenticatedChainRequest request = new AuthenticatedChainRequest(new ChainRequest(new BlockHeight(10), 10, 130), challenge);
 
 		// Assert:
-		final AuthenticatedResponse<SerializableList<Block>> response = runBlocksAfterTest(context, c -> c.controller.blocksAfter(request),
+		final AuthenticatedResponse<StreamingBlockList> response = runBlocksAfterTest(context, c -> c.controller.blocksAfter(request),
 				r -> r.getEntity(localNode.getIdentity(), challenge), createDbBlockList(11, 150));
 		MatcherAssert.assertThat(response.getSignature(), IsNull.notNullValue());
 
 		// (1 transfer + 1 multisig transaction containing 1 transfer per block)
-		MatcherAssert.assertThat(response.getEntity(localNode.getIdentity(), challenge).size(), IsEqual.equalTo(130 / 3));
+		MatcherAssert.assertThat(toList(response.getEntity(localNode.getIdentity(), challenge)).size(), IsEqual.equalTo(130 / 3));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void blocksAfterAuthenticatedLoadsFollowingBatchesUntilDatabaseIsExhausted() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		final Node localNode = context.network.getLocalNode();
+		final NodeChallenge challenge = new NodeChallenge(Utils.generateRandomBytes());
+		final AuthenticatedChainRequest request = new AuthenticatedChainRequest(new ChainRequest(new BlockHeight(10), 10, 100), challenge);
+		Mockito.when(context.blockDao.getBlocksAfter(Mockito.any(), Mockito.anyInt())).thenReturn(createDbBlockList(11, 2),
+				createDbBlockList(13, 3), new ArrayList<>());
+
+		// Act:
+		final List<Block> blocks = toList(context.controller.blocksAfter(request).getEntity(localNode.getIdentity(), challenge));
+
+		// Assert:
+		MatcherAssert.assertThat(blocks.size(), IsEqual.equalTo(5));
+		for (int i = 0; i < 5; ++i) {
+			MatcherAssert.assertThat(blocks.get(i).getHeight(), IsEqual.equalTo(new BlockHeight(11 + i)));
+		}
+
+		Mockito.verify(context.blockDao, Mockito.times(1)).getBlocksAfter(new BlockHeight(10), 110);
+		Mockito.verify(context.blockDao, Mockito.times(1)).getBlocksAfter(new BlockHeight(12), 100);
+		Mockito.verify(context.blockDao, Mockito.times(1)).getBlocksAfter(new BlockHeight(15), 100);
 	}
 
+	@Test
 	@SuppressWarnings("unchecked")
-	private static <T> T runBlocksAfterTest(final TestContext context, final Function<TestContext, T> action,
-			final Function<T, SerializableList<Block>> getBlocks, final List<DbBlock> blockList) {
+	public void blocksAfterAuthenticatedStopsAtMaxTransactionsAcrossBatches() {
 		// Arrange:
-		Mockito.when(context.blockDao.getBlocksAfter(Mockito.any(), Mockito.anyInt())).thenReturn(blockList, new ArrayList<>());
+		final TestContext context = new TestContext();
+		final Node localNode = context.network.getLocalNode();
+		final NodeChallenge challenge = new NodeChallenge(Utils.generateRandomBytes());
+		final AuthenticatedChainRequest request = new AuthenticatedChainRequest(new ChainRequest(new BlockHeight(10), 10, 130), challenge);
+		Mockito.when(context.blockDao.getBlocksAfter(Mockito.any(), Mockito.anyInt())).thenReturn(createDbBlockList(11, 40),
+				createDbBlockList(51, 10), new ArrayList<>());
+
+		// Act:
+		final List<Block> blocks = toList(context.controller.blocksAfter(request).getEntity(localNode.getIdentity(), challenge));
+
+		// Assert: (3 transactions per block)
+		MatcherAssert.assertThat(blocks.size(), IsEqual.equalTo(130 / 3));
+		Mockito.verify(context.blockDao, Mockito.times(2)).getBlocksAfter(Mockito.any(), Mockito.anyInt());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void blocksAfterAuthenticatedDoesNotLoadFollowingBatchIfCurrentBatchExhaustsMaxTransactions() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		final Node localNode = context.network.getLocalNode();
+		final NodeChallenge challenge = new NodeChallenge(Utils.generateRandomBytes());
+		final AuthenticatedChainRequest request = new AuthenticatedChainRequest(new ChainRequest(new BlockHeight(10), 10, 130), challenge);
+		Mockito.when(context.blockDao.getBlocksAfter(Mockito.any(), Mockito.anyInt())).thenReturn(createDbBlockList(11, 50),
+				createDbBlockList(61, 10), new ArrayList<>());
+
+		// Act:
+		final List<Block> blocks = toList(context.controller.blocksAfter(request).getEntity(localNode.getIdentity(), challenge));
+
+		// Assert: (3 transactions per block)
+		MatcherAssert.assertThat(blocks.size(), IsEqual.equalTo(130 / 3));
+		Mockito.verify(context.blockDao, Mockito.only()).getBlocksAfter(new BlockHeight(10), 110);
+	}
+
+	@Test
+	public void blocksAfterAuthenticatedDoesNotLoadBlocksBeforeResponseIsSerialized() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		final AuthenticatedChainRequest request = new AuthenticatedChainRequest(new ChainRequest(new BlockHeight(10), 10, 10),
+				new NodeChallenge(Utils.generateRandomBytes()));
+
+		// Act:
+		context.controller.blocksAfter(request);
+
+		// Assert:
+		Mockito.verify(context.blockDao, Mockito.never()).getBlocksAfter(Mockito.any(), Mockito.anyInt());
+	}
+
+	@Test
+	public void blocksAfterAuthenticatedReturnsRecentBlocksWithoutAccessingDatabase() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		final Node localNode = context.network.getLocalNode();
+		final NodeChallenge challenge = new NodeChallenge(Utils.generateRandomBytes());
+		final AuthenticatedChainRequest request = new AuthenticatedChainRequest(new ChainRequest(new BlockHeight(10), 10, 10), challenge);
+
+		final List<DbBlock> blockList = createDbBlockList(11, 2);
+		final Block recentBlock = NisUtils.createRandomBlockWithHeight(12);
+		Mockito.when(context.blockChainLastBlockLayer.isRecentBlock(Mockito.any())).thenReturn(true);
+		Mockito.when(context.blockChainLastBlockLayer.getRecentDbBlocksAfter(new BlockHeight(10), 110)).thenReturn(blockList);
+		Mockito.when(context.blockChainLastBlockLayer.findRecentBlock(new BlockHeight(12))).thenReturn(recentBlock);
+
+		// Act:
+		final AuthenticatedResponse<StreamingBlockList> response = context.controller.blocksAfter(request);
+		final List<Block> blocks = toList(response.getEntity(localNode.getIdentity(), challenge));
+
+		// Assert: the first block is mapped and the second block is the cached model block
+		MatcherAssert.assertThat(blocks.size(), IsEqual.equalTo(2));
+		MatcherAssert.assertThat(blocks.get(0).getHeight(), IsEqual.equalTo(new BlockHeight(11)));
+		MatcherAssert.assertThat(blocks.get(0).getTimeStamp(), IsEqual.equalTo(new TimeInstant(400)));
+		MatcherAssert.assertThat(blocks.get(1), IsSame.sameInstance(recentBlock));
+		Mockito.verify(context.blockDao, Mockito.never()).getBlocksAfter(Mockito.any(), Mockito.anyInt());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T runBlocksAfterTest(final TestContext context, final Function<TestContext, T> action,
+			final Function<T, StreamingBlockList> getBlocks, final List<DbBlock> blockList) {
+		// Arrange: (blocks after other heights are empty)
+		Mockito.when(context.blockDao.getBlocksAfter(Mockito.eq(new BlockHeight(10)), Mockito.anyInt())).thenReturn(blockList);
 
 		// Act:
 		final T result = action.apply(context);
-		final Collection<Block> blocks = getBlocks.apply(result).asCollection();
+		final Collection<Block> blocks = toList(getBlocks.apply(result));
 
 		// Assert:
 		final long[] heights = new long[1];
@@ -253,6 +382,12 @@ public class ChainControllerTest {
 		return result;
 	}
 
+	private static List<Block> toList(final StreamingBlockList blockList) {
+		final List<Block> blocks = new ArrayList<>();
+		blockList.forEach(blocks::add);
+		return blocks;
+	}
+
 	private static List<DbBlock> createDbBlockList(final int height, final int count) {
 		final List<DbBlock> dbBlockList = new ArrayList<>();
 		for (int i = 0; i < count; i++) {
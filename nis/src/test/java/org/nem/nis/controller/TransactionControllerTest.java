@@ -273,14 +273,17 @@ public class TransactionControllerTest {
 	}
 
 	@Test
-	public void getTransactionThrowsIfHashIsNotFoundInCache() {
+	public void getTransactionThrowsIfHashIsNotFound() {
 		// Arrange:
 		TestContext context = new TestContext();
 		final HashBuilder hashBuilder = new HashBuilder();
-		hashBuilder.setHash(Utils.generateRandomHash().toString());
+		final Hash hash = Utils.generateRandomHash();
+		hashBuilder.setHash(hash.toString());
+		Mockito.when(context.transactionIo.getTransactionUsingHash(hash))
+				.thenThrow(new MissingResourceException("transaction not found in the db", Hash.class.toString(), hash.toString()));
 
 		// Assert:
-		ExceptionAssert.assertThrows(v -> context.controller.getTransaction(hashBuilder), IllegalArgumentException.class);
+		ExceptionAssert.assertThrows(v -> context.controller.getTransaction(hashBuilder), MissingResourceException.class);
 	}
 
 	@Test
@@ -290,10 +293,8 @@ public class TransactionControllerTest {
 		final HashBuilder hashBuilder = new HashBuilder();
 		Hash hash = Utils.generateRandomHash();
 		hashBuilder.setHash(hash.toString());
-		final HashMetaDataPair hashMetaDataPair = new HashMetaDataPair(hash, new HashMetaData(new BlockHeight(123), new TimeInstant(321)));
-		Mockito.when(context.hashCache.get(hash)).thenReturn(hashMetaDataPair.getMetaData());
 		final TransactionMetaDataPair originalPair = Mockito.mock(TransactionMetaDataPair.class);
-		Mockito.when(context.transactionIo.getTransactionUsingHash(hash, new BlockHeight(123))).thenReturn(originalPair);
+		Mockito.when(context.transactionIo.getTransactionUsingHash(hash)).thenReturn(originalPair);
 
 		// Act:
 		final TransactionMetaDataPair pair = context.controller.getTransaction(hashBuilder);
@@ -301,8 +302,7 @@ public class TransactionControllerTest {
 		// Assert:
 		MatcherAssert.assertThat(pair, IsSame.sameInstance(originalPair));
 		Mockito.verify(context.nisConfiguration, Mockito.only()).isFeatureSupported(NodeFeature.TRANSACTION_HASH_LOOKUP);
-		Mockito.verify(context.hashCache, Mockito.only()).get(hash);
-		Mockito.verify(context.transactionIo, Mockito.only()).getTransactionUsingHash(hash, new BlockHeight(123));
+		Mockito.verify(context.transactionIo, Mockito.only()).getTransactionUsingHash(hash);
 	}
 
 	// endregion
@@ -331,7 +331,6 @@ public class TransactionControllerTest {
 		private final NisPeerNetworkHost host;
 		private final ValidationState validationState = Mockito.mock(ValidationState.class);
 		private final TransactionIo transactionIo = Mockito.mock(TransactionIo.class);
-		private final HashCache hashCache = Mockito.mock(HashCache.class);
 		private final NisConfiguration nisConfiguration = Mockito.mock(NisConfiguration.class);
 		private final TransactionController controller;
 
@@ -348,7 +347,7 @@ public class TransactionControllerTest {
 			Mockito.when(this.nisConfiguration.isFeatureSupported(NodeFeature.TRANSACTION_HASH_LOOKUP)).thenReturn(true);
 
 			this.controller = new TransactionController(this.accountLookup, this.pushService, this.unconfirmedTransactions, this.validator,
-					this.host, this.validationState, () -> CURRENT_HEIGHT, transactionIo, hashCache, nisConfiguration);
+					this.host, this.validationState, () -> CURRENT_HEIGHT, transactionIo, nisConfiguration);
 		}
 	}
 }
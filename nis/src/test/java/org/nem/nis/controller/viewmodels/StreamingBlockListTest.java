@@ -0,0 +1,145 @@
+package org.nem.nis.controller.viewmodels;
+
+import java.util.*;
+import net.minidev.json.JSONObject;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.*;
+import org.junit.*;
+import org.nem.core.model.*;
+import org.nem.core.serialization.*;
+import org.nem.core.test.*;
+import org.nem.nis.test.NisUtils;
+
+public class StreamingBlockListTest {
+
+	@Test
+	public void canIterateOverBlocks() {
+		// Arrange:
+		final List<Block> originalBlocks = createBlocks(3);
+		final StreamingBlockList blockList = new StreamingBlockList(originalBlocks::iterator);
+
+		// Act:
+		final List<Block> blocks = new ArrayList<>();
+		blockList.forEach(blocks::add);
+
+		// Assert:
+		MatcherAssert.assertThat(blocks, IsEqual.equalTo(originalBlocks));
+	}
+
+	@Test
+	public void eachIterationProducesBlocksAgain() {
+		// Arrange:
+		final int[] numIterations = new int[1];
+		final StreamingBlockList blockList = new StreamingBlockList(() -> {
+			++numIterations[0];
+			return createBlocks(3).iterator();
+		});
+
+		// Act:
+		blockList.iterator();
+		blockList.iterator();
+
+		// Assert:
+		MatcherAssert.assertThat(numIterations[0], IsEqual.equalTo(2));
+	}
+
+	@Test
+	public void binarySerializationIsCompatibleWithSerializableList() {
+		// Arrange:
+		final List<Block> blocks = createBlocks(3);
+
+		// Act:
+		final byte[] bytes = BinarySerializer.serializeToBytes(new StreamingBlockList(blocks::iterator));
+		final byte[] expectedBytes = BinarySerializer.serializeToBytes(new SerializableList<>(blocks));
+
+		// Assert:
+		MatcherAssert.assertThat(bytes, IsEqual.equalTo(expectedBytes));
+	}
+
+	@Test
+	public void binarySerializationOfEmptyListIsCompatibleWithSerializableList() {
+		// Act:
+		final byte[] bytes = BinarySerializer.serializeToBytes(new StreamingBlockList(Collections::emptyIterator));
+		final byte[] expectedBytes = BinarySerializer.serializeToBytes(new SerializableList<>(0));
+
+		// Assert:
+		MatcherAssert.assertThat(bytes, IsEqual.equalTo(expectedBytes));
+	}
+
+	@Test
+	public void binarySerializationWritesEachBlockBeforeNextBlockIsProduced() {
+		// Arrange:
+		final List<Block> blocks = createBlocks(3);
+		final BinarySerializer serializer = new BinarySerializer();
+		final List<Integer> numBytesWritten = new ArrayList<>();
+		final Iterator<Block> blockIterator = blocks.iterator();
+		final StreamingBlockList blockList = new StreamingBlockList(() -> new Iterator<Block>() {
+			@Override
+			public boolean hasNext() {
+				return blockIterator.hasNext();
+			}
+
+			@Override
+			public Block next() {
+				numBytesWritten.add(serializer.getBytes().length);
+				return blockIterator.next();
+			}
+		});
+
+		// Act:
+		blockList.serialize(serializer);
+
+		// Assert: only the size placeholder is written before the first block and each block is written before the next one is produced
+		MatcherAssert.assertThat(numBytesWritten.size(), IsEqual.equalTo(3));
+		MatcherAssert.assertThat(numBytesWritten.get(0), IsEqual.equalTo(4));
+		for (int i = 1; i < 3; ++i) {
+			final int expectedNumBytes = numBytesWritten.get(i - 1) + 4 + BinarySerializer.serializeToBytes(blocks.get(i - 1)).length;
+			MatcherAssert.assertThat(numBytesWritten.get(i), IsEqual.equalTo(expectedNumBytes));
+		}
+	}
+
+	@Test
+	public void jsonSerializationIsCompatibleWithSerializableList() {
+		// Arrange:
+		final List<Block> blocks = createBlocks(3);
+
+		// Act:
+		final JSONObject jsonObject = JsonSerializer.serializeToJson(new StreamingBlockList(blocks::iterator));
+		final JSONObject expectedJsonObject = JsonSerializer.serializeToJson(new SerializableList<>(blocks));
+
+		// Assert:
+		MatcherAssert.assertThat(jsonObject, IsEqual.equalTo(expectedJsonObject));
+	}
+
+	@Test
+	public void canRoundtripAsSerializableList() {
+		// Arrange:
+		final List<Block> blocks = createBlocks(3);
+		final MockAccountLookup accountLookup = new MockAccountLookup();
+
+		// Act:
+		final Deserializer deserializer = Utils.roundtripSerializableEntityWithBinarySerializer(new StreamingBlockList(blocks::iterator),
+				accountLookup);
+		final SerializableList<Block> roundtrippedBlocks = new SerializableList<>(deserializer, BlockFactory.VERIFIABLE);
+
+		// Assert:
+		MatcherAssert.assertThat(roundtrippedBlocks.size(), IsEqual.equalTo(3));
+		for (int i = 0; i < 3; ++i) {
+			MatcherAssert.assertThat(HashUtils.calculateHash(roundtrippedBlocks.get(i)), IsEqual.equalTo(HashUtils.calculateHash(blocks.get(i))));
+		}
+	}
+
+	private static List<Block> createBlocks(final int count) {
+		final List<Block> blocks = new ArrayList<>();
+		for (int i = 0; i < count; ++i) {
+			final Block block = NisUtils.createRandomBlockWithHeight(10 + i);
+			final Transaction transaction = RandomTransactionFactory.createTransfer();
+			transaction.sign();
+			block.addTransaction(transaction);
+			block.sign();
+			blocks.add(block);
+		}
+
+		return blocks;
+	}
+}
@@ -377,7 +377,7 @@ public class BlockDaoTest {
 			// Assert: preconditions
 			final String[] nonTransactionTables = {
 					"MultisigSends", "MultisigReceives", "MultisigModifications", "MinCosignatoriesModifications", "Namespaces",
-					"MosaicDefinitions", "MosaicProperties", "TransferredMosaics"
+					"MosaicDefinitions", "MosaicProperties", "TransferredMosaics", "AccountTransactions", "TransactionHashes"
 			};
 
 			for (final String table : nonTransactionTables) {
@@ -698,16 +698,29 @@ public class BlockDaoTest {
 		@Test
 		public void getBlocksAfterAndUpdateCacheUpdatesMosaicIdCache() {
 			// Assert:
-			this.assertMosaicCacheUpdateBehavior(true, new DbMosaicId(1L));
+			this.assertMosaicCacheUpdateBehavior(() -> this.blockDao.getBlocksAfterAndUpdateCache(new BlockHeight(100), 100), true);
 		}
 
 		@Test
 		public void getBlocksAfterDoesNotUpdateMosaicIdCache() {
 			// Assert:
-			this.assertMosaicCacheUpdateBehavior(false, null);
+			this.assertMosaicCacheUpdateBehavior(() -> this.blockDao.getBlocksAfter(new BlockHeight(100), 100), false);
 		}
 
-		private void assertMosaicCacheUpdateBehavior(final boolean updateCache, final DbMosaicId expectedDbMosaicId) {
+		@Test
+		public void updateMosaicIdCacheUpToUpdatesMosaicIdCacheWithDefinitionsAtOrBelowHeight() {
+			// Assert:
+			this.assertMosaicCacheUpdateBehavior(() -> this.blockDao.updateMosaicIdCacheUpTo(new BlockHeight(111)), true);
+		}
+
+		@Test
+		public void updateMosaicIdCacheUpToDoesNotUpdateMosaicIdCacheWithDefinitionsAboveHeight() {
+			// Assert:
+			this.assertMosaicCacheUpdateBehavior(() -> this.blockDao.updateMosaicIdCacheUpTo(new BlockHeight(110)), false);
+		}
+
+		// block height is 111
+		private void assertMosaicCacheUpdateBehavior(final Runnable action, final boolean updateCache) {
 			// Arrange:
 			final MosaicId mosaicId = new MosaicId(new NamespaceId("alice.vouchers"), "alice's gift vouchers");
 			final DbBlock dbBlock = this.prepareBlock();
@@ -723,17 +736,13 @@ public class BlockDaoTest {
 			MatcherAssert.assertThat(this.mosaicIdCache.size(), IsEqual.equalTo(1));
 
 			// Act:
-			if (updateCache) {
-				this.blockDao.getBlocksAfterAndUpdateCache(new BlockHeight(100), 100); // block height is 111
-			} else {
-				this.blockDao.getBlocksAfter(new BlockHeight(100), 100); // block height is 111
-			}
+			action.run();
 
 			final DbMosaicId mosaicIdFromCache = this.mosaicIdCache.get(mosaicId);
 
 			// Assert:
 			MatcherAssert.assertThat(this.mosaicIdCache.size(), IsEqual.equalTo(1 + (updateCache ? 1 : 0)));
-			MatcherAssert.assertThat(mosaicIdFromCache, IsEqual.equalTo(expectedDbMosaicId));
+			MatcherAssert.assertThat(mosaicIdFromCache, IsEqual.equalTo(updateCache ? new DbMosaicId(1L) : null));
 		}
 
 		@Test
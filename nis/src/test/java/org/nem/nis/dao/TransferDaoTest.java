@@ -67,7 +67,7 @@ public class TransferDaoTest {
 
 		// Act:
 		for (int i = 0; i < context.hashes.size(); ++i) {
-			final TransferBlockPair pair = this.transferDao.getTransactionUsingHash(context.hashes.get(i), BlockHeight.ONE);
+			final TransferBlockPair pair = this.transferDao.getTransactionUsingHash(context.hashes.get(i));
 			MatcherAssert.assertThat(2 * i, IsEqual.equalTo(pair.getTransfer().getTimeStamp()));
 			MatcherAssert.assertThat(context.hashes.get(i), IsEqual.equalTo(pair.getTransfer().getTransferHash()));
 			MatcherAssert.assertThat(context.account.getAddress().toString(),
@@ -79,6 +79,63 @@ public class TransferDaoTest {
 		}
 	}
 
+	@Test
+	public void getTransactionUsingHashReturnsMultisigAndInnerTransactions() {
+		// Arrange:
+		final MultisigTestContext context = this.createMultisigTestContext();
+		final Hash multisigHash = HashUtils.calculateHash(context.multisigTransferTransaction);
+		final Hash innerHash = HashUtils.calculateHash(context.multisigTransferTransaction.getOtherTransaction());
+
+		// Act:
+		final TransferBlockPair multisigPair = this.transferDao.getTransactionUsingHash(multisigHash);
+		final TransferBlockPair innerPair = this.transferDao.getTransactionUsingHash(innerHash);
+
+		// Assert:
+		MatcherAssert.assertThat(multisigPair.getTransfer() instanceof DbMultisigTransaction, IsEqual.equalTo(true));
+		MatcherAssert.assertThat(multisigPair.getTransfer().getTransferHash(), IsEqual.equalTo(multisigHash));
+		MatcherAssert.assertThat(innerPair.getTransfer() instanceof DbTransferTransaction, IsEqual.equalTo(true));
+		MatcherAssert.assertThat(innerPair.getTransfer().getTransferHash(), IsEqual.equalTo(innerHash));
+		MatcherAssert.assertThat(innerPair.getDbBlock().getHeight(), IsEqual.equalTo(1L));
+	}
+
+	@Test
+	public void getTransactionUsingHashThrowsWhenHashNotFound() {
+		// Arrange:
+		new TestContext(this.blockDao, 5);
+
+		// Assert:
+		ExceptionAssert.assertThrows(v -> this.transferDao.getTransactionUsingHash(Utils.generateRandomHash()),
+				MissingResourceException.class);
+	}
+
+	@Test
+	public void getTransactionUsingHashThrowsWhenBlockContainingTransactionIsDeleted() {
+		// Arrange:
+		final Account sender = Utils.generateRandomAccount();
+		this.createTestBlocks(new long[]{
+				1, 2
+		}, new int[]{
+				1000, 2000
+		}, new int[][]{
+				{
+						1100
+				}, {
+						2100
+				}
+		}, sender, false);
+		final Map<Long, Hash> heightToHash = this.transferDao
+				.getTransactionsForAccountUsingId(sender, null, ReadOnlyTransferDao.TransferType.OUTGOING, DEFAULT_LIMIT).stream()
+				.collect(Collectors.toMap(p -> p.getDbBlock().getHeight(), p -> p.getTransfer().getTransferHash()));
+
+		// Act:
+		this.blockDao.deleteBlocksAfterHeight(BlockHeight.ONE);
+
+		// Assert:
+		MatcherAssert.assertThat(this.transferDao.getTransactionUsingHash(heightToHash.get(1L)).getTransfer().getTransferHash(),
+				IsEqual.equalTo(heightToHash.get(1L)));
+		ExceptionAssert.assertThrows(v -> this.transferDao.getTransactionUsingHash(heightToHash.get(2L)), MissingResourceException.class);
+	}
+
 	// endregion
 
 	// region getTransactionsForAccountUsingHash
@@ -361,6 +418,55 @@ public class TransferDaoTest {
 		}
 	}
 
+	// region mixed transaction types
+
+	@Test
+	public void getTransactionsForAccountUsingIdReturnsTransactionsOfDifferentTypes() {
+		// Arrange:
+		final Account account = Utils.generateRandomAccount();
+		final Account other = Utils.generateRandomAccount();
+		final Account remote = Utils.generateRandomAccount();
+		final MockAccountDao mockAccountDao = new MockAccountDao();
+		Arrays.asList(account, other, remote).forEach(a -> this.addMapping(mockAccountDao, a));
+
+		final Transaction outgoingTransfer = this.prepareTransferTransaction(account, other, 10, 1);
+		final Transaction importanceTransfer = new ImportanceTransferTransaction(new TimeInstant(2), account,
+				ImportanceTransferMode.Activate, remote);
+		importanceTransfer.sign();
+		final Transaction incomingTransfer = this.prepareTransferTransaction(other, account, 10, 3);
+
+		final Block block = new Block(other, Hash.ZERO, Hash.ZERO, new TimeInstant(123), BlockHeight.ONE);
+		block.addTransactions(Arrays.asList(outgoingTransfer, importanceTransfer, incomingTransfer));
+		block.sign();
+		this.blockDao.save(MapperUtils.toDbModel(block, new AccountDaoLookupAdapter(mockAccountDao)));
+
+		// Assert:
+		this.assertExpectedTransactions(account, ReadOnlyTransferDao.TransferType.ALL,
+				Arrays.asList(outgoingTransfer, importanceTransfer, incomingTransfer));
+		this.assertExpectedTransactions(account, ReadOnlyTransferDao.TransferType.OUTGOING,
+				Arrays.asList(outgoingTransfer, importanceTransfer));
+		this.assertExpectedTransactions(account, ReadOnlyTransferDao.TransferType.INCOMING, Collections.singletonList(incomingTransfer));
+		this.assertExpectedTransactions(remote, ReadOnlyTransferDao.TransferType.INCOMING, Collections.singletonList(importanceTransfer));
+	}
+
+	private void assertExpectedTransactions(final Account account, final ReadOnlyTransferDao.TransferType transferType,
+			final Collection<Transaction> expectedTransactions) {
+		// Act:
+		final Collection<TransferBlockPair> pairs = this.transferDao.getTransactionsForAccountUsingId(account, null, transferType,
+				DEFAULT_LIMIT);
+		final Collection<Hash> hashes = pairs.stream().map(p -> p.getTransfer().getTransferHash()).collect(Collectors.toList());
+		final Collection<Long> heights = pairs.stream().map(p -> p.getDbBlock().getHeight()).collect(Collectors.toList());
+		final Collection<Long> ids = pairs.stream().map(p -> p.getTransfer().getId()).collect(Collectors.toList());
+
+		// Assert:
+		MatcherAssert.assertThat(hashes, IsEquivalent.equivalentTo(expectedTransactions.stream().map(HashUtils::calculateHash)
+				.collect(Collectors.toList())));
+		MatcherAssert.assertThat(heights, IsEqual.equalTo(Collections.nCopies(expectedTransactions.size(), 1L)));
+		MatcherAssert.assertThat(ids, IsEqual.equalTo(ids.stream().sorted(Comparator.reverseOrder()).collect(Collectors.toList())));
+	}
+
+	// endregion
+
 	// region multisig transactions
 
 	@Test
@@ -572,7 +678,7 @@ public class TransferDaoTest {
 	private Collection<AbstractBlockTransfer> getTransfersFromDbUsingAttribute(final TestContext context, final Hash hash, final Long id,
 			final int callType) {
 		return this
-				.executeGetTransactionsForAccountUsingAttribute(context.account, hash, id, context.height, context.transferType, callType)
+				.executeGetTransactionsForAccountUsingAttribute(context.account, hash, id, context.transferType, callType)
 				.stream().map(TransferBlockPair::getTransfer).collect(Collectors.toList());
 	}
 
@@ -638,7 +744,7 @@ public class TransferDaoTest {
 		ExceptionAssert
 				.assertThrows(
 						v -> this.executeGetTransactionsForAccountUsingAttribute(account, Utils.generateRandomHash(),
-								new SecureRandom().nextLong(), BlockHeight.ONE, ReadOnlyTransferDao.TransferType.INCOMING, callType),
+								new SecureRandom().nextLong(), ReadOnlyTransferDao.TransferType.INCOMING, callType),
 						MissingResourceException.class);
 	}
 
@@ -668,7 +774,7 @@ public class TransferDaoTest {
 
 		// Act
 		final Collection<TransferBlockPair> entities1 = this.executeGetTransactionsForAccountUsingAttribute(sender, null, null,
-				BlockHeight.ONE, ReadOnlyTransferDao.TransferType.ALL, type);
+				ReadOnlyTransferDao.TransferType.ALL, type);
 
 		final List<Long> resultIds = entities1.stream().map(pair -> pair.getTransfer().getId()).collect(Collectors.toList());
 
@@ -693,7 +799,7 @@ public class TransferDaoTest {
 		};
 		this.createTestBlocks(heights, blockTimestamp, txTimestamps, sender, true);
 		final Collection<TransferBlockPair> entities = this.executeGetTransactionsForAccountUsingAttribute(sender, null, null,
-				BlockHeight.ONE, ReadOnlyTransferDao.TransferType.ALL, type);
+				ReadOnlyTransferDao.TransferType.ALL, type);
 
 		// Assert:
 		MatcherAssert.assertThat(entities.size(), IsEqual.equalTo(1));
@@ -723,17 +829,17 @@ public class TransferDaoTest {
 
 		// Act:
 		final Collection<TransferBlockPair> entities = this.executeGetTransactionsForAccountUsingAttribute(Utils.generateRandomAccount(),
-				null, null, BlockHeight.ONE, ReadOnlyTransferDao.TransferType.ALL, type);
+				null, null, ReadOnlyTransferDao.TransferType.ALL, type);
 
 		// Assert:
 		MatcherAssert.assertThat(entities.isEmpty(), IsEqual.equalTo(true));
 	}
 
 	private Collection<TransferBlockPair> executeGetTransactionsForAccountUsingAttribute(final Account sender, final Hash hash,
-			final Long id, final BlockHeight height, final ReadOnlyTransferDao.TransferType transferType, final int type) {
+			final Long id, final ReadOnlyTransferDao.TransferType transferType, final int type) {
 		switch (type) {
 			case USE_HASH:
-				return this.transferDao.getTransactionsForAccountUsingHash(sender, hash, height, transferType, DEFAULT_LIMIT);
+				return this.transferDao.getTransactionsForAccountUsingHash(sender, hash, transferType, DEFAULT_LIMIT);
 			case USE_ID:
 				return this.transferDao.getTransactionsForAccountUsingId(sender, id, transferType, DEFAULT_LIMIT);
 			default :
@@ -1,52 +0,0 @@
-package org.nem.nis.dao.retrievers;
-
-import java.util.*;
-import org.nem.core.model.primitive.BlockHeight;
-
-public class ImportanceTransferRetrieverTest extends TransactionRetrieverTest {
-
-	@Override
-	protected TransactionRetriever getTransactionRetriever() {
-		return new ImportanceTransferRetriever();
-	}
-
-	@Override
-	protected List<Integer> getExpectedComparablePairsForIncomingTransactions(final BlockHeight height, final int accountIndex) {
-		// returned list must be sorted in descending order of ids!
-		final int baseId = (int) ((height.getRaw() / 2 - 1) * TRANSACTIONS_PER_BLOCK);
-		switch (accountIndex) {
-			case 0:
-				return new ArrayList<>();
-			case 1:
-				return Collections.singletonList(baseId + 1);
-			case 2:
-				return new ArrayList<>();
-			case 3:
-				return Collections.singletonList(baseId + 2);
-			case 4:
-				return Collections.emptyList();
-			default :
-				throw new RuntimeException("unknown account id.");
-		}
-	}
-
-	@Override
-	protected List<Integer> getExpectedComparablePairsForOutgoingTransactions(final BlockHeight height, final int accountIndex) {
-		// returned list must be sorted in descending order of ids!
-		final int baseId = (int) ((height.getRaw() / 2 - 1) * TRANSACTIONS_PER_BLOCK);
-		switch (accountIndex) {
-			case 0:
-				return Collections.singletonList(baseId + 1);
-			case 1:
-				return new ArrayList<>();
-			case 2:
-				return Collections.singletonList(baseId + 2);
-			case 3:
-				return new ArrayList<>();
-			case 4:
-				return Collections.emptyList();
-			default :
-				throw new RuntimeException("unknown account id.");
-		}
-	}
-}
@@ -1,6 +1,5 @@
 package org.nem.nis.harvesting;
 
-import java.math.BigInteger;
 import java.util.*;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.*;
@@ -14,6 +13,8 @@ import org.nem.core.time.TimeInstant;
 import org.nem.nis.*;
 import org.nem.nis.cache.*;
 import org.nem.nis.dao.BlockDao;
+import org.nem.nis.mappers.NisModelToDbModelMapper;
+import org.nem.nis.service.BlockChainLastBlockLayer;
 import org.nem.nis.state.AccountState;
 import org.nem.nis.test.*;
 import org.nem.nis.validators.BlockValidator;
@@ -193,12 +194,11 @@ public class BlockGeneratorTest {
 	// region evaluation
 
 	@Test
-	public void blockIsReturnedIfHitIsLessThanTarget() {
+	public void blockIsReturnedIfBlockIsHit() {
 		// Arrange:
 		final TestContext context = new TestContext();
 		final Block lastBlock = NisUtils.createRandomBlockWithHeight(7);
-		Mockito.when(context.scorer.calculateHit(Mockito.any())).thenReturn(BigInteger.valueOf(5));
-		Mockito.when(context.scorer.calculateTarget(Mockito.any(), Mockito.any())).thenReturn(BigInteger.valueOf(6));
+		Mockito.when(context.scorer.isHit(Mockito.any(), Mockito.any())).thenReturn(true);
 		Mockito.when(context.scorer.calculateBlockScore(Mockito.any(), Mockito.any())).thenReturn(1245L);
 
 		// Act:
@@ -208,79 +208,176 @@ public class BlockGeneratorTest {
 		// Assert:
 		MatcherAssert.assertThat(block, IsNull.notNullValue());
 		MatcherAssert.assertThat(generatedBlock.getScore(), IsEqual.equalTo(1245L));
-		Mockito.verify(context.scorer, Mockito.times(1)).calculateHit(block);
-		Mockito.verify(context.scorer, Mockito.times(1)).calculateTarget(lastBlock, block);
+		Mockito.verify(context.scorer, Mockito.times(1)).isHit(lastBlock, block);
 		Mockito.verify(context.scorer, Mockito.times(1)).calculateBlockScore(lastBlock, block);
 		Mockito.verify(context.transactionsProvider, Mockito.only()).getBlockTransactions(Mockito.any(), Mockito.any(), Mockito.any());
 	}
 
 	@Test
-	public void blockIsNotReturnedIfHitIsEqualToTarget() {
+	public void blockIsNotReturnedIfBlockIsNotHit() {
 		// Arrange:
 		final TestContext context = new TestContext();
 		final Block lastBlock = NisUtils.createRandomBlockWithHeight(7);
-		Mockito.when(context.scorer.calculateHit(Mockito.any())).thenReturn(BigInteger.valueOf(5));
-		Mockito.when(context.scorer.calculateTarget(Mockito.any(), Mockito.any())).thenReturn(BigInteger.valueOf(5));
+		Mockito.when(context.scorer.isHit(Mockito.any(), Mockito.any())).thenReturn(false);
 
 		// Act:
 		final GeneratedBlock generatedBlock = context.generateNextBlock(lastBlock);
 
 		// Assert:
 		MatcherAssert.assertThat(generatedBlock, IsNull.nullValue());
-		Mockito.verify(context.scorer, Mockito.times(1)).calculateHit(Mockito.any());
-		Mockito.verify(context.scorer, Mockito.times(1)).calculateTarget(Mockito.eq(lastBlock), Mockito.any());
+		Mockito.verify(context.scorer, Mockito.times(1)).isHit(Mockito.eq(lastBlock), Mockito.any());
 		Mockito.verify(context.scorer, Mockito.never()).calculateBlockScore(Mockito.any(), Mockito.any());
 		Mockito.verify(context.transactionsProvider, Mockito.never()).getBlockTransactions(Mockito.any(), Mockito.any(), Mockito.any());
 	}
 
 	@Test
-	public void blockIsNotReturnedIfHitIsGreaterThanTarget() {
+	public void blockIsReturnedIfValidationSucceeds() {
 		// Arrange:
 		final TestContext context = new TestContext();
 		final Block lastBlock = NisUtils.createRandomBlockWithHeight(7);
-		Mockito.when(context.scorer.calculateHit(Mockito.any())).thenReturn(BigInteger.valueOf(6));
-		Mockito.when(context.scorer.calculateTarget(Mockito.any(), Mockito.any())).thenReturn(BigInteger.valueOf(5));
+		Mockito.when(context.validator.validate(Mockito.any())).thenReturn(ValidationResult.SUCCESS);
 
 		// Act:
 		final GeneratedBlock generatedBlock = context.generateNextBlock(lastBlock);
+		final Block block = generatedBlock.getBlock();
 
 		// Assert:
-		MatcherAssert.assertThat(generatedBlock, IsNull.nullValue());
-		Mockito.verify(context.scorer, Mockito.times(1)).calculateHit(Mockito.any());
-		Mockito.verify(context.scorer, Mockito.times(1)).calculateTarget(Mockito.eq(lastBlock), Mockito.any());
-		Mockito.verify(context.scorer, Mockito.never()).calculateBlockScore(Mockito.any(), Mockito.any());
-		Mockito.verify(context.transactionsProvider, Mockito.never()).getBlockTransactions(Mockito.any(), Mockito.any(), Mockito.any());
+		MatcherAssert.assertThat(block, IsNull.notNullValue());
+		Mockito.verify(context.validator, Mockito.only()).validate(block);
 	}
 
 	@Test
-	public void blockIsReturnedIfValidationSucceeds() {
+	public void blockIsNotReturnedIfValidationFails() {
 		// Arrange:
 		final TestContext context = new TestContext();
 		final Block lastBlock = NisUtils.createRandomBlockWithHeight(7);
-		Mockito.when(context.validator.validate(Mockito.any())).thenReturn(ValidationResult.SUCCESS);
+		Mockito.when(context.validator.validate(Mockito.any())).thenReturn(ValidationResult.FAILURE_INSUFFICIENT_BALANCE);
 
 		// Act:
 		final GeneratedBlock generatedBlock = context.generateNextBlock(lastBlock);
-		final Block block = generatedBlock.getBlock();
 
 		// Assert:
-		MatcherAssert.assertThat(block, IsNull.notNullValue());
-		Mockito.verify(context.validator, Mockito.only()).validate(block);
+		MatcherAssert.assertThat(generatedBlock, IsNull.nullValue());
+		Mockito.verify(context.validator, Mockito.only()).validate(Mockito.any());
 	}
 
+	// endregion
+
+	// region multiple harvesters
+
 	@Test
-	public void blockIsNotReturnedIfValidationFails() {
+	public void noBlockIsReturnedIfThereAreNoHarvesters() {
 		// Arrange:
 		final TestContext context = new TestContext();
-		final Block lastBlock = NisUtils.createRandomBlockWithHeight(7);
-		Mockito.when(context.validator.validate(Mockito.any())).thenReturn(ValidationResult.FAILURE_INSUFFICIENT_BALANCE);
 
 		// Act:
-		final GeneratedBlock generatedBlock = context.generateNextBlock(lastBlock);
+		final GeneratedBlock generatedBlock = context.generator.generateNextBlock(NisUtils.createRandomBlockWithHeight(7),
+				Collections.emptyList(), new TimeInstant(7));
 
 		// Assert:
 		MatcherAssert.assertThat(generatedBlock, IsNull.nullValue());
-		Mockito.verify(context.validator, Mockito.only()).validate(Mockito.any());
+		Mockito.verify(context.scorer, Mockito.never()).isHit(Mockito.any(), Mockito.any());
+	}
+
+	@Test
+	public void difficultyIsCalculatedOnceForAllHarvesters() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		final List<Account> harvesters = createAccounts(5);
+
+		// Act:
+		context.generator.generateNextBlock(NisUtils.createRandomBlockWithHeight(100), harvesters, new TimeInstant(7));
+
+		// Assert:
+		Mockito.verify(context.blockDao, Mockito.times(1)).getTimeStampsFrom(new BlockHeight(41), 60);
+		Mockito.verify(context.blockDao, Mockito.times(1)).getDifficultiesFrom(new BlockHeight(41), 60);
+		Mockito.verify(context.difficultyScorer, Mockito.only()).calculateDifficulty(Mockito.any(), Mockito.any());
+		Mockito.verify(context.scorer, Mockito.times(5)).isHit(Mockito.any(), Mockito.any());
+	}
+
+	@Test
+	public void onlyBestHitBlockIsAssembledAndReturned() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		final List<Account> harvesters = createAccounts(5);
+		context.setHits(harvesters.get(0), harvesters.get(1), harvesters.get(3), harvesters.get(4));
+		context.setScores(harvesters, 12L, 11L, 19L, 18L, 14L);
+
+		// Act:
+		final GeneratedBlock generatedBlock = context.generator.generateNextBlock(NisUtils.createRandomBlockWithHeight(7), harvesters,
+				new TimeInstant(7));
+
+		// Assert:
+		MatcherAssert.assertThat(generatedBlock.getBlock().getSigner(), IsEqual.equalTo(harvesters.get(3)));
+		MatcherAssert.assertThat(generatedBlock.getScore(), IsEqual.equalTo(18L));
+		Mockito.verify(context.scorer, Mockito.times(5)).isHit(Mockito.any(), Mockito.any());
+		Mockito.verify(context.scorer, Mockito.times(4)).calculateBlockScore(Mockito.any(), Mockito.any());
+		Mockito.verify(context.transactionsProvider, Mockito.only()).getBlockTransactions(Mockito.any(), Mockito.any(), Mockito.any());
+		Mockito.verify(context.validator, Mockito.only()).validate(generatedBlock.getBlock());
+	}
+
+	@Test
+	public void firstHarvesterIsPreferredWhenBestScoresAreEqual() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		final List<Account> harvesters = createAccounts(4);
+		context.setScores(harvesters, 12L, 18L, 18L, 14L);
+
+		// Act:
+		final GeneratedBlock generatedBlock = context.generator.generateNextBlock(NisUtils.createRandomBlockWithHeight(7), harvesters,
+				new TimeInstant(7));
+
+		// Assert:
+		MatcherAssert.assertThat(generatedBlock.getBlock().getSigner(), IsEqual.equalTo(harvesters.get(1)));
+		MatcherAssert.assertThat(generatedBlock.getScore(), IsEqual.equalTo(18L));
+	}
+
+	@Test
+	public void nextBestHitBlockIsReturnedWhenValidationOfBestBlockFails() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		final List<Account> harvesters = createAccounts(3);
+		context.setScores(harvesters, 12L, 18L, 14L);
+		Mockito.when(context.validator.validate(Mockito.any()))
+				.then(invocation -> ((Block) invocation.getArguments()[0]).getSigner().equals(harvesters.get(1))
+						? ValidationResult.FAILURE_INSUFFICIENT_BALANCE
+						: ValidationResult.SUCCESS);
+
+		// Act:
+		final GeneratedBlock generatedBlock = context.generator.generateNextBlock(NisUtils.createRandomBlockWithHeight(7), harvesters,
+				new TimeInstant(7));
+
+		// Assert:
+		MatcherAssert.assertThat(generatedBlock.getBlock().getSigner(), IsEqual.equalTo(harvesters.get(2)));
+		MatcherAssert.assertThat(generatedBlock.getScore(), IsEqual.equalTo(14L));
+		Mockito.verify(context.transactionsProvider, Mockito.times(2)).getBlockTransactions(Mockito.any(), Mockito.any(), Mockito.any());
+		Mockito.verify(context.validator, Mockito.times(2)).validate(Mockito.any());
+	}
+
+	@Test
+	public void noBlockIsReturnedIfNoHarvesterHits() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		final List<Account> harvesters = createAccounts(3);
+		context.setHits();
+
+		// Act:
+		final GeneratedBlock generatedBlock = context.generator.generateNextBlock(NisUtils.createRandomBlockWithHeight(7), harvesters,
+				new TimeInstant(7));
+
+		// Assert:
+		MatcherAssert.assertThat(generatedBlock, IsNull.nullValue());
+		Mockito.verify(context.scorer, Mockito.never()).calculateBlockScore(Mockito.any(), Mockito.any());
+		Mockito.verify(context.transactionsProvider, Mockito.never()).getBlockTransactions(Mockito.any(), Mockito.any(), Mockito.any());
+	}
+
+	private static List<Account> createAccounts(final int count) {
+		final List<Account> accounts = new ArrayList<>();
+		for (int i = 0; i < count; ++i) {
+			accounts.add(Utils.generateRandomAccount());
+		}
+
+		return accounts;
 	}
 
 	// endregion
@@ -347,8 +444,8 @@ public class BlockGeneratorTest {
 		private final BlockScorer scorer = Mockito.mock(BlockScorer.class);
 		private final BlockValidator validator = Mockito.mock(BlockValidator.class);
 		private final BlockGenerator generator = new BlockGenerator(
-				NisCacheFactory.createReadOnly(this.accountCache, this.accountStateCache), this.transactionsProvider, this.blockDao,
-				this.scorer, this.validator);
+				NisCacheFactory.createReadOnly(this.accountCache, this.accountStateCache), this.transactionsProvider,
+				new BlockChainLastBlockLayer(this.blockDao, Mockito.mock(NisModelToDbModelMapper.class)), this.scorer, this.validator);
 
 		private TestContext() {
 			final Account signer = Utils.generateRandomAccount();
@@ -360,8 +457,7 @@ public class BlockGeneratorTest {
 
 			Mockito.when(this.difficultyScorer.calculateDifficulty(Mockito.any(), Mockito.any())).thenReturn(new BlockDifficulty(13));
 			Mockito.when(this.scorer.getDifficultyScorer()).thenReturn(this.difficultyScorer);
-			Mockito.when(this.scorer.calculateHit(Mockito.any())).thenReturn(BigInteger.valueOf(5));
-			Mockito.when(this.scorer.calculateTarget(Mockito.any(), Mockito.any())).thenReturn(BigInteger.valueOf(6));
+			Mockito.when(this.scorer.isHit(Mockito.any(), Mockito.any())).thenReturn(true);
 
 			Mockito.when(this.validator.validate(Mockito.any())).thenReturn(ValidationResult.SUCCESS);
 		}
@@ -378,6 +474,22 @@ public class BlockGeneratorTest {
 			return this.generator.generateNextBlock(lastBlock, harvesterSigner, timeInstant);
 		}
 
+		private void setHits(final Account... hitAccounts) {
+			final List<Account> accounts = Arrays.asList(hitAccounts);
+			Mockito.when(this.scorer.isHit(Mockito.any(), Mockito.any()))
+					.then(invocation -> accounts.contains(((Block) invocation.getArguments()[1]).getSigner()));
+		}
+
+		private void setScores(final List<Account> accounts, final Long... scores) {
+			final List<Long> scoresList = Arrays.asList(scores);
+			Mockito.when(this.scorer.calculateBlockScore(Mockito.any(), Mockito.any()))
+					.then(invocation -> scoresList.get(accounts.indexOf(((Block) invocation.getArguments()[1]).getSigner())));
+			Mockito.when(this.accountStateCache.findForwardedStateByAddress(Mockito.any(), Mockito.any()))
+					.then(invocation -> new AccountState((Address) invocation.getArguments()[0]));
+			Mockito.when(this.accountCache.findByAddress(Mockito.any()))
+					.then(invocation -> accounts.get(accounts.indexOf(new Account((Address) invocation.getArguments()[0]))));
+		}
+
 		private void setBlockTransactions(final List<Transaction> transactions) {
 			Mockito.when(this.transactionsProvider.getBlockTransactions(Mockito.any(), Mockito.any(), Mockito.any()))
 					.thenReturn(transactions);
@@ -617,6 +617,7 @@ public class DefaultNewBlockTransactionsProviderTest {
 			// set up the nis copy
 			final NisCache nisCacheCopy = Mockito.mock(NisCache.class);
 			Mockito.when(nisCacheCopy.getAccountCache()).thenReturn(Mockito.mock(AccountCache.class));
+			Mockito.when(nisCacheCopy.getPoxFacade()).thenReturn(Mockito.mock(PoxFacade.class));
 			Mockito.when(nisCacheCopy.getAccountStateCache()).thenReturn(this.accountStateCache);
 			Mockito.when(this.nisCache.copy()).thenReturn(nisCacheCopy);
 
@@ -575,6 +575,53 @@ public class DefaultUnconfirmedStateTest {
 			context.assertTransactionsAdded(transactions);
 		}
 
+		@Test
+		public void addNewBatchDoesNotVerifyBatchVerifiedTransactionsIndividually() {
+			// Arrange:
+			final TestContext context = new TestContext();
+			final List<Transaction> transactions = createMockTransactions(context, 3, 5).stream().map(Mockito::spy)
+					.collect(Collectors.toList());
+
+			// Act:
+			final ValidationResult result = context.state.addNewBatch(transactions);
+
+			// Assert:
+			MatcherAssert.assertThat(result, IsEqual.equalTo(ValidationResult.SUCCESS));
+			context.assertTransactionsAdded(transactions);
+			transactions.forEach(t -> Mockito.verify(t, Mockito.never()).verify());
+		}
+
+		@Test
+		public void addNewBatchOnlyRejectsUnverifiableTransactions() {
+			// Arrange: ruin signature of second transaction by altering the deadline
+			final TestContext context = new TestContext();
+			final List<Transaction> transactions = createMockTransactions(context, 3, 5);
+			transactions.get(1).setDeadline(transactions.get(1).getDeadline().addMinutes(1));
+
+			// Act:
+			final ValidationResult result = context.state.addNewBatch(transactions);
+
+			// Assert:
+			MatcherAssert.assertThat(result, IsEqual.equalTo(ValidationResult.FAILURE_SIGNATURE_NOT_VERIFIABLE));
+			context.assertTransactionsAdded(Arrays.asList(transactions.get(0), transactions.get(2)));
+		}
+
+		@Test
+		public void addNewBatchOnlyRejectsUnsignedTransactions() {
+			// Arrange: mix unsigned and unverifiable transactions with valid ones
+			final TestContext context = new TestContext();
+			final List<Transaction> transactions = createMockTransactions(context, 3, 7);
+			transactions.get(1).setSignature(null);
+			transactions.get(3).setDeadline(transactions.get(3).getDeadline().addMinutes(1));
+
+			// Act:
+			final ValidationResult result = context.state.addNewBatch(transactions);
+
+			// Assert:
+			MatcherAssert.assertThat(result, IsEqual.equalTo(ValidationResult.FAILURE_SIGNATURE_NOT_VERIFIABLE));
+			context.assertTransactionsAdded(Arrays.asList(transactions.get(0), transactions.get(2), transactions.get(4)));
+		}
+
 		@Test
 		public void addNewBatchDoesNotShortCircuitButReturnsFirstFailureIfAnyTransactionFailsSingleValidation() {
 			// Arrange:
@@ -212,6 +212,20 @@ public class DefaultUnconfirmedTransactionsFilterTest {
 		}
 	}
 
+	@Test
+	public void getMostRecentTransactionsForAccountOnlyQueriesTransactionsForAccount() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		final Account account = Utils.generateRandomAccount();
+		context.addMockTransactions(1, 10);
+
+		// Act:
+		context.filter.getMostRecentTransactionsForAccount(account.getAddress(), 20);
+
+		// Assert:
+		Mockito.verify(context.cache, Mockito.only()).streamForAccount(account.getAddress(), context.multisigAddresses);
+	}
+
 	// endregion
 
 	// region getTransactionsBefore
@@ -265,6 +279,7 @@ public class DefaultUnconfirmedTransactionsFilterTest {
 	private static class TestContext {
 		private final List<Transaction> transactions = new ArrayList<>();
 		private final UnconfirmedTransactionsCache cache = Mockito.mock(UnconfirmedTransactionsCache.class);
+		private final Collection<Address> multisigAddresses = Collections.singletonList(Utils.generateRandomAddress());
 		private final UnconfirmedTransactionsFilter filter;
 
 		public TestContext() {
@@ -272,8 +287,10 @@ public class DefaultUnconfirmedTransactionsFilterTest {
 		}
 
 		public TestContext(final BiPredicate<Address, Transaction> matchesPredicate) {
-			this.filter = new DefaultUnconfirmedTransactionsFilter(this.cache, matchesPredicate);
+			this.filter = new DefaultUnconfirmedTransactionsFilter(this.cache, matchesPredicate, address -> this.multisigAddresses);
 			Mockito.when(this.cache.stream()).thenAnswer(invocationOnMock -> this.transactions.stream());
+			Mockito.when(this.cache.streamForAccount(Mockito.any(), Mockito.any()))
+					.thenAnswer(invocationOnMock -> this.transactions.stream());
 		}
 
 		private void addMockTransactions(final int startCustomField, final int endCustomField) {
@@ -1,7 +1,6 @@
 package org.nem.nis.harvesting;
 
 import java.util.*;
-import java.util.stream.Collectors;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.*;
 import org.junit.*;
@@ -74,14 +73,16 @@ public class HarvesterTest {
 		final TestContext context = new TestContext();
 		final Account account = Utils.generateRandomAccount();
 		Mockito.when(context.unlockedAccounts.iterator()).thenReturn(Collections.singletonList(account).iterator());
-		Mockito.when(context.generator.generateNextBlock(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(null);
+		Mockito.when(context.generator.generateNextBlock(Mockito.any(), Mockito.anyCollectionOf(Account.class), Mockito.any()))
+				.thenReturn(null);
 
 		// Act:
 		final Block block = context.harvester.harvestBlock();
 
 		// Assert:
 		MatcherAssert.assertThat(block, IsNull.nullValue());
-		Mockito.verify(context.generator, Mockito.times(1)).generateNextBlock(Mockito.any(), Mockito.eq(account), Mockito.any());
+		Mockito.verify(context.generator, Mockito.times(1)).generateNextBlock(Mockito.any(),
+				Mockito.eq(Collections.singletonList(account)), Mockito.any());
 	}
 
 	@Test
@@ -91,14 +92,16 @@ public class HarvesterTest {
 		final Account account = Utils.generateRandomAccount();
 		final GeneratedBlock generatedBlock = new GeneratedBlock(NisUtils.createRandomBlockWithHeight(account, 11), 12L);
 		Mockito.when(context.unlockedAccounts.iterator()).thenReturn(Collections.singletonList(account).iterator());
-		Mockito.when(context.generator.generateNextBlock(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(generatedBlock);
+		Mockito.when(context.generator.generateNextBlock(Mockito.any(), Mockito.anyCollectionOf(Account.class), Mockito.any()))
+				.thenReturn(generatedBlock);
 
 		// Act:
 		final Block block = context.harvester.harvestBlock();
 
 		// Assert:
 		MatcherAssert.assertThat(block, IsEqual.equalTo(generatedBlock.getBlock()));
-		Mockito.verify(context.generator, Mockito.times(1)).generateNextBlock(Mockito.any(), Mockito.eq(account), Mockito.any());
+		Mockito.verify(context.generator, Mockito.times(1)).generateNextBlock(Mockito.any(),
+				Mockito.eq(Collections.singletonList(account)), Mockito.any());
 	}
 
 	@Test
@@ -111,7 +114,7 @@ public class HarvesterTest {
 		context.harvester.harvestBlock();
 
 		// Assert:
-		Mockito.verify(context.generator, Mockito.times(1)).generateNextBlock(Mockito.any(), Mockito.any(),
+		Mockito.verify(context.generator, Mockito.times(1)).generateNextBlock(Mockito.any(), Mockito.anyCollectionOf(Account.class),
 				Mockito.eq(new TimeInstant(14)));
 	}
 
@@ -131,7 +134,8 @@ public class HarvesterTest {
 		// Assert:
 		final ArgumentCaptor<Block> blockCaptor = ArgumentCaptor.forClass(Block.class);
 		Mockito.verify(context.mapper, Mockito.only()).map(dbLastBlock);
-		Mockito.verify(context.generator, Mockito.times(1)).generateNextBlock(blockCaptor.capture(), Mockito.any(), Mockito.any());
+		Mockito.verify(context.generator, Mockito.times(1)).generateNextBlock(blockCaptor.capture(),
+				Mockito.anyCollectionOf(Account.class), Mockito.any());
 		MatcherAssert.assertThat(blockCaptor.getValue(), IsEqual.equalTo(block));
 	}
 
@@ -140,27 +144,23 @@ public class HarvesterTest {
 	// region multiple unlocked accounts
 
 	@Test
-	public void harvestBlockReturnsBestGeneratedBlock() {
+	public void harvestBlockPassesAllUnlockedAccountsToGenerator() {
 		// Arrange:
 		final TestContext context = new TestContext();
-		final List<GeneratedBlock> generatedBlocks = Arrays.asList(null, new GeneratedBlock(NisUtils.createRandomBlockWithHeight(11), 12L),
-				null, new GeneratedBlock(NisUtils.createRandomBlockWithHeight(11), 18L),
-				new GeneratedBlock(NisUtils.createRandomBlockWithHeight(11), 14L));
-
-		final List<Account> accounts = generatedBlocks.stream().map(b -> {
-			final Account account = null == b ? Utils.generateRandomAccount() : b.getBlock().getSigner();
-			Mockito.when(context.generator.generateNextBlock(Mockito.any(), Mockito.eq(account), Mockito.any())).thenReturn(b);
-			return account;
-		}).collect(Collectors.toList());
-
+		final List<Account> accounts = Arrays.asList(Utils.generateRandomAccount(), Utils.generateRandomAccount(),
+				Utils.generateRandomAccount());
+		final GeneratedBlock generatedBlock = new GeneratedBlock(NisUtils.createRandomBlockWithHeight(accounts.get(1), 11), 18L);
+		Mockito.when(context.unlockedAccounts.size()).thenReturn(3);
 		Mockito.when(context.unlockedAccounts.iterator()).thenReturn(accounts.iterator());
+		Mockito.when(context.generator.generateNextBlock(Mockito.any(), Mockito.anyCollectionOf(Account.class), Mockito.any()))
+				.thenReturn(generatedBlock);
 
 		// Act:
 		final Block block = context.harvester.harvestBlock();
 
 		// Assert:
-		MatcherAssert.assertThat(block, IsEqual.equalTo(generatedBlocks.get(3).getBlock()));
-		Mockito.verify(context.generator, Mockito.times(5)).generateNextBlock(Mockito.any(), Mockito.any(), Mockito.any());
+		MatcherAssert.assertThat(block, IsEqual.equalTo(generatedBlock.getBlock()));
+		Mockito.verify(context.generator, Mockito.only()).generateNextBlock(Mockito.any(), Mockito.eq(accounts), Mockito.any());
 	}
 
 	// endregion
@@ -184,7 +184,7 @@ public class HarvesterTest {
 			Mockito.when(this.blockChainLastBlockLayer.getLastDbBlock()).thenReturn(dbLastBlock);
 			Mockito.when(this.unlockedAccounts.size()).thenReturn(1);
 			Mockito.when(this.unlockedAccounts.iterator()).thenReturn(Collections.singletonList(Utils.generateRandomAccount()).iterator());
-			Mockito.when(this.generator.generateNextBlock(Mockito.any(), Mockito.any(), Mockito.any()))
+			Mockito.when(this.generator.generateNextBlock(Mockito.any(), Mockito.anyCollectionOf(Account.class), Mockito.any()))
 					.thenReturn(new GeneratedBlock(NisUtils.createRandomBlock(), 12L));
 		}
 	}
@@ -280,7 +280,9 @@ public class TransactionSpamFilterTest {
 			Mockito.verify(context.nisCache, Mockito.times(1)).getAccountStateCache();
 			Mockito.verify(context.nisCache, Mockito.times(1)).getPoxFacade();
 			Mockito.verify(context.transactions, Mockito.times(1)).contains(Mockito.any());
-			Mockito.verify(context.transactions, Mockito.times(1)).stream();
+			Mockito.verify(context.transactions, Mockito.times(1)).size(false);
+			Mockito.verify(context.transactions, Mockito.times(1)).sizeForDebtor(Mockito.any(), Mockito.eq(false));
+			Mockito.verify(context.transactions, Mockito.never()).stream();
 		}
 
 		// endregion
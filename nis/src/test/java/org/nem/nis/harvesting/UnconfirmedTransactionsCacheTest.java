@@ -257,6 +257,40 @@ public class UnconfirmedTransactionsCacheTest {
 		MatcherAssert.assertThat(multisigTransaction.getCosignerSignatures(), IsEquivalent.equivalentTo(signatureTransaction));
 	}
 
+	@Test
+	public void cannotAddMultisigSignatureWithMultisigTransactionOfOtherMultisigAccount() {
+		// Arrange:
+		final MultisigTestContext context = new MultisigTestContext();
+		final UnconfirmedTransactionsCache cache = new UnconfirmedTransactionsCache((mst, mt) -> true);
+		cache.add(new MultisigTransaction(TimeInstant.ZERO, context.cosigner2, new MockTransaction(Utils.generateRandomAccount())));
+		final MultisigSignatureTransaction signatureTransaction = context.createSignatureTransaction(context.cosigner1);
+
+		// Act:
+		final ValidationResult result = cache.add(signatureTransaction);
+
+		// Assert:
+		MatcherAssert.assertThat(result, IsEqual.equalTo(ValidationResult.FAILURE_MULTISIG_NO_MATCHING_MULTISIG));
+		MatcherAssert.assertThat(cache.contains(signatureTransaction), IsEqual.equalTo(false));
+	}
+
+	@Test
+	public void cannotAddMultisigSignatureWithRemovedMultisigTransaction() {
+		// Arrange:
+		final MultisigTestContext context = new MultisigTestContext();
+		final UnconfirmedTransactionsCache cache = new UnconfirmedTransactionsCache((mst, mt) -> true);
+		final MultisigTransaction multisigTransaction = context.createMultisigTransaction(context.cosigner2);
+		cache.add(multisigTransaction);
+		cache.remove(multisigTransaction);
+		final MultisigSignatureTransaction signatureTransaction = context.createSignatureTransaction(context.cosigner1);
+
+		// Act:
+		final ValidationResult result = cache.add(signatureTransaction);
+
+		// Assert:
+		MatcherAssert.assertThat(result, IsEqual.equalTo(ValidationResult.FAILURE_MULTISIG_NO_MATCHING_MULTISIG));
+		MatcherAssert.assertThat(cache.size(), IsEqual.equalTo(0));
+	}
+
 	private static class MultisigTestContext {
 		private final Account cosigner1 = Utils.generateRandomAccount();
 		private final Account cosigner2 = Utils.generateRandomAccount();
@@ -299,6 +333,179 @@ public class UnconfirmedTransactionsCacheTest {
 
 	// endregion
 
+	// region size / sizeForDebtor
+
+	@Test
+	public void sizeCountsMultisigAndNonMultisigTransactionsSeparately() {
+		// Arrange:
+		final MultisigTestContext context = new MultisigTestContext();
+		final UnconfirmedTransactionsCache cache = new UnconfirmedTransactionsCache();
+		cache.add(new MockTransaction(Utils.generateRandomAccount()));
+		cache.add(context.createRandomMultisigTransaction());
+		cache.add(new MockTransaction(Utils.generateRandomAccount()));
+
+		// Assert:
+		MatcherAssert.assertThat(cache.size(true), IsEqual.equalTo(1));
+		MatcherAssert.assertThat(cache.size(false), IsEqual.equalTo(2));
+	}
+
+	@Test
+	public void sizeForDebtorCountsMultisigAndNonMultisigTransactionsOfDebtorSeparately() {
+		// Arrange:
+		final MultisigTestContext context = new MultisigTestContext();
+		final UnconfirmedTransactionsCache cache = new UnconfirmedTransactionsCache();
+		cache.add(new MockTransaction(context.multisig, 1));
+		cache.add(new MockTransaction(context.multisig, 2));
+		cache.add(new MockTransaction(context.cosigner1, 3));
+		cache.add(context.createRandomMultisigTransaction());
+
+		// Assert: the debtor of a multisig transaction is the multisig account
+		MatcherAssert.assertThat(cache.sizeForDebtor(context.multisig.getAddress(), false), IsEqual.equalTo(2));
+		MatcherAssert.assertThat(cache.sizeForDebtor(context.multisig.getAddress(), true), IsEqual.equalTo(1));
+		MatcherAssert.assertThat(cache.sizeForDebtor(context.cosigner1.getAddress(), false), IsEqual.equalTo(1));
+		MatcherAssert.assertThat(cache.sizeForDebtor(context.cosigner1.getAddress(), true), IsEqual.equalTo(0));
+		MatcherAssert.assertThat(cache.sizeForDebtor(context.cosigner2.getAddress(), false), IsEqual.equalTo(0));
+	}
+
+	@Test
+	public void removeUpdatesSizes() {
+		// Arrange:
+		final MultisigTestContext context = new MultisigTestContext();
+		final UnconfirmedTransactionsCache cache = new UnconfirmedTransactionsCache();
+		final Transaction transaction = new MockTransaction(context.multisig, 1);
+		final Transaction multisigTransaction = context.createRandomMultisigTransaction();
+		cache.add(transaction);
+		cache.add(new MockTransaction(context.multisig, 2));
+		cache.add(multisigTransaction);
+
+		// Act:
+		cache.remove(transaction);
+		cache.remove(multisigTransaction);
+
+		// Assert:
+		MatcherAssert.assertThat(cache.size(true), IsEqual.equalTo(0));
+		MatcherAssert.assertThat(cache.size(false), IsEqual.equalTo(1));
+		MatcherAssert.assertThat(cache.sizeForDebtor(context.multisig.getAddress(), false), IsEqual.equalTo(1));
+		MatcherAssert.assertThat(cache.sizeForDebtor(context.multisig.getAddress(), true), IsEqual.equalTo(0));
+	}
+
+	@Test
+	public void clearResetsSizes() {
+		// Arrange:
+		final MultisigTestContext context = new MultisigTestContext();
+		final UnconfirmedTransactionsCache cache = new UnconfirmedTransactionsCache();
+		cache.add(new MockTransaction(context.multisig, 1));
+		cache.add(context.createRandomMultisigTransaction());
+
+		// Act:
+		cache.clear();
+
+		// Assert:
+		MatcherAssert.assertThat(cache.size(true), IsEqual.equalTo(0));
+		MatcherAssert.assertThat(cache.size(false), IsEqual.equalTo(0));
+		MatcherAssert.assertThat(cache.sizeForDebtor(context.multisig.getAddress(), false), IsEqual.equalTo(0));
+		MatcherAssert.assertThat(cache.sizeForDebtor(context.multisig.getAddress(), true), IsEqual.equalTo(0));
+	}
+
+	// endregion
+
+	// region streamForAccount
+
+	@Test
+	public void streamForAccountReturnsAllTransactionsAffectingAccount() {
+		// Arrange:
+		final UnconfirmedTransactionsCache cache = new UnconfirmedTransactionsCache();
+		final Account account = Utils.generateRandomAccount();
+		final MockTransaction transaction1 = new MockTransaction(account, 1);
+		final MockTransaction transaction2 = new MockTransaction(Utils.generateRandomAccount(), 2);
+		final MockTransaction transaction3 = new MockTransaction(Utils.generateRandomAccount(), 3);
+		transaction3.setOtherAccounts(Collections.singletonList(account));
+		Arrays.asList(transaction1, transaction2, transaction3).forEach(cache::add);
+
+		// Act:
+		final List<Transaction> transactions = cache.streamForAccount(account.getAddress(), Collections.emptyList())
+				.collect(Collectors.toList());
+
+		// Assert:
+		MatcherAssert.assertThat(transactions, IsEqual.equalTo(Arrays.asList(transaction1, transaction3)));
+	}
+
+	@Test
+	public void streamForAccountReturnsAllMultisigTransactionsOfSpecifiedMultisigAccounts() {
+		// Arrange:
+		final MultisigTestContext context = new MultisigTestContext();
+		final UnconfirmedTransactionsCache cache = new UnconfirmedTransactionsCache();
+		final MultisigTransaction multisigTransaction = context.createMultisigTransaction(context.cosigner2);
+		cache.add(new MockTransaction(Utils.generateRandomAccount()));
+		cache.add(multisigTransaction);
+
+		// Act:
+		final List<Transaction> transactions = cache
+				.streamForAccount(context.cosigner1.getAddress(), Collections.singletonList(context.multisig.getAddress()))
+				.collect(Collectors.toList());
+
+		// Assert: the account is a cosignatory of the multisig account
+		MatcherAssert.assertThat(transactions, IsEqual.equalTo(Collections.singletonList(multisigTransaction)));
+	}
+
+	@Test
+	public void streamForAccountDoesNotReturnMultisigTransactionsOfOtherMultisigAccounts() {
+		// Arrange:
+		final MultisigTestContext context = new MultisigTestContext();
+		final UnconfirmedTransactionsCache cache = new UnconfirmedTransactionsCache();
+		cache.add(context.createMultisigTransaction(context.cosigner2));
+
+		// Act:
+		final List<Transaction> transactions = cache
+				.streamForAccount(context.cosigner1.getAddress(), Collections.singletonList(Utils.generateRandomAddress()))
+				.collect(Collectors.toList());
+
+		// Assert:
+		MatcherAssert.assertThat(transactions.isEmpty(), IsEqual.equalTo(true));
+	}
+
+	@Test
+	public void streamForAccountReturnsTransactionsInInsertionOrder() {
+		// Arrange:
+		final MultisigTestContext context = new MultisigTestContext();
+		final UnconfirmedTransactionsCache cache = new UnconfirmedTransactionsCache();
+		final MockTransaction transaction1 = new MockTransaction(context.cosigner1, 1);
+		final MultisigTransaction multisigTransaction = context.createMultisigTransaction(context.cosigner2);
+		final MockTransaction transaction3 = new MockTransaction(context.cosigner1, 3);
+		Arrays.asList(transaction3, multisigTransaction, transaction1).forEach(cache::add);
+
+		// Act:
+		final List<Transaction> transactions = cache
+				.streamForAccount(context.cosigner1.getAddress(), Collections.singletonList(context.multisig.getAddress()))
+				.collect(Collectors.toList());
+
+		// Assert: transactions with equal time stamps keep their relative order when sorted by time stamp
+		MatcherAssert.assertThat(transactions, IsEqual.equalTo(Arrays.asList(transaction3, multisigTransaction, transaction1)));
+	}
+
+	@Test
+	public void streamForAccountDoesNotReturnRemovedTransactions() {
+		// Arrange:
+		final MultisigTestContext context = new MultisigTestContext();
+		final UnconfirmedTransactionsCache cache = new UnconfirmedTransactionsCache((mst, mt) -> true);
+		final MultisigTransaction multisigTransaction = context.createMultisigTransaction(context.cosigner2);
+		final MockTransaction transaction = new MockTransaction(context.cosigner1);
+		cache.add(multisigTransaction);
+		cache.add(context.createSignatureTransaction(context.cosigner1));
+		cache.add(transaction);
+
+		// Act:
+		cache.remove(multisigTransaction);
+		cache.remove(transaction);
+
+		// Assert:
+		final List<Address> multisigAddresses = Collections.singletonList(context.multisig.getAddress());
+		MatcherAssert.assertThat(cache.streamForAccount(context.cosigner1.getAddress(), multisigAddresses).count(), IsEqual.equalTo(0L));
+		MatcherAssert.assertThat(cache.streamForAccount(context.multisig.getAddress(), multisigAddresses).count(), IsEqual.equalTo(0L));
+	}
+
+	// endregion
+
 	// region remove
 
 	@Test
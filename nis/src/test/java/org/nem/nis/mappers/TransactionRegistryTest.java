@@ -9,7 +9,6 @@ import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
 import org.nem.core.model.*;
 import org.nem.core.test.IsEquivalent;
-import org.nem.nis.dao.retrievers.*;
 import org.nem.nis.dbmodel.*;
 
 @RunWith(Enclosed.class)
@@ -120,26 +119,10 @@ public class TransactionRegistryTest {
 	@SuppressWarnings("rawtypes")
 	private static abstract class SingleTransactionTest<TDbModel extends AbstractBlockTransfer> {
 
-		// region full tests
-
-		@Test
-		public void getTransactionRetrieverGetsRetrieverOfCorrectType() {
-			// Arrange:
-			final TransactionRegistry.Entry<?, ?> entry = TransactionRegistry.findByType(this.getType());
-
-			// Assert:
-			assert null != entry;
-			MatcherAssert.assertThat(entry.getTransactionRetriever.get(), IsInstanceOf.instanceOf(this.getRetrieverType()));
-		}
-
-		// endregion
-
 		// region abstract functions
 
 		protected abstract int getType();
 
-		protected abstract Class getRetrieverType();
-
 		// endregion
 
 		// region helpers
@@ -211,11 +194,6 @@ public class TransactionRegistryTest {
 			return TransactionTypes.TRANSFER;
 		}
 
-		@Override
-		protected Class<?> getRetrieverType() {
-			return TransferRetriever.class;
-		}
-
 		@Override
 		protected DbTransferTransaction createTransaction() {
 			return new DbTransferTransaction();
@@ -255,11 +233,6 @@ public class TransactionRegistryTest {
 			return TransactionTypes.IMPORTANCE_TRANSFER;
 		}
 
-		@Override
-		protected Class<?> getRetrieverType() {
-			return ImportanceTransferRetriever.class;
-		}
-
 		@Override
 		protected DbImportanceTransferTransaction createTransaction() {
 			return new DbImportanceTransferTransaction();
@@ -301,11 +274,6 @@ public class TransactionRegistryTest {
 			return TransactionTypes.MULTISIG_AGGREGATE_MODIFICATION;
 		}
 
-		@Override
-		protected Class<?> getRetrieverType() {
-			return MultisigModificationRetriever.class;
-		}
-
 		@Override
 		protected DbMultisigAggregateModificationTransaction createTransaction() {
 			return new DbMultisigAggregateModificationTransaction();
@@ -356,11 +324,6 @@ public class TransactionRegistryTest {
 			return TransactionTypes.PROVISION_NAMESPACE;
 		}
 
-		@Override
-		protected Class<?> getRetrieverType() {
-			return ProvisionNamespaceRetriever.class;
-		}
-
 		@Override
 		protected DbProvisionNamespaceTransaction createTransaction() {
 			return new DbProvisionNamespaceTransaction();
@@ -402,11 +365,6 @@ public class TransactionRegistryTest {
 			return TransactionTypes.MOSAIC_DEFINITION_CREATION;
 		}
 
-		@Override
-		protected Class<?> getRetrieverType() {
-			return MosaicDefinitionCreationRetriever.class;
-		}
-
 		@Override
 		protected DbMosaicDefinitionCreationTransaction createTransaction() {
 			return new DbMosaicDefinitionCreationTransaction();
@@ -479,11 +437,6 @@ public class TransactionRegistryTest {
 			return TransactionTypes.MOSAIC_SUPPLY_CHANGE;
 		}
 
-		@Override
-		protected Class<?> getRetrieverType() {
-			return MosaicSupplyChangeRetriever.class;
-		}
-
 		@Override
 		protected DbMosaicSupplyChangeTransaction createTransaction() {
 			return new DbMosaicSupplyChangeTransaction();
@@ -521,11 +474,6 @@ public class TransactionRegistryTest {
 			return TransactionTypes.MULTISIG;
 		}
 
-		@Override
-		protected Class<?> getRetrieverType() {
-			return MultisigTransactionRetriever.class;
-		}
-
 		@Test
 		public void getRecipientReturnsNull() {
 			// Arrange:
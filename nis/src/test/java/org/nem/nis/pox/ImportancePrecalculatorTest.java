@@ -0,0 +1,314 @@
+package org.nem.nis.pox;
+
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.*;
+import org.junit.*;
+import org.mockito.Mockito;
+import org.nem.core.model.Address;
+import org.nem.core.model.primitive.*;
+import org.nem.core.test.*;
+import org.nem.nis.pox.poi.*;
+import org.nem.nis.pox.pos.PosImportanceCalculator;
+import org.nem.nis.state.*;
+
+public class ImportancePrecalculatorTest {
+	private static final BlockHeight HEIGHT = new BlockHeight(359 * 20);
+	private static final long VERSION = 7;
+	private static final int NUM_ACCOUNTS = 12;
+	private static final Executor SYNCHRONOUS_EXECUTOR = Runnable::run;
+
+	// region precalculate
+
+	@Test
+	public void precalculateCalculatesImportancesWithoutChangingAccountStates() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		final List<AccountState> accountStates = context.createAccountStates();
+
+		// Act:
+		context.precalculator.precalculate(HEIGHT, VERSION, accountStates);
+
+		// Assert:
+		Mockito.verify(context.innerCalculator, Mockito.only()).recalculate(Mockito.eq(HEIGHT), Mockito.any());
+		for (final AccountState accountState : accountStates) {
+			MatcherAssert.assertThat(accountState.getImportanceInfo().isSet(), IsEqual.equalTo(false));
+			MatcherAssert.assertThat(accountState.getHistoricalImportances().size(), IsEqual.equalTo(0));
+		}
+	}
+
+	@Test
+	public void precalculateDoesNotRestartPrecalculationForSameHeightAndVersion() {
+		// Arrange:
+		final TestContext context = new TestContext();
+
+		// Act:
+		context.precalculator.precalculate(HEIGHT, VERSION, context.createAccountStates());
+		context.precalculator.precalculate(HEIGHT, VERSION, context.createAccountStates());
+
+		// Assert:
+		Mockito.verify(context.innerCalculator, Mockito.only()).recalculate(Mockito.eq(HEIGHT), Mockito.any());
+	}
+
+	@Test
+	public void precalculateRestartsPrecalculationForDifferentVersion() {
+		// Arrange:
+		final TestContext context = new TestContext();
+
+		// Act:
+		context.precalculator.precalculate(HEIGHT, VERSION, context.createAccountStates());
+		context.precalculator.precalculate(HEIGHT, VERSION + 1, context.createAccountStates());
+
+		// Assert:
+		Mockito.verify(context.innerCalculator, Mockito.times(2)).recalculate(Mockito.eq(HEIGHT), Mockito.any());
+	}
+
+	@Test
+	public void precalculateDoesNotInspectAccountsForSameHeightAndVersion() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		context.precalculator.precalculate(HEIGHT, VERSION, context.createAccountStates());
+		final AccountState accountState = Mockito.spy(createAccountState(Utils.generateRandomAddress(), 1));
+
+		// Act:
+		context.precalculator.precalculate(HEIGHT, VERSION, Collections.singletonList(accountState));
+
+		// Assert:
+		Mockito.verify(accountState, Mockito.never()).getWeightedBalances();
+		Mockito.verify(accountState, Mockito.never()).getImportanceInfo();
+	}
+
+	@Test
+	public void precalculateSkipsSupersededPrecalculationThatHasNotStarted() {
+		// Arrange:
+		final ImportanceCalculator innerCalculator = Mockito.mock(ImportanceCalculator.class);
+		final List<Runnable> tasks = new ArrayList<>();
+		final ImportancePrecalculator precalculator = new ImportancePrecalculator(innerCalculator, tasks::add);
+		final List<AccountState> accountStates = Collections.singletonList(createAccountState(Utils.generateRandomAddress(), 1));
+
+		// Act:
+		precalculator.precalculate(HEIGHT, VERSION, accountStates);
+		precalculator.precalculate(HEIGHT.next(), VERSION, accountStates);
+		tasks.forEach(Runnable::run);
+
+		// Assert: only the current precalculation was executed
+		MatcherAssert.assertThat(tasks.size(), IsEqual.equalTo(2));
+		Mockito.verify(innerCalculator, Mockito.only()).recalculate(Mockito.eq(HEIGHT.next()), Mockito.any());
+	}
+
+	// endregion
+
+	// region apply
+
+	@Test
+	public void applyWithoutPrecalculationDoesNotChangeAccountStates() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		final List<AccountState> accountStates = context.createAccountStates();
+
+		// Act:
+		final boolean isApplied = context.precalculator.apply(HEIGHT, VERSION, accountStates);
+
+		// Assert:
+		MatcherAssert.assertThat(isApplied, IsEqual.equalTo(false));
+		Mockito.verify(context.innerCalculator, Mockito.never()).recalculate(Mockito.any(), Mockito.any());
+		MatcherAssert.assertThat(accountStates.get(0).getImportanceInfo().isSet(), IsEqual.equalTo(false));
+	}
+
+	@Test
+	public void applyAppliesPrecalculatedPoiImportancesForSameHeightAndVersion() {
+		// Assert:
+		assertPrecalculatedImportancesAreApplied(new PoiImportanceCalculator(new PoiScorer(), height -> new PoiOptionsBuilder().create()));
+	}
+
+	@Test
+	public void applyAppliesPrecalculatedPosImportancesForSameHeightAndVersion() {
+		// Assert:
+		assertPrecalculatedImportancesAreApplied(new PosImportanceCalculator());
+	}
+
+	private static void assertPrecalculatedImportancesAreApplied(final ImportanceCalculator innerCalculator) {
+		// Arrange:
+		final TestContext context = new TestContext(innerCalculator);
+		context.precalculator.precalculate(HEIGHT, VERSION, context.createAccountStates());
+		final List<AccountState> accountStates = context.createAccountStates();
+
+		// Act:
+		final boolean isApplied = context.precalculator.apply(HEIGHT, VERSION, accountStates);
+
+		// Assert: the importances were only calculated once and are identical to directly calculated importances
+		MatcherAssert.assertThat(isApplied, IsEqual.equalTo(true));
+		Mockito.verify(context.innerCalculator, Mockito.only()).recalculate(Mockito.eq(HEIGHT), Mockito.any());
+		MatcherAssert.assertThat(getResults(accountStates), IsEqual.equalTo(context.calculateExpectedResults()));
+	}
+
+	@Test
+	public void applyMatchesPrecalculatedImportancesByAddress() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		context.precalculator.precalculate(HEIGHT, VERSION, context.createAccountStates());
+		final List<AccountState> accountStates = context.createAccountStates();
+		Collections.reverse(accountStates);
+
+		// Act:
+		final boolean isApplied = context.precalculator.apply(HEIGHT, VERSION, accountStates);
+
+		// Assert:
+		final List<List<Double>> expectedResults = context.calculateExpectedResults();
+		Collections.reverse(expectedResults);
+		MatcherAssert.assertThat(isApplied, IsEqual.equalTo(true));
+		MatcherAssert.assertThat(getResults(accountStates), IsEqual.equalTo(expectedResults));
+	}
+
+	@Test
+	public void applyCanApplyPrecalculatedImportancesMultipleTimes() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		context.precalculator.precalculate(HEIGHT, VERSION, context.createAccountStates());
+		final List<AccountState> accountStates1 = context.createAccountStates();
+		final List<AccountState> accountStates2 = context.createAccountStates();
+
+		// Act:
+		context.precalculator.apply(HEIGHT, VERSION, accountStates1);
+		context.precalculator.apply(HEIGHT, VERSION, accountStates2);
+
+		// Assert:
+		Mockito.verify(context.innerCalculator, Mockito.only()).recalculate(Mockito.eq(HEIGHT), Mockito.any());
+		MatcherAssert.assertThat(getResults(accountStates1), IsEqual.equalTo(context.calculateExpectedResults()));
+		MatcherAssert.assertThat(getResults(accountStates2), IsEqual.equalTo(context.calculateExpectedResults()));
+	}
+
+	@Test
+	public void applyDoesNotApplyPrecalculatedImportancesForDifferentHeight() {
+		// Assert:
+		assertPrecalculatedImportancesAreNotApplied(HEIGHT.next(), VERSION, accountStates -> {
+		});
+	}
+
+	@Test
+	public void applyDoesNotApplyPrecalculatedImportancesForDifferentVersion() {
+		// Assert:
+		assertPrecalculatedImportancesAreNotApplied(HEIGHT, VERSION + 1, accountStates -> {
+		});
+	}
+
+	@Test
+	public void applyDoesNotApplyPrecalculatedImportancesIfAccountWasAdded() {
+		// Assert:
+		assertPrecalculatedImportancesAreNotApplied(HEIGHT, VERSION,
+				accountStates -> accountStates.add(createAccountState(Utils.generateRandomAddress(), 20_000)));
+	}
+
+	@Test
+	public void applyDoesNotApplyPrecalculatedImportancesIfAccountWasReplaced() {
+		// Assert:
+		assertPrecalculatedImportancesAreNotApplied(HEIGHT, VERSION,
+				accountStates -> accountStates.set(3, createAccountState(Utils.generateRandomAddress(), 20_000)));
+	}
+
+	private static void assertPrecalculatedImportancesAreNotApplied(final BlockHeight height, final long version,
+			final Consumer<List<AccountState>> change) {
+		// Arrange:
+		final TestContext context = new TestContext();
+		context.precalculator.precalculate(HEIGHT, VERSION, context.createAccountStates());
+		final List<AccountState> accountStates = context.createAccountStates();
+		change.accept(accountStates);
+
+		// Act:
+		final boolean isApplied = context.precalculator.apply(height, version, accountStates);
+
+		// Assert:
+		MatcherAssert.assertThat(isApplied, IsEqual.equalTo(false));
+		for (final AccountState accountState : accountStates) {
+			MatcherAssert.assertThat(accountState.getImportanceInfo().isSet(), IsEqual.equalTo(false));
+		}
+	}
+
+	@Test
+	public void applyDoesNotApplyPrecalculatedImportancesIfPrecalculationFailed() {
+		// Arrange:
+		final ImportanceCalculator innerCalculator = Mockito.mock(ImportanceCalculator.class);
+		Mockito.doThrow(new IllegalArgumentException("there aren't any harvesting eligible accounts")).when(innerCalculator)
+				.recalculate(Mockito.any(), Mockito.any());
+		final ImportancePrecalculator precalculator = new ImportancePrecalculator(innerCalculator, SYNCHRONOUS_EXECUTOR);
+		final List<AccountState> accountStates = Collections.singletonList(createAccountState(Utils.generateRandomAddress(), 1));
+		precalculator.precalculate(HEIGHT, VERSION, accountStates);
+
+		// Act:
+		final boolean isApplied = precalculator.apply(HEIGHT, VERSION, accountStates);
+
+		// Assert:
+		MatcherAssert.assertThat(isApplied, IsEqual.equalTo(false));
+	}
+
+	// endregion
+
+	private static List<List<Double>> getResults(final Collection<AccountState> accountStates) {
+		return accountStates.stream().map(accountState -> {
+			final ReadOnlyAccountImportance importanceInfo = accountState.getImportanceInfo();
+			final ReadOnlyHistoricalImportances historicalImportances = accountState.getHistoricalImportances();
+			if (!importanceInfo.isSet()) {
+				return Collections.singletonList((double) historicalImportances.size());
+			}
+
+			return Arrays.asList(importanceInfo.getImportance(HEIGHT), importanceInfo.getLastPageRank(),
+					(double) historicalImportances.size(), historicalImportances.getHistoricalImportance(HEIGHT),
+					historicalImportances.getHistoricalPageRank(HEIGHT));
+		}).collect(Collectors.toList());
+	}
+
+	private static AccountState createAccountState(final Address address, final long balance) {
+		final AccountState accountState = new AccountState(address);
+		accountState.getWeightedBalances().addReceive(BlockHeight.ONE, Amount.fromNem(balance));
+		return accountState;
+	}
+
+	private static class TestContext {
+		private final List<Address> addresses = new ArrayList<>();
+		private final ImportanceCalculator expectedCalculator;
+		private final ImportanceCalculator innerCalculator;
+		private final ImportancePrecalculator precalculator;
+
+		public TestContext() {
+			this(new PoiImportanceCalculator(new PoiScorer(), height -> new PoiOptionsBuilder().create()));
+		}
+
+		public TestContext(final ImportanceCalculator innerCalculator) {
+			for (int i = 0; i < NUM_ACCOUNTS; ++i) {
+				this.addresses.add(Utils.generateRandomAddress());
+			}
+
+			this.expectedCalculator = innerCalculator;
+			this.innerCalculator = Mockito.spy(innerCalculator);
+			this.precalculator = new ImportancePrecalculator(this.innerCalculator, SYNCHRONOUS_EXECUTOR);
+		}
+
+		public List<AccountState> createAccountStates() {
+			// the last two accounts are not eligible for harvesting
+			final List<AccountState> accountStates = new ArrayList<>();
+			for (int i = 0; i < NUM_ACCOUNTS; ++i) {
+				final long balance = i < NUM_ACCOUNTS - 2 ? 100_000 + i * 1_000 : 100;
+				accountStates.add(createAccountState(this.addresses.get(i), balance));
+			}
+
+			for (int i = 0; i < NUM_ACCOUNTS; ++i) {
+				final AccountImportance importanceInfo = accountStates.get(i).getImportanceInfo();
+				importanceInfo.addOutlink(new AccountLink(new BlockHeight(100 + i), Amount.fromNem(1_000 + i),
+						this.addresses.get((i + 1) % NUM_ACCOUNTS)));
+				importanceInfo.addOutlink(new AccountLink(new BlockHeight(500 + i), Amount.fromNem(2_000 + i),
+						this.addresses.get((i * 5 + 3) % NUM_ACCOUNTS)));
+			}
+
+			return accountStates;
+		}
+
+		public List<List<Double>> calculateExpectedResults() {
+			final List<AccountState> accountStates = this.createAccountStates();
+			this.expectedCalculator.recalculate(HEIGHT, accountStates);
+			return getResults(accountStates);
+		}
+	}
+}
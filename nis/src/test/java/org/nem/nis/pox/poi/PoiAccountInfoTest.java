@@ -93,6 +93,32 @@ public class PoiAccountInfoTest {
 		MatcherAssert.assertThat(actualLinks.size(), IsEqual.equalTo(5));
 	}
 
+	@Test
+	public void outlinkWeightsAreExactlyDecayedByPowerOfAgeInDays() {
+		// Arrange: one outlink per day of outlink history
+		final int blocksPerDay = NisTestConstants.ESTIMATED_BLOCKS_PER_DAY;
+		final int height = (int) OUTLINK_HISTORY + 1;
+		final int[] amounts = new int[31];
+		final int[] heights = new int[31];
+		for (int i = 0; i < 31; ++i) {
+			amounts[i] = 1 + i;
+			heights[i] = height - (30 - i) * blocksPerDay;
+		}
+
+		final PoiAccountInfo info = createAccountInfoWithOutlinks(height, amounts, heights);
+
+		// Act:
+		final List<WeightedLink> actualLinks = info.getOutlinks();
+
+		// Assert: weights must be bit-identical to the direct power calculation
+		MatcherAssert.assertThat(actualLinks.size(), IsEqual.equalTo(31));
+		for (int i = 0; i < 31; ++i) {
+			final double decay = Math.pow(WeightedBalanceDecayConstants.DECAY_BASE, 30 - i);
+			final double expectedWeight = Amount.fromNem(1 + i).getNumMicroNem() * decay;
+			MatcherAssert.assertThat(actualLinks.get(i).getWeight(), IsEqual.equalTo(expectedWeight));
+		}
+	}
+
 	private static PoiAccountInfo createAccountInfoForOldOutlinkBlockHistoryTests(final long accountInfoHeight) {
 		// Arrange:
 		// block heights must be in order so that account links have increasing block heights
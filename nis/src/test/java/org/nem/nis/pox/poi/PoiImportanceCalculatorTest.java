@@ -113,6 +113,44 @@ public class PoiImportanceCalculatorTest {
 		MatcherAssert.assertThat(Math.abs(maxIndex - nextMaxIndex), IsEqual.equalTo(2));
 	}
 
+	@Test
+	public void parallelModeResultsInBitIdenticalImportancesForSmallGraph() {
+		// Assert:
+		assertParallelModeResultsInBitIdenticalImportances(
+				createAccountStatesFromGraph(GraphTypeEpsilon040.GRAPH_THREE_CLUSTERS_TWO_HUBS_THREE_OUTLIERS));
+	}
+
+	@Test
+	public void parallelModeResultsInBitIdenticalImportancesForLargeGraph() {
+		// Arrange: use enough accounts so that the matrix multiplications are split across multiple tasks
+		final int numAccounts = 6000;
+		final SecureRandom random = new SecureRandom();
+		final Matrix outlinkMatrix = new SparseMatrix(numAccounts, numAccounts, 4);
+		for (int i = 0; i < numAccounts; ++i) {
+			for (int j = 0; j < 3; ++j) {
+				outlinkMatrix.setAt(random.nextInt(numAccounts), i, 1 + random.nextInt(100));
+			}
+		}
+
+		// Assert:
+		assertParallelModeResultsInBitIdenticalImportances(createAccountStatesFromGraph(outlinkMatrix));
+	}
+
+	private static void assertParallelModeResultsInBitIdenticalImportances(final Collection<AccountState> accountStates) {
+		// Arrange:
+		final Collection<AccountState> copiedAccountStates = accountStates.stream().map(AccountState::copy).collect(Collectors.toList());
+		final PoiOptionsBuilder parallelOptionsBuilder = new PoiOptionsBuilder();
+		parallelOptionsBuilder.setParallelModeEnabled(true);
+
+		// Act:
+		final ColumnVector serialImportances = calculateImportances(DEFAULT_OPTIONS, new BlockHeight(2), accountStates);
+		final ColumnVector parallelImportances = calculateImportances(parallelOptionsBuilder.create(), new BlockHeight(2),
+				copiedAccountStates);
+
+		// Assert:
+		MatcherAssert.assertThat(parallelImportances, IsEqual.equalTo(serialImportances));
+	}
+
 	private static double calculateDistanceBetweenFastScanAndOtherImportances(final GraphClusteringStrategy clusteringStrategy) {
 		// Act:
 		final ColumnVector fastScanImportances = calculateImportances(new FastScanClusteringStrategy());
@@ -48,6 +48,7 @@ public class PoiOptionsBuilderTest {
 		MatcherAssert.assertThat(options.getTeleportationProbability(), IsEqual.equalTo(0.70));
 		MatcherAssert.assertThat(options.getInterLevelTeleportationProbability(), IsEqual.equalTo(0.10));
 		MatcherAssert.assertThat(options.getInverseTeleportationProbability(), IsEqual.equalTo(1.00 - 0.70 - 0.10));
+		MatcherAssert.assertThat(options.isParallelModeEnabled(), IsEqual.equalTo(false));
 	}
 
 	@Test
@@ -88,6 +89,7 @@ public class PoiOptionsBuilderTest {
 		builder.setEpsilonClusteringValue(0.42);
 		builder.setTeleportationProbability(0.65);
 		builder.setInterLevelTeleportationProbability(0.32);
+		builder.setParallelModeEnabled(true);
 		return builder;
 	}
 
@@ -102,5 +104,6 @@ public class PoiOptionsBuilderTest {
 		MatcherAssert.assertThat(options.getTeleportationProbability(), IsEqual.equalTo(0.65));
 		MatcherAssert.assertThat(options.getInterLevelTeleportationProbability(), IsEqual.equalTo(0.32));
 		MatcherAssert.assertThat(options.getInverseTeleportationProbability(), IsRoundedEqual.equalTo(0.03));
+		MatcherAssert.assertThat(options.isParallelModeEnabled(), IsEqual.equalTo(true));
 	}
 }
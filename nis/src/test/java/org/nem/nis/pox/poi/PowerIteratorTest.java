@@ -67,7 +67,7 @@ public class PowerIteratorTest {
 
 	private static class SimplePowerIterator extends PowerIterator {
 
-		private final Matrix matrix;
+		private final CompressedSparseRowMatrix matrix;
 
 		/**
 		 * Creates a new poi power iterator.
@@ -80,12 +80,12 @@ public class PowerIteratorTest {
 		 */
 		public SimplePowerIterator(final ColumnVector startVector, final Matrix matrix, final int maxIterations, final double epsilon) {
 			super(startVector, maxIterations, epsilon);
-			this.matrix = matrix;
+			this.matrix = new CompressedSparseRowMatrix(matrix);
 		}
 
 		@Override
-		protected ColumnVector stepImpl(final ColumnVector vector) {
-			return this.matrix.multiply(vector);
+		protected void stepImpl(final ColumnVector vector, final ColumnVector result) {
+			this.matrix.multiply(vector, result);
 		}
 	}
 }
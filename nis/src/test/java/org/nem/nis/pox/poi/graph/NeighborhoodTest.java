@@ -6,6 +6,7 @@ import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.*;
 import org.junit.*;
 import org.mockito.Mockito;
+import org.nem.core.math.*;
 import org.nem.core.model.primitive.NodeId;
 import org.nem.core.test.IsEquivalent;
 import org.nem.nis.test.NisUtils;
@@ -272,6 +273,74 @@ public class NeighborhoodTest {
 
 	// endregion
 
+	// region precomputeCommunities
+
+	@Test
+	public void precomputeCommunitiesCreatesSameCommunitiesAsLazyCreation() {
+		// Arrange:
+		final NodeNeighborMap repository = createNodeNeighborMap();
+		final Neighborhood lazyNeighborhood = new Neighborhood(repository, new StructuralSimilarityStrategy(repository), 3, 0.5);
+		final Neighborhood precomputedNeighborhood = new Neighborhood(repository, new StructuralSimilarityStrategy(repository), 3, 0.5);
+
+		// Act:
+		precomputedNeighborhood.precomputeCommunities();
+
+		// Assert:
+		for (int i = 0; i < repository.getLogicalSize(); ++i) {
+			final NodeId nodeId = new NodeId(i);
+			final Community community = precomputedNeighborhood.getCommunity(nodeId);
+			MatcherAssert.assertThat(community.getPivotId(), IsEqual.equalTo(nodeId));
+			MatcherAssert.assertThat(community, IsEqual.equalTo(lazyNeighborhood.getCommunity(nodeId)));
+		}
+	}
+
+	@Test
+	public void precomputeCommunitiesCachesCommunities() {
+		// Arrange:
+		final NodeNeighborMap repository = createNodeNeighborMap();
+		final SimilarityStrategy strategy = Mockito.spy(new StructuralSimilarityStrategy(repository));
+		final Neighborhood neighborhood = new Neighborhood(repository, strategy, 3, 0.5);
+		neighborhood.precomputeCommunities();
+		Mockito.reset(strategy);
+
+		// Act:
+		for (int i = 0; i < repository.getLogicalSize(); ++i) {
+			neighborhood.getCommunity(new NodeId(i));
+		}
+
+		// Assert:
+		Mockito.verify(strategy, Mockito.never()).calculateSimilarity(Mockito.any(), Mockito.any());
+	}
+
+	@Test
+	public void precomputeCommunitiesDoesNotReplaceCachedCommunities() {
+		// Arrange:
+		final NodeNeighborMap repository = createNodeNeighborMap();
+		final Neighborhood neighborhood = new Neighborhood(repository, new StructuralSimilarityStrategy(repository), 3, 0.5);
+		final Community community = neighborhood.getCommunity(new NodeId(2));
+
+		// Act:
+		neighborhood.precomputeCommunities();
+
+		// Assert:
+		MatcherAssert.assertThat(neighborhood.getCommunity(new NodeId(2)), IsSame.sameInstance(community));
+	}
+
+	private static NodeNeighborMap createNodeNeighborMap() {
+		// two triangles (0, 1, 2) and (3, 4, 5) connected by an edge (2, 3) and an isolated node 6
+		final Matrix matrix = new SparseMatrix(7, 7, 2);
+		matrix.setAt(1, 0, 1);
+		matrix.setAt(2, 1, 1);
+		matrix.setAt(0, 2, 1);
+		matrix.setAt(3, 2, 1);
+		matrix.setAt(4, 3, 1);
+		matrix.setAt(5, 4, 1);
+		matrix.setAt(3, 5, 1);
+		return new NodeNeighborMap(matrix);
+	}
+
+	// endregion
+
 	// region size
 
 	@Test
@@ -112,6 +112,7 @@ public class BlockTransactionObserverFactoryTest {
 
 	private static Collection<String> getDefaultObserverNames() {
 		final Collection<String> expectedClasses = getBaseObserverNames();
+		expectedClasses.add("ImportanceInputsObserver");
 		expectedClasses.add("RecalculateImportancesObserver");
 		expectedClasses.add("OutlinkObserver");
 		return expectedClasses;
@@ -125,6 +126,7 @@ public class BlockTransactionObserverFactoryTest {
 
 	private static Collection<String> getObserverNamesWithoutOutlinkObserver() {
 		final Collection<String> expectedClasses = getBaseObserverNames();
+		expectedClasses.add("ImportanceInputsObserver");
 		expectedClasses.add("RecalculateImportancesObserver");
 		return expectedClasses;
 	}
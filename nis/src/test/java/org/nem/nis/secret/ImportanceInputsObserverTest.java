@@ -0,0 +1,79 @@
+package org.nem.nis.secret;
+
+import java.util.Arrays;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.nem.core.model.observers.*;
+import org.nem.core.model.primitive.*;
+import org.nem.core.test.Utils;
+import org.nem.nis.cache.*;
+import org.nem.nis.test.*;
+
+public class ImportanceInputsObserverTest {
+
+	@Test
+	public void importanceInputsAreMarkedChangedForAccountNotification() {
+		// Assert:
+		assertImportanceInputsAreMarkedChanged(new AccountNotification(Utils.generateRandomAccount()));
+	}
+
+	@Test
+	public void importanceInputsAreMarkedChangedForBalanceTransferNotification() {
+		// Assert:
+		assertImportanceInputsAreMarkedChanged(
+				new BalanceTransferNotification(Utils.generateRandomAccount(), Utils.generateRandomAccount(), Amount.fromNem(10)));
+		assertImportanceInputsAreMarkedChanged(
+				new BalanceTransferNotification(Utils.generateRandomAccount(), Utils.generateRandomAccount(), Amount.ZERO));
+	}
+
+	@Test
+	public void importanceInputsAreMarkedChangedForNonZeroBalanceAdjustmentNotification() {
+		// Assert:
+		for (final NotificationType type : Arrays.asList(NotificationType.BalanceCredit, NotificationType.BalanceDebit)) {
+			assertImportanceInputsAreMarkedChanged(
+					new BalanceAdjustmentNotification(type, Utils.generateRandomAccount(), Amount.fromNem(10)));
+		}
+	}
+
+	@Test
+	public void importanceInputsAreNotMarkedChangedForZeroBalanceAdjustmentNotification() {
+		// Assert:
+		for (final NotificationType type : Arrays.asList(NotificationType.BalanceCredit, NotificationType.BalanceDebit)) {
+			assertImportanceInputsAreNotMarkedChanged(new BalanceAdjustmentNotification(type, Utils.generateRandomAccount(), Amount.ZERO));
+		}
+	}
+
+	@Test
+	public void importanceInputsAreNotMarkedChangedForOtherNotification() {
+		// Assert:
+		assertImportanceInputsAreNotMarkedChanged(
+				new BalanceAdjustmentNotification(NotificationType.BlockHarvest, Utils.generateRandomAccount(), Amount.fromNem(10)));
+	}
+
+	private static void assertImportanceInputsAreMarkedChanged(final Notification notification) {
+		// Act:
+		final PoxFacade poxFacade = notify(notification);
+
+		// Assert:
+		Mockito.verify(poxFacade, Mockito.only()).markImportanceInputsChanged();
+	}
+
+	private static void assertImportanceInputsAreNotMarkedChanged(final Notification notification) {
+		// Act:
+		final PoxFacade poxFacade = notify(notification);
+
+		// Assert:
+		Mockito.verify(poxFacade, Mockito.never()).markImportanceInputsChanged();
+	}
+
+	private static PoxFacade notify(final Notification notification) {
+		// Arrange:
+		final DefaultPoxFacade poxFacade = Mockito.mock(DefaultPoxFacade.class);
+		final NisCache nisCache = NisCacheFactory.create(Mockito.mock(AccountStateCache.class), poxFacade);
+		final BlockTransactionObserver observer = new ImportanceInputsObserver(nisCache);
+
+		// Act:
+		observer.notify(notification, NisUtils.createBlockNotificationContext(new BlockHeight(127), NotificationTrigger.Execute));
+		return poxFacade;
+	}
+}
@@ -5,7 +5,7 @@ import org.mockito.Mockito;
 import org.nem.core.model.primitive.BlockHeight;
 import org.nem.nis.cache.NisCache;
 import org.nem.nis.secret.BlockTransactionObserver;
-import org.nem.nis.state.AccountState;
+import org.nem.nis.state.*;
 import org.nem.nis.test.NisTestConstants;
 
 public abstract class AccountStateCachePruningObserverTest extends AbstractPruningObserverTest {
@@ -13,13 +13,21 @@ public abstract class AccountStateCachePruningObserverTest extends AbstractPruni
 	private static final int OUTLINK_BLOCK_HISTORY = NisTestConstants.ESTIMATED_BLOCKS_PER_MONTH
 			+ NisTestConstants.ESTIMATED_BLOCKS_PER_DAY;
 
+	private HistoricalAccountDataStore historicalAccountDataStore;
+
 	// region overrides
 
 	protected abstract boolean pruneHistoricalData();
 
+	protected boolean archiveHistoricalData() {
+		return false;
+	}
+
 	@Override
 	protected BlockTransactionObserver createObserver(final NisCache nisCache) {
-		return new AccountStateCachePruningObserver(nisCache.getAccountStateCache(), this.pruneHistoricalData());
+		this.historicalAccountDataStore = this.archiveHistoricalData() ? Mockito.mock(HistoricalAccountDataStore.class) : null;
+		return new AccountStateCachePruningObserver(nisCache.getAccountStateCache(), this.pruneHistoricalData(),
+				this.historicalAccountDataStore);
 	}
 
 	@Override
@@ -30,6 +38,8 @@ public abstract class AccountStateCachePruningObserverTest extends AbstractPruni
 		// Assert:
 		if (0 != weightedBalancePruneHeight && this.pruneHistoricalData()) {
 			this.assertWeightedBalancePruning(nisCache, new BlockHeight(weightedBalancePruneHeight));
+		} else if (0 != weightedBalancePruneHeight && this.archiveHistoricalData()) {
+			this.assertHistoricalDataArchiving(nisCache, new BlockHeight(weightedBalancePruneHeight));
 		} else {
 			this.assertNoWeightedBalancePruning(nisCache);
 		}
@@ -55,6 +65,8 @@ public abstract class AccountStateCachePruningObserverTest extends AbstractPruni
 			Mockito.verify(accountState.getImportanceInfo(), Mockito.never()).prune(Mockito.any());
 			Mockito.verify(accountState.getHistoricalImportances(), Mockito.never()).prune();
 		}
+
+		this.assertNoHistoricalDataArchiving(nisCache);
 	}
 
 	// endregion
@@ -65,6 +77,27 @@ public abstract class AccountStateCachePruningObserverTest extends AbstractPruni
 		for (final AccountState accountState : nisCache.getAccountStateCache().mutableContents()) {
 			Mockito.verify(accountState.getWeightedBalances(), Mockito.never()).prune(Mockito.any());
 		}
+
+		this.assertNoHistoricalDataArchiving(nisCache);
+	}
+
+	private void assertNoHistoricalDataArchiving(final NisCache nisCache) {
+		for (final AccountState accountState : nisCache.getAccountStateCache().mutableContents()) {
+			Mockito.verify(accountState.getHistoricalImportances(), Mockito.never()).prune(Mockito.any(), Mockito.any());
+		}
+
+		if (null != this.historicalAccountDataStore) {
+			Mockito.verifyZeroInteractions(this.historicalAccountDataStore);
+		}
+	}
+
+	private void assertHistoricalDataArchiving(final NisCache nisCache, final BlockHeight height) {
+		for (final AccountState accountState : nisCache.getAccountStateCache().mutableContents()) {
+			Mockito.verify(accountState.getWeightedBalances(), Mockito.never()).prune(Mockito.any());
+			Mockito.verify(this.historicalAccountDataStore, Mockito.times(1)).archive(accountState, height);
+		}
+
+		Mockito.verifyNoMoreInteractions(this.historicalAccountDataStore);
 	}
 
 	private void assertNoOutlinkPruning(final NisCache nisCache) {
@@ -173,4 +206,17 @@ public abstract class AccountStateCachePruningObserverTest extends AbstractPruni
 			return false;
 		}
 	}
+
+	public static class AccountStateCachePruningObserverTestWithHistoricalDataArchiving extends AccountStateCachePruningObserverTest {
+
+		@Override
+		protected boolean pruneHistoricalData() {
+			return false;
+		}
+
+		@Override
+		protected boolean archiveHistoricalData() {
+			return true;
+		}
+	}
 }
@@ -67,11 +67,11 @@ public class AccountIoAdapterTest {
 		// Act:
 		final Hash hash = Utils.generateRandomHash();
 		final SerializableList<TransactionMetaDataPair> pairs = context.accountIoAdapter.getAccountTransfersUsingHash(context.address, hash,
-				BlockHeight.ONE, ReadOnlyTransferDao.TransferType.ALL, 30);
+				ReadOnlyTransferDao.TransferType.ALL, 30);
 
 		// Assert:
 		context.assertDefaultTransactions(pairs);
-		Mockito.verify(context.transferDao, Mockito.only()).getTransactionsForAccountUsingHash(context.account, hash, BlockHeight.ONE,
+		Mockito.verify(context.transferDao, Mockito.only()).getTransactionsForAccountUsingHash(context.account, hash,
 				ReadOnlyTransferDao.TransferType.ALL, 30);
 	}
 
@@ -135,8 +135,7 @@ public class AccountIoAdapterTest {
 		// region expect
 
 		public void expectTransactionsForAccountUsingHash() {
-			Mockito.when(this.transferDao.getTransactionsForAccountUsingHash(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(),
-					Mockito.anyInt())).thenReturn(this.pairs);
+			Mockito.when(this.transferDao.getTransactionsForAccountUsingHash(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyInt())).thenReturn(this.pairs);
 		}
 
 		public void expectTransactionsForAccountUsingId() {
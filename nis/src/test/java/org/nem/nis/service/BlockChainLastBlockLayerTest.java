@@ -1,12 +1,15 @@
 package org.nem.nis.service;
 
+import java.util.*;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.*;
 import org.junit.*;
 import org.mockito.Mockito;
-import org.nem.core.model.Block;
-import org.nem.core.model.primitive.BlockHeight;
+import org.nem.core.crypto.*;
+import org.nem.core.model.*;
+import org.nem.core.model.primitive.*;
 import org.nem.core.test.Utils;
+import org.nem.core.time.TimeInstant;
 import org.nem.nis.dao.BlockDao;
 import org.nem.nis.dbmodel.DbBlock;
 import org.nem.nis.mappers.NisModelToDbModelMapper;
@@ -146,6 +149,225 @@ public class BlockChainLastBlockLayerTest {
 		MatcherAssert.assertThat(context.lastBlockLayer.isLoading(), IsEqual.equalTo(false));
 	}
 
+	@Test
+	public void dropDbBlocksAfterDoesNotAccessDbIfBlockIsRecent() {
+		// Arrange:
+		final BlockHeight height = new BlockHeight(777);
+		final TestContext context = new TestContext();
+		final DbBlock block = context.addBlockToDb(777);
+		context.addBlockToDb(778);
+		context.addBlockToDb(779);
+
+		// Act:
+		context.lastBlockLayer.dropDbBlocksAfter(height);
+
+		// Assert:
+		Mockito.verify(context.mockBlockDao, Mockito.times(1)).deleteBlocksAfterHeight(height);
+		Mockito.verify(context.mockBlockDao, Mockito.never()).findByHeight(Mockito.any());
+		MatcherAssert.assertThat(context.lastBlockLayer.getLastDbBlock(), IsSame.sameInstance(block));
+		MatcherAssert.assertThat(context.lastBlockLayer.isRecentBlock(new BlockHeight(777)), IsEqual.equalTo(true));
+		MatcherAssert.assertThat(context.lastBlockLayer.isRecentBlock(new BlockHeight(778)), IsEqual.equalTo(false));
+		MatcherAssert.assertThat(context.lastBlockLayer.isRecentBlock(new BlockHeight(779)), IsEqual.equalTo(false));
+	}
+
+	@Test
+	public void dropDbBlocksAfterReplacesRecentBlocksWithBlockFromDbIfBlockIsNotRecent() {
+		// Arrange:
+		final BlockHeight height = new BlockHeight(777);
+		final DbBlock block = createDbBlock(777);
+		final TestContext context = new TestContext();
+		context.addBlockToDb(778);
+		Mockito.when(context.mockBlockDao.findByHeight(height)).thenReturn(block);
+
+		// Act:
+		context.lastBlockLayer.dropDbBlocksAfter(height);
+
+		// Assert:
+		MatcherAssert.assertThat(context.lastBlockLayer.findRecentDbBlock(height), IsSame.sameInstance(block));
+		MatcherAssert.assertThat(context.lastBlockLayer.isRecentBlock(new BlockHeight(778)), IsEqual.equalTo(false));
+	}
+
+	// endregion
+
+	// region recent blocks
+
+	@Test
+	public void addBlockToDbAddsDbBlockAndBlockToRecentBlocks() {
+		// Arrange:
+		final TestContext context = new TestContext();
+
+		// Act:
+		final DbBlock dbBlock = context.addBlockToDb(777);
+
+		// Assert:
+		MatcherAssert.assertThat(context.lastBlockLayer.isRecentBlock(new BlockHeight(777)), IsEqual.equalTo(true));
+		MatcherAssert.assertThat(context.lastBlockLayer.findRecentDbBlock(new BlockHeight(777)), IsSame.sameInstance(dbBlock));
+		MatcherAssert.assertThat(context.lastBlockLayer.findRecentBlock(new BlockHeight(777)).getHeight(),
+				IsEqual.equalTo(new BlockHeight(777)));
+	}
+
+	@Test
+	public void analyzeLastBlockAddsOnlyDbBlockToRecentBlocks() {
+		// Arrange:
+		final BlockChainLastBlockLayer lastBlockLayer = this.createBlockChainLastBlockLayer();
+		final DbBlock dbBlock = createDbBlock(123);
+
+		// Act:
+		lastBlockLayer.analyzeLastBlock(dbBlock);
+
+		// Assert:
+		MatcherAssert.assertThat(lastBlockLayer.isRecentBlock(new BlockHeight(123)), IsEqual.equalTo(true));
+		MatcherAssert.assertThat(lastBlockLayer.findRecentDbBlock(new BlockHeight(123)), IsSame.sameInstance(dbBlock));
+		MatcherAssert.assertThat(lastBlockLayer.findRecentBlock(new BlockHeight(123)), IsNull.nullValue());
+	}
+
+	@Test
+	public void recentBlocksAreUnknownOutsideOfWindow() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		context.addBlockToDb(777);
+
+		// Assert:
+		MatcherAssert.assertThat(context.lastBlockLayer.isRecentBlock(new BlockHeight(776)), IsEqual.equalTo(false));
+		MatcherAssert.assertThat(context.lastBlockLayer.findRecentDbBlock(new BlockHeight(776)), IsNull.nullValue());
+		MatcherAssert.assertThat(context.lastBlockLayer.findRecentBlock(new BlockHeight(778)), IsNull.nullValue());
+	}
+
+	@Test
+	public void recentBlocksAreLimitedToRewriteLimit() {
+		// Arrange:
+		final int rewriteLimit = NemGlobals.getBlockChainConfiguration().getBlockChainRewriteLimit();
+		final BlockChainLastBlockLayer lastBlockLayer = this.createBlockChainLastBlockLayer();
+
+		// Act:
+		for (int i = 0; i < rewriteLimit + 10; ++i) {
+			lastBlockLayer.analyzeLastBlock(createDbBlock(100 + i));
+		}
+
+		// Assert:
+		MatcherAssert.assertThat(lastBlockLayer.isRecentBlock(new BlockHeight(109)), IsEqual.equalTo(false));
+		MatcherAssert.assertThat(lastBlockLayer.isRecentBlock(new BlockHeight(110)), IsEqual.equalTo(true));
+		MatcherAssert.assertThat(lastBlockLayer.isRecentBlock(new BlockHeight(100 + rewriteLimit + 9)), IsEqual.equalTo(true));
+	}
+
+	@Test
+	public void nonContiguousBlockResetsRecentBlocks() {
+		// Arrange:
+		final BlockChainLastBlockLayer lastBlockLayer = this.createBlockChainLastBlockLayer();
+		lastBlockLayer.analyzeLastBlock(createDbBlock(100));
+		lastBlockLayer.analyzeLastBlock(createDbBlock(101));
+
+		// Act:
+		lastBlockLayer.analyzeLastBlock(createDbBlock(200));
+
+		// Assert:
+		MatcherAssert.assertThat(lastBlockLayer.isRecentBlock(new BlockHeight(100)), IsEqual.equalTo(false));
+		MatcherAssert.assertThat(lastBlockLayer.isRecentBlock(new BlockHeight(101)), IsEqual.equalTo(false));
+		MatcherAssert.assertThat(lastBlockLayer.isRecentBlock(new BlockHeight(200)), IsEqual.equalTo(true));
+	}
+
+	@Test
+	public void getRecentDbBlocksAfterReturnsAtMostLimitBlocksAfterHeight() {
+		// Arrange:
+		final BlockChainLastBlockLayer lastBlockLayer = this.createBlockChainLastBlockLayer();
+		final List<DbBlock> dbBlocks = new ArrayList<>();
+		for (int i = 0; i < 10; ++i) {
+			dbBlocks.add(createDbBlock(100 + i));
+			lastBlockLayer.analyzeLastBlock(dbBlocks.get(i));
+		}
+
+		// Act:
+		final Collection<DbBlock> recentDbBlocks = lastBlockLayer.getRecentDbBlocksAfter(new BlockHeight(102), 4);
+
+		// Assert:
+		MatcherAssert.assertThat(recentDbBlocks, IsEqual.equalTo(dbBlocks.subList(3, 7)));
+	}
+
+	@Test
+	public void getRecentHashesFromReturnsAtMostLimitHashesFromHeight() {
+		// Arrange:
+		final BlockChainLastBlockLayer lastBlockLayer = this.createBlockChainLastBlockLayer();
+		final List<Hash> hashes = new ArrayList<>();
+		for (int i = 0; i < 10; ++i) {
+			final DbBlock dbBlock = createDbBlock(100 + i);
+			hashes.add(dbBlock.getBlockHash());
+			lastBlockLayer.analyzeLastBlock(dbBlock);
+		}
+
+		// Act:
+		final HashChain hashChain = lastBlockLayer.getRecentHashesFrom(new BlockHeight(107), 5);
+
+		// Assert:
+		MatcherAssert.assertThat(hashChain, IsEqual.equalTo(new HashChain(hashes.subList(7, 10))));
+	}
+
+	// endregion
+
+	// region getDifficultiesFrom / getTimeStampsFrom
+
+	@Test
+	public void getDifficultiesFromReturnsDifficultiesFromRecentBlocksWhenHeightIsRecent() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		context.analyzeLastBlocks(100, 10);
+
+		// Act:
+		final List<BlockDifficulty> difficulties = context.lastBlockLayer.getDifficultiesFrom(new BlockHeight(103), 4);
+
+		// Assert:
+		MatcherAssert.assertThat(difficulties, IsEqual.equalTo(Arrays.asList(new BlockDifficulty(103_000_000_000_000L),
+				new BlockDifficulty(104_000_000_000_000L), new BlockDifficulty(105_000_000_000_000L),
+				new BlockDifficulty(106_000_000_000_000L))));
+		Mockito.verify(context.mockBlockDao, Mockito.never()).getDifficultiesFrom(Mockito.any(), Mockito.anyInt());
+	}
+
+	@Test
+	public void getDifficultiesFromDelegatesToBlockDaoWhenHeightIsNotRecent() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		context.analyzeLastBlocks(100, 10);
+		final List<BlockDifficulty> daoDifficulties = Collections.singletonList(new BlockDifficulty(123_000_000_000_000L));
+		Mockito.when(context.mockBlockDao.getDifficultiesFrom(Mockito.any(), Mockito.anyInt())).thenReturn(daoDifficulties);
+
+		// Act:
+		final List<BlockDifficulty> difficulties = context.lastBlockLayer.getDifficultiesFrom(new BlockHeight(99), 4);
+
+		// Assert:
+		MatcherAssert.assertThat(difficulties, IsSame.sameInstance(daoDifficulties));
+		Mockito.verify(context.mockBlockDao, Mockito.only()).getDifficultiesFrom(new BlockHeight(99), 4);
+	}
+
+	@Test
+	public void getTimeStampsFromReturnsTimeStampsFromRecentBlocksWhenHeightIsRecent() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		context.analyzeLastBlocks(100, 10);
+
+		// Act:
+		final List<TimeInstant> timeStamps = context.lastBlockLayer.getTimeStampsFrom(new BlockHeight(107), 5);
+
+		// Assert:
+		MatcherAssert.assertThat(timeStamps,
+				IsEqual.equalTo(Arrays.asList(new TimeInstant(1070), new TimeInstant(1080), new TimeInstant(1090))));
+		Mockito.verify(context.mockBlockDao, Mockito.never()).getTimeStampsFrom(Mockito.any(), Mockito.anyInt());
+	}
+
+	@Test
+	public void getTimeStampsFromDelegatesToBlockDaoWhenHeightIsNotRecent() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		context.analyzeLastBlocks(100, 10);
+		final List<TimeInstant> daoTimeStamps = Collections.singletonList(new TimeInstant(123));
+		Mockito.when(context.mockBlockDao.getTimeStampsFrom(Mockito.any(), Mockito.anyInt())).thenReturn(daoTimeStamps);
+
+		// Act:
+		final List<TimeInstant> timeStamps = context.lastBlockLayer.getTimeStampsFrom(new BlockHeight(99), 4);
+
+		// Assert:
+		MatcherAssert.assertThat(timeStamps, IsSame.sameInstance(daoTimeStamps));
+		Mockito.verify(context.mockBlockDao, Mockito.only()).getTimeStampsFrom(new BlockHeight(99), 4);
+	}
+
 	// endregion
 
 	// region helper functions
@@ -178,11 +400,22 @@ public class BlockChainLastBlockLayerTest {
 			this.lastBlockLayer.setLoaded();
 		}
 
-		private void addBlockToDb(final long height) {
+		private void analyzeLastBlocks(final long startHeight, final int count) {
+			for (int i = 0; i < count; ++i) {
+				final long height = startHeight + i;
+				final DbBlock dbBlock = createDbBlock(height);
+				dbBlock.setDifficulty(height * 1_000_000_000_000L);
+				dbBlock.setTimeStamp((int) height * 10);
+				this.lastBlockLayer.analyzeLastBlock(dbBlock);
+			}
+		}
+
+		private DbBlock addBlockToDb(final long height) {
 			final Block block = createBlock(height);
 			final DbBlock dbBlock = createDbBlock(height);
 			Mockito.when(this.mapper.map(block)).thenReturn(dbBlock);
 			this.lastBlockLayer.addBlockToDb(block);
+			return dbBlock;
 		}
 	}
 
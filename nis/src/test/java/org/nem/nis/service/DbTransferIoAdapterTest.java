@@ -7,7 +7,6 @@ import org.junit.*;
 import org.mockito.Mockito;
 import org.nem.core.crypto.Hash;
 import org.nem.core.model.ncc.TransactionMetaDataPair;
-import org.nem.core.model.primitive.BlockHeight;
 import org.nem.core.test.*;
 import org.nem.core.time.TimeInstant;
 import org.nem.nis.dao.ReadOnlyTransferDao;
@@ -22,17 +21,16 @@ public class DbTransferIoAdapterTest {
 		// Arrange:
 		final TestContext context = new TestContext();
 		final Hash hash = context.pair.getTransfer().getTransferHash();
-		final BlockHeight height = new BlockHeight(VALID_BLOCK_HEIGHT);
-		Mockito.when(context.transferDao.getTransactionUsingHash(hash, height)).thenReturn(context.pair);
+		Mockito.when(context.transferDao.getTransactionUsingHash(hash)).thenReturn(context.pair);
 
 		// Act:
-		final TransactionMetaDataPair pair = context.transactionIo.getTransactionUsingHash(hash, height);
+		final TransactionMetaDataPair pair = context.transactionIo.getTransactionUsingHash(hash);
 
 		// Assert:
 		MatcherAssert.assertThat(pair.getEntity().getTimeStamp(), IsEqual.equalTo(new TimeInstant(123)));
 		MatcherAssert.assertThat(pair.getMetaData().getHeight().getRaw(), IsEqual.equalTo(VALID_BLOCK_HEIGHT));
 		MatcherAssert.assertThat(pair.getMetaData().getHash(), IsEqual.equalTo(hash));
-		Mockito.verify(context.transferDao, Mockito.only()).getTransactionUsingHash(hash, height);
+		Mockito.verify(context.transferDao, Mockito.only()).getTransactionUsingHash(hash);
 	}
 
 	@Test
@@ -41,7 +39,7 @@ public class DbTransferIoAdapterTest {
 		final TestContext context = new TestContext();
 
 		// Assert:
-		ExceptionAssert.assertThrows(v -> context.transactionIo.getTransactionUsingHash(Utils.generateRandomHash(), new BlockHeight(8)),
+		ExceptionAssert.assertThrows(v -> context.transactionIo.getTransactionUsingHash(Utils.generateRandomHash()),
 				MissingResourceException.class);
 	}
 
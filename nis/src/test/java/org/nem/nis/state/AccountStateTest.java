@@ -5,6 +5,7 @@ import org.hamcrest.core.*;
 import org.junit.*;
 import org.nem.core.model.Address;
 import org.nem.core.model.primitive.*;
+import org.nem.core.serialization.*;
 import org.nem.core.test.Utils;
 import org.nem.nis.test.RemoteLinkFactory;
 
@@ -208,4 +209,62 @@ public class AccountStateTest {
 	}
 
 	// endregion
+
+	// region snapshot
+
+	@Test
+	public void canRoundTripSnapshot() {
+		// Arrange:
+		final Address address = Utils.generateRandomAddress();
+		final Address cosignatory = Utils.generateRandomAddress();
+		final Address remote = Utils.generateRandomAddress();
+		final AccountState state = new AccountState(address);
+		state.setHeight(new BlockHeight(17));
+		state.getAccountInfo().incrementBalance(Amount.fromNem(100));
+		state.getAccountInfo().incrementHarvestedBlocks();
+		state.getWeightedBalances().addReceive(new BlockHeight(17), Amount.fromNem(100));
+		state.getImportanceInfo().setImportance(new BlockHeight(360), 0.125);
+		state.getImportanceInfo().addOutlink(new AccountLink(new BlockHeight(20), Amount.fromNem(12), cosignatory));
+		state.getHistoricalImportances().addHistoricalImportance(new AccountImportance(new BlockHeight(360), 0.125, 0.5));
+		state.getRemoteLinks().addLink(RemoteLinkFactory.activateRemoteHarvester(remote, new BlockHeight(18)));
+		state.getMultisigLinks().addCosignatory(cosignatory);
+		state.getMultisigLinks().incrementMinCosignatoriesBy(1);
+
+		// Act:
+		final AccountState copy = roundtripSnapshot(state);
+
+		// Assert:
+		MatcherAssert.assertThat(copy.getAddress(), IsEqual.equalTo(address));
+		MatcherAssert.assertThat(copy.getHeight(), IsEqual.equalTo(new BlockHeight(17)));
+		MatcherAssert.assertThat(copy.getAccountInfo().getBalance(), IsEqual.equalTo(Amount.fromNem(100)));
+		MatcherAssert.assertThat(copy.getAccountInfo().getHarvestedBlocks(), IsEqual.equalTo(new BlockAmount(1)));
+		MatcherAssert.assertThat(copy.getWeightedBalances().getUnvested(new BlockHeight(17)), IsEqual.equalTo(Amount.fromNem(100)));
+		MatcherAssert.assertThat(copy.getImportanceInfo().getImportance(new BlockHeight(360)), IsEqual.equalTo(0.125));
+		MatcherAssert.assertThat(copy.getImportanceInfo().getOutlinksSize(new BlockHeight(20)), IsEqual.equalTo(1));
+		MatcherAssert.assertThat(copy.getHistoricalImportances().getHistoricalImportance(new BlockHeight(360)), IsEqual.equalTo(0.125));
+		MatcherAssert.assertThat(copy.getRemoteLinks().getCurrent(), IsEqual.equalTo(state.getRemoteLinks().getCurrent()));
+		MatcherAssert.assertThat(copy.getMultisigLinks().getCosignatories(), IsEqual.equalTo(state.getMultisigLinks().getCosignatories()));
+		MatcherAssert.assertThat(copy.getMultisigLinks().minCosignatories(), IsEqual.equalTo(1));
+	}
+
+	@Test
+	public void canRoundTripSnapshotWithoutHeight() {
+		// Arrange:
+		final AccountState state = new AccountState(Utils.generateRandomAddress());
+
+		// Act:
+		final AccountState copy = roundtripSnapshot(state);
+
+		// Assert:
+		MatcherAssert.assertThat(copy.getAddress(), IsEqual.equalTo(state.getAddress()));
+		MatcherAssert.assertThat(copy.getHeight(), IsNull.nullValue());
+		MatcherAssert.assertThat(copy.getImportanceInfo().isSet(), IsEqual.equalTo(false));
+	}
+
+	private static AccountState roundtripSnapshot(final AccountState state) {
+		final byte[] bytes = BinarySerializer.serializeToBytes(state::writeSnapshot);
+		return AccountState.readSnapshot(new BinaryDeserializer(bytes, new DeserializationContext(null)));
+	}
+
+	// endregion
 }
@@ -121,6 +121,24 @@ public class AlwaysVestedBalancesTest {
 		MatcherAssert.assertThat(weightedBalances.size(), IsEqual.equalTo(1));
 	}
 
+	@Test
+	public void visitBalancesVisitsFullBalanceAsVestedAtAllHeights() {
+		// Arrange:
+		final WeightedBalances weightedBalances = new AlwaysVestedBalances(Amount.fromNem(123));
+		final List<BlockHeight> heights = Arrays.asList(BlockHeight.ONE, new BlockHeight(100), new BlockHeight(10_000));
+
+		// Act:
+		final List<BlockHeight> visitedHeights = new ArrayList<>();
+		weightedBalances.visitBalances(heights, (height, vested, unvested) -> {
+			visitedHeights.add(height);
+			MatcherAssert.assertThat(vested, IsEqual.equalTo(Amount.fromNem(123)));
+			MatcherAssert.assertThat(unvested, IsEqual.equalTo(Amount.ZERO));
+		});
+
+		// Assert:
+		MatcherAssert.assertThat(visitedHeights, IsEqual.equalTo(heights));
+	}
+
 	// endregion
 
 	// region WeightedBalances
@@ -0,0 +1,444 @@
+package org.nem.nis.state;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.util.*;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.*;
+import org.junit.*;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+import org.nem.core.model.Address;
+import org.nem.core.model.primitive.*;
+import org.nem.core.test.*;
+
+public class HistoricalAccountDataStoreTest {
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	// region file
+
+	@Test
+	public void fileIsNotCreatedBeforeDataIsArchived() throws IOException {
+		// Arrange:
+		final File file = new File(this.folder.getRoot(), "historical.bin");
+
+		// Act:
+		try (final HistoricalAccountDataStore store = new HistoricalAccountDataStore(file)) {
+			store.getWeightedBalances(Utils.generateRandomAddress(), Mockito.mock(ReadOnlyWeightedBalances.class));
+
+			// Assert:
+			MatcherAssert.assertThat(file.exists(), IsEqual.equalTo(false));
+		}
+	}
+
+	@Test
+	public void existingFileContentIsDiscardedWhenDataIsArchived() throws IOException {
+		// Arrange:
+		final File file = new File(this.folder.getRoot(), "historical.bin");
+		Files.write(file.toPath(), new byte[100_000]);
+
+		// Act:
+		try (final HistoricalAccountDataStore store = new HistoricalAccountDataStore(file, 2)) {
+			store.archiveBalances(Utils.generateRandomAddress(), new BlockHeight(10), Collections.singletonList(createBalance(10, 5, 3)));
+
+			// Assert: a single chunk of two segments with 32 records of 24 bytes each
+			MatcherAssert.assertThat(file.length(), IsEqual.equalTo(2L * 32 * 24));
+		}
+	}
+
+	@Test
+	public void fileIsCreatedInMissingDirectory() throws IOException {
+		// Arrange:
+		final File file = new File(new File(this.folder.getRoot(), "data"), "historical.bin");
+
+		// Act:
+		try (final HistoricalAccountDataStore store = new HistoricalAccountDataStore(file)) {
+			store.archiveBalances(Utils.generateRandomAddress(), new BlockHeight(10), Collections.singletonList(createBalance(10, 5, 3)));
+
+			// Assert:
+			MatcherAssert.assertThat(file.exists(), IsEqual.equalTo(true));
+		}
+	}
+
+	@Test
+	public void closeDeletesFile() throws IOException {
+		// Arrange:
+		final File file = new File(this.folder.getRoot(), "historical.bin");
+		final HistoricalAccountDataStore store = new HistoricalAccountDataStore(file);
+		store.archiveBalances(Utils.generateRandomAddress(), new BlockHeight(10), Collections.singletonList(createBalance(10, 5, 3)));
+
+		// Act:
+		store.close();
+
+		// Assert:
+		MatcherAssert.assertThat(file.exists(), IsEqual.equalTo(false));
+	}
+
+	@Test
+	public void closeCanBeCalledMultipleTimes() throws IOException {
+		// Arrange:
+		final HistoricalAccountDataStore store = this.createStore();
+		store.archiveBalances(Utils.generateRandomAddress(), new BlockHeight(10), Collections.singletonList(createBalance(10, 5, 3)));
+
+		// Act:
+		store.close();
+		store.close();
+	}
+
+	@Test
+	public void cannotArchiveOrReadDataAfterClose() throws IOException {
+		// Arrange:
+		final HistoricalAccountDataStore store = this.createStore();
+		final Address address = Utils.generateRandomAddress();
+		store.archiveBalances(address, new BlockHeight(10), Collections.singletonList(createBalance(10, 5, 3)));
+		final ReadOnlyWeightedBalances balances = store.getWeightedBalances(address, createRecentBalances(99, 88));
+
+		// Act:
+		store.close();
+
+		// Assert:
+		ExceptionAssert.assertThrows(v -> balances.getVested(new BlockHeight(10)), IllegalStateException.class);
+		ExceptionAssert.assertThrows(
+				v -> store.archiveBalances(Utils.generateRandomAddress(), new BlockHeight(10),
+						Collections.singletonList(createBalance(10, 5, 3))),
+				IllegalStateException.class);
+	}
+
+	// endregion
+
+	// region archive
+
+	@Test
+	public void archiveMovesHistoricalDataAtOrBelowArchiveHeightFromAccountStateToStore() throws IOException {
+		// Arrange:
+		try (final HistoricalAccountDataStore store = this.createStore()) {
+			final AccountState accountState = new AccountState(Utils.generateRandomAddress());
+			accountState.getWeightedBalances().addReceive(new BlockHeight(10), Amount.fromNem(1000));
+			accountState.getWeightedBalances().addReceive(new BlockHeight(3000), Amount.fromNem(200));
+			accountState.getHistoricalImportances().addHistoricalImportance(new AccountImportance(new BlockHeight(1077), 0.1, 0.3));
+			accountState.getHistoricalImportances().addHistoricalImportance(new AccountImportance(new BlockHeight(3231), 0.2, 0.4));
+
+			final Map<Long, Amount> expectedVestedBalances = new HashMap<>();
+			final Map<Long, Amount> expectedUnvestedBalances = new HashMap<>();
+			for (final long height : Arrays.asList(9L, 10L, 1440L, 1441L, 2000L, 2881L, 2999L, 3000L, 3100L)) {
+				expectedVestedBalances.put(height, accountState.getWeightedBalances().getVested(new BlockHeight(height)));
+				expectedUnvestedBalances.put(height, accountState.getWeightedBalances().getUnvested(new BlockHeight(height)));
+			}
+
+			// Act:
+			store.archive(accountState, new BlockHeight(2000));
+			final ReadOnlyWeightedBalances balances = store.getWeightedBalances(accountState.getAddress(),
+					accountState.getWeightedBalances());
+			final ReadOnlyHistoricalImportances importances = store.getHistoricalImportances(accountState.getAddress(),
+					accountState.getHistoricalImportances());
+
+			// Assert: only the balances and importances after the archive height (and the consolidated balance) remain on-heap
+			MatcherAssert.assertThat(accountState.getHistoricalImportances().size(), IsEqual.equalTo(1));
+			MatcherAssert.assertThat(importances.size(), IsEqual.equalTo(2));
+			for (final Map.Entry<Long, Amount> entry : expectedVestedBalances.entrySet()) {
+				final BlockHeight height = new BlockHeight(entry.getKey());
+				MatcherAssert.assertThat(balances.getVested(height), IsEqual.equalTo(entry.getValue()));
+				MatcherAssert.assertThat(balances.getUnvested(height), IsEqual.equalTo(expectedUnvestedBalances.get(entry.getKey())));
+			}
+
+			assertImportance(importances, 1077, 0.1, 0.3);
+			assertImportance(importances, 3231, 0.2, 0.4);
+		}
+	}
+
+	@Test
+	public void archivedBalancesViewHasSameSizeAsUnarchivedBalances() throws IOException {
+		// Arrange:
+		try (final HistoricalAccountDataStore store = this.createStore()) {
+			final AccountState accountState = new AccountState(Utils.generateRandomAddress());
+			accountState.getWeightedBalances().addReceive(new BlockHeight(10), Amount.fromNem(1000));
+			accountState.getWeightedBalances().addReceive(new BlockHeight(3000), Amount.fromNem(200));
+
+			// - archiving fills in all balances up to the archive height, so fill them in on the unarchived copy too
+			final AccountState unarchivedAccountState = accountState.copy();
+			unarchivedAccountState.getWeightedBalances().getVested(new BlockHeight(2000));
+
+			// Act:
+			store.archive(accountState, new BlockHeight(2000));
+			final ReadOnlyWeightedBalances balances = store.getWeightedBalances(accountState.getAddress(),
+					accountState.getWeightedBalances());
+
+			// Assert: the balance consolidated at the archive height is only counted once
+			MatcherAssert.assertThat(balances.size(), IsEqual.equalTo(unarchivedAccountState.getWeightedBalances().size()));
+		}
+	}
+
+	@Test
+	public void balancesViewSizeIsRecentSizeWhenOnlyImportancesAreArchived() throws IOException {
+		// Arrange:
+		try (final HistoricalAccountDataStore store = this.createStore()) {
+			final Address address = Utils.generateRandomAddress();
+			store.archiveImportances(address, new BlockHeight(1000),
+					Collections.singletonList(new AccountImportance(new BlockHeight(359), 0.1, 0.3)));
+
+			// Act:
+			final ReadOnlyWeightedBalances balances = store.getWeightedBalances(address, createRecentBalances(99, 88));
+
+			// Assert:
+			MatcherAssert.assertThat(balances.size(), IsEqual.equalTo(1));
+		}
+	}
+
+	// endregion
+
+	// region balances
+
+	@Test
+	public void getWeightedBalancesReturnsRecentBalancesForAccountWithoutArchivedData() throws IOException {
+		// Arrange:
+		try (final HistoricalAccountDataStore store = this.createStore()) {
+			final ReadOnlyWeightedBalances recentBalances = Mockito.mock(ReadOnlyWeightedBalances.class);
+
+			// Act:
+			final ReadOnlyWeightedBalances balances = store.getWeightedBalances(Utils.generateRandomAddress(), recentBalances);
+
+			// Assert:
+			MatcherAssert.assertThat(balances, IsSame.sameInstance(recentBalances));
+		}
+	}
+
+	@Test
+	public void archivedBalancesAreReadFromStoreUpToArchivedHeight() throws IOException {
+		// Arrange:
+		try (final HistoricalAccountDataStore store = this.createStore()) {
+			final Address address = Utils.generateRandomAddress();
+			store.archiveBalances(address, new BlockHeight(25), Arrays.asList(createBalance(10, 5, 3), createBalance(20, 7, 1)));
+			final ReadOnlyWeightedBalances balances = store.getWeightedBalances(address, createRecentBalances(99, 88));
+
+			// Assert:
+			assertBalance(balances, 5, 0, 0);
+			assertBalance(balances, 10, 5, 3);
+			assertBalance(balances, 15, 5, 3);
+			assertBalance(balances, 20, 7, 1);
+			assertBalance(balances, 25, 7, 1);
+			assertBalance(balances, 26, 99, 88);
+		}
+	}
+
+	@Test
+	public void balancesAtOrBelowArchivedHeightAreNotArchivedAgain() throws IOException {
+		// Arrange:
+		try (final HistoricalAccountDataStore store = this.createStore()) {
+			final Address address = Utils.generateRandomAddress();
+			store.archiveBalances(address, new BlockHeight(25), Arrays.asList(createBalance(10, 5, 3), createBalance(20, 7, 1)));
+
+			// Act:
+			store.archiveBalances(address, new BlockHeight(40), Arrays.asList(createBalance(20, 4, 4), createBalance(30, 8, 2)));
+			final ReadOnlyWeightedBalances balances = store.getWeightedBalances(address, createRecentBalances(99, 88));
+
+			// Assert:
+			MatcherAssert.assertThat(balances.size(), IsEqual.equalTo(3));
+			assertBalance(balances, 20, 7, 1);
+			assertBalance(balances, 30, 8, 2);
+			assertBalance(balances, 40, 8, 2);
+			assertBalance(balances, 41, 99, 88);
+		}
+	}
+
+	@Test
+	public void lastArchivedBalanceAtHeightWins() throws IOException {
+		// Arrange:
+		try (final HistoricalAccountDataStore store = this.createStore()) {
+			final Address address = Utils.generateRandomAddress();
+
+			// Act:
+			store.archiveBalances(address, new BlockHeight(25),
+					Arrays.asList(createBalance(10, 5, 3), createBalance(20, 7, 1), createBalance(20, 6, 0)));
+			final ReadOnlyWeightedBalances balances = store.getWeightedBalances(address, createRecentBalances(99, 88));
+
+			// Assert:
+			MatcherAssert.assertThat(balances.size(), IsEqual.equalTo(2));
+			assertBalance(balances, 20, 6, 0);
+		}
+	}
+
+	@Test
+	public void canArchiveBalancesOfManyAccountsAcrossManySegmentsAndChunks() throws IOException {
+		// Arrange:
+		try (final HistoricalAccountDataStore store = this.createStore()) {
+			final List<Address> addresses = Arrays.asList(Utils.generateRandomAddress(), Utils.generateRandomAddress(),
+					Utils.generateRandomAddress());
+
+			// Act: interleave the accounts so that their segments are interleaved in the file
+			for (int i = 1; i <= 500; ++i) {
+				for (int j = 0; j < addresses.size(); ++j) {
+					store.archiveBalances(addresses.get(j), new BlockHeight(10 * i),
+							Collections.singletonList(createBalance(10 * i, i * (j + 1), i + j)));
+				}
+			}
+
+			// Assert:
+			for (int j = 0; j < addresses.size(); ++j) {
+				final ReadOnlyWeightedBalances balances = store.getWeightedBalances(addresses.get(j), createRecentBalances(99, 88));
+				MatcherAssert.assertThat(balances.size(), IsEqual.equalTo(500));
+				for (int i = 1; i < 500; ++i) {
+					assertBalance(balances, 10 * i, i * (j + 1), i + j);
+					assertBalance(balances, 10 * i + 5, i * (j + 1), i + j);
+				}
+
+				assertBalance(balances, 5000, 500 * (j + 1), 500 + j);
+				assertBalance(balances, 5001, 99, 88);
+			}
+		}
+	}
+
+	@Test
+	public void visitBalancesVisitsArchivedBalancesFollowedByRecentBalances() throws IOException {
+		// Arrange:
+		try (final HistoricalAccountDataStore store = this.createStore()) {
+			final Address address = Utils.generateRandomAddress();
+			store.archiveBalances(address, new BlockHeight(25), Arrays.asList(createBalance(10, 5, 3), createBalance(20, 7, 1)));
+			final ReadOnlyWeightedBalances recentBalances = createRecentBalances(99, 88);
+			Mockito.doAnswer(invocation -> {
+				final HistoricalBalanceVisitor visitor = (HistoricalBalanceVisitor) invocation.getArguments()[1];
+				for (final Object height : (List<?>) invocation.getArguments()[0]) {
+					visitor.visit((BlockHeight) height, Amount.fromNem(99), Amount.fromNem(88));
+				}
+
+				return null;
+			}).when(recentBalances).visitBalances(Mockito.any(), Mockito.any());
+			final ReadOnlyWeightedBalances balances = store.getWeightedBalances(address, recentBalances);
+
+			// Act:
+			final List<Long> visitedValues = new ArrayList<>();
+			balances.visitBalances(Arrays.asList(new BlockHeight(5), new BlockHeight(15), new BlockHeight(20), new BlockHeight(25),
+					new BlockHeight(26), new BlockHeight(30)), (height, vested, unvested) -> {
+						visitedValues.add(height.getRaw());
+						visitedValues.add(vested.getNumNem());
+						visitedValues.add(unvested.getNumNem());
+					});
+
+			// Assert:
+			MatcherAssert.assertThat(visitedValues,
+					IsEqual.equalTo(Arrays.asList(5L, 0L, 0L, 15L, 5L, 3L, 20L, 7L, 1L, 25L, 7L, 1L, 26L, 99L, 88L, 30L, 99L, 88L)));
+		}
+	}
+
+	// endregion
+
+	// region importances
+
+	@Test
+	public void getHistoricalImportancesReturnsRecentImportancesForAccountWithoutArchivedData() throws IOException {
+		// Arrange:
+		try (final HistoricalAccountDataStore store = this.createStore()) {
+			final ReadOnlyHistoricalImportances recentImportances = Mockito.mock(ReadOnlyHistoricalImportances.class);
+
+			// Act:
+			final ReadOnlyHistoricalImportances importances = store.getHistoricalImportances(Utils.generateRandomAddress(),
+					recentImportances);
+
+			// Assert:
+			MatcherAssert.assertThat(importances, IsSame.sameInstance(recentImportances));
+		}
+	}
+
+	@Test
+	public void archivedImportancesAreReadFromStoreUpToArchivedHeight() throws IOException {
+		// Arrange:
+		try (final HistoricalAccountDataStore store = this.createStore()) {
+			final Address address = Utils.generateRandomAddress();
+			store.archiveImportances(address, new BlockHeight(1000), Arrays.asList(new AccountImportance(new BlockHeight(718), 0.2, 0.4),
+					new AccountImportance(new BlockHeight(359), 0.1, 0.3)));
+
+			final ReadOnlyHistoricalImportances recentImportances = Mockito.mock(ReadOnlyHistoricalImportances.class);
+			Mockito.when(recentImportances.getHistoricalImportance(Mockito.any())).thenReturn(0.9);
+			Mockito.when(recentImportances.getHistoricalPageRank(Mockito.any())).thenReturn(0.8);
+			Mockito.when(recentImportances.size()).thenReturn(1);
+			final ReadOnlyHistoricalImportances importances = store.getHistoricalImportances(address, recentImportances);
+
+			// Assert:
+			MatcherAssert.assertThat(importances.size(), IsEqual.equalTo(2 + 1));
+			assertImportance(importances, 359, 0.1, 0.3);
+			assertImportance(importances, 718, 0.2, 0.4);
+			assertImportance(importances, 500, 0.0, 0.0);
+			assertImportance(importances, 1, 0.0, 0.0);
+			assertImportance(importances, 1077, 0.9, 0.8);
+		}
+	}
+
+	@Test
+	public void visitImportancesVisitsArchivedImportancesFollowedByRecentImportances() throws IOException {
+		// Arrange:
+		try (final HistoricalAccountDataStore store = this.createStore()) {
+			final Address address = Utils.generateRandomAddress();
+			store.archiveImportances(address, new BlockHeight(1000), Arrays.asList(new AccountImportance(new BlockHeight(359), 0.1, 0.3),
+					new AccountImportance(new BlockHeight(718), 0.2, 0.4)));
+			final ReadOnlyHistoricalImportances recentImportances = Mockito.mock(ReadOnlyHistoricalImportances.class);
+			Mockito.doAnswer(invocation -> {
+				final HistoricalImportanceVisitor visitor = (HistoricalImportanceVisitor) invocation.getArguments()[1];
+				for (final Object height : (List<?>) invocation.getArguments()[0]) {
+					visitor.visit((BlockHeight) height, 0.9, 0.8);
+				}
+
+				return null;
+			}).when(recentImportances).visitImportances(Mockito.any(), Mockito.any());
+			final ReadOnlyHistoricalImportances importances = store.getHistoricalImportances(address, recentImportances);
+
+			// Act:
+			final List<Double> visitedValues = new ArrayList<>();
+			importances.visitImportances(Arrays.asList(BlockHeight.ONE, new BlockHeight(359), new BlockHeight(718), new BlockHeight(1077)),
+					(height, importance, pageRank) -> {
+						visitedValues.add(importance);
+						visitedValues.add(pageRank);
+					});
+
+			// Assert:
+			MatcherAssert.assertThat(visitedValues, IsEqual.equalTo(Arrays.asList(0.0, 0.0, 0.1, 0.3, 0.2, 0.4, 0.9, 0.8)));
+		}
+	}
+
+	@Test
+	public void balancesAndImportancesAreArchivedIndependently() throws IOException {
+		// Arrange:
+		try (final HistoricalAccountDataStore store = this.createStore()) {
+			final Address address = Utils.generateRandomAddress();
+			store.archiveImportances(address, new BlockHeight(1000),
+					Collections.singletonList(new AccountImportance(new BlockHeight(359), 0.1, 0.3)));
+
+			// Act:
+			final ReadOnlyWeightedBalances balances = store.getWeightedBalances(address, createRecentBalances(99, 88));
+
+			// Assert: no balances are archived, so all balances are read from the recent balances
+			assertBalance(balances, 500, 99, 88);
+		}
+	}
+
+	// endregion
+
+	private HistoricalAccountDataStore createStore() throws IOException {
+		// use small chunks so that the tests cross chunk boundaries
+		return new HistoricalAccountDataStore(this.folder.newFile(), 2);
+	}
+
+	private static WeightedBalance createBalance(final long height, final long vested, final long unvested) {
+		return WeightedBalance.create(new BlockHeight(height), Amount.fromNem(vested), Amount.fromNem(unvested));
+	}
+
+	private static ReadOnlyWeightedBalances createRecentBalances(final long vested, final long unvested) {
+		final ReadOnlyWeightedBalances recentBalances = Mockito.mock(ReadOnlyWeightedBalances.class);
+		Mockito.when(recentBalances.getVested(Mockito.any())).thenReturn(Amount.fromNem(vested));
+		Mockito.when(recentBalances.getUnvested(Mockito.any())).thenReturn(Amount.fromNem(unvested));
+		Mockito.when(recentBalances.size()).thenReturn(1);
+		return recentBalances;
+	}
+
+	private static void assertBalance(final ReadOnlyWeightedBalances balances, final long height, final long vested,
+			final long unvested) {
+		MatcherAssert.assertThat(balances.getVested(new BlockHeight(height)), IsEqual.equalTo(Amount.fromNem(vested)));
+		MatcherAssert.assertThat(balances.getUnvested(new BlockHeight(height)), IsEqual.equalTo(Amount.fromNem(unvested)));
+	}
+
+	private static void assertImportance(final ReadOnlyHistoricalImportances importances, final long height, final double importance,
+			final double pageRank) {
+		MatcherAssert.assertThat(importances.getHistoricalImportance(new BlockHeight(height)), IsEqual.equalTo(importance));
+		MatcherAssert.assertThat(importances.getHistoricalPageRank(new BlockHeight(height)), IsEqual.equalTo(pageRank));
+	}
+}
@@ -1,5 +1,7 @@
 package org.nem.nis.state;
 
+import java.util.*;
+import java.util.stream.Collectors;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
 import org.junit.*;
@@ -108,6 +110,45 @@ public class HistoricalImportancesTest {
 		MatcherAssert.assertThat(importances.size(), IsEqual.equalTo(0));
 	}
 
+	@Test
+	public void pruneWithConsumerRemovesOnlyImportancesAtOrBelowMinHeight() {
+		// Arrange:
+		final HistoricalImportances importances = createDefaultHistoricalImportances();
+		importances.addHistoricalImportance(new AccountImportance(new BlockHeight(22), 0.2, 0.7));
+
+		// Act:
+		final List<AccountImportance> prunedImportances = new ArrayList<>();
+		importances.prune(new BlockHeight(18), prunedImportances::add);
+
+		// Assert:
+		MatcherAssert.assertThat(importances.size(), IsEqual.equalTo(1));
+		MatcherAssert.assertThat(importances.getHistoricalImportance(new BlockHeight(22)), IsEqual.equalTo(0.2));
+		MatcherAssert.assertThat(prunedImportances.stream().map(AccountImportance::getHeight).collect(Collectors.toSet()),
+				IsEqual.equalTo(new HashSet<>(Arrays.asList(new BlockHeight(13), new BlockHeight(18)))));
+	}
+
+	@Test
+	public void visitImportancesVisitsImportancesAtAllHeights() {
+		// Arrange:
+		final HistoricalImportances importances = createDefaultHistoricalImportances();
+		final List<BlockHeight> heights = Arrays.asList(new BlockHeight(1), new BlockHeight(13), new BlockHeight(18));
+
+		// Act:
+		final List<BlockHeight> visitedHeights = new ArrayList<>();
+		final List<Double> visitedImportances = new ArrayList<>();
+		final List<Double> visitedPageRanks = new ArrayList<>();
+		importances.visitImportances(heights, (height, importance, pageRank) -> {
+			visitedHeights.add(height);
+			visitedImportances.add(importance);
+			visitedPageRanks.add(pageRank);
+		});
+
+		// Assert:
+		MatcherAssert.assertThat(visitedHeights, IsEqual.equalTo(heights));
+		MatcherAssert.assertThat(visitedImportances, IsEqual.equalTo(Arrays.asList(0.0, 0.3, 0.1)));
+		MatcherAssert.assertThat(visitedPageRanks, IsEqual.equalTo(Arrays.asList(0.0, 0.5, 0.6)));
+	}
+
 	private static HistoricalImportances createDefaultHistoricalImportances() {
 		final HistoricalImportances importances = new HistoricalImportances();
 		importances.addHistoricalImportance(new AccountImportance(new BlockHeight(13), 0.3, 0.5));
@@ -167,6 +167,17 @@ public class HistoricalOutlinksTest {
 		assertLinkAmounts(it, 345, 456, 567);
 	}
 
+	@Test
+	public void historicalOutlinksIteratorReturnsNoValuesWhenRangeDoesNotOverlap() {
+		// Arrange:
+		final Address address = Utils.generateRandomAddress();
+		final HistoricalOutlinks historicalOutlinks = createDefaultHistoricalOutlinks(address);
+
+		// Assert:
+		assertLinkAmounts(historicalOutlinks.outlinksIterator(new BlockHeight(1225), new BlockHeight(1233)));
+		assertLinkAmounts(historicalOutlinks.outlinksIterator(new BlockHeight(1238), new BlockHeight(1275)));
+	}
+
 	private static HistoricalOutlinks createDefaultHistoricalOutlinks(final Address address) {
 		final HistoricalOutlinks historicalOutlinks = new HistoricalOutlinks();
 		historicalOutlinks.add(new BlockHeight(1234), address, Amount.fromNem(123));
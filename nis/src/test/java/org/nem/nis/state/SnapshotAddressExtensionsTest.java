@@ -0,0 +1,44 @@
+package org.nem.nis.state;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.*;
+import org.junit.*;
+import org.nem.core.model.Address;
+import org.nem.core.serialization.*;
+import org.nem.core.test.Utils;
+
+public class SnapshotAddressExtensionsTest {
+
+	@Test
+	public void canRoundtripAddressWithPublicKey() {
+		// Arrange:
+		final Address original = Utils.generateRandomAccount().getAddress();
+
+		// Act:
+		final Address address = roundtrip(original);
+
+		// Assert:
+		MatcherAssert.assertThat(address, IsEqual.equalTo(original));
+		MatcherAssert.assertThat(address.getPublicKey(), IsEqual.equalTo(original.getPublicKey()));
+	}
+
+	@Test
+	public void canRoundtripAddressWithoutPublicKey() {
+		// Arrange:
+		final Address original = Utils.generateRandomAddress();
+
+		// Act:
+		final Address address = roundtrip(original);
+
+		// Assert:
+		MatcherAssert.assertThat(address, IsEqual.equalTo(original));
+		MatcherAssert.assertThat(address.getPublicKey(), IsNull.nullValue());
+	}
+
+	private static Address roundtrip(final Address original) {
+		final BinarySerializer serializer = new BinarySerializer();
+		SnapshotAddressExtensions.writeTo(serializer, "address", original);
+		final BinaryDeserializer deserializer = new BinaryDeserializer(serializer.getBytes(), new DeserializationContext(null));
+		return SnapshotAddressExtensions.readFrom(deserializer, "address");
+	}
+}
@@ -1,5 +1,7 @@
 package org.nem.nis.state;
 
+import java.util.*;
+import java.util.stream.Collectors;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
 import org.junit.*;
@@ -517,6 +519,118 @@ public class TimeBasedVestingWeightedBalancesTest {
 		assertUnvested(weightedBalances, heights[3], referenceBalance.getUnvestedBalance());
 	}
 
+	@Test
+	public void pruneWithConsumerPassesAllRemovedBalancesToConsumer() {
+		// Arrange:
+		final long[] heights = new long[]{
+				1, 1 + 1440, 1 + 1440 * 2, 1 + 1440 * 3, 1 + 1440 * 4
+		};
+		final WeightedBalances weightedBalances = new TimeBasedVestingWeightedBalances();
+		weightedBalances.addReceive(new BlockHeight(heights[0]), Amount.fromNem(10_000));
+		weightedBalances.addSend(new BlockHeight(heights[1]), Amount.fromNem(23));
+		weightedBalances.addSend(new BlockHeight(heights[2]), Amount.fromNem(23));
+		weightedBalances.addSend(new BlockHeight(heights[3]), Amount.fromNem(23));
+		weightedBalances.addSend(new BlockHeight(heights[4]), Amount.fromNem(23));
+
+		final WeightedBalance referenceBalance = WeightedBalance.createUnvested(new BlockHeight(heights[0]), Amount.fromNem(10_000)).next()
+				.createSend(new BlockHeight(heights[1]), Amount.fromNem(23)).next()
+				.createSend(new BlockHeight(heights[2]), Amount.fromNem(23));
+
+		// Act:
+		final List<WeightedBalance> prunedBalances = new ArrayList<>();
+		weightedBalances.prune(new BlockHeight(heights[2]), prunedBalances::add);
+
+		// Assert: the receive, two sends and two vesting steps were removed
+		MatcherAssert.assertThat(weightedBalances.size(), IsEqual.equalTo(5));
+		MatcherAssert.assertThat(prunedBalances.stream().map(b -> b.getBlockHeight().getRaw()).collect(Collectors.toList()),
+				IsEqual.equalTo(Arrays.asList(heights[0], heights[1], heights[1], heights[2], heights[2])));
+
+		final WeightedBalance lastPrunedBalance = prunedBalances.get(prunedBalances.size() - 1);
+		MatcherAssert.assertThat(lastPrunedBalance.getVestedBalance(), IsEqual.equalTo(referenceBalance.getVestedBalance()));
+		MatcherAssert.assertThat(lastPrunedBalance.getUnvestedBalance(), IsEqual.equalTo(referenceBalance.getUnvestedBalance()));
+	}
+
+	// endregion
+
+	// region visitBalances
+
+	@Test
+	public void visitBalancesVisitsNothingWhenNoHeightsAreSpecified() {
+		// Arrange:
+		final WeightedBalances weightedBalances = new TimeBasedVestingWeightedBalances();
+		weightedBalances.addReceive(new BlockHeight(10), Amount.fromNem(10_000));
+
+		// Act:
+		final List<BlockHeight> visitedHeights = new ArrayList<>();
+		weightedBalances.visitBalances(Collections.emptyList(), (height, vested, unvested) -> visitedHeights.add(height));
+
+		// Assert:
+		MatcherAssert.assertThat(visitedHeights.isEmpty(), IsEqual.equalTo(true));
+	}
+
+	@Test
+	public void visitBalancesVisitsZeroBalancesWhenBalancesAreEmpty() {
+		// Arrange:
+		final WeightedBalances weightedBalances = new TimeBasedVestingWeightedBalances();
+
+		// Act + Assert:
+		assertVisitedBalancesMatchPointQueries(weightedBalances, Arrays.asList(BlockHeight.ONE, new BlockHeight(5000)));
+	}
+
+	@Test
+	public void visitBalancesVisitsSameBalancesAsPointQueries() {
+		// Arrange: (the last balance is followed by many vesting steps)
+		final WeightedBalances weightedBalances = new TimeBasedVestingWeightedBalances();
+		weightedBalances.addReceive(new BlockHeight(10), Amount.fromNem(10_000));
+		weightedBalances.addSend(new BlockHeight(500), Amount.fromNem(23));
+		weightedBalances.addReceive(new BlockHeight(500), Amount.fromNem(50));
+		weightedBalances.addSend(new BlockHeight(4000), Amount.fromNem(123));
+		weightedBalances.addReceive(new BlockHeight(7201), Amount.fromNem(1_000));
+
+		final List<BlockHeight> heights = new ArrayList<>();
+		for (long height = 1; height <= 20_000; height += 37) {
+			heights.add(new BlockHeight(height));
+		}
+
+		heights.addAll(Arrays.asList(new BlockHeight(20_161), new BlockHeight(20_162)));
+
+		// Act + Assert:
+		assertVisitedBalancesMatchPointQueries(weightedBalances, heights);
+	}
+
+	@Test
+	public void visitBalancesDoesNotChangeBalances() {
+		// Arrange:
+		final WeightedBalances weightedBalances = new TimeBasedVestingWeightedBalances();
+		weightedBalances.addReceive(new BlockHeight(10), Amount.fromNem(10_000));
+		weightedBalances.addSend(new BlockHeight(500), Amount.fromNem(23));
+
+		// Act:
+		weightedBalances.visitBalances(Arrays.asList(new BlockHeight(100), new BlockHeight(10_000)), (height, vested, unvested) -> {
+		});
+
+		// Assert:
+		MatcherAssert.assertThat(weightedBalances.size(), IsEqual.equalTo(2));
+	}
+
+	private static void assertVisitedBalancesMatchPointQueries(final WeightedBalances weightedBalances, final List<BlockHeight> heights) {
+		// Arrange: point queries modify the balances, so use a copy
+		final WeightedBalances copy = weightedBalances.copy();
+
+		// Act:
+		final List<BlockHeight> visitedHeights = new ArrayList<>();
+		weightedBalances.visitBalances(heights, (height, vested, unvested) -> {
+			visitedHeights.add(height);
+
+			// Assert:
+			MatcherAssert.assertThat(vested, IsEqual.equalTo(copy.getVested(height)));
+			MatcherAssert.assertThat(unvested, IsEqual.equalTo(copy.getUnvested(height)));
+		});
+
+		// Assert:
+		MatcherAssert.assertThat(visitedHeights, IsEqual.equalTo(heights));
+	}
+
 	// endregion
 
 	// region undoChain
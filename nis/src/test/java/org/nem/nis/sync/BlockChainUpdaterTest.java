@@ -60,6 +60,19 @@ public class BlockChainUpdaterTest {
 		BlockChainUtils.assertNisCacheCalls(delegationContext.getNisCache(), 0, 1, 0, 0);
 	}
 
+	@Test
+	public void resetScoreReplacesBlockChainScore() {
+		// Arrange:
+		final BlockChainContext context = new BlockChainContext(DEFAULT_TEST_OPTIONS);
+		final NodeContext nodeContext = context.getNodeContexts().get(0);
+
+		// Act:
+		nodeContext.getBlockChainUpdater().resetScore(new BlockChainScore(12345));
+
+		// Assert:
+		MatcherAssert.assertThat(nodeContext.getBlockChainUpdater().getScore(), IsEqual.equalTo(new BlockChainScore(12345)));
+	}
+
 	// endregion
 
 	// region updateBlock
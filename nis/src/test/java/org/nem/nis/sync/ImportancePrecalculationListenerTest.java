@@ -0,0 +1,69 @@
+package org.nem.nis.sync;
+
+import java.util.*;
+import org.junit.*;
+import org.mockito.Mockito;
+import org.nem.core.model.*;
+import org.nem.core.model.primitive.*;
+import org.nem.core.test.Utils;
+import org.nem.nis.cache.*;
+import org.nem.nis.state.*;
+import org.nem.nis.test.NisUtils;
+
+public class ImportancePrecalculationListenerTest {
+
+	@Test
+	public void pushBlocksPrecalculatesImportancesIfNextBlockRecalculatesImportances() {
+		// Arrange: the block at height 359 * 2 recalculates the importances at grouped height 359 * 2
+		final TestContext context = new TestContext();
+
+		// Act:
+		context.listener.pushBlocks(createBlocks(359 * 2 - 2, 359 * 2 - 1), BlockChainScore.ZERO);
+
+		// Assert:
+		Mockito.verify(context.poxFacade, Mockito.only()).precalculateImportances(new BlockHeight(359 * 2 + 1),
+				context.accountStates);
+	}
+
+	@Test
+	public void pushBlocksDoesNotPrecalculateImportancesIfNextBlockDoesNotRecalculateImportances() {
+		// Assert:
+		assertNoPrecalculation(359 * 2 - 2);
+		assertNoPrecalculation(359 * 2);
+		assertNoPrecalculation(359 * 2 + 1);
+	}
+
+	private static void assertNoPrecalculation(final long height) {
+		// Arrange:
+		final TestContext context = new TestContext();
+
+		// Act:
+		context.listener.pushBlocks(createBlocks(height - 1, height), BlockChainScore.ZERO);
+
+		// Assert:
+		Mockito.verify(context.poxFacade, Mockito.never()).precalculateImportances(Mockito.any(), Mockito.any());
+		Mockito.verify(context.accountStateCache, Mockito.never()).contents();
+	}
+
+	private static List<Block> createBlocks(final long... heights) {
+		final List<Block> blocks = new ArrayList<>();
+		for (final long height : heights) {
+			blocks.add(NisUtils.createRandomBlockWithHeight(height));
+		}
+
+		return blocks;
+	}
+
+	private static class TestContext {
+		private final ReadOnlyAccountStateCache accountStateCache = Mockito.mock(ReadOnlyAccountStateCache.class);
+		private final PoxFacade poxFacade = Mockito.mock(PoxFacade.class);
+		private final List<ReadOnlyAccountState> accountStates = Arrays.asList(new AccountState(Utils.generateRandomAddress()),
+				new AccountState(Utils.generateRandomAddress()));
+		private final ImportancePrecalculationListener listener = new ImportancePrecalculationListener(this.accountStateCache,
+				this.poxFacade);
+
+		public TestContext() {
+			Mockito.when(this.accountStateCache.contents()).thenReturn(new CacheContents<>(this.accountStates));
+		}
+	}
+}
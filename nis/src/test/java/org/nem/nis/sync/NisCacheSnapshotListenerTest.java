@@ -0,0 +1,186 @@
+package org.nem.nis.sync;
+
+import java.util.*;
+import java.util.concurrent.*;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.*;
+import org.mockito.*;
+import org.nem.core.crypto.Hash;
+import org.nem.core.model.*;
+import org.nem.core.model.primitive.*;
+import org.nem.core.test.ExceptionAssert;
+import org.nem.nis.cache.*;
+import org.nem.nis.test.NisUtils;
+
+public class NisCacheSnapshotListenerTest {
+
+	@Test
+	public void cannotCreateListenerWithNonPositiveInterval() {
+		// Arrange:
+		final TestContext context = new TestContext();
+
+		// Act:
+		ExceptionAssert.assertThrows(v -> context.createListener(0), IllegalArgumentException.class);
+	}
+
+	@Test
+	public void pushBlocksDoesNotCreateSnapshotIfNoBlockIsAtSnapshotHeight() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		final NisCacheSnapshotListener listener = context.createListener(10);
+
+		// Act:
+		listener.pushBlocks(createBlocks(11, 12, 13), BlockChainScore.ZERO);
+
+		// Assert:
+		Mockito.verify(context.nisCache, Mockito.never()).deepCopy();
+		Mockito.verify(context.nisCacheCopy, Mockito.never()).createSnapshot(Mockito.any(), Mockito.any(), Mockito.any());
+		Mockito.verify(context.store, Mockito.never()).save(Mockito.any());
+	}
+
+	@Test
+	public void pushBlocksCreatesAndSavesSnapshotOfCacheCopyAtLastBlockIfAnyBlockIsAtSnapshotHeight() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		final NisCacheSnapshotListener listener = context.createListener(10);
+		final List<Block> blocks = createBlocks(9, 10, 11);
+
+		// Act:
+		listener.pushBlocks(blocks, new BlockChainScore(7));
+
+		// Assert:
+		final Hash blockHash = HashUtils.calculateHash(blocks.get(2));
+		Mockito.verify(context.nisCache, Mockito.only()).deepCopy();
+		Mockito.verify(context.nisCacheCopy, Mockito.only()).createSnapshot(new BlockHeight(11), blockHash, new BlockChainScore(1234));
+		Mockito.verify(context.store, Mockito.only()).save(context.snapshot);
+	}
+
+	@Test
+	public void pushBlocksCopiesCacheBeforeSnapshotIsCreatedByExecutor() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		final NisCacheSnapshotListener listener = context.createListener(10, context.deferredExecutor);
+
+		// Act:
+		listener.pushBlocks(createBlocks(10), BlockChainScore.ZERO);
+
+		// Assert:
+		Mockito.verify(context.nisCache, Mockito.only()).deepCopy();
+		Mockito.verify(context.nisCacheCopy, Mockito.never()).createSnapshot(Mockito.any(), Mockito.any(), Mockito.any());
+		Mockito.verify(context.store, Mockito.never()).save(Mockito.any());
+		MatcherAssert.assertThat(context.deferredTasks.size(), IsEqual.equalTo(1));
+	}
+
+	@Test
+	public void pushBlocksSkipsSnapshotWhilePreviousSnapshotIsBeingSaved() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		final NisCacheSnapshotListener listener = context.createListener(10, context.deferredExecutor);
+		listener.pushBlocks(createBlocks(10), BlockChainScore.ZERO);
+
+		// Act:
+		listener.pushBlocks(createBlocks(20), BlockChainScore.ZERO);
+
+		// Assert:
+		Mockito.verify(context.nisCache, Mockito.only()).deepCopy();
+		MatcherAssert.assertThat(context.deferredTasks.size(), IsEqual.equalTo(1));
+	}
+
+	@Test
+	public void pushBlocksCreatesSnapshotAfterPreviousSnapshotIsSaved() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		final NisCacheSnapshotListener listener = context.createListener(10, context.deferredExecutor);
+		listener.pushBlocks(createBlocks(10), BlockChainScore.ZERO);
+		context.deferredTasks.remove(0).run();
+
+		// Act:
+		listener.pushBlocks(createBlocks(20), BlockChainScore.ZERO);
+		context.deferredTasks.remove(0).run();
+
+		// Assert:
+		Mockito.verify(context.nisCache, Mockito.times(2)).deepCopy();
+		Mockito.verify(context.nisCacheCopy, Mockito.times(1)).createSnapshot(Mockito.eq(new BlockHeight(10)), Mockito.any(), Mockito.any());
+		Mockito.verify(context.nisCacheCopy, Mockito.times(1)).createSnapshot(Mockito.eq(new BlockHeight(20)), Mockito.any(), Mockito.any());
+		Mockito.verify(context.store, Mockito.times(2)).save(context.snapshot);
+	}
+
+	@Test
+	public void pushBlocksCreatesSnapshotAfterPreviousSnapshotFailed() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		final NisCacheSnapshotListener listener = context.createListener(10);
+		Mockito.doThrow(new RuntimeException("disk full")).doNothing().when(context.store).save(Mockito.any());
+		listener.pushBlocks(createBlocks(10), BlockChainScore.ZERO);
+
+		// Act:
+		listener.pushBlocks(createBlocks(20), BlockChainScore.ZERO);
+
+		// Assert:
+		Mockito.verify(context.store, Mockito.times(2)).save(context.snapshot);
+	}
+
+	@Test
+	public void pushBlocksDoesNotPropagateRejectedExecution() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		final NisCacheSnapshotListener listener = context.createListener(10, runnable -> {
+			throw new RejectedExecutionException();
+		});
+
+		// Act:
+		listener.pushBlocks(createBlocks(10), BlockChainScore.ZERO);
+
+		// Assert:
+		Mockito.verify(context.store, Mockito.never()).save(Mockito.any());
+	}
+
+	@Test
+	public void pushBlocksDoesNotPropagateSaveFailures() {
+		// Arrange:
+		final TestContext context = new TestContext();
+		final NisCacheSnapshotListener listener = context.createListener(10);
+		Mockito.doThrow(new RuntimeException("disk full")).when(context.store).save(Mockito.any());
+
+		// Act:
+		listener.pushBlocks(createBlocks(10), BlockChainScore.ZERO);
+
+		// Assert:
+		Mockito.verify(context.store, Mockito.only()).save(context.snapshot);
+	}
+
+	private static List<Block> createBlocks(final long... heights) {
+		final List<Block> blocks = new ArrayList<>();
+		for (final long height : heights) {
+			blocks.add(NisUtils.createRandomBlockWithHeight(height));
+		}
+
+		return blocks;
+	}
+
+	private static class TestContext {
+		private final DefaultNisCache nisCache = Mockito.mock(DefaultNisCache.class);
+		private final DefaultNisCache nisCacheCopy = Mockito.mock(DefaultNisCache.class);
+		private final BlockChainScoreManager scoreManager = Mockito.mock(BlockChainScoreManager.class);
+		private final NisCacheSnapshotStore store = Mockito.mock(NisCacheSnapshotStore.class);
+		private final NisCacheSnapshot snapshot = Mockito.mock(NisCacheSnapshot.class);
+		private final List<Runnable> deferredTasks = new ArrayList<>();
+		private final Executor deferredExecutor = this.deferredTasks::add;
+
+		private TestContext() {
+			Mockito.when(this.scoreManager.getScore()).thenReturn(new BlockChainScore(1234));
+			Mockito.when(this.nisCache.deepCopy()).thenReturn(this.nisCacheCopy);
+			Mockito.when(this.nisCacheCopy.createSnapshot(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(this.snapshot);
+		}
+
+		private NisCacheSnapshotListener createListener(final long interval) {
+			// run saves synchronously so that they can be verified
+			return this.createListener(interval, Runnable::run);
+		}
+
+		private NisCacheSnapshotListener createListener(final long interval, final Executor executor) {
+			return new NisCacheSnapshotListener(this.nisCache, this.scoreManager, this.store, interval, executor);
+		}
+	}
+}
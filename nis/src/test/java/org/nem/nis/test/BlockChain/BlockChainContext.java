@@ -77,7 +77,7 @@ public class BlockChainContext {
 			final BlockValidatorFactory blockValidatorFactory = NisUtils.createBlockValidatorFactory();
 			final BlockTransactionObserverFactory blockTransactionObserverFactory = new BlockTransactionObserverFactory(
 					nisConfiguration.getForkConfiguration());
-			final BlockChainServices services = Mockito.spy(new BlockChainServices(blockDao, blockTransactionObserverFactory,
+			final BlockChainServices services = Mockito.spy(new BlockChainServices(blockChainLastBlockLayer, blockTransactionObserverFactory,
 					blockValidatorFactory, transactionValidatorFactory, nisMapperFactory, nisConfiguration.getForkConfiguration()));
 			final BlockChainContextFactory contextFactory = Mockito
 					.spy(new BlockChainContextFactory(nisCache, blockChainLastBlockLayer, blockDao, services, unconfirmedTransactions));
@@ -47,6 +47,8 @@ public class DbTestUtils {
 		session.createSQLQuery("delete from mincosignatoriesmodifications").executeUpdate();
 		session.createSQLQuery("delete from multisigsends").executeUpdate();
 		session.createSQLQuery("delete from multisigreceives").executeUpdate();
+		session.createSQLQuery("delete from accounttransactions").executeUpdate();
+		session.createSQLQuery("delete from transactionhashes").executeUpdate();
 		session.createSQLQuery("delete from namespaceprovisions").executeUpdate();
 		session.createSQLQuery("delete from namespaces").executeUpdate();
 		session.createSQLQuery("delete from mosaicdefinitioncreationtransactions").executeUpdate();
@@ -59,6 +61,8 @@ public class DbTestUtils {
 		session.createSQLQuery("ALTER TABLE multisigmodifications ALTER COLUMN id RESTART WITH 1").executeUpdate();
 		session.createSQLQuery("ALTER TABLE multisigsends ALTER COLUMN id RESTART WITH 1").executeUpdate();
 		session.createSQLQuery("ALTER TABLE multisigreceives ALTER COLUMN id RESTART WITH 1").executeUpdate();
+		session.createSQLQuery("ALTER TABLE accounttransactions ALTER COLUMN id RESTART WITH 1").executeUpdate();
+		session.createSQLQuery("ALTER TABLE transactionhashes ALTER COLUMN id RESTART WITH 1").executeUpdate();
 		session.createSQLQuery("ALTER TABLE namespaces ALTER COLUMN id RESTART WITH 1").executeUpdate();
 		session.createSQLQuery("ALTER TABLE mosaicproperties ALTER COLUMN id RESTART WITH 1").executeUpdate();
 		session.createSQLQuery("ALTER TABLE mosaicdefinitions ALTER COLUMN id RESTART WITH 1").executeUpdate();
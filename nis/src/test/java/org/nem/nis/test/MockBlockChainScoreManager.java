@@ -27,4 +27,9 @@ public class MockBlockChainScoreManager implements BlockChainScoreManager {
 		final BlockScorer scorer = new BlockScorer(this.accountStateCache);
 		this.score = this.score.add(new BlockChainScore(scorer.calculateBlockScore(parentBlock, block)));
 	}
+
+	@Override
+	public void resetScore(final BlockChainScore score) {
+		this.score = score;
+	}
 }
@@ -159,6 +159,10 @@ public class MockBlockDao implements BlockDao {
 		return this.getBlocksAfter(height, limit);
 	}
 
+	@Override
+	public void updateMosaicIdCacheUpTo(final BlockHeight height) {
+	}
+
 	@Override
 	public List<BlockDifficulty> getDifficultiesFrom(final BlockHeight height, final int limit) {
 		return this.blocks.stream().filter(bl -> bl.getHeight().compareTo(height.getRaw()) >= 0)
@@ -49,6 +49,11 @@ public class MockBlockScorer extends BlockScorer {
 		return this.zeroTargetBlocks.contains(block) ? BigInteger.ZERO : BigInteger.TEN;
 	}
 
+	@Override
+	public boolean isHit(final Block prevBlock, final Block block) {
+		return this.calculateHit(block).compareTo(this.calculateTarget(prevBlock, block)) < 0;
+	}
+
 	@Override
 	public long calculateBlockScore(final Block parentBlock, final Block block) {
 		return this.blockScores.get(new BlockScoreKey(parentBlock, block));
@@ -1,7 +1,9 @@
 package org.nem.nis.validators;
 
 import java.util.*;
+import java.util.stream.Collectors;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
 import org.junit.*;
 import org.mockito.Mockito;
 import org.nem.core.model.NetworkInfos;
@@ -53,6 +55,76 @@ public class TransactionValidatorFactoryTest {
 		assertAreEquivalent(name, expectedSubValidatorNames);
 	}
 
+	@Test
+	public void createStatelessSingleAddsDesiredSingleValidators() {
+		// Arrange:
+		final TransactionValidatorFactory factory = createFactory();
+		final Collection<String> expectedSubValidatorNames = getStatelessSingleValidatorNames();
+
+		// Act:
+		final String name = factory.createStatelessSingle().getName();
+
+		// Assert:
+		assertAreEquivalent(name, expectedSubValidatorNames);
+	}
+
+	@Test
+	public void createStatefulSingleAddsAllCompleteSingleValidatorsThatAreNotStateless() {
+		// Arrange:
+		final TransactionValidatorFactory factory = createFactory();
+		final Collection<String> expectedSubValidatorNames = getCompleteSingleValidatorNames();
+		expectedSubValidatorNames.removeAll(getStatelessSingleValidatorNames());
+
+		// Act:
+		final String name = factory.createStatefulSingle(Mockito.mock(ReadOnlyNisCache.class)).getName();
+
+		// Assert:
+		assertAreEquivalent(name, expectedSubValidatorNames);
+	}
+
+	@Test
+	public void createSingleAddsSingleValidatorsInOrder() {
+		// Arrange: the first failing validator determines the reported failure, so the order must not change
+		final TransactionValidatorFactory factory = createFactory();
+		final List<String> expectedSubValidatorNames = Arrays.asList("DeadlineValidator", "MinimumFeeValidator",
+				"VersionTransactionValidator", "TransactionNonFutureEntityValidator", "NemesisSinkValidator", "BalanceValidator",
+				"TransactionNetworkValidator", "RemoteNonOperationalValidator", "MultisigNonOperationalValidator",
+				"TransferTransactionValidator", "ImportanceTransferTransactionValidator", "MultisigTransactionSignerValidator",
+				"FeeSinkNonOperationalValidator", "MultisigCosignatoryModificationValidator", "NumCosignatoryRangeValidator",
+				"ProvisionNamespaceTransactionValidator", "MosaicDefinitionCreationTransactionValidator",
+				"MosaicSupplyChangeTransactionValidator", "MosaicBagValidator", "MosaicBalanceValidator",
+				"MultisigSignaturesPresentValidator");
+
+		// Act:
+		final String name = factory.createSingle(Mockito.mock(ReadOnlyNisCache.class)).getName();
+
+		// Assert:
+		MatcherAssert.assertThat(Arrays.asList(name.split(",")), IsEqual.equalTo(expectedSubValidatorNames));
+	}
+
+	@Test
+	public void createStatelessSingleAndCreateStatefulSinglePreserveRelativeOrderOfSingleValidators() {
+		// Arrange:
+		final TransactionValidatorFactory factory = createFactory();
+		final List<String> allNames = Arrays.asList(factory.createSingle(Mockito.mock(ReadOnlyNisCache.class)).getName().split(","));
+		final Collection<String> statelessNames = getStatelessSingleValidatorNames();
+
+		// Act:
+		final String statelessName = factory.createStatelessSingle().getName();
+		final String statefulName = factory.createStatefulSingle(Mockito.mock(ReadOnlyNisCache.class)).getName();
+
+		// Assert:
+		MatcherAssert.assertThat(Arrays.asList(statelessName.split(",")),
+				IsEqual.equalTo(allNames.stream().filter(statelessNames::contains).collect(Collectors.toList())));
+		MatcherAssert.assertThat(Arrays.asList(statefulName.split(",")),
+				IsEqual.equalTo(allNames.stream().filter(n -> !statelessNames.contains(n)).collect(Collectors.toList())));
+	}
+
+	private static Collection<String> getStatelessSingleValidatorNames() {
+		return Arrays.asList("DeadlineValidator", "VersionTransactionValidator", "TransactionNonFutureEntityValidator",
+				"NemesisSinkValidator", "TransactionNetworkValidator", "TransferTransactionValidator", "FeeSinkNonOperationalValidator");
+	}
+
 	private static Collection<String> getCompleteSingleValidatorNames() {
 		final Collection<String> expectedClasses = getIncompleteSingleValidatorNames();
 		expectedClasses.add("MultisigSignaturesPresentValidator");
@@ -1,6 +1,5 @@
 package org.nem.nis.validators.integration;
 
-import java.math.BigInteger;
 import java.util.*;
 import net.minidev.json.JSONObject;
 import org.hamcrest.MatcherAssert;
@@ -19,6 +18,7 @@ import org.nem.nis.chain.BlockExecuteProcessor;
 import org.nem.nis.secret.*;
 import org.nem.nis.state.ReadOnlyAccountInfo;
 import org.nem.nis.test.NisUtils;
+import org.nem.nis.validators.TransactionValidatorFactory;
 
 public abstract class AbstractBlockChainValidatorTransactionValidationTest extends AbstractTransactionValidationTest {
 
@@ -145,18 +145,18 @@ public abstract class AbstractBlockChainValidatorTransactionValidationTest exten
 		public final int maxChainSize = 21;
 
 		public BlockChainValidatorFactory() {
-			Mockito.when(this.scorer.calculateHit(Mockito.any())).thenReturn(BigInteger.ZERO);
-			Mockito.when(this.scorer.calculateTarget(Mockito.any(), Mockito.any())).thenReturn(BigInteger.ONE);
+			Mockito.when(this.scorer.isHit(Mockito.any(), Mockito.any())).thenReturn(true);
 		}
 
 		public BlockChainValidator create(final NisCache nisCache) {
 			final ForkConfiguration forkConfiguration = new ForkConfiguration.Builder().build();
 			final BlockTransactionObserver observer = new BlockTransactionObserverFactory(forkConfiguration)
 					.createExecuteCommitObserver(nisCache);
+			final TransactionValidatorFactory transactionValidatorFactory = NisUtils.createTransactionValidatorFactory();
 			return new BlockChainValidator(block -> new BlockExecuteProcessor(nisCache, block, observer), this.scorer, this.maxChainSize,
-					NisUtils.createBlockValidatorFactory().create(nisCache),
-					NisUtils.createTransactionValidatorFactory().createSingle(nisCache), NisCacheUtils.createValidationState(nisCache),
-					forkConfiguration);
+					NisUtils.createBlockValidatorFactory().create(nisCache), transactionValidatorFactory.createSingle(nisCache),
+					transactionValidatorFactory.createStatelessSingle(), transactionValidatorFactory.createStatefulSingle(nisCache),
+					NisCacheUtils.createValidationState(nisCache), forkConfiguration);
 		}
 	}
 }
@@ -10,8 +10,10 @@ import org.nem.core.test.Utils;
 import org.nem.nis.ForkConfiguration;
 import org.nem.nis.cache.*;
 import org.nem.nis.dao.BlockDao;
+import org.nem.nis.mappers.NisModelToDbModelMapper;
 import org.nem.nis.pox.poi.GroupedHeight;
 import org.nem.nis.secret.BlockTransactionObserverFactory;
+import org.nem.nis.service.BlockChainLastBlockLayer;
 import org.nem.nis.state.AccountState;
 import org.nem.nis.sync.BlockChainServices;
 import org.nem.nis.test.*;
@@ -27,7 +29,8 @@ public class BlockChainServicesTransactionValidationTest extends AbstractTransac
 			// Arrange:
 			final BlockHeight parentHeight = chainHeight.prev(); // chainHeight is for block one (P -> [1] -> 2 -> 3)
 
-			final BlockChainServices blockChainServices = new BlockChainServices(Mockito.mock(BlockDao.class),
+			final BlockChainServices blockChainServices = new BlockChainServices(
+					new BlockChainLastBlockLayer(Mockito.mock(BlockDao.class), Mockito.mock(NisModelToDbModelMapper.class)),
 					new BlockTransactionObserverFactory(forkConfiguration), NisUtils.createBlockValidatorFactory(),
 					NisUtils.createTransactionValidatorFactory(), MapperUtils.createNisMapperFactory(), forkConfiguration);
 
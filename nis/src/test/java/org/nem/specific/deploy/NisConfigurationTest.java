@@ -24,8 +24,9 @@ public class NisConfigurationTest {
 			"nis.useBinaryTransport", "nis.useNetworkTime", "nis.ignoreFees", "nis.ipDetectionMode", "nis.unlockedLimit",
 			"nis.maxTransactions", "nis.maxTransactionsPerBlock", "nis.blockGenerationTargetTime", "nis.blockChainRewriteLimit",
 			"nis.transactionHashRetentionTime", "nis.additionalLocalIps", "nis.optionalFeatures", "nis.blockChainFeatures",
-			"nis.allowedHarvesterAddresses", "nis.delayBlockLoading", "nis.treasuryReissuanceForkHeight",
-			"nis.treasuryReissuanceForkTransactionHashes", "nis.treasuryReissuanceForkFallbackTransactionHashes");
+			"nis.allowedHarvesterAddresses", "nis.delayBlockLoading", "nis.usePersistentAccountStateCache", "nis.treasuryReissuanceForkHeight",
+			"nis.treasuryReissuanceForkTransactionHashes", "nis.treasuryReissuanceForkFallbackTransactionHashes", "nis.cacheSnapshotInterval",
+			"nis.maxCacheSnapshots");
 
 	@Test
 	public void canReadDefaultConfiguration() {
@@ -65,12 +66,15 @@ public class NisConfigurationTest {
 
 		MatcherAssert.assertThat(config.getUnlockedLimit(), IsEqual.equalTo(4));
 		MatcherAssert.assertThat(config.getTransactionHashRetentionTime(), IsEqual.equalTo(36));
+		MatcherAssert.assertThat(config.getCacheSnapshotInterval(), IsEqual.equalTo(1440));
+		MatcherAssert.assertThat(config.getMaxCacheSnapshots(), IsEqual.equalTo(2));
 		MatcherAssert.assertThat(config.getAdditionalLocalIps(), IsEqual.equalTo(new String[]{}));
 		MatcherAssert.assertThat(config.getOptionalFeatures(), IsEqual.equalTo(new NodeFeature[]{
 				NodeFeature.TRANSACTION_HASH_LOOKUP
 		}));
 		MatcherAssert.assertThat(config.getAllowedHarvesterAddresses(), IsEqual.equalTo(new Address[]{}));
 		MatcherAssert.assertThat(config.delayBlockLoading(), IsEqual.equalTo(true));
+		MatcherAssert.assertThat(config.usePersistentAccountStateCache(), IsEqual.equalTo(false));
 		assertDefaultConfiguration(config.getBlockChainConfiguration());
 	}
 
@@ -109,11 +113,14 @@ public class NisConfigurationTest {
 		properties.setProperty("nis.blockGenerationTargetTime", "30");
 		properties.setProperty("nis.blockChainRewriteLimit", "290");
 		properties.setProperty("nis.transactionHashRetentionTime", "567");
+		properties.setProperty("nis.cacheSnapshotInterval", "360");
+		properties.setProperty("nis.maxCacheSnapshots", "5");
 		properties.setProperty("nis.additionalLocalIps", "10.0.0.10|10.0.0.20");
 		properties.setProperty("nis.optionalFeatures", "TRANSACTION_HASH_LOOKUP|HISTORICAL_ACCOUNT_DATA");
 		properties.setProperty("nis.blockChainFeatures", "PROOF_OF_STAKE");
 		properties.setProperty("nis.allowedHarvesterAddresses", "FOO|BAR|BAZ");
 		properties.setProperty("nis.delayBlockLoading", "false");
+		properties.setProperty("nis.usePersistentAccountStateCache", "true");
 		properties.setProperty("nis.useWeightedBalances", "false");
 
 		// Act:
@@ -137,6 +144,8 @@ public class NisConfigurationTest {
 
 		MatcherAssert.assertThat(config.getUnlockedLimit(), IsEqual.equalTo(123));
 		MatcherAssert.assertThat(config.getTransactionHashRetentionTime(), IsEqual.equalTo(567));
+		MatcherAssert.assertThat(config.getCacheSnapshotInterval(), IsEqual.equalTo(360));
+		MatcherAssert.assertThat(config.getMaxCacheSnapshots(), IsEqual.equalTo(5));
 		MatcherAssert.assertThat(config.getAdditionalLocalIps(), IsEqual.equalTo(new String[]{
 				"10.0.0.10", "10.0.0.20"
 		}));
@@ -147,6 +156,7 @@ public class NisConfigurationTest {
 				Address.fromEncoded("FOO"), Address.fromEncoded("BAR"), Address.fromEncoded("BAZ")
 		}));
 		MatcherAssert.assertThat(config.delayBlockLoading(), IsEqual.equalTo(false));
+		MatcherAssert.assertThat(config.usePersistentAccountStateCache(), IsEqual.equalTo(true));
 
 		assertCustomConfiguration(config.getBlockChainConfiguration());
 	}